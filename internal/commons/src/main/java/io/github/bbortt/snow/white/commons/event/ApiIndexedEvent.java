@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.commons.event;
+
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+
+/**
+ * Published by the api-index-api whenever an API specification has been (re-)indexed.
+ * <p>
+ * Records are keyed by the API identity, so that the change feed can be kept on a compacted topic.
+ */
+public record ApiIndexedEvent(ApiInformation apiInformation, boolean prerelease) {
+  public static String key(
+    String serviceName,
+    String apiName,
+    String apiVersion
+  ) {
+    return serviceName + ":" + apiName + ":" + apiVersion;
+  }
+}
@@ -10,6 +10,7 @@ import static lombok.AccessLevel.PRIVATE;
 
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,4 +37,11 @@ public final class QualityGateCalculationRequestEvent {
 
   @Nullable
   private Set<AttributeFilter> attributeFilters;
+
+  /**
+   * The criteria the quality gate evaluates.
+   * Only these are calculated - {@code null} or empty requests all criteria.
+   */
+  @Nullable
+  private Set<OpenApiCoverageCriteria> openApiCoverageCriteria;
 }
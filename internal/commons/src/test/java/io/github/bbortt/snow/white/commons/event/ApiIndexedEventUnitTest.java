@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.commons.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ApiIndexedEventUnitTest {
+
+  @Nested
+  class KeyTest {
+
+    @Test
+    void shouldConcatenateApiIdentity() {
+      assertThat(
+        ApiIndexedEvent.key("serviceName", "apiName", "1.0.0")
+      ).isEqualTo("serviceName:apiName:1.0.0");
+    }
+  }
+
+  @Test
+  void equalsContract() {
+    EqualsVerifier.forClass(ApiIndexedEvent.class).verify();
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.api.index.api.kafka;
+
+import static io.github.bbortt.snow.white.microservices.api.index.config.ApiIndexProperties.PREFIX;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.github.bbortt.snow.white.microservices.api.index.config.ApiIndexProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Slf4j
+@Configuration
+public class KafkaTopicManager {
+
+  private final Environment environment;
+  private final ApiIndexProperties apiIndexProperties;
+
+  public KafkaTopicManager(
+    Environment environment,
+    ApiIndexProperties apiIndexProperties
+  ) {
+    this.environment = environment;
+    this.apiIndexProperties = apiIndexProperties;
+  }
+
+  @Bean
+  public NewTopic changeTopic() {
+    var initTopics = environment.getProperty(
+      PREFIX + ".init-topics",
+      Boolean.class,
+      FALSE
+    );
+
+    var changeTopicName = apiIndexProperties.getChangeTopicName();
+    if (!TRUE.equals(initTopics) || !hasText(changeTopicName)) {
+      return null;
+    }
+
+    logger.info("Creating compacted change topic '{}'...", changeTopicName);
+
+    return TopicBuilder.name(changeTopicName).compact().build();
+  }
+}
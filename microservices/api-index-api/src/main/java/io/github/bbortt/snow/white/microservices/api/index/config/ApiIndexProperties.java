@@ -10,6 +10,7 @@ import static io.github.bbortt.snow.white.microservices.api.index.config.ApiInde
 
 import lombok.Getter;
 import lombok.Setter;
+import org.jspecify.annotations.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,4 +23,14 @@ public class ApiIndexProperties {
   public static final String PREFIX = "snow.white.api.index";
 
   private String publicApiGatewayUrl;
+
+  private Boolean initTopics = false;
+
+  /**
+   * Compacted topic that every newly indexed API is published to.
+   * <p>
+   * Optional - the change feed is disabled entirely when unset.
+   */
+  @Nullable
+  private String changeTopicName;
 }
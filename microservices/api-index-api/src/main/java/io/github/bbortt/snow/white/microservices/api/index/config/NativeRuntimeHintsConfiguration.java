@@ -11,18 +11,26 @@ import static lombok.AccessLevel.PROTECTED;
 import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS;
 import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_METHODS;
 
+import io.github.bbortt.snow.white.commons.event.ApiIndexedEvent;
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Slf4j
 @Configuration
 @NoArgsConstructor(access = PROTECTED)
+@RegisterReflectionForBinding({
+  // For the API Index change feed
+  ApiIndexedEvent.class,
+  ApiInformation.class,
+})
 @ImportRuntimeHints({
   NativeRuntimeHintsConfiguration.ApiIndexApiDtoRuntimeHints.class,
 })
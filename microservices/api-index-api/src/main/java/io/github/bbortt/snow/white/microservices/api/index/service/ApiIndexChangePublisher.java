@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.api.index.service;
+
+import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.apiType;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.github.bbortt.snow.white.commons.event.ApiIndexedEvent;
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.api.index.config.ApiIndexProperties;
+import io.github.bbortt.snow.white.microservices.api.index.domain.model.ApiReference;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes every indexed API onto the (compacted) change topic, so that consumers can keep a local copy of the index.
+ */
+@Slf4j
+@Component
+class ApiIndexChangePublisher {
+
+  private final KafkaTemplate<
+    @NonNull String,
+    @NonNull ApiIndexedEvent
+  > kafkaTemplate;
+
+  private final @Nullable String changeTopicName;
+
+  public ApiIndexChangePublisher(
+    KafkaTemplate<@NonNull String, @NonNull ApiIndexedEvent> kafkaTemplate,
+    ApiIndexProperties apiIndexProperties
+  ) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.changeTopicName = apiIndexProperties.getChangeTopicName();
+  }
+
+  public void publish(ApiReference apiReference) {
+    if (!hasText(changeTopicName)) {
+      return;
+    }
+
+    var apiIndexedEvent = new ApiIndexedEvent(
+      ApiInformation.builder()
+        .serviceName(apiReference.getOtelServiceName())
+        .apiName(apiReference.getApiName())
+        .apiVersion(apiReference.getApiVersion())
+        .apiType(apiType(apiReference.getApiType().getValue()))
+        .build(),
+      apiReference.isPrerelease()
+    );
+
+    kafkaTemplate
+      .send(
+        changeTopicName,
+        ApiIndexedEvent.key(
+          apiReference.getOtelServiceName(),
+          apiReference.getApiName(),
+          apiReference.getApiVersion()
+        ),
+        apiIndexedEvent
+      )
+      .whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          logger.warn(
+            "Failed to publish change of indexed API {}",
+            apiIndexedEvent.apiInformation(),
+            throwable
+          );
+        }
+      });
+  }
+}
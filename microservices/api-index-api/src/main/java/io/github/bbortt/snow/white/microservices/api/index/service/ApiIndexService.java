@@ -28,6 +28,7 @@ import org.springframework.stereotype.Service;
 public class ApiIndexService {
 
   private final ApiReferenceRepository apiReferenceRepository;
+  private final ApiIndexChangePublisher apiIndexChangePublisher;
 
   public void persist(ApiReference apiReference)
     throws ApiAlreadyIndexedException, InvalidReleaseWithContentException {
@@ -56,6 +57,7 @@ public class ApiIndexService {
     }
 
     apiReferenceRepository.save(apiReference);
+    apiIndexChangePublisher.publish(apiReference);
   }
 
   public boolean hasApiByInformationBeenIndexed(
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.api.index.api.kafka;
+
+import static io.github.bbortt.snow.white.microservices.api.index.config.ApiIndexProperties.PREFIX;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+import io.github.bbortt.snow.white.microservices.api.index.config.ApiIndexProperties;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+
+@ExtendWith({ MockitoExtension.class })
+class KafkaTopicManagerUnitTest {
+
+  @Mock
+  private Environment environmentMock;
+
+  @Mock
+  private ApiIndexProperties apiIndexPropertiesMock;
+
+  @InjectMocks
+  private KafkaTopicManager fixture;
+
+  @Nested
+  class ChangeTopicTest {
+
+    @Test
+    void shouldReturnCompactedTopic() {
+      doReturn(TRUE)
+        .when(environmentMock)
+        .getProperty(PREFIX + ".init-topics", Boolean.class, FALSE);
+
+      var changeTopicName = "KafkaTopicManagerTest:change";
+      doReturn(changeTopicName)
+        .when(apiIndexPropertiesMock)
+        .getChangeTopicName();
+
+      var changeTopic = fixture.changeTopic();
+
+      assertThat(changeTopic.name()).isEqualTo(changeTopicName);
+      assertThat(changeTopic.configs()).containsEntry(
+        "cleanup.policy",
+        "compact"
+      );
+    }
+
+    @Test
+    void shouldReturnNullBean_whenNotEnabled() {
+      doReturn(FALSE)
+        .when(environmentMock)
+        .getProperty(PREFIX + ".init-topics", Boolean.class, FALSE);
+
+      assertThat(fixture.changeTopic()).isNull();
+    }
+
+    @Test
+    void shouldReturnNullBean_whenChangeTopicIsNotConfigured() {
+      doReturn(TRUE)
+        .when(environmentMock)
+        .getProperty(PREFIX + ".init-topics", Boolean.class, FALSE);
+
+      assertThat(fixture.changeTopic()).isNull();
+    }
+  }
+}
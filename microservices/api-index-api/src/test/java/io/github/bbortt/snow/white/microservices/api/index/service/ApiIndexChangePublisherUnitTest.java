@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.api.index.service;
+
+import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.github.bbortt.snow.white.commons.event.ApiIndexedEvent;
+import io.github.bbortt.snow.white.microservices.api.index.api.rest.dto.GetAllApis200ResponseInner.ApiTypeEnum;
+import io.github.bbortt.snow.white.microservices.api.index.config.ApiIndexProperties;
+import io.github.bbortt.snow.white.microservices.api.index.domain.model.ApiReference;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@ExtendWith({ MockitoExtension.class })
+class ApiIndexChangePublisherUnitTest {
+
+  private static final String CHANGE_TOPIC_NAME =
+    "ApiIndexChangePublisherTest:change";
+
+  @Mock
+  private KafkaTemplate<
+    @NonNull String,
+    @NonNull ApiIndexedEvent
+  > kafkaTemplateMock;
+
+  @Captor
+  private ArgumentCaptor<ApiIndexedEvent> apiIndexedEventCaptor;
+
+  private final ApiReference apiReference = ApiReference.builder()
+    .otelServiceName("otelServiceName")
+    .apiName("apiName")
+    .apiVersion("1.0.0")
+    .sourceUrl("sourceUrl")
+    .apiType(ApiTypeEnum.OPENAPI)
+    .prerelease(true)
+    .build();
+
+  private ApiIndexChangePublisher createFixture(String changeTopicName) {
+    var apiIndexProperties = new ApiIndexProperties();
+    apiIndexProperties.setChangeTopicName(changeTopicName);
+    return new ApiIndexChangePublisher(kafkaTemplateMock, apiIndexProperties);
+  }
+
+  @Nested
+  class PublishTest {
+
+    @Test
+    void shouldPublishEventKeyedByApiIdentity() {
+      doReturn(completedFuture(null))
+        .when(kafkaTemplateMock)
+        .send(
+          eq(CHANGE_TOPIC_NAME),
+          eq("otelServiceName:apiName:1.0.0"),
+          any(ApiIndexedEvent.class)
+        );
+
+      createFixture(CHANGE_TOPIC_NAME).publish(apiReference);
+
+      verify(kafkaTemplateMock).send(
+        eq(CHANGE_TOPIC_NAME),
+        eq("otelServiceName:apiName:1.0.0"),
+        apiIndexedEventCaptor.capture()
+      );
+
+      assertThat(apiIndexedEventCaptor.getValue()).satisfies(
+        event -> assertThat(event.prerelease()).isTrue(),
+        event ->
+          assertThat(event.apiInformation().getServiceName()).isEqualTo(
+            "otelServiceName"
+          ),
+        event ->
+          assertThat(event.apiInformation().getApiName()).isEqualTo("apiName"),
+        event ->
+          assertThat(event.apiInformation().getApiVersion()).isEqualTo(
+            "1.0.0"
+          ),
+        event ->
+          assertThat(event.apiInformation().getApiType()).isEqualTo(OPENAPI)
+      );
+    }
+
+    @Test
+    void shouldNotPublish_whenChangeTopicIsNotConfigured() {
+      createFixture(null).publish(apiReference);
+
+      verifyNoInteractions(kafkaTemplateMock);
+    }
+  }
+}
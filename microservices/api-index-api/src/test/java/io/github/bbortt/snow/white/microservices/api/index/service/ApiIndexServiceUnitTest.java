@@ -44,6 +44,9 @@ class ApiIndexServiceUnitTest {
   @Mock
   private ApiReferenceRepository apiReferenceRepositoryMock;
 
+  @Mock
+  private ApiIndexChangePublisher apiIndexChangePublisherMock;
+
   @InjectMocks
   private ApiIndexService fixture;
 
@@ -79,6 +82,7 @@ class ApiIndexServiceUnitTest {
       fixture.persist(apiReference);
 
       verify(apiReferenceRepositoryMock).save(apiReference);
+      verify(apiIndexChangePublisherMock).publish(apiReference);
     }
 
     @Test
@@ -98,6 +102,9 @@ class ApiIndexServiceUnitTest {
       );
 
       verify(apiReferenceRepositoryMock, never()).save(any(ApiReference.class));
+      verify(apiIndexChangePublisherMock, never()).publish(
+        any(ApiReference.class)
+      );
     }
 
     @Test
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Compares {@link SpanAttributes} to the Jackson trees spans were previously held in.
+ * <p>
+ * The {@code lookup} benchmarks read the attributes the coverage calculation relies on from every span.
+ * The {@code retain} benchmarks hold {@code retainedSpans} spans at once, like a calculation does, and report the retained heap in the {@code retainedBytes} counter.
+ * <p>
+ * Run with {@code ./mvnw -Pjmh -pl :openapi-coverage-stream test-compile exec:exec -Djmh.args=SpanAttributes}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class SpanAttributesBenchmark {
+
+  private static final String[] METHODS = { "GET", "POST", "PUT", "DELETE" };
+  private static final int[] STATUS_CODES = { 200, 201, 400, 404, 500 };
+
+  @Param({ "10000" })
+  private int spans;
+
+  @Param({ "1000000" })
+  private int retainedSpans;
+
+  private List<JsonNode> jsonTrees;
+  private List<SpanAttributes> spanAttributes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    jsonTrees = new ArrayList<>(spans);
+    spanAttributes = new ArrayList<>(spans);
+
+    for (int i = 0; i < spans; i++) {
+      var jsonTree = jsonTree(i);
+      jsonTrees.add(jsonTree);
+      spanAttributes.add(SpanAttributes.of(jsonTree));
+    }
+  }
+
+  @Benchmark
+  public void lookupJsonTrees(Blackhole blackhole) {
+    for (var attributes : jsonTrees) {
+      blackhole.consume(attributes.get("http.request.method").asString());
+      blackhole.consume(attributes.get("url.path").asString());
+      blackhole.consume(
+        attributes.get("http.response.status_code").asString()
+      );
+      attributes
+        .get("http.request.header.content-type")
+        .forEach(contentType -> blackhole.consume(contentType.asString()));
+    }
+  }
+
+  @Benchmark
+  public void lookupSpanAttributes(Blackhole blackhole) {
+    for (var attributes : spanAttributes) {
+      blackhole.consume(attributes.getString("http.request.method"));
+      blackhole.consume(attributes.getString("url.path"));
+      blackhole.consume(attributes.getString("http.response.status_code"));
+      blackhole.consume(
+        attributes.getStrings("http.request.header.content-type")
+      );
+    }
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+  @Warmup(iterations = 1)
+  @Measurement(iterations = 3)
+  @BenchmarkMode(Mode.SingleShotTime)
+  public List<JsonNode> retainJsonTrees(RetainedHeap retainedHeap) {
+    var baseline = RetainedHeap.usedMemory();
+
+    var retained = new ArrayList<JsonNode>(retainedSpans);
+    for (int i = 0; i < retainedSpans; i++) {
+      retained.add(jsonTree(i));
+    }
+
+    retainedHeap.retainedBytes = RetainedHeap.usedMemory() - baseline;
+    return retained;
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+  @Warmup(iterations = 1)
+  @Measurement(iterations = 3)
+  @BenchmarkMode(Mode.SingleShotTime)
+  public List<SpanAttributes> retainSpanAttributes(RetainedHeap retainedHeap) {
+    var baseline = RetainedHeap.usedMemory();
+
+    var retained = new ArrayList<SpanAttributes>(retainedSpans);
+    for (int i = 0; i < retainedSpans; i++) {
+      retained.add(spanAttributes(i));
+    }
+
+    retainedHeap.retainedBytes = RetainedHeap.usedMemory() - baseline;
+    return retained;
+  }
+
+  private static ObjectNode jsonTree(int i) {
+    var jsonTree = JsonMapper.shared().createObjectNode();
+    jsonTree.put("http.request.method", METHODS[i % METHODS.length]);
+    jsonTree.put("url.path", "/api/v1/pets/" + (i % 100));
+    jsonTree.put(
+      "http.response.status_code",
+      (long) STATUS_CODES[i % STATUS_CODES.length]
+    );
+    jsonTree.put("url.query", "page=" + (i % 10) + "&size=20");
+    jsonTree.put("http.request.header.x-request-id", "request-" + i);
+    jsonTree
+      .putArray("http.request.header.content-type")
+      .add("application/json");
+    return jsonTree;
+  }
+
+  private static SpanAttributes spanAttributes(int i) {
+    return SpanAttributes.builder()
+      .put("http.request.method", METHODS[i % METHODS.length])
+      .put("url.path", "/api/v1/pets/" + (i % 100))
+      .put(
+        "http.response.status_code",
+        (long) STATUS_CODES[i % STATUS_CODES.length]
+      )
+      .put("url.query", "page=" + (i % 10) + "&size=20")
+      .put("http.request.header.x-request-id", "request-" + i)
+      .put("http.request.header.content-type", List.of("application/json"))
+      .build();
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+
+    public long retainedBytes;
+
+    private static long usedMemory() {
+      var runtime = Runtime.getRuntime();
+      for (int i = 0; i < 3; i++) {
+        System.gc();
+      }
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+}
@@ -7,6 +7,10 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka;
 
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties.PREFIX;
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_COMPACT;
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_CONFIG;
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_DELETE;
+import static org.apache.kafka.common.config.TopicConfig.RETENTION_MS_CONFIG;
 
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import lombok.extern.slf4j.Slf4j;
@@ -48,4 +52,21 @@ public class KafkaTopicManager {
       openApiCoverageStreamProperties.getOpenapiCalculationResponseTopic()
     ).build();
   }
+
+  @Bean
+  @ConditionalOnProperty(prefix = PREFIX, name = "span-stream.span-topic")
+  public NewTopic spanCoverageAggregateTopic() {
+    var spanStreamProperties = openApiCoverageStreamProperties.getSpanStream();
+
+    return TopicBuilder.name(spanStreamProperties.getAggregateTopic())
+      .config(
+        CLEANUP_POLICY_CONFIG,
+        CLEANUP_POLICY_COMPACT + "," + CLEANUP_POLICY_DELETE
+      )
+      .config(
+        RETENTION_MS_CONFIG,
+        String.valueOf(spanStreamProperties.getRetentionSeconds() * 1_000)
+      )
+      .build();
+  }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.serialization;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.kafka.common.serialization.Serdes.serdeFrom;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import lombok.NoArgsConstructor;
+import org.apache.kafka.common.serialization.Serde;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+@NoArgsConstructor(access = PRIVATE)
+public final class CoverageStateSerdes {
+
+  public static Serde<CoverageState> CoverageState() {
+    var serializer = new JacksonJsonSerializer<CoverageState>();
+    var deserializer = new JacksonJsonDeserializer<>(CoverageState.class);
+
+    return serdeFrom(serializer, deserializer);
+  }
+
+  public static Serde<CoverageState.Bucket> CoverageStateBucket() {
+    var serializer = new JacksonJsonSerializer<CoverageState.Bucket>();
+    var deserializer = new JacksonJsonDeserializer<>(
+      CoverageState.Bucket.class
+    );
+
+    return serdeFrom(serializer, deserializer);
+  }
+}
@@ -9,17 +9,23 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.ka
 import static io.github.bbortt.snow.white.commons.logging.ExceptionConverter.extractStackTraceOrErrorMessage;
 import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.stream.processor.TracingProcessor.newTracingProcessor;
+import static java.lang.Boolean.TRUE;
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static java.util.Comparator.comparing;
 import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCause;
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static org.springframework.util.StringUtils.hasText;
 
 import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.commons.event.QualityGateCalculationRequestEvent;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.serialization.CoverageStateSerdes;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.serialization.QualityGateCalculationEventSerdes;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageCalculationService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
 import io.opentelemetry.api.OpenTelemetry;
@@ -30,20 +36,30 @@ import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.kstream.Consumed;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
 import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Kafka Streams processor for OpenAPI coverage calculation.
+ * <p>
+ * With {@code incremental.enabled}, telemetry summaries are accumulated in the {@value #COVERAGE_STATE_STORE_NAME} state store.
+ * With {@code span-stream.span-topic}, calculations without attribute filters are served from the aggregates of the {@link SpanCoverageStream}.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OpenApiCoverageCalculationProcessor {
 
+  public static final String COVERAGE_STATE_STORE_NAME =
+    "openapi-coverage-state";
+
   private final OpenTelemetry openTelemetry;
   private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
   private final OpenApiCoverageCalculationService openApiCoverageCalculationService;
@@ -62,12 +78,7 @@ public class OpenApiCoverageCalculationProcessor {
         )
       )
       .peek((key, _) -> logger.debug("Handling message id '{}'", key))
-      .processValues(
-        newTracingProcessor(
-          openTelemetry,
-          this::processOpenApiCoverageRequestAndHandleExceptions
-        )
-      )
+      .processValues(newCoverageProcessor())
       .to(
         openApiCoverageStreamProperties.getOpenapiCalculationResponseTopic(),
         Produced.with(
@@ -91,17 +102,55 @@ public class OpenApiCoverageCalculationProcessor {
     );
   }
 
+  private FixedKeyProcessorSupplier<
+    String,
+    QualityGateCalculationRequestEvent,
+    OpenApiCoverageResponseEvent
+  > newCoverageProcessor() {
+    if (
+      !TRUE.equals(
+        openApiCoverageStreamProperties.getIncremental().getEnabled()
+      )
+    ) {
+      return newTracingProcessor(openTelemetry, (fixedKeyRecord, timestamp) ->
+        processOpenApiCoverageRequestAndHandleExceptions(
+          fixedKeyRecord,
+          timestamp,
+          null
+        )
+      );
+    }
+
+    return newTracingProcessor(
+      openTelemetry,
+      Stores.keyValueStoreBuilder(
+        Stores.persistentKeyValueStore(COVERAGE_STATE_STORE_NAME),
+        Serdes.String(),
+        CoverageStateSerdes.CoverageState()
+      ),
+      (KeyValueStore<String, CoverageState> coverageStateStore) ->
+        (fixedKeyRecord, timestamp) ->
+          processOpenApiCoverageRequestAndHandleExceptions(
+            fixedKeyRecord,
+            timestamp,
+            coverageStateStore
+          )
+    );
+  }
+
   private @NonNull OpenApiCoverageResponseEvent processOpenApiCoverageRequestAndHandleExceptions(
     FixedKeyRecord<
       String,
       QualityGateCalculationRequestEvent
     > qualityGateCalculationRequestEventFixedKeyRecord,
-    Long timestamp
+    Long timestamp,
+    @Nullable KeyValueStore<String, CoverageState> coverageStateStore
   ) {
     try {
       return processOpenApiCoverageRequest(
         qualityGateCalculationRequestEventFixedKeyRecord,
-        timestamp
+        timestamp,
+        coverageStateStore
       );
     } catch (Exception exception) {
       var rootCause = getRootCause(exception);
@@ -126,7 +175,8 @@ public class OpenApiCoverageCalculationProcessor {
       String,
       QualityGateCalculationRequestEvent
     > qualityGateCalculationRequestEventFixedKeyRecord,
-    Long timestamp
+    Long timestamp,
+    @Nullable KeyValueStore<String, CoverageState> coverageStateStore
   ) throws OpenApiNotIndexedException, UnparseableOpenApiException {
     var openApiTestContext =
       openApiCoverageCalculationService.fetchOpenApiSpecification(
@@ -134,13 +184,28 @@ public class OpenApiCoverageCalculationProcessor {
         qualityGateCalculationRequestEventFixedKeyRecord.value()
       );
 
-    openApiTestContext =
-      openApiCoverageCalculationService.enrichWithOpenTelemetryData(
-        openApiTestContext,
-        timestamp
-      );
+    if (isServedFromSpanStream(openApiTestContext)) {
+      openApiTestContext =
+        openApiCoverageCalculationService.enrichWithStreamedTelemetry(
+          openApiTestContext,
+          timestamp
+        );
+    } else if (isNull(coverageStateStore)) {
+      openApiTestContext =
+        openApiCoverageCalculationService.enrichWithOpenTelemetryData(
+          openApiTestContext,
+          timestamp
+        );
+    } else {
+      openApiTestContext =
+        openApiCoverageCalculationService.enrichWithOperationTelemetry(
+          openApiTestContext,
+          timestamp,
+          coverageStateStore
+        );
+    }
 
-    if (isEmpty(openApiTestContext.openTelemetryData())) {
+    if (!hasTelemetry(openApiTestContext)) {
       return new OpenApiCoverageResponseEvent(
         openApiTestContext.apiInformation(),
         format(
@@ -164,4 +229,25 @@ public class OpenApiCoverageCalculationProcessor {
       openApiTestContext
     );
   }
+
+  /**
+   * Aggregates of the span stream are not broken down by attributes, filtered calculations still query the observability backend.
+   */
+  private boolean isServedFromSpanStream(
+    OpenApiTestContext openApiTestContext
+  ) {
+    return (
+      hasText(
+        openApiCoverageStreamProperties.getSpanStream().getSpanTopic()
+      ) &&
+      isEmpty(openApiTestContext.attributeFilters())
+    );
+  }
+
+  private static boolean hasTelemetry(OpenApiTestContext openApiTestContext) {
+    return (
+      !isEmpty(openApiTestContext.openTelemetryData()) ||
+      !isEmpty(openApiTestContext.operationTelemetry())
+    );
+  }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.stream;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties.PREFIX;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService.SPAN_COVERAGE_STORE_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService.bucketKey;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.mergeInto;
+import static java.lang.Math.max;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.serialization.CoverageStateSerdes;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.stream.processor.AggregateRetentionProcessor;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka Streams topology aggregating OpenAPI coverage straight from the spans published by the otel-event-filter-stream.
+ * <p>
+ * Spans are summarized by operation key on arrival, and reduced per API in tumbling windows held in the {@value #WINDOW_STORE_NAME} state store.
+ * Window aggregates are published to the compacted {@code span-stream.aggregate-topic}, keyed by API and window start.
+ * Every instance reads that topic back into the global {@value SpanCoverageService#SPAN_COVERAGE_STORE_NAME} state store, so that any instance can serve any calculation request.
+ * Aggregates beyond {@code span-stream.retention-seconds} are deleted from both by the {@link AggregateRetentionProcessor}.
+ * <p>
+ * Records that cannot be summarized, e.g. because they are not OTLP JSON, are logged, counted in {@value #SKIPPED_RECORDS_METER_NAME} and skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = PREFIX, name = "span-stream.span-topic")
+public class SpanCoverageStream {
+
+  static final String WINDOW_STORE_NAME = "openapi-span-coverage-windows";
+  static final String SKIPPED_RECORDS_METER_NAME =
+    "openapi.coverage.span-stream.skipped";
+
+  private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
+  private final SpanCoverageService spanCoverageService;
+  private final MeterRegistry meterRegistry;
+
+  @Bean
+  public KStream<String, byte[]> spanCoverageStream(
+    StreamsBuilder streamsBuilder
+  ) {
+    var spanStreamProperties = openApiCoverageStreamProperties.getSpanStream();
+    var bucketSerde = CoverageStateSerdes.CoverageStateBucket();
+    var skippedRecords = meterRegistry.counter(SKIPPED_RECORDS_METER_NAME);
+
+    var stream = streamsBuilder.stream(
+      spanStreamProperties.getSpanTopic(),
+      Consumed.with(Serdes.String(), Serdes.ByteArray())
+    );
+
+    var windowSize = Duration.ofSeconds(
+      spanStreamProperties.getWindowSizeSeconds()
+    );
+    var gracePeriod = Duration.ofSeconds(
+      spanStreamProperties.getGracePeriodSeconds()
+    );
+
+    stream
+      .flatMap((key, exportTraceServiceRequest) -> {
+        try {
+          return spanCoverageService
+            .summarizeSpans(exportTraceServiceRequest)
+            .entrySet()
+            .stream()
+            .map(summary ->
+              KeyValue.pair(
+                summary.getKey(),
+                new CoverageState.Bucket(0, summary.getValue())
+              )
+            )
+            .toList();
+        } catch (Exception e) {
+          logger.error(
+            "Skipping span record with key '{}': {}",
+            key,
+            e.getMessage(),
+            e
+          );
+          skippedRecords.increment();
+          return List.<KeyValue<String, CoverageState.Bucket>>of();
+        }
+      })
+      .groupByKey(Grouped.with(Serdes.String(), bucketSerde))
+      .windowedBy(TimeWindows.ofSizeAndGrace(windowSize, gracePeriod))
+      .reduce(
+        SpanCoverageStream::merge,
+        Materialized.<String, CoverageState.Bucket, WindowStore<Bytes, byte[]>>as(
+          WINDOW_STORE_NAME
+        )
+          .withKeySerde(Serdes.String())
+          .withValueSerde(bucketSerde)
+          .withRetention(windowSize.plus(gracePeriod))
+      )
+      .toStream()
+      .map((windowedApiKey, bucket) ->
+        KeyValue.pair(
+          bucketKey(windowedApiKey.key(), windowedApiKey.window().start()),
+          new CoverageState.Bucket(
+            windowedApiKey.window().end(),
+            bucket.operationTelemetry()
+          )
+        )
+      )
+      .process(() ->
+        new AggregateRetentionProcessor(
+          SPAN_COVERAGE_STORE_NAME,
+          Duration.ofSeconds(spanStreamProperties.getRetentionSeconds()),
+          Duration.ofSeconds(spanStreamProperties.getPruneIntervalSeconds())
+        )
+      )
+      .peek((bucketKey, _) ->
+        logger.trace("Publishing coverage aggregate '{}'", bucketKey)
+      )
+      .to(
+        spanStreamProperties.getAggregateTopic(),
+        Produced.with(Serdes.String(), bucketSerde)
+      );
+
+    streamsBuilder.globalTable(
+      spanStreamProperties.getAggregateTopic(),
+      Consumed.with(Serdes.String(), bucketSerde),
+      Materialized.<String, CoverageState.Bucket, KeyValueStore<Bytes, byte[]>>as(
+        SPAN_COVERAGE_STORE_NAME
+      )
+        .withKeySerde(Serdes.String())
+        .withValueSerde(bucketSerde)
+    );
+
+    return stream;
+  }
+
+  private static CoverageState.Bucket merge(
+    CoverageState.Bucket aggregate,
+    CoverageState.Bucket bucket
+  ) {
+    var operationTelemetry = new HashMap<String, OperationTelemetry>(
+      aggregate.operationTelemetry()
+    );
+    mergeInto(operationTelemetry, bucket.operationTelemetry());
+
+    return new CoverageState.Bucket(
+      max(aggregate.watermark(), bucket.watermark()),
+      operationTelemetry
+    );
+  }
+}
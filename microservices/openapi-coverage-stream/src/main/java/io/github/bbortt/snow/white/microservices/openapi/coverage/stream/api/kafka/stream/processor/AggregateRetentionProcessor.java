@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.stream.processor;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.kafka.streams.processor.PunctuationType.WALL_CLOCK_TIME;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.TimestampedKeyValueStore;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Forwards window aggregates, and publishes tombstones for aggregates that have expired.
+ * <p>
+ * Topic retention never removes entries from a global store, so expired aggregates are deleted by tombstones instead.
+ * Every {@code pruneInterval}, the task of the first partition scans the global store for aggregates whose window
+ * ended before the {@code retention}. Other tasks only forward aggregates, so each tombstone is published once.
+ */
+@Slf4j
+public class AggregateRetentionProcessor
+  implements
+    Processor<
+      String,
+      CoverageState.Bucket,
+      String,
+      CoverageState.@Nullable Bucket
+    >
+{
+
+  private final String aggregateStoreName;
+  private final Duration retention;
+  private final Duration pruneInterval;
+
+  private @Nullable ProcessorContext<
+    String,
+    CoverageState.@Nullable Bucket
+  > context;
+
+  public AggregateRetentionProcessor(
+    String aggregateStoreName,
+    Duration retention,
+    Duration pruneInterval
+  ) {
+    this.aggregateStoreName = aggregateStoreName;
+    this.retention = retention;
+    this.pruneInterval = pruneInterval;
+  }
+
+  @Override
+  public void init(
+    ProcessorContext<String, CoverageState.@Nullable Bucket> context
+  ) {
+    this.context = context;
+
+    if (context.taskId().partition() == 0) {
+      context.schedule(pruneInterval, WALL_CLOCK_TIME, this::pruneExpired);
+    }
+  }
+
+  @Override
+  public void process(Record<String, CoverageState.Bucket> bucketRecord) {
+    requireNonNull(context).forward(bucketRecord);
+  }
+
+  private void pruneExpired(long timestamp) {
+    var processorContext = requireNonNull(context);
+    TimestampedKeyValueStore<String, CoverageState.Bucket> aggregateStore =
+      processorContext.getStateStore(aggregateStoreName);
+
+    var expiredUntil = timestamp - retention.toMillis();
+    var pruned = 0;
+
+    try (var aggregates = aggregateStore.all()) {
+      while (aggregates.hasNext()) {
+        var aggregate = aggregates.next();
+        if (
+          isNull(aggregate.value) ||
+          aggregate.value.value().watermark() > expiredUntil
+        ) {
+          continue;
+        }
+
+        processorContext.forward(new Record<>(aggregate.key, null, timestamp));
+        pruned++;
+      }
+    }
+
+    if (pruned > 0) {
+      logger.debug("Published tombstones for {} expired aggregate(s)", pruned);
+    }
+  }
+}
@@ -8,16 +8,22 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.ka
 
 import static io.github.bbortt.snow.white.commons.kafka.OtelPropagators.KAFKA_HEADERS_GETTER;
 import static io.github.bbortt.snow.white.commons.kafka.OtelPropagators.KAFKA_HEADERS_SETTER;
+import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.Context;
+import java.util.Set;
 import java.util.function.BiFunction;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Function;
+import org.apache.kafka.streams.processor.StateStore;
 import org.apache.kafka.streams.processor.api.ContextualFixedKeyProcessor;
 import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
 import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
 import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.StoreBuilder;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A {@link FixedKeyProcessor} that handles OpenTelemetry tracing context propagation.
@@ -26,7 +32,6 @@ import org.jspecify.annotations.NonNull;
  * @param <V> the type of the value.
  * @param <R> the type of the resulting value.
  */
-@RequiredArgsConstructor
 public class TracingProcessor<
   K,
   V,
@@ -34,7 +39,37 @@ public class TracingProcessor<
 > extends ContextualFixedKeyProcessor<K, V, R> {
 
   private final OpenTelemetry openTelemetry;
-  private final BiFunction<FixedKeyRecord<K, V>, Long, R> processorFunction;
+  private final Function<
+    FixedKeyProcessorContext<K, R>,
+    BiFunction<FixedKeyRecord<K, V>, Long, R>
+  > processorFunctionFactory;
+
+  private @Nullable BiFunction<
+    FixedKeyRecord<K, V>,
+    Long,
+    R
+  > processorFunction;
+
+  public TracingProcessor(
+    OpenTelemetry openTelemetry,
+    BiFunction<FixedKeyRecord<K, V>, Long, R> processorFunction
+  ) {
+    this(openTelemetry, _ -> processorFunction);
+  }
+
+  /**
+   * @param processorFunctionFactory creates the function to process records with, once the processor context is available.
+   */
+  public TracingProcessor(
+    OpenTelemetry openTelemetry,
+    Function<
+      FixedKeyProcessorContext<K, R>,
+      BiFunction<FixedKeyRecord<K, V>, Long, R>
+    > processorFunctionFactory
+  ) {
+    this.openTelemetry = openTelemetry;
+    this.processorFunctionFactory = processorFunctionFactory;
+  }
 
   /**
    * Creates a {@link FixedKeyProcessorSupplier} for a {@link TracingProcessor}.
@@ -57,6 +92,54 @@ public class TracingProcessor<
     return () -> new TracingProcessor<>(openTelemetry, processorFunction);
   }
 
+  /**
+   * Creates a {@link FixedKeyProcessorSupplier} for a {@link TracingProcessor} that is connected to a state store.
+   * The state store is registered along with the processor.
+   *
+   * @param openTelemetry the OpenTelemetry instance used for context propagation.
+   * @param storeBuilder the builder of the state store.
+   * @param processorFunctionFactory creates the function to process the record, given the state store.
+   * @param <K> the type of the key.
+   * @param <V> the type of the value.
+   * @param <R> the type of the resulting value.
+   * @param <S> the type of the state store.
+   * @return the supplier.
+   */
+  public static <K, V, R, S extends StateStore> FixedKeyProcessorSupplier<
+    K,
+    V,
+    R
+  > newTracingProcessor(
+    OpenTelemetry openTelemetry,
+    StoreBuilder<S> storeBuilder,
+    Function<
+      S,
+      BiFunction<FixedKeyRecord<K, V>, Long, R>
+    > processorFunctionFactory
+  ) {
+    return new FixedKeyProcessorSupplier<>() {
+      @Override
+      public FixedKeyProcessor<K, V, R> get() {
+        return new TracingProcessor<>(openTelemetry, context ->
+          processorFunctionFactory.apply(
+            context.getStateStore(storeBuilder.name())
+          )
+        );
+      }
+
+      @Override
+      public Set<StoreBuilder<?>> stores() {
+        return Set.of(storeBuilder);
+      }
+    };
+  }
+
+  @Override
+  public void init(FixedKeyProcessorContext<K, R> context) {
+    super.init(context);
+    processorFunction = processorFunctionFactory.apply(context);
+  }
+
   private Context extractTraceContextFromIncomingHeaders(
     FixedKeyRecord<K, V> kafkaEventRecord
   ) {
@@ -89,8 +172,13 @@ public class TracingProcessor<
       kafkaEventRecord
     );
 
+    var function = requireNonNull(
+      processorFunction,
+      "Processor has not been initialized!"
+    );
+
     try (var _ = extractedContext.makeCurrent()) {
-      var result = processorFunction.apply(
+      var result = function.apply(
         kafkaEventRecord,
         kafkaEventRecord.timestamp()
       );
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ExecutorService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class CoverageCalculationExecutorConfig {
+
+  static final String EXECUTOR_NAME = "openapi.coverage.calculation";
+
+  private static final String THREAD_NAME_PREFIX = "coverage-calculation-";
+
+  /**
+   * Shared by all concurrent calculation requests.
+   * Coverage calculators are CPU-bound, so a fixed pool of platform threads bounds the parallelism.
+   * Closed on shutdown, waiting for running calculations to complete.
+   */
+  @Bean
+  public ExecutorService coverageCalculationExecutor(
+    OpenApiCoverageStreamProperties openApiCoverageStreamProperties,
+    MeterRegistry meterRegistry
+  ) {
+    var executor = newFixedThreadPool(
+      openApiCoverageStreamProperties.getCalculation().getParallelism(),
+      Thread.ofPlatform().name(THREAD_NAME_PREFIX, 0).daemon().factory()
+    );
+
+    return ExecutorServiceMetrics.monitor(
+      meterRegistry,
+      executor,
+      EXECUTOR_NAME
+    );
+  }
+}
@@ -6,6 +6,8 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config;
 
+import java.util.HashSet;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -21,4 +23,22 @@ public class InfluxDBProperties {
   private String token;
   private String org;
   private String bucket;
+
+  private final ProjectionProperties projection = new ProjectionProperties();
+
+  @Getter
+  @Setter
+  public static class ProjectionProperties {
+
+    /**
+     * Fetch only the span attributes used for coverage calculation, instead of the full attributes JSON of each span.
+     * Request headers not listed in {@link #requestHeaders} are then not visible to header coverage calculation.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * Request headers to fetch in addition to {@code content-type}, when the projection is enabled.
+     */
+    private Set<String> requestHeaders = new HashSet<>();
+  }
 }
@@ -31,7 +31,12 @@ public class OpenApiCoverageStreamProperties {
   private String operationIdAttribute = "openapi.operation.id";
 
   private final ApiIndexProperties apiIndex = new ApiIndexProperties();
+  private final CalculationProperties calculation = new CalculationProperties();
   private final FilteringProperties filtering = new FilteringProperties();
+  private final IncrementalProperties incremental = new IncrementalProperties();
+  private final OpenApiCacheProperties openapiCache =
+    new OpenApiCacheProperties();
+  private final SpanStreamProperties spanStream = new SpanStreamProperties();
 
   @Getter
   @Setter
@@ -43,6 +48,121 @@ public class OpenApiCoverageStreamProperties {
     private String baseUrl;
   }
 
+  @Getter
+  @Setter
+  public static class CalculationProperties {
+
+    /**
+     * Upper bound of coverage calculators running at the same time, across all calculation requests.
+     */
+    private Integer parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Deadline for each coverage calculator of a calculation request, starting once the calculator runs.
+     * Calculators still running afterward are cancelled, and the request fails.
+     */
+    private Long timeoutMillis = 30_000L;
+  }
+
+  @Getter
+  @Setter
+  public static class IncrementalProperties {
+
+    /**
+     * Whether telemetry summaries are persisted in a Kafka Streams state store, per API, version and attribute filters.
+     * Calculations then only query telemetry newer than the persisted watermarks, instead of the whole lookback window.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * Size of the time buckets summaries are persisted in.
+     * The part of a lookback window starting within a bucket is queried again on every calculation.
+     */
+    private Long bucketSizeSeconds = 3_600L;
+
+    /**
+     * Telemetry younger than this is queried on every calculation, and never persisted.
+     * Spans arriving late in the observability backend are thereby not missed.
+     */
+    private Long settleDelaySeconds = 300L;
+
+    /**
+     * Buckets older than this are evicted from the state store.
+     * Should exceed the longest lookback window in use, older telemetry is queried on every calculation otherwise.
+     */
+    private Long retentionSeconds = 8L * 24 * 3_600;
+  }
+
+  @Getter
+  @Setter
+  public static class OpenApiCacheProperties {
+
+    /**
+     * Upper bound of the summed up source sizes (in bytes) of all parsed specifications kept in memory.
+     */
+    private Long maximumWeightBytes = 64L * 1024 * 1024;
+
+    /**
+     * Parsed specifications that have not been used for this period are evicted.
+     */
+    private Long expireAfterAccessSeconds = 3_600L;
+
+    /**
+     * Upper bound of distinct {@code (service, api, version)} entries whose latest source is remembered.
+     */
+    private Long maximumSize = 1_000L;
+
+    /**
+     * How long the latest source of an API is trusted without querying the api-index-api and re-reading it.
+     * Within this period, repeated calculations are served from memory entirely.
+     */
+    private Long revalidateAfterSeconds = 60L;
+  }
+
+  @Getter
+  @Setter
+  public static class SpanStreamProperties {
+
+    public static final String SPAN_TOPIC_PROPERTY_NAME =
+      PREFIX + ".span-stream.span-topic";
+    public static final String AGGREGATE_TOPIC_PROPERTY_NAME =
+      PREFIX + ".span-stream.aggregate-topic";
+
+    /**
+     * Outbound topic of the otel-event-filter-stream, carrying {@code ExportTraceServiceRequest}s in the OTLP JSON format.
+     * Optional - when set, coverage is aggregated straight from the spans, and calculations without attribute filters are served from local state.
+     */
+    private String spanTopic;
+
+    /**
+     * Compacted topic the windowed coverage aggregates are published to.
+     * Each instance reads it back into a global state store.
+     */
+    private String aggregateTopic;
+
+    /**
+     * Size of the windows spans are aggregated in.
+     * Lookback windows are rounded up to full windows.
+     */
+    private Long windowSizeSeconds = 60L;
+
+    /**
+     * How long a window accepts spans arriving late, after it has ended.
+     */
+    private Long gracePeriodSeconds = 300L;
+
+    /**
+     * Retention of the aggregate topic, if created by this service, and of the aggregates read back from it.
+     * Should exceed the longest lookback window in use.
+     */
+    private Long retentionSeconds = 8L * 24 * 3_600;
+
+    /**
+     * How often aggregates beyond the retention are deleted from the aggregate topic, by publishing tombstones.
+     */
+    private Long pruneIntervalSeconds = 3_600L;
+  }
+
   @Getter
   @Setter
   public static class FilteringProperties extends DefaultFilteringProperties {}
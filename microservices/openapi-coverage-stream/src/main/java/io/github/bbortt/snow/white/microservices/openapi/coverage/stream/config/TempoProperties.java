@@ -6,6 +6,8 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config;
 
+import java.util.HashSet;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -32,4 +34,40 @@ public class TempoProperties {
    * @see <a href="https://grafana.com/docs/tempo/latest/operations/manage-advanced-systems/multitenancy/">Tempo multi-tenancy</a>
    */
   private String orgId;
+
+  /**
+   * Maximum number of traces returned by a single search request.
+   * Search windows hitting this limit are split in halves and searched again, until each returns fewer traces.
+   */
+  private Integer searchLimit = 1_000;
+
+  /**
+   * Maximum number of matching spans returned per trace by a search request.
+   * Tempo itself defaults to 3, which silently drops further matching spans of the same trace.
+   */
+  private Integer spansPerSpanSet = 100;
+
+  /**
+   * Upper bound of trace-by-ID requests in flight at the same time, across all calculation requests.
+   */
+  private Integer fetchConcurrency = 16;
+
+  private final SelectProperties select = new SelectProperties();
+
+  @Getter
+  @Setter
+  public static class SelectProperties {
+
+    /**
+     * Read the span attributes used for coverage calculation straight from the search results, via a TraceQL {@code select()} clause.
+     * This avoids downloading full traces.
+     * Request headers not listed in {@link #requestHeaders} are then not visible to header coverage calculation.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * Request headers to select in addition to {@code content-type}, when selecting is enabled.
+     */
+    private Set<String> requestHeaders = new HashSet<>();
+  }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.condition;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches when neither InfluxDB nor Grafana Tempo is configured, i.e. when
+ * coverage is aggregated from the span stream exclusively.
+ */
+public class NoTelemetryBackendConfiguredCondition implements Condition {
+
+  private final TempoConfiguredCondition tempoConfiguredCondition =
+    new TempoConfiguredCondition();
+
+  @Override
+  public boolean matches(
+    ConditionContext context,
+    AnnotatedTypeMetadata metadata
+  ) {
+    var influxDBConfigured = hasText(
+      context.getEnvironment().getProperty("influxdb.url")
+    );
+
+    return (
+      !influxDBConfigured &&
+      !tempoConfiguredCondition.matches(context, metadata)
+    );
+  }
+}
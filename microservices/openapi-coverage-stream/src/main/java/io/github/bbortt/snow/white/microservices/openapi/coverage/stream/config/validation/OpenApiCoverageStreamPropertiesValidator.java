@@ -9,8 +9,10 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config
 import static io.github.bbortt.snow.white.commons.PropertyUtils.assertRequiredProperties;
 import static io.github.bbortt.snow.white.commons.logging.LoggingJsonMapper.toMaskedJsonRepresentation;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties.PREFIX;
+import static org.springframework.util.StringUtils.hasText;
 
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties.SpanStreamProperties;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +39,14 @@ public class OpenApiCoverageStreamPropertiesValidator {
       openApiCoverageStreamProperties.getOpenapiCalculationResponseTopic()
     );
 
+    var spanStreamProperties = openApiCoverageStreamProperties.getSpanStream();
+    if (hasText(spanStreamProperties.getSpanTopic())) {
+      fields.put(
+        SpanStreamProperties.AGGREGATE_TOPIC_PROPERTY_NAME,
+        spanStreamProperties.getAggregateTopic()
+      );
+    }
+
     assertRequiredProperties(fields);
 
     logger.info(
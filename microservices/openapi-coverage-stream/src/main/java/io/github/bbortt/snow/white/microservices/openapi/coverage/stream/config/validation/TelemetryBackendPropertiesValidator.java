@@ -10,6 +10,7 @@ import static io.github.bbortt.snow.white.commons.logging.LoggingJsonMapper.toMa
 import static org.springframework.util.StringUtils.hasText;
 
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.InfluxDBProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.TempoProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,14 +21,24 @@ public class TelemetryBackendPropertiesValidator {
 
   public TelemetryBackendPropertiesValidator(
     InfluxDBProperties influxDBProperties,
-    TempoProperties tempoProperties
+    TempoProperties tempoProperties,
+    OpenApiCoverageStreamProperties openApiCoverageStreamProperties
   ) {
     var influxDBConfigured = isInfluxDBConfigured(influxDBProperties);
     var tempoConfigured = isTempoConfigured(tempoProperties);
 
     if (!influxDBConfigured && !tempoConfigured) {
+      var spanStreamProperties =
+        openApiCoverageStreamProperties.getSpanStream();
+      if (hasText(spanStreamProperties.getSpanTopic())) {
+        logger.warn(
+          "No telemetry backend configured, calculations with attribute filters will fail!"
+        );
+        return;
+      }
+
       throw new IllegalArgumentException(
-        "No telemetry backend configured! Configure either InfluxDB or Grafana Tempo. Please read the docs."
+        "No telemetry backend configured! Configure either InfluxDB or Grafana Tempo, or a span stream. Please read the docs."
       );
     }
 
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.LookbackWindowParser.parseLookbackWindow;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.mergeInto;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNullElse;
+import static java.util.stream.Collectors.joining;
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
+
+import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accumulates telemetry summaries incrementally, instead of querying the whole lookback window on every calculation.
+ * <p>
+ * Summaries are persisted per API, version and set of attribute filters, in time buckets of {@code incremental.bucket-size-seconds}.
+ * They are discarded once the operations of the specification or the bucket size change, reusing the same state key.
+ * Each bucket remembers the watermark up to which it has been summarized, so only newer telemetry is queried.
+ * Telemetry younger than {@code incremental.settle-delay-seconds} is queried on every calculation and never persisted, because spans may arrive late.
+ * The part of the lookback window starting within a bucket is queried on every calculation as well.
+ * <p>
+ * The first calculation of an API queries each bucket separately, subsequent calculations only the buckets that changed since.
+ */
+@Slf4j
+@Service
+@NullMarked
+@RequiredArgsConstructor
+public class CoverageStateService {
+
+  private final OpenTelemetryService openTelemetryService;
+  private final OpenApiCoverageService openApiCoverageService;
+  private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
+
+  /**
+   * Summarizes the telemetry of the lookback window of the given context, by operation key.
+   *
+   * @param openApiTestContext the test context.
+   * @param timestamp          the timestamp of the event, ending the lookback window.
+   * @param coverageStateStore the store summaries are persisted in.
+   * @return the summarized telemetry.
+   */
+  @WithSpan
+  public Map<String, OperationTelemetry> summarizeTelemetry(
+    OpenApiTestContext openApiTestContext,
+    long timestamp,
+    KeyValueStore<String, CoverageState> coverageStateStore
+  ) {
+    long windowStart;
+    try {
+      windowStart =
+        timestamp -
+        parseLookbackWindow(openApiTestContext.lookbackWindow()).toMillis();
+    } catch (IllegalArgumentException e) {
+      logger.debug(
+        "Lookback window '{}' cannot be split into buckets, querying it as a whole",
+        openApiTestContext.lookbackWindow()
+      );
+
+      return openApiCoverageService.summarizeByOperationKey(
+        openTelemetryService.findOpenTelemetryTracingData(
+          openApiTestContext.apiInformation(),
+          timestamp,
+          openApiTestContext.lookbackWindow(),
+          openApiTestContext.attributeFilters()
+        ),
+        openApiTestContext.pathIndex()
+      );
+    }
+
+    var incrementalProperties =
+      openApiCoverageStreamProperties.getIncremental();
+    var bucketSizeMillis =
+      incrementalProperties.getBucketSizeSeconds() * 1_000;
+    var settledUntil = max(
+      windowStart,
+      timestamp - incrementalProperties.getSettleDelaySeconds() * 1_000
+    );
+
+    var stateKey = buildStateKey(openApiTestContext);
+    var fingerprint = buildFingerprint(openApiTestContext, bucketSizeMillis);
+
+    var previousState = coverageStateStore.get(stateKey);
+    var stateValid =
+      nonNull(previousState) &&
+      fingerprint.equals(previousState.fingerprint());
+    var buckets = stateValid
+      ? new HashMap<>(previousState.buckets())
+      : new HashMap<Long, CoverageState.Bucket>();
+    var stateChanged = nonNull(previousState) && !stateValid;
+
+    var operationTelemetry = new HashMap<String, OperationTelemetry>();
+
+    var firstBucketStart =
+      windowStart - floorMod(windowStart, bucketSizeMillis);
+    for (
+      var bucketStart = firstBucketStart;
+      bucketStart < settledUntil;
+      bucketStart += bucketSizeMillis
+    ) {
+      var rangeEnd = min(bucketStart + bucketSizeMillis, settledUntil);
+
+      if (bucketStart < windowStart) {
+        // The bucket also summarizes telemetry before the lookback window
+        mergeInto(
+          operationTelemetry,
+          fetchAndSummarize(openApiTestContext, windowStart, rangeEnd)
+        );
+        continue;
+      }
+
+      var bucket = buckets.getOrDefault(
+        bucketStart,
+        new CoverageState.Bucket(bucketStart, emptyMap())
+      );
+
+      if (bucket.watermark() > rangeEnd) {
+        // The bucket already summarizes telemetry after the lookback window, e.g. when replaying older requests
+        mergeInto(
+          operationTelemetry,
+          fetchAndSummarize(openApiTestContext, bucketStart, rangeEnd)
+        );
+        continue;
+      }
+
+      if (bucket.watermark() < rangeEnd) {
+        var bucketTelemetry = new HashMap<>(bucket.operationTelemetry());
+        mergeInto(
+          bucketTelemetry,
+          fetchAndSummarize(openApiTestContext, bucket.watermark(), rangeEnd)
+        );
+
+        bucket = new CoverageState.Bucket(rangeEnd, bucketTelemetry);
+        buckets.put(bucketStart, bucket);
+        stateChanged = true;
+      }
+
+      mergeInto(operationTelemetry, bucket.operationTelemetry());
+    }
+
+    if (settledUntil < timestamp) {
+      mergeInto(
+        operationTelemetry,
+        fetchAndSummarize(openApiTestContext, settledUntil, timestamp)
+      );
+    }
+
+    var retentionStart =
+      timestamp - incrementalProperties.getRetentionSeconds() * 1_000;
+    stateChanged |= buckets
+      .keySet()
+      .removeIf(bucketStart ->
+        bucketStart + bucketSizeMillis <= retentionStart
+      );
+
+    if (stateChanged) {
+      coverageStateStore.put(
+        stateKey,
+        new CoverageState(fingerprint, buckets)
+      );
+    }
+
+    return operationTelemetry;
+  }
+
+  private Map<String, OperationTelemetry> fetchAndSummarize(
+    OpenApiTestContext openApiTestContext,
+    long rangeStart,
+    long rangeEnd
+  ) {
+    if (rangeEnd <= rangeStart) {
+      // Empty ranges are rejected by InfluxDB, e.g. once the settle delay covers the whole lookback window
+      return emptyMap();
+    }
+
+    logger.trace("Querying telemetry from {} until {}", rangeStart, rangeEnd);
+
+    return openApiCoverageService.summarizeByOperationKey(
+      openTelemetryService.findOpenTelemetryTracingData(
+        openApiTestContext.apiInformation(),
+        rangeEnd,
+        (rangeEnd - rangeStart) + "ms",
+        openApiTestContext.attributeFilters()
+      ),
+      openApiTestContext.pathIndex()
+    );
+  }
+
+  private String buildStateKey(OpenApiTestContext openApiTestContext) {
+    var apiInformation = openApiTestContext.apiInformation();
+
+    var stateKeySource = String.join(
+      "\n",
+      apiInformation.getServiceName(),
+      apiInformation.getApiName(),
+      requireNonNullElse(apiInformation.getApiVersion(), ""),
+      openApiTestContext
+        .attributeFilters()
+        .stream()
+        .map(AttributeFilter::toString)
+        .sorted()
+        .collect(joining(","))
+    );
+
+    return md5DigestAsHex(stateKeySource.getBytes(UTF_8));
+  }
+
+  /**
+   * Summaries are keyed by operation key, which depends on the specification.
+   * Buckets summarized for other operations, or of another size, must therefore not be reused.
+   */
+  private String buildFingerprint(
+    OpenApiTestContext openApiTestContext,
+    long bucketSizeMillis
+  ) {
+    var pathIndex = openApiTestContext.pathIndex();
+
+    var fingerprintSource = String.join(
+      "\n",
+      pathIndex
+        .operationKeyToOperation()
+        .keySet()
+        .stream()
+        .sorted()
+        .collect(joining(",")),
+      new TreeMap<>(pathIndex.operationIdToOperationKey()).toString(),
+      openApiCoverageStreamProperties.getOperationIdAttribute(),
+      String.valueOf(bucketSizeMillis)
+    );
+
+    return md5DigestAsHex(fingerprintSource.getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parses lookback windows in the Flux duration notation, e.g. {@code 1h} or {@code 7d}.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class LookbackWindowParser {
+
+  private static final Pattern LOOKBACK_WINDOW_PATTERN = Pattern.compile(
+    "^(\\d+)(ms|s|m|h|d|w)$"
+  );
+
+  /**
+   * @throws IllegalArgumentException if the lookback window is not a single amount and unit
+   */
+  public static Duration parseLookbackWindow(String lookbackWindow) {
+    var matcher = LOOKBACK_WINDOW_PATTERN.matcher(lookbackWindow);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException(
+        "Unparseable lookback window: " + lookbackWindow
+      );
+    }
+
+    var amount = Long.parseLong(matcher.group(1));
+    return switch (matcher.group(2)) {
+      case "ms" -> Duration.ofMillis(amount);
+      case "s" -> Duration.ofSeconds(amount);
+      case "m" -> Duration.ofMinutes(amount);
+      case "h" -> Duration.ofHours(amount);
+      case "d" -> Duration.ofDays(amount);
+      case "w" -> Duration.ofDays(amount * 7);
+      default -> throw new IllegalArgumentException(
+        "Unsupported lookback window unit: " + matcher.group(2)
+      );
+    };
+  }
+}
@@ -6,55 +6,248 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
 
+import static java.lang.String.join;
 import static java.util.Collections.emptySet;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
-import static java.util.stream.Collectors.toSet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.util.ClassUtils.getUserClass;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.CoverageCalculationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.swagger.v3.oas.models.Operation;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+/**
+ * Runs all coverage calculators of a calculation request in parallel, on the shared coverage calculation executor.
+ * <p>
+ * Only calculators accepting at least one of the requested criteria are run.
+ * Requests without criteria run all calculators.
+ * <p>
+ * Each calculator has a deadline, starting once it runs rather than once it is queued.
+ * Concurrent requests waiting for the executor therefore do not fail just because the pool is busy.
+ * Calculators still running after their deadline are cancelled, and the whole calculation fails,
+ * rather than reporting partial results as if they were complete.
+ * <p>
+ * Calculators are CPU-bound and do not check for interruption:
+ * a cancelled calculator keeps its thread until it has finished anyway.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 class OpenApiCoverageCalculationCoordinator {
 
-  private final List<OpenApiCoverageCalculator> openApiCoverageCalculators;
+  static final String CALCULATOR_DURATION_METER_NAME =
+    "openapi.coverage.calculator.duration";
+  static final String CALCULATOR_TIMEOUTS_METER_NAME =
+    "openapi.coverage.calculator.timeouts";
+
+  private final List<TimedCalculator> timedCalculators;
+  private final ExecutorService coverageCalculationExecutor;
+  private final long timeoutMillis;
+
+  public OpenApiCoverageCalculationCoordinator(
+    List<OpenApiCoverageCalculator> openApiCoverageCalculators,
+    ExecutorService coverageCalculationExecutor,
+    OpenApiCoverageStreamProperties openApiCoverageStreamProperties,
+    MeterRegistry meterRegistry
+  ) {
+    this.timedCalculators = openApiCoverageCalculators
+      .stream()
+      .map(calculator -> TimedCalculator.of(calculator, meterRegistry))
+      .toList();
+    this.coverageCalculationExecutor = coverageCalculationExecutor;
+    this.timeoutMillis = openApiCoverageStreamProperties
+      .getCalculation()
+      .getTimeoutMillis();
+  }
 
   @WithSpan
   public Set<OpenApiTestResult> calculate(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap,
+    @Nullable Set<OpenApiCoverageCriteria> requestedCriteria
   ) {
     if (isEmpty(pathToOpenAPIOperationMap) || isEmpty(pathToTelemetryMap)) {
       return emptySet();
     }
 
-    List<CompletableFuture<OpenApiTestResult>> futures =
-      openApiCoverageCalculators
-        .stream()
-        .map(openApiCoverageCalculator ->
-          supplyAsync(
-            () ->
-              openApiCoverageCalculator.calculate(
-                pathToOpenAPIOperationMap,
-                pathToTelemetryMap
-              ),
-            newVirtualThreadPerTaskExecutor()
+    var requestedCalculators = timedCalculators
+      .stream()
+      .filter(timedCalculator -> timedCalculator.isRequested(requestedCriteria))
+      .toList();
+
+    List<CalculatorRun> calculatorRuns = new ArrayList<>();
+    try {
+      for (var timedCalculator : requestedCalculators) {
+        calculatorRuns.add(
+          submit(
+            timedCalculator,
+            pathToOpenAPIOperationMap,
+            pathToTelemetryMap
           )
-        )
-        .toList();
+        );
+      }
+
+      for (var calculatorRun : calculatorRuns) {
+        calculatorRun.await(MILLISECONDS.toNanos(timeoutMillis));
+      }
+    } catch (InterruptedException e) {
+      calculatorRuns.forEach(calculatorRun ->
+        calculatorRun.future().cancel(true)
+      );
+
+      Thread.currentThread().interrupt();
+      throw new CoverageCalculationException(
+        "Interrupted while calculating OpenAPI coverage",
+        e
+      );
+    }
+
+    return collectResults(calculatorRuns);
+  }
+
+  private CalculatorRun submit(
+    TimedCalculator timedCalculator,
+    Map<String, Operation> pathToOpenAPIOperationMap,
+    Map<String, OperationTelemetry> pathToTelemetryMap
+  ) {
+    var startedAt = new CompletableFuture<Long>();
+    var future = coverageCalculationExecutor.submit(() -> {
+      startedAt.complete(System.nanoTime());
+      return timedCalculator.calculate(
+        pathToOpenAPIOperationMap,
+        pathToTelemetryMap
+      );
+    });
+
+    return new CalculatorRun(timedCalculator, startedAt, future);
+  }
+
+  private Set<OpenApiTestResult> collectResults(
+    List<CalculatorRun> calculatorRuns
+  ) {
+    Set<OpenApiTestResult> results = new HashSet<>();
+    List<String> timedOutCalculators = new ArrayList<>();
+
+    for (var calculatorRun : calculatorRuns) {
+      var future = calculatorRun.future();
+      var timedCalculator = calculatorRun.timedCalculator();
 
-    return futures.stream().map(CompletableFuture::join).collect(toSet());
+      switch (future.state()) {
+        case SUCCESS -> results.add(future.resultNow());
+        case FAILED -> throw new CoverageCalculationException(
+          "OpenAPI coverage calculator " +
+            timedCalculator.name() +
+            " failed",
+          future.exceptionNow()
+        );
+        default -> {
+          timedCalculator.timeouts().increment();
+          timedOutCalculators.add(timedCalculator.name());
+        }
+      }
+    }
+
+    if (!timedOutCalculators.isEmpty()) {
+      logger.warn(
+        "OpenAPI coverage calculators timed out after {}ms: {}",
+        timeoutMillis,
+        timedOutCalculators
+      );
+
+      throw new CoverageCalculationException(
+        "OpenAPI coverage calculation timed out after " +
+          timeoutMillis +
+          "ms: " +
+          join(", ", timedOutCalculators)
+      );
+    }
+
+    return results;
+  }
+
+  private record CalculatorRun(
+    TimedCalculator timedCalculator,
+    CompletableFuture<Long> startedAt,
+    Future<OpenApiTestResult> future
+  ) {
+    /**
+     * Waits for the calculator to finish, at most {@code timeoutNanos} after it has started running.
+     * Cancels it otherwise.
+     */
+    void await(long timeoutNanos) throws InterruptedException {
+      try {
+        var deadline = startedAt.get() + timeoutNanos;
+        future.get(deadline - System.nanoTime(), NANOSECONDS);
+      } catch (ExecutionException | TimeoutException _) {
+        // Evaluated by state once all calculators are done
+      }
+
+      if (!future.isDone()) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private record TimedCalculator(
+    String name,
+    OpenApiCoverageCalculator calculator,
+    Timer duration,
+    Counter timeouts
+  ) {
+    static TimedCalculator of(
+      OpenApiCoverageCalculator calculator,
+      MeterRegistry meterRegistry
+    ) {
+      var name = getUserClass(calculator).getSimpleName();
+
+      return new TimedCalculator(
+        name,
+        calculator,
+        Timer.builder(CALCULATOR_DURATION_METER_NAME)
+          .tag("calculator", name)
+          .register(meterRegistry),
+        Counter.builder(CALCULATOR_TIMEOUTS_METER_NAME)
+          .tag("calculator", name)
+          .register(meterRegistry)
+      );
+    }
+
+    boolean isRequested(
+      @Nullable Set<OpenApiCoverageCriteria> requestedCriteria
+    ) {
+      return (
+        isEmpty(requestedCriteria) ||
+        requestedCriteria.stream().anyMatch(calculator::accepts)
+      );
+    }
+
+    OpenApiTestResult calculate(
+      Map<String, Operation> pathToOpenAPIOperationMap,
+      Map<String, OperationTelemetry> pathToTelemetryMap
+    ) {
+      return duration.record(() ->
+        calculator.calculate(pathToOpenAPIOperationMap, pathToTelemetryMap)
+      );
+    }
   }
 }
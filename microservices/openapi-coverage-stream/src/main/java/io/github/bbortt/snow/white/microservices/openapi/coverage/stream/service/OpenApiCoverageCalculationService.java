@@ -8,9 +8,11 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 
 import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.commons.event.QualityGateCalculationRequestEvent;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
+import org.apache.kafka.streams.state.KeyValueStore;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -43,6 +45,34 @@ public interface OpenApiCoverageCalculationService {
     long timestamp
   );
 
+  /**
+   * Enriches the test context with telemetry summaries, accumulated incrementally in the given state store.
+   *
+   * @param openApiTestContext the test context.
+   * @param timestamp the timestamp of the event.
+   * @param coverageStateStore the state store summaries are accumulated in.
+   * @return the enriched test context.
+   */
+  @NonNull
+  OpenApiTestContext enrichWithOperationTelemetry(
+    @NonNull OpenApiTestContext openApiTestContext,
+    long timestamp,
+    @NonNull KeyValueStore<String, CoverageState> coverageStateStore
+  );
+
+  /**
+   * Enriches the test context with telemetry summaries, aggregated from the span stream.
+   *
+   * @param openApiTestContext the test context.
+   * @param timestamp the timestamp of the event.
+   * @return the enriched test context.
+   */
+  @NonNull
+  OpenApiTestContext enrichWithStreamedTelemetry(
+    @NonNull OpenApiTestContext openApiTestContext,
+    long timestamp
+  );
+
   /**
    * Calculates the coverage for the given test context.
    *
@@ -8,9 +8,8 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
-import java.util.List;
 import java.util.Map;
 
 public interface OpenApiCoverageCalculator {
@@ -18,6 +17,6 @@ public interface OpenApiCoverageCalculator {
 
   OpenApiTestResult calculate(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   );
 }
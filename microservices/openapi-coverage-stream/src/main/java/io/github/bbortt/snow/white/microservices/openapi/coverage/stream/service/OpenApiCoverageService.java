@@ -9,35 +9,29 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.OperationKeyCalculator.toOperationKey;
 import static io.opentelemetry.semconv.HttpAttributes.HTTP_REQUEST_METHOD;
 import static io.opentelemetry.semconv.UrlAttributes.URL_PATH;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.DELETE;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.GET;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.HEAD;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.OPTIONS;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.PATCH;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.POST;
-import static io.swagger.v3.oas.models.PathItem.HttpMethod.PUT;
 import static java.util.Collections.emptySet;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.springframework.util.CollectionUtils.isEmpty;
 import static org.springframework.util.StringUtils.hasText;
 
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
+import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiPathIndex;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
-import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -45,16 +39,6 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OpenApiCoverageService {
 
-  private static final Set<PathItemMapping> METHOD_ACCESSORS = Set.of(
-    new PathItemMapping(PathItem::getGet, GET),
-    new PathItemMapping(PathItem::getPost, POST),
-    new PathItemMapping(PathItem::getPut, PUT),
-    new PathItemMapping(PathItem::getDelete, DELETE),
-    new PathItemMapping(PathItem::getPatch, PATCH),
-    new PathItemMapping(PathItem::getHead, HEAD),
-    new PathItemMapping(PathItem::getOptions, OPTIONS)
-  );
-
   private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
   private final OpenApiCoverageCalculationCoordinator openApiCoverageCalculationCoordinator;
 
@@ -62,87 +46,73 @@ public class OpenApiCoverageService {
   public Set<OpenApiTestResult> calculateCoverage(
     @NonNull OpenApiTestContext openApiTestContext
   ) {
+    var operationTelemetry = openApiTestContext.operationTelemetry();
+    if (nonNull(operationTelemetry)) {
+      logger.info(
+        "Calculating OpenAPI coverage for {} summarized operations",
+        operationTelemetry.size()
+      );
+
+      return openApiCoverageCalculationCoordinator.calculate(
+        openApiTestContext.pathIndex().operationKeyToOperation(),
+        operationTelemetry,
+        openApiTestContext.openApiCoverageCriteria()
+      );
+    }
+
     if (isEmpty(openApiTestContext.openTelemetryData())) {
       return emptySet();
     }
 
     return calculateCoverage(
-      openApiTestContext.openAPI(),
-      openApiTestContext.openTelemetryData()
+      openApiTestContext.pathIndex(),
+      openApiTestContext.openTelemetryData(),
+      openApiTestContext.openApiCoverageCriteria()
     );
   }
 
   private Set<OpenApiTestResult> calculateCoverage(
-    OpenAPI openApi,
-    Set<OpenTelemetryData> openTelemetryData
+    OpenApiPathIndex pathIndex,
+    Collection<OpenTelemetryData> openTelemetryData,
+    @Nullable Set<OpenApiCoverageCriteria> openApiCoverageCriteria
   ) {
     logger.info(
       "Calculating OpenAPI coverage for {} telemetry data points",
       openTelemetryData.size()
     );
 
-    var pathIndex = buildPathIndex(openApi);
-    var pathToTelemetryMap = groupTelemetryByPath(
+    var pathToTelemetryMap = summarizeByOperationKey(
       openTelemetryData,
-      pathIndex.operationIdToOperationKey()
+      pathIndex
     );
 
     return openApiCoverageCalculationCoordinator.calculate(
       pathIndex.operationKeyToOperation(),
-      pathToTelemetryMap
+      pathToTelemetryMap,
+      openApiCoverageCriteria
     );
   }
 
-  private OpenApiPathIndex buildPathIndex(OpenAPI openApi) {
-    Map<String, Operation> operationKeyToOperation = new HashMap<>();
-    Map<String, String> operationIdToOperationKey = new HashMap<>();
-
-    if (isEmpty(openApi.getPaths())) {
-      return new OpenApiPathIndex(
-        operationKeyToOperation,
-        operationIdToOperationKey
-      );
-    }
-
-    openApi.getPaths().forEach((path, pathItem) -> {
-      for (var pathItemMapping : METHOD_ACCESSORS) {
-        var operation = pathItemMapping.mappingFunction().apply(pathItem);
-        if (nonNull(operation)) {
-          var operationKey = toOperationKey(
-            path,
-            pathItemMapping.httpMethodString()
-          );
-          operationKeyToOperation.put(operationKey, operation);
-          if (hasText(operation.getOperationId())) {
-            operationIdToOperationKey.put(
-              operation.getOperationId(),
-              operationKey
-            );
-          }
-        }
-      }
-    });
-
-    return new OpenApiPathIndex(
-      operationKeyToOperation,
-      operationIdToOperationKey
-    );
-  }
-
-  private Map<String, List<OpenTelemetryData>> groupTelemetryByPath(
-    Set<OpenTelemetryData> telemetryData,
-    Map<String, String> operationIdToOperationKey
+  /**
+   * Groups the telemetry by template operation key, resolving each concrete path exactly once.
+   * Telemetry of undocumented operations remains grouped by its concrete operation key.
+   * Each group is summarized into an {@link OperationTelemetry}, shared by all calculators.
+   */
+  public Map<String, OperationTelemetry> summarizeByOperationKey(
+    Collection<OpenTelemetryData> telemetryData,
+    OpenApiPathIndex pathIndex
   ) {
     var operationIdAttr =
       openApiCoverageStreamProperties.getOperationIdAttribute();
     return telemetryData
       .stream()
       .filter(data ->
-        isRoutable(data, operationIdAttr, operationIdToOperationKey)
+        isRoutable(data, operationIdAttr, pathIndex.operationIdToOperationKey())
       )
       .collect(
-        groupingBy(data ->
-          resolveOperationKey(data, operationIdAttr, operationIdToOperationKey)
+        groupingBy(
+          data -> resolveOperationKey(data, operationIdAttr, pathIndex),
+          collectingAndThen(toList(), OperationTelemetry::summarize)
         )
       );
   }
@@ -153,7 +123,7 @@ public class OpenApiCoverageService {
     Map<String, String> operationIdToOperationKey
   ) {
     if (data.attributes().has(operationIdAttr)) {
-      var operationId = data.attributes().get(operationIdAttr).asString();
+      var operationId = data.attributes().getString(operationIdAttr);
       if (
         hasText(operationId) &&
         operationIdToOperationKey.containsKey(operationId)
@@ -163,43 +133,38 @@ public class OpenApiCoverageService {
     }
     // TODO: This should also take request/response into account!
     return (
-      data.attributes().has(HTTP_REQUEST_METHOD.getKey()) &&
-      data.attributes().has(URL_PATH.getKey())
+      nonNull(data.attributes().getString(HTTP_REQUEST_METHOD.getKey())) &&
+      nonNull(data.attributes().getString(URL_PATH.getKey()))
     );
   }
 
   private String resolveOperationKey(
     OpenTelemetryData data,
     String operationIdAttr,
-    Map<String, String> operationIdToOperationKey
+    OpenApiPathIndex pathIndex
   ) {
     if (data.attributes().has(operationIdAttr)) {
-      var operationId = data.attributes().get(operationIdAttr).asString();
+      var operationId = data.attributes().getString(operationIdAttr);
       if (hasText(operationId)) {
-        var resolvedKey = operationIdToOperationKey.get(operationId);
+        var resolvedKey = pathIndex
+          .operationIdToOperationKey()
+          .get(operationId);
         if (nonNull(resolvedKey)) {
           return resolvedKey;
         }
       }
     }
 
-    return toOperationKey(
-      data.attributes().get(URL_PATH.getKey()).asString(),
-      data.attributes().get(HTTP_REQUEST_METHOD.getKey()).asString()
+    var concreteOperationKey = toOperationKey(
+      data.attributes().getString(URL_PATH.getKey()),
+      data.attributes().getString(HTTP_REQUEST_METHOD.getKey())
     );
-  }
+    var templateOperationKey = pathIndex
+      .operationKeyRouter()
+      .resolve(concreteOperationKey);
 
-  private record PathItemMapping(
-    Function<PathItem, Operation> mappingFunction,
-    PathItem.HttpMethod httpMethod
-  ) {
-    public String httpMethodString() {
-      return httpMethod.name();
-    }
+    return nonNull(templateOperationKey)
+      ? templateOperationKey
+      : concreteOperationKey;
   }
-
-  private record OpenApiPathIndex(
-    Map<String, Operation> operationKeyToOperation,
-    Map<String, String> operationIdToOperationKey
-  ) {}
 }
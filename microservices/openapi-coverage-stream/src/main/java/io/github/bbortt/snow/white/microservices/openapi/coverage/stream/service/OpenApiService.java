@@ -6,43 +6,150 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.ParsedOpenApi;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import lombok.RequiredArgsConstructor;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 
+/**
+ * Finds and parses the OpenAPI specification of an API, including the operation index used for coverage calculation.
+ * <p>
+ * Parsed specifications are kept in a cache bounded by the size of their sources, keyed by API identity and the SHA-256 hash of the source.
+ * A re-uploaded source (e.g. of a prerelease) therefore never resolves to a stale model.
+ * <p>
+ * The latest source hash of each API is remembered for a short period.
+ * Within that period, repeated calculations neither query the api-index-api nor read and parse the source.
+ * Afterward, the source is read again - but only parsed if its hash has changed.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class OpenApiService {
 
+  static final String PARSED_OPENAPI_CACHE_NAME = "openapi.parsed";
+  static final String LATEST_SOURCE_CACHE_NAME = "openapi.latest-source";
+
   private static final OpenAPIV3Parser openAPIV3Parser = new OpenAPIV3Parser();
 
   private final CachingService cachingService;
 
+  private final Cache<ApiKey, SourceKey> latestSourceCache;
+  private final Cache<SourceKey, ParsedOpenApi> parsedOpenApiCache;
+
+  public OpenApiService(
+    CachingService cachingService,
+    OpenApiCoverageStreamProperties openApiCoverageStreamProperties,
+    MeterRegistry meterRegistry
+  ) {
+    this.cachingService = cachingService;
+
+    var cacheProperties = openApiCoverageStreamProperties.getOpenapiCache();
+
+    this.latestSourceCache = Caffeine.newBuilder()
+      .maximumSize(cacheProperties.getMaximumSize())
+      .expireAfterWrite(cacheProperties.getRevalidateAfterSeconds(), SECONDS)
+      .recordStats()
+      .build();
+    this.parsedOpenApiCache = Caffeine.newBuilder()
+      .maximumWeight(cacheProperties.getMaximumWeightBytes())
+      .weigher((SourceKey sourceKey, ParsedOpenApi parsedOpenApi) ->
+        sourceKey.weight()
+      )
+      .expireAfterAccess(
+        cacheProperties.getExpireAfterAccessSeconds(),
+        SECONDS
+      )
+      .recordStats()
+      .build();
+
+    CaffeineCacheMetrics.monitor(
+      meterRegistry,
+      latestSourceCache,
+      LATEST_SOURCE_CACHE_NAME
+    );
+    CaffeineCacheMetrics.monitor(
+      meterRegistry,
+      parsedOpenApiCache,
+      PARSED_OPENAPI_CACHE_NAME
+    );
+  }
+
   @WithSpan
-  public OpenAPI findAndParseOpenApi(ApiInformation apiInformation)
+  public ParsedOpenApi findAndParseOpenApi(ApiInformation apiInformation)
     throws OpenApiNotIndexedException, UnparseableOpenApiException {
+    var apiKey = ApiKey.of(apiInformation);
+
+    var latestSourceKey = latestSourceCache.getIfPresent(apiKey);
+    if (nonNull(latestSourceKey)) {
+      var parsedOpenApi = parsedOpenApiCache.getIfPresent(latestSourceKey);
+      if (nonNull(parsedOpenApi)) {
+        return parsedOpenApi;
+      }
+    }
+
     var sourceUrl = cachingService.fetchApiSourceUrl(apiInformation);
+    var source = readOpenApiSource(sourceUrl);
+    var sourceKey = SourceKey.of(apiKey, source);
+
+    var parsedOpenApi = parsedOpenApiCache.getIfPresent(sourceKey);
+    if (isNull(parsedOpenApi)) {
+      logger.debug("Cache miss, parsing OpenAPI of: {}", apiKey);
 
-    return parseOpenApiSource(sourceUrl);
+      parsedOpenApi = ParsedOpenApi.of(
+        parseOpenApiSource(sourceUrl, source)
+      );
+      parsedOpenApiCache.put(sourceKey, parsedOpenApi);
+    }
+
+    latestSourceCache.put(apiKey, sourceKey);
+
+    return parsedOpenApi;
   }
 
-  private OpenAPI parseOpenApiSource(@NonNull String sourceUrl)
+  private static String readOpenApiSource(@NonNull String sourceUrl)
     throws UnparseableOpenApiException {
-    SwaggerParseResult swaggerParseResult = openAPIV3Parser.readLocation(
-      sourceUrl,
+    try {
+      return new UrlResource(sourceUrl).getContentAsString(UTF_8);
+    } catch (IOException e) {
+      throw new UnparseableOpenApiException(sourceUrl, e);
+    }
+  }
+
+  private static OpenAPI parseOpenApiSource(
+    @NonNull String sourceUrl,
+    @NonNull String source
+  ) throws UnparseableOpenApiException {
+    // Passing the location along resolves relative $refs like readLocation does
+    SwaggerParseResult swaggerParseResult = openAPIV3Parser.readContents(
+      source,
       emptyList(),
-      new ParseOptions()
+      new ParseOptions(),
+      sourceUrl
     );
 
     if (!isEmpty(swaggerParseResult.getMessages())) {
@@ -51,4 +158,42 @@ public class OpenApiService {
 
     return swaggerParseResult.getOpenAPI();
   }
+
+  record ApiKey(
+    String serviceName,
+    String apiName,
+    @Nullable String apiVersion
+  ) {
+    static ApiKey of(ApiInformation apiInformation) {
+      return new ApiKey(
+        apiInformation.getServiceName(),
+        apiInformation.getApiName(),
+        apiInformation.getApiVersion()
+      );
+    }
+  }
+
+  record SourceKey(ApiKey apiKey, String contentHash, int weight) {
+    static SourceKey of(ApiKey apiKey, String source) {
+      return new SourceKey(
+        apiKey,
+        sha256(source),
+        // Parsed models grow proportionally to their source
+        source.length()
+      );
+    }
+
+    private static String sha256(String source) {
+      try {
+        return HexFormat.of().formatHex(
+          MessageDigest.getInstance("SHA-256").digest(source.getBytes(UTF_8))
+        );
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(
+          "SHA-256 is required to be supported by every JVM",
+          e
+        );
+      }
+    }
+  }
 }
@@ -9,6 +9,7 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import java.util.Collection;
 import java.util.Set;
 import org.jspecify.annotations.NullMarked;
 
@@ -24,9 +25,9 @@ public interface OpenTelemetryService {
    * @param lookbackFromTimestamp the timestamp (epoch millis) to look back from.
    * @param lookbackWindow the lookback window duration.
    * @param attributeFilters optional attribute filters to apply.
-   * @return the matching telemetry data.
+   * @return the matching telemetry data, each span once.
    */
-  Set<OpenTelemetryData> findOpenTelemetryTracingData(
+  Collection<OpenTelemetryData> findOpenTelemetryTracingData(
     ApiInformation apiInformation,
     long lookbackFromTimestamp,
     String lookbackWindow,
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.LookbackWindowParser.parseLookbackWindow;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanIdentitySet.distinctSpans;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.mergeInto;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNullElse;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.otlp.OtlpJsonSpanReader;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * Summarizes coverage straight from the spans published by the otel-event-filter-stream.
+ * <p>
+ * Inbound spans are resolved to operations of the cached specification right away, and aggregated in windows of {@code span-stream.window-size-seconds}.
+ * The windowed aggregates are read back into the global {@value #SPAN_COVERAGE_STORE_NAME} state store.
+ * Calculations compose their lookback window of these aggregates, without querying an observability backend.
+ */
+@Slf4j
+@Service
+@NullMarked
+public class SpanCoverageService {
+
+  public static final String SPAN_COVERAGE_STORE_NAME = "openapi-span-coverage";
+
+  private static final char KEY_SEPARATOR = '\n';
+
+  private final OpenApiService openApiService;
+  private final OpenApiCoverageService openApiCoverageService;
+  private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
+  private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+  private final OtlpJsonSpanReader otlpJsonSpanReader;
+
+  public SpanCoverageService(
+    OpenApiService openApiService,
+    OpenApiCoverageService openApiCoverageService,
+    OpenApiCoverageStreamProperties openApiCoverageStreamProperties,
+    StreamsBuilderFactoryBean streamsBuilderFactoryBean
+  ) {
+    this.openApiService = openApiService;
+    this.openApiCoverageService = openApiCoverageService;
+    this.openApiCoverageStreamProperties = openApiCoverageStreamProperties;
+    this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+
+    this.otlpJsonSpanReader = new OtlpJsonSpanReader(
+      openApiCoverageStreamProperties.getFiltering()
+    );
+  }
+
+  /**
+   * Summarizes the spans of an {@code ExportTraceServiceRequest} by API and operation key.
+   * Spans of APIs that have not been indexed, or whose specification cannot be parsed, are dropped.
+   *
+   * @param exportTraceServiceRequest the request, in the OTLP JSON format.
+   * @return the summarized telemetry, by {@link #apiKey(ApiInformation)} and operation key.
+   */
+  public Map<String, Map<String, OperationTelemetry>> summarizeSpans(
+    byte[] exportTraceServiceRequest
+  ) {
+    var spansByApi = otlpJsonSpanReader
+      .read(exportTraceServiceRequest)
+      .stream()
+      .collect(
+        groupingBy(
+          OtlpJsonSpanReader.ObservedSpan::apiInformation,
+          mapping(
+            OtlpJsonSpanReader.ObservedSpan::openTelemetryData,
+            distinctSpans()
+          )
+        )
+      );
+
+    Map<String, Map<String, OperationTelemetry>> summaries = new HashMap<>();
+    for (var apiSpans : spansByApi.entrySet()) {
+      var apiInformation = apiSpans.getKey();
+
+      try {
+        var parsedOpenApi = openApiService.findAndParseOpenApi(apiInformation);
+        summaries.put(
+          apiKey(apiInformation),
+          openApiCoverageService.summarizeByOperationKey(
+            apiSpans.getValue(),
+            parsedOpenApi.pathIndex()
+          )
+        );
+      } catch (OpenApiNotIndexedException | UnparseableOpenApiException e) {
+        logger.debug(
+          "Dropping {} span(s) of API {}: {}",
+          apiSpans.getValue().size(),
+          apiInformation,
+          e.getMessage()
+        );
+      }
+    }
+
+    return summaries;
+  }
+
+  /**
+   * Summarizes the aggregated telemetry of the lookback window of the given context, by operation key.
+   * The lookback window is rounded up to full aggregation windows.
+   *
+   * @param openApiTestContext the test context.
+   * @param timestamp          the timestamp of the event, ending the lookback window.
+   * @return the summarized telemetry.
+   * @throws IllegalArgumentException if the lookback window cannot be parsed.
+   */
+  @WithSpan
+  public Map<String, OperationTelemetry> summarizeTelemetry(
+    OpenApiTestContext openApiTestContext,
+    long timestamp
+  ) {
+    var kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+    if (isNull(kafkaStreams)) {
+      throw new IllegalStateException("Kafka Streams has not been started!");
+    }
+
+    var windowSizeMillis =
+      openApiCoverageStreamProperties.getSpanStream().getWindowSizeSeconds() *
+      1_000;
+    var windowStart = max(
+      0,
+      timestamp -
+        parseLookbackWindow(openApiTestContext.lookbackWindow()).toMillis()
+    );
+    var firstBucketStart =
+      windowStart - floorMod(windowStart, windowSizeMillis);
+
+    var apiKey = apiKey(openApiTestContext.apiInformation());
+    var spanCoverageStore = kafkaStreams.store(
+      StoreQueryParameters.fromNameAndType(
+        SPAN_COVERAGE_STORE_NAME,
+        QueryableStoreTypes.<String, CoverageState.Bucket>keyValueStore()
+      )
+    );
+
+    var operationTelemetry = new HashMap<String, OperationTelemetry>();
+    try (
+      var buckets = spanCoverageStore.range(
+        bucketKey(apiKey, firstBucketStart),
+        bucketKey(apiKey, timestamp)
+      )
+    ) {
+      buckets.forEachRemaining(bucket ->
+        mergeInto(operationTelemetry, bucket.value.operationTelemetry())
+      );
+    }
+
+    return operationTelemetry;
+  }
+
+  /**
+   * @return the key identifying an API and version across the span stream
+   */
+  public static String apiKey(ApiInformation apiInformation) {
+    return String.join(
+      String.valueOf(KEY_SEPARATOR),
+      apiInformation.getServiceName(),
+      apiInformation.getApiName(),
+      requireNonNullElse(apiInformation.getApiVersion(), "")
+    );
+  }
+
+  /**
+   * Keys of a single API sort by window start, so that a lookback window is a range of keys.
+   *
+   * @return the key of an aggregation window of an API
+   */
+  public static String bucketKey(String apiKey, long windowStart) {
+    return apiKey + KEY_SEPARATOR + String.format("%020d", windowStart);
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Set of span identities, keyed by trace ID and span ID only.
+ * <p>
+ * Hexadecimal IDs are parsed into their 128-bit and 64-bit values, and held in a single open-addressing {@code long[]} table.
+ * IDs in any other encoding are hashed to 64-bit values instead.
+ * <p>
+ * Not thread-safe.
+ */
+public final class SpanIdentitySet {
+
+  private static final int KEY_LENGTH = 3;
+  private static final int MINIMUM_CAPACITY = 16;
+
+  private long[] table;
+  private int mask;
+  private int size;
+
+  // The all-zero identity is invalid in OpenTelemetry, but may still be hashed to
+  private boolean containsZero;
+
+  public SpanIdentitySet() {
+    this(MINIMUM_CAPACITY);
+  }
+
+  public SpanIdentitySet(int expectedSize) {
+    // Smallest power of two keeping the load factor at or below one half
+    var capacity =
+      Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, expectedSize * 2) - 1) <<
+      1;
+    table = new long[capacity * KEY_LENGTH];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Collects the first occurrence of each span, by trace ID and span ID, in encounter order.
+   */
+  public static Collector<
+    OpenTelemetryData,
+    ?,
+    List<OpenTelemetryData>
+  > distinctSpans() {
+    return Collector.of(
+      DistinctSpans::new,
+      DistinctSpans::add,
+      DistinctSpans::addAll,
+      distinctSpans -> distinctSpans.spans
+    );
+  }
+
+  /**
+   * @return {@code true} if the span has not been contained yet
+   */
+  public boolean add(String traceId, String spanId) {
+    var traceIdHigh = traceId.length() > 16
+      ? toLong(traceId, 0, traceId.length() - 16)
+      : 0;
+    var traceIdLow = toLong(
+      traceId,
+      Math.max(0, traceId.length() - 16),
+      traceId.length()
+    );
+    var spanIdValue = toLong(spanId, 0, spanId.length());
+
+    return add(traceIdHigh, traceIdLow, spanIdValue);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private boolean add(long traceIdHigh, long traceIdLow, long spanId) {
+    if (traceIdHigh == 0 && traceIdLow == 0 && spanId == 0) {
+      var added = !containsZero;
+      containsZero = true;
+      size += added ? 1 : 0;
+      return added;
+    }
+
+    var slot = slot(traceIdHigh, traceIdLow, spanId);
+    while (!isFree(slot)) {
+      var index = slot * KEY_LENGTH;
+      if (
+        table[index] == traceIdHigh &&
+        table[index + 1] == traceIdLow &&
+        table[index + 2] == spanId
+      ) {
+        return false;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+
+    var index = slot * KEY_LENGTH;
+    table[index] = traceIdHigh;
+    table[index + 1] = traceIdLow;
+    table[index + 2] = spanId;
+
+    // Keep the load factor at or below one half
+    if (++size * 2 > mask + 1) {
+      grow();
+    }
+
+    return true;
+  }
+
+  private int slot(long traceIdHigh, long traceIdLow, long spanId) {
+    var hash = spanId * 0x9E3779B97F4A7C15L;
+    hash ^= traceIdLow + 0x7F4A7C15L + (hash << 6) + (hash >>> 2);
+    hash ^= traceIdHigh + 0x7F4A7C15L + (hash << 6) + (hash >>> 2);
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private boolean isFree(int slot) {
+    var index = slot * KEY_LENGTH;
+    return table[index] == 0 && table[index + 1] == 0 && table[index + 2] == 0;
+  }
+
+  private void grow() {
+    var previousTable = table;
+
+    table = new long[previousTable.length * 2];
+    mask = (mask << 1) | 1;
+
+    for (int index = 0; index < previousTable.length; index += KEY_LENGTH) {
+      var traceIdHigh = previousTable[index];
+      var traceIdLow = previousTable[index + 1];
+      var spanId = previousTable[index + 2];
+      if (traceIdHigh == 0 && traceIdLow == 0 && spanId == 0) {
+        continue;
+      }
+
+      var slot = slot(traceIdHigh, traceIdLow, spanId);
+      while (!isFree(slot)) {
+        slot = (slot + 1) & mask;
+      }
+
+      var newIndex = slot * KEY_LENGTH;
+      table[newIndex] = traceIdHigh;
+      table[newIndex + 1] = traceIdLow;
+      table[newIndex + 2] = spanId;
+    }
+  }
+
+  /**
+   * Parses hexadecimal IDs, and hashes IDs in any other encoding (e.g. base64).
+   */
+  private static long toLong(String id, int beginIndex, int endIndex) {
+    if (endIndex - beginIndex <= 16) {
+      try {
+        return Long.parseUnsignedLong(id, beginIndex, endIndex, 16);
+      } catch (NumberFormatException _) {
+        // Not hexadecimal, fall through to hashing the whole ID
+      }
+    }
+
+    return hash(id, beginIndex);
+  }
+
+  /**
+   * 64-bit FNV-1a hash of the ID, seeded so that both halves of a trace ID hash differently.
+   */
+  private static long hash(String id, int seed) {
+    var hash = 0xCBF29CE484222325L ^ seed;
+    for (int i = 0; i < id.length(); i++) {
+      hash ^= id.charAt(i);
+      hash *= 0x100000001B3L;
+    }
+    return hash;
+  }
+
+  private static final class DistinctSpans {
+
+    private final SpanIdentitySet spanIdentities = new SpanIdentitySet();
+    private final List<OpenTelemetryData> spans = new ArrayList<>();
+
+    private void add(OpenTelemetryData openTelemetryData) {
+      if (
+        spanIdentities.add(
+          openTelemetryData.traceId(),
+          openTelemetryData.spanId()
+        )
+      ) {
+        spans.add(openTelemetryData);
+      }
+    }
+
+    private DistinctSpans addAll(DistinctSpans other) {
+      other.spans.forEach(this::add);
+      return this;
+    }
+  }
+}
@@ -11,10 +11,9 @@ import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageCalculator;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Map;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -31,7 +30,7 @@ abstract class AbstractOpenApiCoverageCalculator
   @Override
   public OpenApiTestResult calculate(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var stopWatch = getStartedStopWatch();
 
@@ -52,7 +51,7 @@ abstract class AbstractOpenApiCoverageCalculator
 
   protected abstract @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   );
 
   public record CoverageCalculationResult(
@@ -6,11 +6,11 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.EMPTY;
 import static lombok.AccessLevel.PRIVATE;
 
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
-import java.util.List;
 import java.util.Map;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.time.StopWatch;
@@ -27,46 +27,24 @@ final class CalculatorUtils {
   }
 
   /**
-   * Template → concrete direction.
-   * Returns all telemetry entries whose operation keys match the given
-   * template operation key (which may contain {@code {param}} segments).
+   * Returns the telemetry summary recorded for the given template operation key.
+   * The telemetry map is expected to be keyed by template operation keys, as resolved by the {@link OperationKeyRouter}.
    */
-  static @NonNull List<OpenTelemetryData> getTelemetryForTemplate(
-    @NonNull Map<String, List<OpenTelemetryData>> telemetryMap,
+  static @NonNull OperationTelemetry getTelemetryForTemplate(
+    @NonNull Map<String, OperationTelemetry> telemetryMap,
     @NonNull String templateOperationKey
   ) {
-    var pattern = OperationKeyCalculator.toOperationKeyPattern(
-      templateOperationKey
-    );
-    return telemetryMap
-      .entrySet()
-      .stream()
-      .filter(e -> pattern.matcher(e.getKey()).matches())
-      .flatMap(e -> e.getValue().stream())
-      .toList();
+    return telemetryMap.getOrDefault(templateOperationKey, EMPTY);
   }
 
   /**
-   * Concrete → template direction.
-   * Returns the {@link Operation} from the spec map whose template key matches
-   * the given concrete operation key (which has resolved path params).
-   * Returns {@code null} when no match is found.
+   * Returns the {@link Operation} from the spec map for the given operation key.
+   * Returns {@code null} for concrete operation keys that the {@link OperationKeyRouter} could not resolve to a template, i.e. undocumented operations.
    */
   static @Nullable Operation findOperationForConcreteKey(
     @NonNull Map<String, Operation> operationMap,
     @NonNull String concreteOperationKey
   ) {
-    if (operationMap.containsKey(concreteOperationKey)) {
-      return operationMap.get(concreteOperationKey);
-    }
-    for (Map.Entry<String, Operation> entry : operationMap.entrySet()) {
-      var pattern = OperationKeyCalculator.toOperationKeyPattern(
-        entry.getKey()
-      );
-      if (pattern.matcher(concreteOperationKey).matches()) {
-        return entry.getValue();
-      }
-    }
-    return null;
+    return operationMap.get(concreteOperationKey);
   }
 }
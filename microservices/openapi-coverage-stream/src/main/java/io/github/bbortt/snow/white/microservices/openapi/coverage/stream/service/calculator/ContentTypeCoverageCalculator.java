@@ -14,10 +14,9 @@ import static java.lang.String.join;
 import static java.util.Objects.isNull;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,7 +24,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.JsonNode;
 
 /**
  * Calculator for the following criteria:
@@ -40,9 +38,6 @@ public class ContentTypeCoverageCalculator
   extends AbstractOpenApiCoverageCalculator
 {
 
-  static final String CONTENT_TYPE_HEADER_KEY =
-    "http.request.header.content-type";
-
   @Override
   protected @NonNull OpenApiCoverageCriteria getSupportedOpenApiCoverageCriteria() {
     return CONTENT_TYPE_COVERAGE;
@@ -51,7 +46,7 @@ public class ContentTypeCoverageCalculator
   @Override
   protected @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var coveredContentTypes = new AtomicInteger(0);
     var totalContentTypes = new AtomicInteger(0);
@@ -76,11 +71,10 @@ public class ContentTypeCoverageCalculator
 
       totalContentTypes.addAndGet(specContentTypes.size());
 
-      var telemetryList = getTelemetryForTemplate(
+      var observedContentTypes = getTelemetryForTemplate(
         pathToTelemetryMap,
         operationKey
-      );
-      var observedContentTypes = extractObservedContentTypes(telemetryList);
+      ).contentTypes();
 
       for (String specContentType : specContentTypes) {
         if (isContentTypeCovered(specContentType, observedContentTypes)) {
@@ -125,31 +119,6 @@ public class ContentTypeCoverageCalculator
     return operation.getRequestBody().getContent().keySet();
   }
 
-  private Set<String> extractObservedContentTypes(
-    List<OpenTelemetryData> telemetryList
-  ) {
-    var observed = new HashSet<String>();
-
-    for (OpenTelemetryData data : telemetryList) {
-      JsonNode headerNode = isNull(data.attributes())
-        ? null
-        : data.attributes().get(CONTENT_TYPE_HEADER_KEY);
-
-      if (isNull(headerNode)) {
-        continue;
-      }
-
-      // OTel may represent header values as a JSON array or a plain string
-      if (headerNode.isArray()) {
-        headerNode.forEach(element -> observed.add(element.asString()));
-      } else {
-        observed.add(headerNode.asString());
-      }
-    }
-
-    return observed;
-  }
-
   /**
    * Checks whether {@code specContentType} is covered by any observed value.
    * An observed value matches when it starts with the spec content type, allowing
@@ -14,10 +14,9 @@ import static java.lang.String.join;
 import static java.util.Collections.sort;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +44,7 @@ public class MethodCoverageCalculator
   @Override
   public @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var coveredPaths = new AtomicInteger(0);
     var uncoveredPaths = new ArrayList<String>();
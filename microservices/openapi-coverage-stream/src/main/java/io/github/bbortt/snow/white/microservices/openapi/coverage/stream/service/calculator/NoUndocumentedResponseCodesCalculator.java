@@ -10,18 +10,14 @@ import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCr
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.CalculatorUtils.findOperationForConcreteKey;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.MathUtils.calculatePercentage;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.ResponseCodeCoverageCalculator.SINGLE_DIGIT_PATTERN;
-import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
-import static org.springframework.util.CollectionUtils.isEmpty;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -50,7 +46,7 @@ public class NoUndocumentedResponseCodesCalculator
   @Override
   protected @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var documentedResponseCodes = new AtomicInteger(0);
     var totalObservedResponseCodes = new AtomicInteger(0);
@@ -59,12 +55,12 @@ public class NoUndocumentedResponseCodesCalculator
 
     for (Map.Entry<
       String,
-      List<OpenTelemetryData>
+      OperationTelemetry
     > entry : pathToTelemetryMap.entrySet()) {
       String operationKey = entry.getKey();
-      List<OpenTelemetryData> telemetryDataList = entry.getValue();
+      OperationTelemetry operationTelemetry = entry.getValue();
 
-      if (isEmpty(telemetryDataList)) {
+      if (operationTelemetry.isEmpty()) {
         continue;
       }
 
@@ -76,11 +72,8 @@ public class NoUndocumentedResponseCodesCalculator
         operation
       );
 
-      Set<String> observedResponseCodes = extractObservedResponseCodes(
-        telemetryDataList
-      );
       var filteredObservedCodes = filterObservedResponseCodes(
-        observedResponseCodes
+        operationTelemetry.statusCodes()
       );
 
       for (String observedCode : filteredObservedCodes) {
@@ -130,31 +123,6 @@ public class NoUndocumentedResponseCodesCalculator
     return specifiedCodes;
   }
 
-  private Set<String> extractObservedResponseCodes(
-    List<OpenTelemetryData> telemetryDataList
-  ) {
-    Set<String> observedCodes = new HashSet<>();
-
-    for (OpenTelemetryData telemetryData : telemetryDataList) {
-      if (
-        isNull(telemetryData.attributes()) ||
-        !telemetryData.attributes().has(HTTP_RESPONSE_STATUS_CODE.getKey())
-      ) {
-        continue;
-      }
-
-      String statusCode = telemetryData
-        .attributes()
-        .get(HTTP_RESPONSE_STATUS_CODE.getKey())
-        .asString();
-      if (nonNull(statusCode)) {
-        observedCodes.add(statusCode);
-      }
-    }
-
-    return observedCodes;
-  }
-
   /**
    * Filters observed response codes for inclusion in calculation.
    * Override in subclasses to filter specific code ranges.
@@ -8,7 +8,6 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 
 import static lombok.AccessLevel.PRIVATE;
 
-import java.util.regex.Pattern;
 import lombok.NoArgsConstructor;
 import org.jspecify.annotations.NonNull;
 
@@ -25,14 +24,4 @@ public final class OperationKeyCalculator {
   public static String toPath(@NonNull String operationKey) {
     return operationKey.substring(operationKey.indexOf("_") + 1);
   }
-
-  /**
-   * Converts an operation key that may contain path-parameter templates (e.g. {@code "GET_/pung/{message}"}) into a {@link Pattern} that matches concrete operation keys with resolved values (e.g. {@code "GET_/pung/hello"}).
-   */
-  public static Pattern toOperationKeyPattern(
-    @NonNull String templateOperationKey
-  ) {
-    String regex = templateOperationKey.replaceAll("\\{[^/]+}", "[^/]+");
-    return Pattern.compile("^" + regex + "$");
-  }
 }
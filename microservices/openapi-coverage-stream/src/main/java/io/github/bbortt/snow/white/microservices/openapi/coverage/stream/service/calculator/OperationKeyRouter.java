@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.regex.Pattern.quote;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Resolves concrete operation keys (e.g. {@code "GET_/pung/hello"}) to the template operation keys of an OpenAPI specification (e.g. {@code "GET_/pung/{message}"}).
+ * <p>
+ * The templates are compiled into a path-segment trie once per specification, so resolving a concrete key costs one lookup per path segment.
+ * Static segments take precedence over templated ones: {@code "GET_/users/me"} resolves to {@code "GET_/users/me"} rather than {@code "GET_/users/{id}"}, if both have been specified.
+ */
+public final class OperationKeyRouter {
+
+  private static final Pattern PATH_PARAMETER = Pattern.compile("\\{[^/}]+}");
+
+  private final Map<String, Node> methodToRoot = new HashMap<>();
+
+  private OperationKeyRouter() {}
+
+  public static OperationKeyRouter of(
+    @NonNull Collection<String> templateOperationKeys
+  ) {
+    var operationKeyRouter = new OperationKeyRouter();
+    templateOperationKeys.forEach(operationKeyRouter::add);
+    return operationKeyRouter;
+  }
+
+  /**
+   * Returns the template operation key matching the given concrete operation key, or {@code null} if the operation has not been specified.
+   */
+  public @Nullable String resolve(@NonNull String concreteOperationKey) {
+    var separatorIndex = concreteOperationKey.indexOf("_");
+    if (separatorIndex < 0) {
+      return null;
+    }
+
+    var root = methodToRoot.get(
+      concreteOperationKey.substring(0, separatorIndex)
+    );
+    if (isNull(root)) {
+      return null;
+    }
+
+    return root.resolve(
+      splitPath(OperationKeyCalculator.toPath(concreteOperationKey)),
+      0
+    );
+  }
+
+  private void add(String templateOperationKey) {
+    var separatorIndex = templateOperationKey.indexOf("_");
+    if (separatorIndex < 0) {
+      return;
+    }
+
+    var node = methodToRoot.computeIfAbsent(
+      templateOperationKey.substring(0, separatorIndex),
+      method -> new Node()
+    );
+    var segments = splitPath(
+      OperationKeyCalculator.toPath(templateOperationKey)
+    );
+    for (var segment : segments) {
+      node = node.child(segment);
+    }
+
+    node.templateOperationKey = templateOperationKey;
+  }
+
+  private static String[] splitPath(String path) {
+    return path.split("/", -1);
+  }
+
+  private static Pattern toSegmentPattern(String templateSegment) {
+    var regex = new StringBuilder();
+
+    var matcher = PATH_PARAMETER.matcher(templateSegment);
+    var literalStart = 0;
+    while (matcher.find()) {
+      if (matcher.start() > literalStart) {
+        regex.append(
+          quote(templateSegment.substring(literalStart, matcher.start()))
+        );
+      }
+      regex.append("[^/]+");
+      literalStart = matcher.end();
+    }
+
+    if (literalStart < templateSegment.length()) {
+      regex.append(quote(templateSegment.substring(literalStart)));
+    }
+
+    return Pattern.compile(regex.toString());
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> staticChildren = new HashMap<>();
+    private final Map<String, PatternChild> patternChildren =
+      new LinkedHashMap<>();
+
+    private @Nullable Node parameterChild;
+    private @Nullable String templateOperationKey;
+
+    private Node child(String templateSegment) {
+      if (!PATH_PARAMETER.matcher(templateSegment).find()) {
+        return staticChildren.computeIfAbsent(templateSegment, segment ->
+          new Node()
+        );
+      }
+
+      if (PATH_PARAMETER.matcher(templateSegment).matches()) {
+        var child = parameterChild;
+        if (isNull(child)) {
+          child = new Node();
+          parameterChild = child;
+        }
+        return child;
+      }
+
+      return patternChildren
+        .computeIfAbsent(templateSegment, segment ->
+          new PatternChild(toSegmentPattern(segment), new Node())
+        )
+        .node();
+    }
+
+    private @Nullable String resolve(String[] segments, int index) {
+      if (index == segments.length) {
+        return templateOperationKey;
+      }
+
+      var segment = segments[index];
+
+      var staticChild = staticChildren.get(segment);
+      if (nonNull(staticChild)) {
+        var resolved = staticChild.resolve(segments, index + 1);
+        if (nonNull(resolved)) {
+          return resolved;
+        }
+      }
+
+      if (segment.isEmpty()) {
+        return null;
+      }
+
+      for (var patternChild : patternChildren.values()) {
+        if (patternChild.pattern().matcher(segment).matches()) {
+          var resolved = patternChild.node().resolve(segments, index + 1);
+          if (nonNull(resolved)) {
+            return resolved;
+          }
+        }
+      }
+
+      var child = parameterChild;
+      return nonNull(child) ? child.resolve(segments, index + 1) : null;
+    }
+  }
+
+  private record PatternChild(Pattern pattern, Node node) {}
+}
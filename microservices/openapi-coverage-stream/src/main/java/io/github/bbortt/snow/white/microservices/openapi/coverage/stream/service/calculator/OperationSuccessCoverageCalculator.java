@@ -9,14 +9,12 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.OPERATION_SUCCESS_COVERAGE;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.CalculatorUtils.getTelemetryForTemplate;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.MathUtils.calculatePercentage;
-import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
 import static java.lang.String.join;
-import static java.util.Objects.isNull;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import java.util.ArrayList;
 import java.util.List;
@@ -53,18 +51,18 @@ public class OperationSuccessCoverageCalculator
   @Override
   protected @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var successfulOperations = new AtomicInteger(0);
     var unsuccessfulOperations = new ArrayList<String>();
 
     for (String operationKey : pathToOpenAPIOperationMap.keySet()) {
-      var telemetryList = getTelemetryForTemplate(
+      var operationTelemetry = getTelemetryForTemplate(
         pathToTelemetryMap,
         operationKey
       );
 
-      if (hasSuccessfulResponse(telemetryList)) {
+      if (hasSuccessfulResponse(operationTelemetry)) {
         logger.trace(
           "Operation '{}' has at least one 2xx response",
           operationKey
@@ -90,20 +88,10 @@ public class OperationSuccessCoverageCalculator
     );
   }
 
-  private boolean hasSuccessfulResponse(List<OpenTelemetryData> telemetryList) {
-    for (OpenTelemetryData data : telemetryList) {
-      if (
-        isNull(data.attributes()) ||
-        !data.attributes().has(HTTP_RESPONSE_STATUS_CODE.getKey())
-      ) {
-        continue;
-      }
-
-      String statusCode = data
-        .attributes()
-        .get(HTTP_RESPONSE_STATUS_CODE.getKey())
-        .asString();
-
+  private boolean hasSuccessfulResponse(
+    OperationTelemetry operationTelemetry
+  ) {
+    for (String statusCode : operationTelemetry.statusCodes()) {
       try {
         if (HttpStatusCode.valueOf(parseInt(statusCode)).is2xxSuccessful()) {
           return true;
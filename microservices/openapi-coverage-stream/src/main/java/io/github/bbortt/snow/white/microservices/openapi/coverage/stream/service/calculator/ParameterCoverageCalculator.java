@@ -9,15 +9,13 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PARAMETER_COVERAGE;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.CalculatorUtils.getTelemetryForTemplate;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.MathUtils.calculatePercentage;
-import static io.opentelemetry.semconv.UrlAttributes.URL_QUERY;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import java.util.HashSet;
@@ -50,7 +48,7 @@ public class ParameterCoverageCalculator
   @Override
   protected @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var coveredParameters = new AtomicInteger(0);
     var totalParameters = new AtomicInteger(0);
@@ -85,7 +83,7 @@ public class ParameterCoverageCalculator
   private void evaluateOperationParameters(
     String operationKey,
     Operation operation,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap,
+    Map<String, OperationTelemetry> pathToTelemetryMap,
     AtomicInteger coveredParameters,
     AtomicInteger totalParameters,
     Set<String> uncoveredParameters
@@ -102,11 +100,11 @@ public class ParameterCoverageCalculator
 
     totalParameters.addAndGet(parameters.size());
 
-    var telemetryDataList = getTelemetryForTemplate(
+    var operationTelemetry = getTelemetryForTemplate(
       pathToTelemetryMap,
       operationKey
     );
-    if (telemetryDataList.isEmpty()) {
+    if (operationTelemetry.isEmpty()) {
       logger.trace("No telemetry data for operation: {}", operationKey);
       for (Parameter param : parameters) {
         uncoveredParameters.add(uncoveredParameterLabel(operationKey, param));
@@ -115,7 +113,7 @@ public class ParameterCoverageCalculator
     }
 
     for (Parameter param : parameters) {
-      if (isParameterCovered(telemetryDataList, param, operationKey)) {
+      if (isParameterCovered(operationTelemetry, param, operationKey)) {
         logger.trace(
           "Parameter '{}' ({}) covered in operation '{}'",
           param.getName(),
@@ -151,36 +149,23 @@ public class ParameterCoverageCalculator
   }
 
   protected boolean isParameterCovered(
-    List<OpenTelemetryData> telemetryDataList,
+    OperationTelemetry operationTelemetry,
     Parameter param,
     String operationKey
   ) {
     String paramName = param.getName();
     String paramIn = param.getIn();
 
-    for (OpenTelemetryData telemetryData : telemetryDataList) {
-      if (isParameterPresent(telemetryData, paramName, paramIn, operationKey)) {
-        return true;
-      }
-    }
-
-    return false;
-  }
-
-  private boolean isParameterPresent(
-    OpenTelemetryData data,
-    String paramName,
-    String paramIn,
-    String operationKey
-  ) {
-    if (isNull(data.attributes()) || isNull(paramIn)) {
+    if (isNull(paramIn)) {
       return false;
     }
 
     return switch (paramIn) {
-      case "query" -> isQueryParameterPresent(data, paramName);
+      case "query" -> operationTelemetry.queryParameterNames().contains(paramName);
       case "path" -> isPathParameterPresent(operationKey, paramName);
-      case "header" -> isHeaderParameterPresent(data, paramName);
+      case "header" -> operationTelemetry
+        .headerNames()
+        .contains(paramName.toLowerCase());
       default -> {
         logger.trace(
           "Unsupported parameter location '{}' for parameter '{}'",
@@ -192,23 +177,6 @@ public class ParameterCoverageCalculator
     };
   }
 
-  private boolean isQueryParameterPresent(
-    OpenTelemetryData data,
-    String paramName
-  ) {
-    if (!data.attributes().has(URL_QUERY.getKey())) {
-      return false;
-    }
-
-    String queryString = data.attributes().get(URL_QUERY.getKey()).asString();
-    return (
-      nonNull(queryString) &&
-      (queryString.contains(paramName + "=") ||
-        queryString.contains(paramName + "&") ||
-        queryString.endsWith(paramName))
-    );
-  }
-
   /**
    * Path parameters are implicitly covered if the telemetry data exists for the operation,
    * as the path template was matched.
@@ -221,14 +189,6 @@ public class ParameterCoverageCalculator
     return path.contains("{" + paramName + "}");
   }
 
-  private boolean isHeaderParameterPresent(
-    OpenTelemetryData data,
-    String paramName
-  ) {
-    String headerKey = "http.request.header." + paramName.toLowerCase();
-    return data.attributes().has(headerKey);
-  }
-
   protected @Nullable String getAdditionalInformationOrNull(
     @NonNull Set<String> uncoveredParameters
   ) {
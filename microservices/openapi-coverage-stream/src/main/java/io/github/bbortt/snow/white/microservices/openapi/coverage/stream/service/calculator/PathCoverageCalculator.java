@@ -14,10 +14,9 @@ import static java.util.Collections.sort;
 import static java.util.stream.Collectors.toSet;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
@@ -43,18 +42,18 @@ public class PathCoverageCalculator extends AbstractOpenApiCoverageCalculator {
   @Override
   public @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var availableResources = pathToOpenAPIOperationMap
       .keySet()
       .stream()
       .map(OperationKeyCalculator::toPath)
       .collect(toSet());
-    var endpointList = pathToTelemetryMap
+    var calledResources = pathToTelemetryMap
       .keySet()
       .stream()
       .map(OperationKeyCalculator::toPath)
-      .toList();
+      .collect(toSet());
 
     var coveredResources = new ArrayList<String>();
     var uncoveredResources = new ArrayList<String>();
@@ -67,12 +66,7 @@ public class PathCoverageCalculator extends AbstractOpenApiCoverageCalculator {
         continue;
       }
 
-      var pattern = OperationKeyCalculator.toOperationKeyPattern(endpoint);
-      if (
-        endpointList
-          .stream()
-          .anyMatch(concrete -> pattern.matcher(concrete).matches())
-      ) {
+      if (calledResources.contains(endpoint)) {
         logger.trace("Resource covered: {}", endpoint);
         coveredResources.add(endpoint);
       } else {
@@ -9,21 +9,19 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.REQUIRED_ERROR_FIELDS_COVERAGE;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.HttpStatusCodeUtils.isErrorHttpStatusCode;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.MathUtils.calculatePercentage;
-import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,7 +54,7 @@ public class RequiredErrorFieldsCoverageCalculator
   @Override
   protected @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var totalErrorResponsesWithRequiredFields = new AtomicInteger(0);
     var coveredErrorResponses = new AtomicInteger(0);
@@ -81,9 +79,8 @@ public class RequiredErrorFieldsCoverageCalculator
         continue;
       }
 
-      var telemetryDataList = pathToTelemetryMap.get(operationKey);
       Set<String> observedErrorCodes = extractObservedErrorCodes(
-        telemetryDataList
+        pathToTelemetryMap.get(operationKey)
       );
 
       for (Map.Entry<
@@ -181,28 +178,16 @@ public class RequiredErrorFieldsCoverageCalculator
   }
 
   private Set<String> extractObservedErrorCodes(
-    @Nullable List<OpenTelemetryData> telemetryDataList
+    @Nullable OperationTelemetry operationTelemetry
   ) {
     Set<String> observedErrorCodes = new HashSet<>();
 
-    if (isNull(telemetryDataList)) {
+    if (isNull(operationTelemetry)) {
       return observedErrorCodes;
     }
 
-    for (OpenTelemetryData telemetryData : telemetryDataList) {
-      if (
-        isNull(telemetryData.attributes()) ||
-        !telemetryData.attributes().has(HTTP_RESPONSE_STATUS_CODE.getKey())
-      ) {
-        continue;
-      }
-
-      String statusCode = telemetryData
-        .attributes()
-        .get(HTTP_RESPONSE_STATUS_CODE.getKey())
-        .asString();
-
-      if (nonNull(statusCode) && isErrorHttpStatusCode(statusCode)) {
+    for (String statusCode : operationTelemetry.statusCodes()) {
+      if (isErrorHttpStatusCode(statusCode)) {
         observedErrorCodes.add(statusCode);
       }
     }
@@ -9,7 +9,6 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.RESPONSE_CODE_COVERAGE;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.CalculatorUtils.getTelemetryForTemplate;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.MathUtils.calculatePercentage;
-import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.lang.System.lineSeparator;
@@ -17,14 +16,12 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.regex.Pattern.compile;
 import static org.springframework.data.util.Predicates.negate;
-import static org.springframework.util.CollectionUtils.isEmpty;
 
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,7 +53,7 @@ public class ResponseCodeCoverageCalculator
   @Override
   public @NonNull CoverageCalculationResult calculateCoverage(
     Map<String, Operation> pathToOpenAPIOperationMap,
-    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+    Map<String, OperationTelemetry> pathToTelemetryMap
   ) {
     var coveredErrorCodes = new AtomicInteger(0);
     var totalErrorCodes = new AtomicInteger(0);
@@ -140,16 +137,11 @@ public class ResponseCodeCoverageCalculator
   }
 
   private Set<String> extractObservedErrorCodes(
-    @Nullable List<OpenTelemetryData> telemetryDataList
+    OperationTelemetry operationTelemetry
   ) {
     Set<String> observedCodes = new HashSet<>();
 
-    if (isEmpty(telemetryDataList)) {
-      return observedCodes;
-    }
-
-    for (OpenTelemetryData telemetryData : telemetryDataList) {
-      var statusCode = extractStatusCodeFromAttributes(telemetryData);
+    for (String statusCode : operationTelemetry.statusCodes()) {
       if (includeObservedResponseCodeInCalculation(statusCode)) {
         observedCodes.add(statusCode);
       }
@@ -164,26 +156,6 @@ public class ResponseCodeCoverageCalculator
     return nonNull(statusCode);
   }
 
-  private static @Nullable String extractStatusCodeFromAttributes(
-    OpenTelemetryData telemetryData
-  ) {
-    if (isNull(telemetryData.attributes())) {
-      return null;
-    }
-
-    var attributes = telemetryData.attributes();
-    if (attributes.has(HTTP_RESPONSE_STATUS_CODE.getKey())) {
-      return attributes.get(HTTP_RESPONSE_STATUS_CODE.getKey()).asString();
-    }
-
-    logger.debug(
-      "No HTTP status code found in telemetry attributes for span {}",
-      telemetryData.spanId()
-    );
-
-    return null;
-  }
-
   /**
    * Detects OpenAPI response code patterns like "4XX", "5XX", "default".
    */
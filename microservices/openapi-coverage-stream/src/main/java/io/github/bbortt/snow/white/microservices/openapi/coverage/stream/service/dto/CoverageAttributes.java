@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.CONTENT_TYPE_HEADER_KEY;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.REQUEST_HEADER_PREFIX;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_REQUEST_METHOD;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_ROUTE;
+import static io.opentelemetry.semconv.UrlAttributes.URL_PATH;
+import static io.opentelemetry.semconv.UrlAttributes.URL_QUERY;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Locale.ROOT;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The span attributes read during coverage calculation.
+ * <p>
+ * Used by observability backends that can fetch selected attributes only, instead of all attributes of a span.
+ *
+ * @param plainAttributeKeys  attributes holding a single value
+ * @param headerAttributeKeys request header attributes, which may hold multiple values
+ */
+public record CoverageAttributes(
+  Set<String> plainAttributeKeys,
+  Set<String> headerAttributeKeys
+) {
+  /**
+   * @param operationIdAttribute the attribute holding the OpenAPI operation id
+   * @param requestHeaders       request headers to include in addition to {@code content-type}
+   */
+  public static CoverageAttributes of(
+    String operationIdAttribute,
+    Collection<String> requestHeaders
+  ) {
+    var plainAttributeKeys = new LinkedHashSet<String>();
+    plainAttributeKeys.add(HTTP_REQUEST_METHOD.getKey());
+    plainAttributeKeys.add(URL_PATH.getKey());
+    plainAttributeKeys.add(HTTP_ROUTE.getKey());
+    plainAttributeKeys.add(HTTP_RESPONSE_STATUS_CODE.getKey());
+    plainAttributeKeys.add(URL_QUERY.getKey());
+    plainAttributeKeys.add(operationIdAttribute);
+
+    var headerAttributeKeys = new LinkedHashSet<String>();
+    headerAttributeKeys.add(CONTENT_TYPE_HEADER_KEY);
+    requestHeaders
+      .stream()
+      .map(header -> REQUEST_HEADER_PREFIX + header.toLowerCase(ROOT))
+      .forEach(headerAttributeKeys::add);
+
+    return new CoverageAttributes(
+      unmodifiableSet(plainAttributeKeys),
+      unmodifiableSet(headerAttributeKeys)
+    );
+  }
+
+  public Stream<String> allKeys() {
+    return Stream.concat(
+      plainAttributeKeys.stream(),
+      headerAttributeKeys.stream()
+    );
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Telemetry summaries persisted for a single API, version and set of attribute filters.
+ * <p>
+ * Summaries are kept in fixed-size time buckets, so that each lookback window can be composed of the buckets it spans.
+ *
+ * @param fingerprint identifies the operations and bucket size the buckets have been summarized with
+ * @param buckets     the summarized buckets, by their start in epoch milliseconds
+ */
+public record CoverageState(
+  @Nullable String fingerprint,
+  Map<Long, Bucket> buckets
+) {
+  /**
+   * @param watermark          epoch milliseconds up to which the telemetry of the bucket has been summarized
+   * @param operationTelemetry the summarized telemetry, by operation key
+   */
+  public record Bucket(
+    long watermark,
+    Map<String, OperationTelemetry> operationTelemetry
+  ) {}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.OperationKeyCalculator.toOperationKey;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.DELETE;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.GET;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.HEAD;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.OPTIONS;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.PATCH;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.POST;
+import static io.swagger.v3.oas.models.PathItem.HttpMethod.PUT;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.nonNull;
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.OperationKeyRouter;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Operation index of a parsed OpenAPI specification.
+ * <p>
+ * Only depends on the specification itself, so it is built once per parse and cached alongside the {@link OpenAPI} model.
+ *
+ * @param operationKeyToOperation   all specified operations, by template operation key
+ * @param operationIdToOperationKey the template operation keys, by operation id
+ * @param operationKeyRouter        resolves concrete operation keys to template operation keys
+ */
+public record OpenApiPathIndex(
+  Map<String, Operation> operationKeyToOperation,
+  Map<String, String> operationIdToOperationKey,
+  OperationKeyRouter operationKeyRouter
+) {
+  private static final Set<PathItemMapping> METHOD_ACCESSORS = Set.of(
+    new PathItemMapping(PathItem::getGet, GET),
+    new PathItemMapping(PathItem::getPost, POST),
+    new PathItemMapping(PathItem::getPut, PUT),
+    new PathItemMapping(PathItem::getDelete, DELETE),
+    new PathItemMapping(PathItem::getPatch, PATCH),
+    new PathItemMapping(PathItem::getHead, HEAD),
+    new PathItemMapping(PathItem::getOptions, OPTIONS)
+  );
+
+  public static OpenApiPathIndex of(@NonNull OpenAPI openApi) {
+    Map<String, Operation> operationKeyToOperation = new HashMap<>();
+    Map<String, String> operationIdToOperationKey = new HashMap<>();
+
+    if (!isEmpty(openApi.getPaths())) {
+      openApi
+        .getPaths()
+        .forEach((path, pathItem) ->
+          indexPathItem(
+            path,
+            pathItem,
+            operationKeyToOperation,
+            operationIdToOperationKey
+          )
+        );
+    }
+
+    return new OpenApiPathIndex(
+      unmodifiableMap(operationKeyToOperation),
+      unmodifiableMap(operationIdToOperationKey),
+      OperationKeyRouter.of(operationKeyToOperation.keySet())
+    );
+  }
+
+  private static void indexPathItem(
+    String path,
+    PathItem pathItem,
+    Map<String, Operation> operationKeyToOperation,
+    Map<String, String> operationIdToOperationKey
+  ) {
+    for (var pathItemMapping : METHOD_ACCESSORS) {
+      var operation = pathItemMapping.mappingFunction().apply(pathItem);
+      if (nonNull(operation)) {
+        var operationKey = toOperationKey(
+          path,
+          pathItemMapping.httpMethodString()
+        );
+        operationKeyToOperation.put(operationKey, operation);
+        if (hasText(operation.getOperationId())) {
+          operationIdToOperationKey.put(
+            operation.getOperationId(),
+            operationKey
+          );
+        }
+      }
+    }
+  }
+
+  private record PathItemMapping(
+    Function<PathItem, Operation> mappingFunction,
+    PathItem.HttpMethod httpMethod
+  ) {
+    public String httpMethodString() {
+      return httpMethod.name();
+    }
+  }
+}
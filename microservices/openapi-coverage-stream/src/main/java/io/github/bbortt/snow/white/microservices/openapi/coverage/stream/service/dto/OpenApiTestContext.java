@@ -9,19 +9,30 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
+import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.swagger.v3.oas.models.OpenAPI;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import lombok.With;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * @param openTelemetryData  the raw telemetry of the lookback window
+ * @param operationTelemetry the telemetry of the lookback window, already summarized by operation key.
+ *                           Set instead of {@code openTelemetryData} when summaries are accumulated incrementally.
+ */
 @NullMarked
 public record OpenApiTestContext(
   ApiInformation apiInformation,
   OpenAPI openAPI,
+  OpenApiPathIndex pathIndex,
   String lookbackWindow,
   Set<AttributeFilter> attributeFilters,
-  @With @Nullable Set<OpenTelemetryData> openTelemetryData,
+  @With @Nullable Set<OpenApiCoverageCriteria> openApiCoverageCriteria,
+  @With @Nullable Collection<OpenTelemetryData> openTelemetryData,
+  @With @Nullable Map<String, OperationTelemetry> operationTelemetry,
   @With @Nullable Set<OpenApiTestResult> openApiTestResults
 ) {
   public OpenApiTestContext(
@@ -30,6 +41,30 @@ public record OpenApiTestContext(
     String lookbackWindow,
     Set<AttributeFilter> attributeFilters
   ) {
-    this(apiInformation, openAPI, lookbackWindow, attributeFilters, null, null);
+    this(
+      apiInformation,
+      ParsedOpenApi.of(openAPI),
+      lookbackWindow,
+      attributeFilters
+    );
+  }
+
+  public OpenApiTestContext(
+    ApiInformation apiInformation,
+    ParsedOpenApi parsedOpenApi,
+    String lookbackWindow,
+    Set<AttributeFilter> attributeFilters
+  ) {
+    this(
+      apiInformation,
+      parsedOpenApi.openAPI(),
+      parsedOpenApi.pathIndex(),
+      lookbackWindow,
+      attributeFilters,
+      null,
+      null,
+      null,
+      null
+    );
   }
 }
@@ -10,14 +10,13 @@ import static java.util.Objects.requireNonNull;
 
 import com.influxdb.query.FluxRecord;
 import lombok.extern.slf4j.Slf4j;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 @Slf4j
 public record OpenTelemetryData(
   String spanId,
   String traceId,
-  JsonNode attributes
+  SpanAttributes attributes
 ) {
   public static final String SPAN_ID_KEY = "span_id";
   public static final String TRACE_ID_KEY = "trace_id";
@@ -35,17 +34,15 @@ public record OpenTelemetryData(
     );
   }
 
-  private static JsonNode parseJsonAttributes(String attributes) {
-    var jsonMapper = JsonMapper.shared();
-
+  private static SpanAttributes parseJsonAttributes(String attributes) {
     try {
-      return jsonMapper.readTree(attributes);
+      return SpanAttributes.of(JsonMapper.shared().readTree(attributes));
     } catch (Exception e) {
       logger.warn(
         "Failed parsing span attributes! Returning default empty object.",
         e
       );
-      return jsonMapper.createObjectNode();
+      return SpanAttributes.EMPTY;
     }
   }
 }
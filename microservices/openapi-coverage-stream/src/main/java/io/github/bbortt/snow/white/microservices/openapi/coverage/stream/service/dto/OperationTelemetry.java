@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
+import static io.opentelemetry.semconv.UrlAttributes.URL_QUERY;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Summary of all telemetry observed for a single operation.
+ * <p>
+ * Built in one pass over the telemetry, and shared by all coverage calculators.
+ * Summaries of disjoint telemetry can be merged, as all observations are sets.
+ *
+ * @param observationCount     the number of telemetry data points recorded for the operation
+ * @param statusCodes          the observed response status codes
+ * @param contentTypes         the observed request {@code content-type} header values
+ * @param queryParameterNames  the names of the observed query parameters
+ * @param headerNames          the names of the observed request headers, without the {@code http.request.header.} prefix
+ */
+public record OperationTelemetry(
+  int observationCount,
+  Set<String> statusCodes,
+  Set<String> contentTypes,
+  Set<String> queryParameterNames,
+  Set<String> headerNames
+) {
+  public static final String REQUEST_HEADER_PREFIX = "http.request.header.";
+  public static final String CONTENT_TYPE_HEADER_KEY =
+    REQUEST_HEADER_PREFIX + "content-type";
+
+  public static final OperationTelemetry EMPTY = new OperationTelemetry(
+    0,
+    emptySet(),
+    emptySet(),
+    emptySet(),
+    emptySet()
+  );
+
+  public static OperationTelemetry summarize(
+    Collection<OpenTelemetryData> telemetryData
+  ) {
+    var statusCodes = new HashSet<String>();
+    var contentTypes = new HashSet<String>();
+    var queryParameterNames = new HashSet<String>();
+    var headerNames = new HashSet<String>();
+
+    for (OpenTelemetryData data : telemetryData) {
+      var attributes = data.attributes();
+      if (isNull(attributes)) {
+        continue;
+      }
+
+      collectStatusCode(attributes, statusCodes);
+      collectContentTypes(attributes, contentTypes);
+      collectQueryParameterNames(attributes, queryParameterNames);
+      collectHeaderNames(attributes, headerNames);
+    }
+
+    return new OperationTelemetry(
+      telemetryData.size(),
+      unmodifiableSet(statusCodes),
+      unmodifiableSet(contentTypes),
+      unmodifiableSet(queryParameterNames),
+      unmodifiableSet(headerNames)
+    );
+  }
+
+  /**
+   * Merges the summaries of the source into the target, by operation key.
+   */
+  public static void mergeInto(
+    Map<String, OperationTelemetry> target,
+    Map<String, OperationTelemetry> source
+  ) {
+    source.forEach((operationKey, operationTelemetry) ->
+      target.merge(operationKey, operationTelemetry, OperationTelemetry::merge)
+    );
+  }
+
+  public OperationTelemetry merge(OperationTelemetry other) {
+    return new OperationTelemetry(
+      observationCount + other.observationCount,
+      union(statusCodes, other.statusCodes),
+      union(contentTypes, other.contentTypes),
+      union(queryParameterNames, other.queryParameterNames),
+      union(headerNames, other.headerNames)
+    );
+  }
+
+  @JsonIgnore
+  public boolean isEmpty() {
+    return observationCount == 0;
+  }
+
+  private static Set<String> union(Set<String> first, Set<String> second) {
+    if (second.isEmpty() || first.containsAll(second)) {
+      return first;
+    } else if (first.isEmpty()) {
+      return second;
+    }
+
+    var union = new HashSet<>(first);
+    union.addAll(second);
+    return unmodifiableSet(union);
+  }
+
+  private static void collectStatusCode(
+    SpanAttributes attributes,
+    Set<String> statusCodes
+  ) {
+    var statusCode = attributes.getString(HTTP_RESPONSE_STATUS_CODE.getKey());
+    if (nonNull(statusCode)) {
+      statusCodes.add(statusCode);
+    }
+  }
+
+  private static void collectContentTypes(
+    SpanAttributes attributes,
+    Set<String> contentTypes
+  ) {
+    // OTel may represent header values as an array or a plain string
+    contentTypes.addAll(attributes.getStrings(CONTENT_TYPE_HEADER_KEY));
+  }
+
+  private static void collectQueryParameterNames(
+    SpanAttributes attributes,
+    Set<String> queryParameterNames
+  ) {
+    var queryString = attributes.getString(URL_QUERY.getKey());
+    if (isNull(queryString)) {
+      return;
+    }
+
+    for (String queryParameter : queryString.split("&")) {
+      var separatorIndex = queryParameter.indexOf('=');
+      var name = separatorIndex < 0
+        ? queryParameter
+        : queryParameter.substring(0, separatorIndex);
+      if (!name.isEmpty()) {
+        queryParameterNames.add(name);
+      }
+    }
+  }
+
+  private static void collectHeaderNames(
+    SpanAttributes attributes,
+    Set<String> headerNames
+  ) {
+    for (var key : attributes.keys()) {
+      if (key.startsWith(REQUEST_HEADER_PREFIX)) {
+        headerNames.add(key.substring(REQUEST_HEADER_PREFIX.length()));
+      }
+    }
+  }
+}
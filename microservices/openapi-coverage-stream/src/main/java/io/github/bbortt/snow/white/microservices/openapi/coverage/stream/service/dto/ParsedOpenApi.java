@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A parsed OpenAPI specification, together with its precomputed operation index.
+ */
+public record ParsedOpenApi(OpenAPI openAPI, OpenApiPathIndex pathIndex) {
+  public static ParsedOpenApi of(@NonNull OpenAPI openAPI) {
+    return new ParsedOpenApi(openAPI, OpenApiPathIndex.of(openAPI));
+  }
+}
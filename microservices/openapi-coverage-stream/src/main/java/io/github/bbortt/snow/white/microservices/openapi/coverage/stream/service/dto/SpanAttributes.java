@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Immutable, compact representation of the attributes of a single span.
+ * <p>
+ * Keys and values are held in two parallel arrays, sorted by key, so that lookups are a binary search over a contiguous array.
+ * Keys are interned in a shared dictionary, as all spans carry the same few attribute keys.
+ * Values are either a {@link String}, {@link Long}, {@link Double}, {@link Boolean}, or a {@code String[]}.
+ * <p>
+ * Compared to a Jackson tree, this saves the hash table, its entries and one node per value, for each span.
+ */
+@NullMarked
+public final class SpanAttributes {
+
+  public static final SpanAttributes EMPTY = new SpanAttributes(
+    new String[0],
+    new Object[0]
+  );
+
+  // Attribute keys are bounded by instrumentation, the cap guards against misbehaving ones
+  private static final int MAXIMUM_INTERNED_KEYS = 10_000;
+  private static final Map<String, String> KEY_DICTIONARY =
+    new ConcurrentHashMap<>();
+
+  private final String[] keys;
+  private final Object[] values;
+
+  private SpanAttributes(String[] keys, Object[] values) {
+    this.keys = keys;
+    this.values = values;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Copies the attributes of a flat JSON object.
+   * Arrays are kept as string arrays, nested objects are dropped.
+   */
+  public static SpanAttributes of(@Nullable JsonNode attributes) {
+    if (isNull(attributes) || attributes.isEmpty()) {
+      return EMPTY;
+    }
+
+    var builder = builder();
+    for (var property : attributes.properties()) {
+      var key = property.getKey();
+      var value = property.getValue();
+
+      if (value.isString()) {
+        builder.put(key, value.asString());
+      } else if (value.isIntegralNumber()) {
+        builder.put(key, value.asLong());
+      } else if (value.isNumber()) {
+        builder.put(key, value.asDouble());
+      } else if (value.isBoolean()) {
+        builder.put(key, value.asBoolean());
+      } else if (value.isArray()) {
+        var elements = new ArrayList<String>(value.size());
+        value.forEach(element -> elements.add(element.asString()));
+        builder.put(key, elements);
+      }
+    }
+
+    return builder.build();
+  }
+
+  public boolean has(String key) {
+    return indexOf(key) >= 0;
+  }
+
+  /**
+   * @return the value of the attribute as string, or {@code null} if it is missing or holds multiple values
+   */
+  public @Nullable String getString(String key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    var value = values[index];
+    return value instanceof String[] ? null : value.toString();
+  }
+
+  /**
+   * @return all values of the attribute, which may hold a single or multiple values
+   */
+  public List<String> getStrings(String key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return emptyList();
+    }
+
+    var value = values[index];
+    return value instanceof String[] strings
+      ? unmodifiableList(Arrays.asList(strings))
+      : List.of(value.toString());
+  }
+
+  /**
+   * @return the keys of all attributes, in natural order
+   */
+  public List<String> keys() {
+    return unmodifiableList(Arrays.asList(keys));
+  }
+
+  public int size() {
+    return keys.length;
+  }
+
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  private int indexOf(String key) {
+    return Arrays.binarySearch(keys, key);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    return (
+      o instanceof SpanAttributes other &&
+      Arrays.equals(keys, other.keys) &&
+      Arrays.deepEquals(values, other.values)
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(keys) + Arrays.deepHashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    var stringBuilder = new StringBuilder("{");
+    for (int i = 0; i < keys.length; i++) {
+      if (i > 0) {
+        stringBuilder.append(", ");
+      }
+
+      var value = values[i];
+      stringBuilder
+        .append(keys[i])
+        .append('=')
+        .append(
+          value instanceof String[] strings ? Arrays.toString(strings) : value
+        );
+    }
+    return stringBuilder.append('}').toString();
+  }
+
+  private static String internKey(String key) {
+    var internedKey = KEY_DICTIONARY.get(key);
+    if (!isNull(internedKey)) {
+      return internedKey;
+    } else if (KEY_DICTIONARY.size() >= MAXIMUM_INTERNED_KEYS) {
+      return key;
+    }
+
+    internedKey = KEY_DICTIONARY.putIfAbsent(key, key);
+    return isNull(internedKey) ? key : internedKey;
+  }
+
+  /**
+   * Collects attributes, later values replacing earlier ones of the same key.
+   */
+  public static final class Builder {
+
+    private final TreeMap<String, Object> attributes = new TreeMap<>();
+
+    private Builder() {}
+
+    public Builder put(String key, String value) {
+      attributes.put(key, value);
+      return this;
+    }
+
+    public Builder put(String key, long value) {
+      attributes.put(key, value);
+      return this;
+    }
+
+    public Builder put(String key, double value) {
+      attributes.put(key, value);
+      return this;
+    }
+
+    public Builder put(String key, boolean value) {
+      attributes.put(key, value);
+      return this;
+    }
+
+    public Builder put(String key, List<String> values) {
+      attributes.put(key, values.toArray(String[]::new));
+      return this;
+    }
+
+    public SpanAttributes build() {
+      if (attributes.isEmpty()) {
+        return EMPTY;
+      }
+
+      var keys = new String[attributes.size()];
+      var values = new Object[attributes.size()];
+
+      var index = 0;
+      for (var attribute : attributes.entrySet()) {
+        keys[index] = internKey(attribute.getKey());
+        values[index] = attribute.getValue();
+        index++;
+      }
+
+      return new SpanAttributes(keys, values);
+    }
+  }
+}
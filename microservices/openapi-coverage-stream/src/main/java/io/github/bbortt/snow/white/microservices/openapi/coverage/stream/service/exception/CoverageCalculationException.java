@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception;
+
+public class CoverageCalculationException extends RuntimeException {
+
+  public CoverageCalculationException(String message) {
+    super(message);
+  }
+
+  public CoverageCalculationException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
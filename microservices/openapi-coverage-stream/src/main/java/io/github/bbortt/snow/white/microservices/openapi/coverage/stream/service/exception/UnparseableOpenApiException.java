@@ -9,6 +9,7 @@ package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.servic
 import static java.lang.String.join;
 import static java.util.Objects.isNull;
 
+import java.io.IOException;
 import java.util.List;
 
 public class UnparseableOpenApiException extends Exception {
@@ -21,4 +22,8 @@ public class UnparseableOpenApiException extends Exception {
           : ": " + join(", ", messages))
     );
   }
+
+  public UnparseableOpenApiException(String sourceUrl, IOException cause) {
+    super("Unparsable OpenAPI: failed to read source " + sourceUrl, cause);
+  }
 }
@@ -6,54 +6,103 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.impl;
 
-import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.parseOpenTelemetryData;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanIdentitySet.distinctSpans;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.SPAN_ID_KEY;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.TRACE_ID_KEY;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.VALUE_KEY;
+import static java.lang.Boolean.TRUE;
 import static java.lang.String.join;
 import static java.time.Instant.ofEpochMilli;
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
-import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 import static org.springframework.util.CollectionUtils.isEmpty;
 import static org.springframework.util.StringUtils.hasText;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.influxdb.client.InfluxDBClient;
-import com.influxdb.query.FluxTable;
+import com.influxdb.query.FluxRecord;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.InfluxDBProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenTelemetryService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageAttributes;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.influxdb.FluxAttributeFilter;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.influxdb.FluxAttributeProjection;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
-import java.time.Instant;
 import java.util.List;
+import java.util.Collection;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+/**
+ * Fetches span attributes from InfluxDB.
+ * <p>
+ * The Flux query only depends on the keys of the attribute filters, apart from plain values.
+ * Its text is therefore built once per set of attribute filter keys, and cached as a template.
+ * With {@code influxdb.projection.enabled}, only the attributes used for coverage calculation are fetched, instead of the full attributes JSON.
+ */
 @Slf4j
 @Service
 @NullMarked
-@RequiredArgsConstructor
 @ConditionalOnProperty(
   prefix = "influxdb",
   name = { "url", "token", "org", "bucket" }
 )
 public class InfluxDBTelemetryServiceImpl implements OpenTelemetryService {
 
+  // Attribute filters originate from quality gate configurations, there are only a few distinct sets of keys
+  private static final long QUERY_TEMPLATE_CACHE_SIZE = 256;
+
   private final InfluxDBClient influxDBClient;
   private final InfluxDBProperties influxDBProperties;
 
   private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
 
+  private final @Nullable FluxAttributeProjection fluxAttributeProjection;
+  private final Function<FluxRecord, OpenTelemetryData> fluxRecordParser;
+
+  private final Cache<List<String>, String> queryTemplateCache =
+    Caffeine.newBuilder().maximumSize(QUERY_TEMPLATE_CACHE_SIZE).build();
+
+  public InfluxDBTelemetryServiceImpl(
+    InfluxDBClient influxDBClient,
+    InfluxDBProperties influxDBProperties,
+    OpenApiCoverageStreamProperties openApiCoverageStreamProperties
+  ) {
+    this.influxDBClient = influxDBClient;
+    this.influxDBProperties = influxDBProperties;
+    this.openApiCoverageStreamProperties = openApiCoverageStreamProperties;
+
+    var projectionProperties = influxDBProperties.getProjection();
+    if (TRUE.equals(projectionProperties.getEnabled())) {
+      var projection = new FluxAttributeProjection(
+        CoverageAttributes.of(
+          openApiCoverageStreamProperties.getOperationIdAttribute(),
+          projectionProperties.getRequestHeaders()
+        )
+      );
+      this.fluxAttributeProjection = projection;
+      this.fluxRecordParser = projection::toOpenTelemetryData;
+    } else {
+      this.fluxAttributeProjection = null;
+      this.fluxRecordParser = OpenTelemetryData::parseOpenTelemetryData;
+    }
+  }
+
   @Override
   @WithSpan
-  public Set<OpenTelemetryData> findOpenTelemetryTracingData(
+  public Collection<OpenTelemetryData> findOpenTelemetryTracingData(
     ApiInformation apiInformation,
     long lookbackFromTimestamp,
     String lookbackWindow,
@@ -67,31 +116,49 @@ public class InfluxDBTelemetryServiceImpl implements OpenTelemetryService {
     );
     logger.trace("Firing flux query: {}", fluxQuery);
 
-    var fluxTables = influxDBClient.getQueryApi().query(fluxQuery);
-    return parseFluxTableToOpenTelemetryData(fluxTables);
+    // Records are parsed while the response is read, instead of buffering all flux tables first.
+    // Closing the stream releases the underlying HTTP response.
+    try (
+      var fluxRecords = influxDBClient.getQueryApi().queryStream(fluxQuery)
+    ) {
+      var openTelemetryData = fluxRecords
+        .map(fluxRecordParser)
+        .collect(distinctSpans());
+
+      logger.debug(
+        "Consumed {} telemetry data points from InfluxDB",
+        openTelemetryData.size()
+      );
+
+      return openTelemetryData;
+    }
   }
 
   private String buildFluxQuery(
     ApiInformation apiInformation,
     long lookbackFromTimestamp,
     String lookbackWindow,
-    Set<AttributeFilter> attributeFilters
+    @Nullable Set<AttributeFilter> attributeFilters
   ) {
     var filteringProperties = openApiCoverageStreamProperties.getFiltering();
 
-    var fluxBuilder = new StringBuilder();
-    fluxBuilder
-      .append(buildBucketFilter())
-      .append(buildRangeFilter(lookbackFromTimestamp, lookbackWindow))
-      .append(" |> filter(fn: (r) => r._measurement == \"spans\") ")
-      .append(
-        buildNullableAttributeFilter(
-          filteringProperties.getServiceNameAttributeKey(),
-          apiInformation.getServiceName()
-        )
-      )
-      .append(" |> filter(fn: (r) => r._field == \"attributes\") ")
-      .append(jsonToDimensionsMapping(filteringProperties, attributeFilters))
+    var attributeFilterKeys = isEmpty(attributeFilters)
+      ? List.<String>of()
+      : attributeFilters
+        .stream()
+        .map(AttributeFilter::key)
+        .distinct()
+        .sorted()
+        .toList();
+
+    var queryTemplate = queryTemplateCache.get(
+      attributeFilterKeys,
+      this::buildFluxQueryTemplate
+    );
+
+    var isoTime = ISO_INSTANT.format(ofEpochMilli(lookbackFromTimestamp));
+
+    var valueFilters = new StringBuilder()
       .append(
         buildNullableAttributeFilter(
           filteringProperties.getApiNameAttributeKey().replace(".", "_"),
@@ -107,15 +174,39 @@ public class InfluxDBTelemetryServiceImpl implements OpenTelemetryService {
 
     if (!isEmpty(attributeFilters)) {
       attributeFilters.forEach(attributeFilter ->
-        fluxBuilder.append(
+        valueFilters.append(
           new FluxAttributeFilter(attributeFilter).toFluxString()
         )
       );
     }
 
-    fluxBuilder.append(
-      " |> keep(columns: [\"_value\", \"span_id\", \"trace_id\"]) "
+    return queryTemplate.formatted(
+      influxDBProperties.getBucket(),
+      lookbackWindow,
+      isoTime,
+      isoTime,
+      buildNullableAttributeFilter(
+        filteringProperties.getServiceNameAttributeKey(),
+        apiInformation.getServiceName()
+      ),
+      valueFilters
     );
+  }
+
+  /**
+   * Builds the query for a set of attribute filter keys.
+   * Plain values are left as {@code %s} placeholders: bucket, lookback window, range start and stop, service name filter and value filters.
+   */
+  private String buildFluxQueryTemplate(List<String> attributeFilterKeys) {
+    var fluxBuilder = new StringBuilder()
+      .append("from(bucket: \"%s\") ")
+      .append("|> range(start: date.sub(d: %s, from: %s), stop: %s)")
+      .append(" |> filter(fn: (r) => r._measurement == \"spans\") ")
+      .append("%s")
+      .append(" |> filter(fn: (r) => r._field == \"attributes\") ")
+      .append(escapeFormat(jsonToDimensionsMapping(attributeFilterKeys)))
+      .append("%s")
+      .append(escapeFormat(buildKeepColumns()));
 
     return """
     import "date"
@@ -125,42 +216,16 @@ public class InfluxDBTelemetryServiceImpl implements OpenTelemetryService {
     """.formatted(fluxBuilder.toString());
   }
 
-  private String buildBucketFilter() {
-    return "from(bucket: \"" + influxDBProperties.getBucket() + "\") ";
-  }
-
-  private String buildRangeFilter(long eventTime, String lookbackWindow) {
-    Instant instant = ofEpochMilli(eventTime);
-    String isoTime = ISO_INSTANT.format(instant);
-
-    return (
-      "|> range(start: date.sub(d: " +
-      lookbackWindow +
-      ", from: " +
-      isoTime +
-      "), stop: " +
-      isoTime +
-      ")"
-    );
-  }
+  private String jsonToDimensionsMapping(List<String> attributeFilterKeys) {
+    var filteringProperties = openApiCoverageStreamProperties.getFiltering();
 
-  private String jsonToDimensionsMapping(
-    OpenApiCoverageStreamProperties.FilteringProperties filteringProperties,
-    Set<AttributeFilter> attributeFilters
-  ) {
     var apiNameMapping = filteringProperties.getApiNameAttributeKey();
     var apiVersionMapping = filteringProperties.getApiVersionAttributeKey();
 
-    var attributesToMapToDimensions = Stream.of(
-      apiNameMapping,
-      apiVersionMapping
+    var attributesToMapToDimensions = Stream.concat(
+      Stream.of(apiNameMapping, apiVersionMapping),
+      attributeFilterKeys.stream()
     );
-    if (!isEmpty(attributeFilters)) {
-      attributesToMapToDimensions = Stream.concat(
-        attributesToMapToDimensions,
-        attributeFilters.stream().map(AttributeFilter::key)
-      );
-    }
 
     var dimensions = attributesToMapToDimensions
       .map(
@@ -172,12 +237,35 @@ public class InfluxDBTelemetryServiceImpl implements OpenTelemetryService {
       )
       .collect(toSet());
 
+    var projection = fluxAttributeProjection;
+    var columnMappings = isNull(projection)
+      ? join(", ", dimensions)
+      : Stream.concat(
+          dimensions.stream(),
+          projection.toFluxColumnMappings()
+        ).collect(joining(", "));
+
     return """
     |> map(fn: (r) => {
       parsed = json.parse(data: bytes(v: r._value))
       return { r with %s }
     })
-    """.formatted(join(", ", dimensions));
+    """.formatted(columnMappings);
+  }
+
+  private String buildKeepColumns() {
+    var projection = fluxAttributeProjection;
+    var columns = isNull(projection)
+      ? Stream.of(VALUE_KEY)
+      : projection.columnNames();
+
+    return (
+      " |> keep(columns: [" +
+      Stream.concat(columns, Stream.of(SPAN_ID_KEY, TRACE_ID_KEY))
+        .map(column -> "\"" + column + "\"")
+        .collect(joining(", ")) +
+      "]) "
+    );
   }
 
   private String buildNullableAttributeFilter(
@@ -191,18 +279,7 @@ public class InfluxDBTelemetryServiceImpl implements OpenTelemetryService {
     return " |> filter(fn: (r) => r[\"" + key + "\"] == \"" + value + "\") ";
   }
 
-  private static Set<OpenTelemetryData> parseFluxTableToOpenTelemetryData(
-    List<FluxTable> fluxTables
-  ) {
-    Set<OpenTelemetryData> openTelemetryData = newKeySet();
-    fluxTables.parallelStream().forEach(fluxTable ->
-      fluxTable
-        .getRecords()
-        .parallelStream()
-        .forEach(fluxRecord ->
-          openTelemetryData.add(parseOpenTelemetryData(fluxRecord))
-        )
-    );
-    return openTelemetryData;
+  private static String escapeFormat(String fluxFragment) {
+    return fluxFragment.replace("%", "%%");
   }
 }
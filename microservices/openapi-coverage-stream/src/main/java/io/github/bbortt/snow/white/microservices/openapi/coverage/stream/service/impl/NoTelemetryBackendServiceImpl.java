@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.impl;
+
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.condition.NoTelemetryBackendConfiguredCondition;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenTelemetryService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import java.util.Collection;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stands in for an observability backend when coverage is aggregated from the span stream exclusively.
+ * Only calculations with attribute filters query the observability backend, these are rejected.
+ */
+@Service
+@NullMarked
+@Conditional(NoTelemetryBackendConfiguredCondition.class)
+public class NoTelemetryBackendServiceImpl implements OpenTelemetryService {
+
+  @Override
+  public Collection<OpenTelemetryData> findOpenTelemetryTracingData(
+    ApiInformation apiInformation,
+    long lookbackFromTimestamp,
+    String lookbackWindow,
+    Set<AttributeFilter> attributeFilters
+  ) {
+    throw new IllegalStateException(
+      "Calculations with attribute filters require a telemetry backend! Configure either InfluxDB or Grafana Tempo. Please read the docs."
+    );
+  }
+}
@@ -10,10 +10,13 @@ import static java.util.Objects.requireNonNull;
 
 import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.commons.event.QualityGateCalculationRequestEvent;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.CoverageStateService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageCalculationService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenTelemetryService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
@@ -22,6 +25,7 @@ import java.util.Collections;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.state.KeyValueStore;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 
@@ -35,6 +39,8 @@ public class OpenApiCoverageCalculationServiceImpl
   private final OpenApiService openApiService;
   private final OpenTelemetryService openTelemetryService;
   private final OpenApiCoverageService openApiCoverageService;
+  private final CoverageStateService coverageStateService;
+  private final SpanCoverageService spanCoverageService;
 
   @Override
   @WithSpan
@@ -51,6 +57,8 @@ public class OpenApiCoverageCalculationServiceImpl
       Optional.ofNullable(
         calculationRequestEvent.getAttributeFilters()
       ).orElseGet(Collections::emptySet)
+    ).withOpenApiCoverageCriteria(
+      calculationRequestEvent.getOpenApiCoverageCriteria()
     );
   }
 
@@ -69,6 +77,31 @@ public class OpenApiCoverageCalculationServiceImpl
     );
   }
 
+  @Override
+  public @NonNull OpenApiTestContext enrichWithOperationTelemetry(
+    @NonNull OpenApiTestContext openApiTestContext,
+    long timestamp,
+    @NonNull KeyValueStore<String, CoverageState> coverageStateStore
+  ) {
+    return openApiTestContext.withOperationTelemetry(
+      coverageStateService.summarizeTelemetry(
+        openApiTestContext,
+        timestamp,
+        coverageStateStore
+      )
+    );
+  }
+
+  @Override
+  public @NonNull OpenApiTestContext enrichWithStreamedTelemetry(
+    @NonNull OpenApiTestContext openApiTestContext,
+    long timestamp
+  ) {
+    return openApiTestContext.withOperationTelemetry(
+      spanCoverageService.summarizeTelemetry(openApiTestContext, timestamp)
+    );
+  }
+
   @Override
   @WithSpan
   public @NonNull OpenApiTestContext calculateCoverage(
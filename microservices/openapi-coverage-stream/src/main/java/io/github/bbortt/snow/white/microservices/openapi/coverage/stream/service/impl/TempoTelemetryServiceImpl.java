@@ -6,10 +6,14 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.impl;
 
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.LookbackWindowParser.parseLookbackWindow;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanIdentitySet.distinctSpans;
+import static java.lang.Boolean.TRUE;
 import static java.lang.String.join;
 import static java.time.Instant.ofEpochMilli;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
 import static java.util.stream.Collectors.toCollection;
 import static org.springframework.util.CollectionUtils.isEmpty;
 import static org.springframework.util.StringUtils.hasText;
@@ -17,18 +21,27 @@ import static org.springframework.util.StringUtils.hasText;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.TempoProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.condition.TempoConfiguredCondition;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenTelemetryService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageAttributes;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.tempo.TempoAttributeFilter;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.tempo.TempoAttributeSelect;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NullMarked;
@@ -38,7 +51,6 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Tempo's TraceQL search API only returns attributes that are explicitly enumerated via a {@code select()} clause - it has no wildcard to return "all attributes".
@@ -46,6 +58,11 @@ import tools.jackson.databind.json.JsonMapper;
  * a search only identifies matching (traceId, spanId) pairs;
  * the full attribute set for each match is then fetched via the by-ID trace endpoint,
  * which returns the complete native span - mirroring the full attribute blob InfluxDB stores per span.
+ * Traces are fetched concurrently on virtual threads, bounded by {@code tempo.fetch-concurrency} across all calculation requests.
+ * <p>
+ * With {@code tempo.select.enabled}, the attributes used for coverage calculation are instead selected explicitly, and read straight from the search results.
+ * <p>
+ * Search windows returning {@code tempo.search-limit} traces may be incomplete, so they are split in halves and searched again.
  */
 @Slf4j
 @Service
@@ -55,13 +72,8 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
 
   private static final String SEARCH_PATH = "/api/search";
   private static final String TRACE_BY_ID_PATH = "/api/traces/{traceId}";
-  private static final int SEARCH_LIMIT = 1_000;
   private static final int TRACE_ID_HEX_LENGTH = 32;
 
-  private static final Pattern LOOKBACK_WINDOW_PATTERN = Pattern.compile(
-    "^(\\d+)(ms|s|m|h|d|w)$"
-  );
-
   public static final String SPAN_ATTRIBUTE = "span";
   public static final String TRACES_PROPERTY_NAME = "traces";
   public static final String SPANS_PROPERTY_NAME = "spans";
@@ -71,17 +83,39 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
   private final RestClient tempoRestClient;
   private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
 
+  private final int searchLimit;
+  private final int spansPerSpanSet;
+  private final Semaphore traceFetchPermits;
+  private final @Nullable TempoAttributeSelect tempoAttributeSelect;
+
   public TempoTelemetryServiceImpl(
     @Qualifier("tempoRestClient") RestClient tempoRestClient,
+    TempoProperties tempoProperties,
     OpenApiCoverageStreamProperties openApiCoverageStreamProperties
   ) {
     this.tempoRestClient = tempoRestClient;
     this.openApiCoverageStreamProperties = openApiCoverageStreamProperties;
+
+    this.searchLimit = tempoProperties.getSearchLimit();
+    this.spansPerSpanSet = tempoProperties.getSpansPerSpanSet();
+    this.traceFetchPermits = new Semaphore(
+      tempoProperties.getFetchConcurrency()
+    );
+
+    var selectProperties = tempoProperties.getSelect();
+    this.tempoAttributeSelect = TRUE.equals(selectProperties.getEnabled())
+      ? new TempoAttributeSelect(
+          CoverageAttributes.of(
+            openApiCoverageStreamProperties.getOperationIdAttribute(),
+            selectProperties.getRequestHeaders()
+          )
+        )
+      : null;
   }
 
   @Override
   @WithSpan
-  public Set<OpenTelemetryData> findOpenTelemetryTracingData(
+  public Collection<OpenTelemetryData> findOpenTelemetryTracingData(
     ApiInformation apiInformation,
     long lookbackFromTimestamp,
     String lookbackWindow,
@@ -96,21 +130,96 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
       .getEpochSecond();
     var endEpochSeconds = eventInstant.getEpochSecond();
 
+    Map<String, Map<String, JsonNode>> matchedSpansByTraceId = new HashMap<>();
+    searchMatchedSpans(
+      traceQLQuery,
+      startEpochSeconds,
+      endEpochSeconds,
+      matchedSpansByTraceId
+    );
+
+    if (nonNull(tempoAttributeSelect)) {
+      return readSelectedSpans(matchedSpansByTraceId);
+    }
+
+    return fetchFullSpans(matchedSpansByTraceId);
+  }
+
+  /**
+   * Collects the matched spans of the given window, by trace ID and span ID.
+   * A window hitting the search limit is split in halves, each searched separately.
+   */
+  private void searchMatchedSpans(
+    String traceQLQuery,
+    long startEpochSeconds,
+    long endEpochSeconds,
+    Map<String, Map<String, JsonNode>> matchedSpansByTraceId
+  ) {
     // The TraceQL query contains literal '{' / '}' characters, which UriBuilder#queryParam would otherwise misinterpret as URI template placeholders during expansion.
     // Passing it as a template variable instead keeps it an opaque, correctly-encoded value.
     var searchResponse = tempoRestClient
       .get()
       .uri(
-        SEARCH_PATH + "?q={q}&start={start}&end={end}&limit={limit}",
+        SEARCH_PATH +
+          "?q={q}&start={start}&end={end}&limit={limit}&spss={spss}",
         traceQLQuery,
         startEpochSeconds,
         endEpochSeconds,
-        SEARCH_LIMIT
+        searchLimit,
+        spansPerSpanSet
       )
       .retrieve()
       .body(JsonNode.class);
 
-    return resolveMatchedSpans(searchResponse);
+    if (
+      isNull(searchResponse) || !searchResponse.has(TRACES_PROPERTY_NAME)
+    ) {
+      return;
+    }
+
+    var traces = searchResponse.get(TRACES_PROPERTY_NAME);
+    if (traces.size() >= searchLimit) {
+      if (endEpochSeconds - startEpochSeconds > 1) {
+        var middleEpochSeconds =
+          startEpochSeconds + (endEpochSeconds - startEpochSeconds) / 2;
+        searchMatchedSpans(
+          traceQLQuery,
+          startEpochSeconds,
+          middleEpochSeconds,
+          matchedSpansByTraceId
+        );
+        searchMatchedSpans(
+          traceQLQuery,
+          middleEpochSeconds,
+          endEpochSeconds,
+          matchedSpansByTraceId
+        );
+        return;
+      }
+
+      logger.warn(
+        "More than {} traces within one second, results may be incomplete!",
+        searchLimit
+      );
+    }
+
+    traces.forEach(trace -> {
+      var spanSet = trace.get("spanSet");
+      if (isNull(spanSet) || !spanSet.has(SPANS_PROPERTY_NAME)) {
+        return;
+      }
+
+      // Traces spanning both halves of a split window are found twice
+      var matchedSpans = matchedSpansByTraceId.computeIfAbsent(
+        normalizeTraceId(trace.get(TRACE_ID_PROPERTY_NAME).asString()),
+        traceId -> new HashMap<>()
+      );
+      spanSet
+        .get(SPANS_PROPERTY_NAME)
+        .forEach(span ->
+          matchedSpans.put(span.get(SPAN_ID_PROPERTY_NAME).asString(), span)
+        );
+    });
   }
 
   private String buildTraceQLQuery(
@@ -147,7 +256,12 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
       );
     }
 
-    return "{ " + join(" && ", conditions) + " }";
+    var traceQLQuery = "{ " + join(" && ", conditions) + " }";
+
+    var select = tempoAttributeSelect;
+    return nonNull(select)
+      ? traceQLQuery + select.toTraceQLString()
+      : traceQLQuery;
   }
 
   private static @Nullable String buildNullableAttributeCondition(
@@ -162,59 +276,96 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
     return scope + "." + key + " = \"" + value + "\"";
   }
 
-  private static Duration parseLookbackWindow(String lookbackWindow) {
-    var matcher = LOOKBACK_WINDOW_PATTERN.matcher(lookbackWindow);
-    if (!matcher.matches()) {
-      throw new IllegalArgumentException(
-        "Unparseable lookback window: " + lookbackWindow
-      );
-    }
-
-    var amount = Long.parseLong(matcher.group(1));
-    return switch (matcher.group(2)) {
-      case "ms" -> Duration.ofMillis(amount);
-      case "s" -> Duration.ofSeconds(amount);
-      case "m" -> Duration.ofMinutes(amount);
-      case "h" -> Duration.ofHours(amount);
-      case "d" -> Duration.ofDays(amount);
-      case "w" -> Duration.ofDays(amount * 7);
-      default -> throw new IllegalArgumentException(
-        "Unsupported lookback window unit: " + matcher.group(2)
-      );
-    };
+  /**
+   * Spans are keyed by trace ID and span ID already, so there is nothing left to deduplicate.
+   */
+  private static List<OpenTelemetryData> readSelectedSpans(
+    Map<String, Map<String, JsonNode>> matchedSpansByTraceId
+  ) {
+    List<OpenTelemetryData> result = new ArrayList<>();
+    matchedSpansByTraceId.forEach((traceId, matchedSpans) ->
+      matchedSpans.forEach((spanId, span) ->
+        result.add(
+          new OpenTelemetryData(
+            spanId,
+            traceId,
+            buildAttributes(span.get("attributes"))
+          )
+        )
+      )
+    );
+    return result;
   }
 
-  private Set<OpenTelemetryData> resolveMatchedSpans(
-    @Nullable JsonNode searchResponse
+  private List<OpenTelemetryData> fetchFullSpans(
+    Map<String, Map<String, JsonNode>> matchedSpansByTraceId
   ) {
-    Set<OpenTelemetryData> result = newKeySet();
-    if (searchResponse == null || !searchResponse.has(TRACES_PROPERTY_NAME)) {
-      return result;
+    var result = new ArrayList<OpenTelemetryData>();
+
+    try (var executor = newVirtualThreadPerTaskExecutor()) {
+      List<Future<List<OpenTelemetryData>>> futures = matchedSpansByTraceId
+        .entrySet()
+        .stream()
+        .map(matchedSpans ->
+          executor.submit(() ->
+            fetchFullSpansWithPermit(
+              matchedSpans.getKey(),
+              matchedSpans.getValue().keySet()
+            )
+          )
+        )
+        .toList();
+
+      try {
+        for (var future : futures) {
+          result.addAll(awaitFullSpans(future));
+        }
+      } catch (RuntimeException e) {
+        executor.shutdownNow();
+        throw e;
+      }
     }
 
-    searchResponse.get(TRACES_PROPERTY_NAME).forEach(trace -> {
-      var traceId = normalizeTraceId(
-        trace.get(TRACE_ID_PROPERTY_NAME).asString()
+    // A trace may list the same span in several batches
+    return result.stream().collect(distinctSpans());
+  }
+
+  private static List<OpenTelemetryData> awaitFullSpans(
+    Future<List<OpenTelemetryData>> future
+  ) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+        "Interrupted while fetching traces from Tempo",
+        e
       );
-      var spanSet = trace.get("spanSet");
-      if (spanSet == null || !spanSet.has(SPANS_PROPERTY_NAME)) {
-        return;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
       }
 
-      Set<String> matchedSpanIds = newKeySet();
-      spanSet
-        .get(SPANS_PROPERTY_NAME)
-        .forEach(span ->
-          matchedSpanIds.add(span.get(SPAN_ID_PROPERTY_NAME).asString())
-        );
-
-      result.addAll(fetchFullSpans(traceId, matchedSpanIds));
-    });
+      throw new IllegalStateException(
+        "Failed fetching trace from Tempo",
+        e.getCause()
+      );
+    }
+  }
 
-    return result;
+  private List<OpenTelemetryData> fetchFullSpansWithPermit(
+    String traceId,
+    Set<String> matchedSpanIds
+  ) throws InterruptedException {
+    traceFetchPermits.acquire();
+    try {
+      return fetchFullSpans(traceId, matchedSpanIds);
+    } finally {
+      traceFetchPermits.release();
+    }
   }
 
-  private Set<OpenTelemetryData> fetchFullSpans(
+  private List<OpenTelemetryData> fetchFullSpans(
     String traceId,
     Set<String> matchedSpanIds
   ) {
@@ -224,7 +375,7 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
       .retrieve()
       .body(JsonNode.class);
 
-    Set<OpenTelemetryData> result = newKeySet();
+    List<OpenTelemetryData> result = new ArrayList<>();
     if (traceResponse == null || !traceResponse.has("batches")) {
       return result;
     }
@@ -273,21 +424,24 @@ public class TempoTelemetryServiceImpl implements OpenTelemetryService {
       : traceId;
   }
 
-  private static JsonNode buildAttributes(@Nullable JsonNode attributes) {
-    var attributesNode = JsonMapper.shared().createObjectNode();
-
-    if (nonNull(attributes)) {
-      attributes.forEach(attribute -> {
-        var value = attribute.get("value");
-        if (nonNull(value) && value.has("stringValue")) {
-          attributesNode.set(
-            attribute.get("key").asString(),
-            value.get("stringValue")
-          );
-        }
-      });
+  private static SpanAttributes buildAttributes(
+    @Nullable JsonNode attributes
+  ) {
+    if (isNull(attributes)) {
+      return SpanAttributes.EMPTY;
     }
 
-    return attributesNode;
+    var spanAttributes = SpanAttributes.builder();
+    attributes.forEach(attribute -> {
+      var value = attribute.get("value");
+      if (nonNull(value) && value.has("stringValue")) {
+        spanAttributes.put(
+          attribute.get("key").asString(),
+          value.get("stringValue").asString()
+        );
+      }
+    });
+
+    return spanAttributes.build();
   }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.influxdb;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.SPAN_ID_KEY;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.TRACE_ID_KEY;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static org.springframework.util.StringUtils.hasText;
+
+import com.influxdb.query.FluxRecord;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageAttributes;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Projects the span attributes used for coverage calculation into dedicated columns.
+ * <p>
+ * The full attributes JSON then never leaves InfluxDB.
+ * Plain attributes are projected as they are.
+ * Flux parses every JSON number into a float, so whole numbers are restored as integers, e.g. status codes.
+ * Request headers may be recorded as arrays, which cannot be stored in a column, so they are projected JSON-encoded.
+ */
+@Slf4j
+public class FluxAttributeProjection {
+
+  private final Set<String> plainAttributeKeys;
+  private final Set<String> headerAttributeKeys;
+
+  public FluxAttributeProjection(CoverageAttributes coverageAttributes) {
+    this.plainAttributeKeys = coverageAttributes.plainAttributeKeys();
+    this.headerAttributeKeys = coverageAttributes.headerAttributeKeys();
+  }
+
+  /**
+   * @return the Flux record properties mapping each projected attribute of the parsed attributes JSON into its column
+   */
+  public Stream<String> toFluxColumnMappings() {
+    return Stream.concat(
+      plainAttributeKeys
+        .stream()
+        .map(key -> quote(key) + ": parsed[" + quote(key) + "]"),
+      headerAttributeKeys
+        .stream()
+        .map(
+          key ->
+            quote(key) +
+            ": if exists parsed[" +
+            quote(key) +
+            "] then string(v: json.encode(v: parsed[" +
+            quote(key) +
+            "])) else \"\""
+        )
+    );
+  }
+
+  /**
+   * @return the names of all projected columns
+   */
+  public Stream<String> columnNames() {
+    return Stream.concat(
+      plainAttributeKeys.stream(),
+      headerAttributeKeys.stream()
+    );
+  }
+
+  public OpenTelemetryData toOpenTelemetryData(FluxRecord fluxRecord) {
+    var attributes = SpanAttributes.builder();
+
+    for (var key : plainAttributeKeys) {
+      putPlainValue(attributes, key, fluxRecord.getValueByKey(key));
+    }
+
+    for (var key : headerAttributeKeys) {
+      var encodedValue = fluxRecord.getValueByKey(key);
+      if (isNull(encodedValue) || !hasText(encodedValue.toString())) {
+        continue;
+      }
+
+      try {
+        putHeaderValue(
+          attributes,
+          key,
+          JsonMapper.shared().readTree(encodedValue.toString())
+        );
+      } catch (Exception e) {
+        logger.warn(
+          "Failed parsing projected header {}! Skipping it.",
+          key,
+          e
+        );
+      }
+    }
+
+    return new OpenTelemetryData(
+      requireNonNull(fluxRecord.getValueByKey(SPAN_ID_KEY)).toString(),
+      requireNonNull(fluxRecord.getValueByKey(TRACE_ID_KEY)).toString(),
+      attributes.build()
+    );
+  }
+
+  private static void putPlainValue(
+    SpanAttributes.Builder attributes,
+    String key,
+    @Nullable Object value
+  ) {
+    switch (value) {
+      case null -> {
+        // Attribute has not been recorded
+      }
+      case Long longValue -> attributes.put(key, longValue);
+      case Double doubleValue -> putNumber(attributes, key, doubleValue);
+      case Boolean booleanValue -> attributes.put(key, booleanValue);
+      default -> attributes.put(key, value.toString());
+    }
+  }
+
+  private static void putNumber(
+    SpanAttributes.Builder attributes,
+    String key,
+    double value
+  ) {
+    if (Math.rint(value) == value && Math.abs(value) < 0x1p63) {
+      attributes.put(key, (long) value);
+    } else {
+      attributes.put(key, value);
+    }
+  }
+
+  private static void putHeaderValue(
+    SpanAttributes.Builder attributes,
+    String key,
+    JsonNode value
+  ) {
+    if (value.isArray()) {
+      var values = new ArrayList<String>(value.size());
+      value.forEach(element -> values.add(element.asString()));
+      attributes.put(key, values);
+    } else {
+      attributes.put(key, value.asString());
+    }
+  }
+
+  private static String quote(String key) {
+    return "\"" + key + "\"";
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.otlp;
+
+import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static java.util.Objects.isNull;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.github.bbortt.snow.white.commons.DefaultFilteringProperties;
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Reads the spans of an {@code ExportTraceServiceRequest} in the OTLP JSON format.
+ * <p>
+ * The API a span belongs to is identified by resource, scope and span attributes, the latter overriding the former.
+ * Span attributes are converted into the same flat JSON object InfluxDB stores, so that the telemetry can be summarized alike.
+ */
+@NullMarked
+public class OtlpJsonSpanReader {
+
+  private final String serviceNameAttributeKey;
+  private final String apiNameAttributeKey;
+  private final String apiVersionAttributeKey;
+
+  public OtlpJsonSpanReader(DefaultFilteringProperties filteringProperties) {
+    this.serviceNameAttributeKey =
+      filteringProperties.getServiceNameAttributeKey();
+    this.apiNameAttributeKey = filteringProperties.getApiNameAttributeKey();
+    this.apiVersionAttributeKey =
+      filteringProperties.getApiVersionAttributeKey();
+  }
+
+  /**
+   * @return all spans of an identifiable API
+   */
+  public List<ObservedSpan> read(byte[] exportTraceServiceRequest) {
+    var jsonMapper = JsonMapper.shared();
+    var root = jsonMapper.readTree(exportTraceServiceRequest);
+
+    List<ObservedSpan> observedSpans = new ArrayList<>();
+    for (var resourceSpans : root.path("resourceSpans")) {
+      var resourceAttributes = toAttributes(
+        resourceSpans.path("resource").path("attributes")
+      );
+
+      for (var scopeSpans : resourceSpans.path("scopeSpans")) {
+        var scopeAttributes = resourceAttributes.deepCopy();
+        scopeAttributes.setAll(
+          toAttributes(scopeSpans.path("scope").path("attributes"))
+        );
+
+        for (var span : scopeSpans.path("spans")) {
+          var spanAttributes = toAttributes(span.path("attributes"));
+
+          var apiInformation = identifyApi(scopeAttributes, spanAttributes);
+          if (isNull(apiInformation)) {
+            continue;
+          }
+
+          observedSpans.add(
+            new ObservedSpan(
+              apiInformation,
+              new OpenTelemetryData(
+                span.path("spanId").asString(""),
+                span.path("traceId").asString(""),
+                SpanAttributes.of(spanAttributes)
+              )
+            )
+          );
+        }
+      }
+    }
+
+    return observedSpans;
+  }
+
+  private @Nullable ApiInformation identifyApi(
+    ObjectNode scopeAttributes,
+    ObjectNode spanAttributes
+  ) {
+    var serviceName = resolve(
+      serviceNameAttributeKey,
+      scopeAttributes,
+      spanAttributes
+    );
+    var apiName = resolve(apiNameAttributeKey, scopeAttributes, spanAttributes);
+    var apiVersion = resolve(
+      apiVersionAttributeKey,
+      scopeAttributes,
+      spanAttributes
+    );
+
+    if (!hasText(serviceName) || !hasText(apiName) || !hasText(apiVersion)) {
+      return null;
+    }
+
+    return ApiInformation.builder()
+      .serviceName(serviceName)
+      .apiName(apiName)
+      .apiVersion(apiVersion)
+      .apiType(OPENAPI)
+      .build();
+  }
+
+  private static @Nullable String resolve(
+    String key,
+    ObjectNode scopeAttributes,
+    ObjectNode spanAttributes
+  ) {
+    if (spanAttributes.has(key)) {
+      return spanAttributes.get(key).asString();
+    } else if (scopeAttributes.has(key)) {
+      return scopeAttributes.get(key).asString();
+    }
+
+    return null;
+  }
+
+  private static ObjectNode toAttributes(JsonNode keyValues) {
+    var attributes = JsonMapper.shared().createObjectNode();
+    for (var keyValue : keyValues) {
+      var value = toValue(keyValue.path("value"));
+      if (!isNull(value)) {
+        attributes.set(keyValue.path("key").asString(), value);
+      }
+    }
+
+    return attributes;
+  }
+
+  /**
+   * Unwraps an OTLP {@code AnyValue}. 64-bit integers are encoded as strings in the OTLP JSON format.
+   */
+  private static @Nullable JsonNode toValue(JsonNode anyValue) {
+    var nodeFactory = JsonMapper.shared().getNodeFactory();
+
+    if (anyValue.has("stringValue")) {
+      return anyValue.get("stringValue");
+    } else if (anyValue.has("intValue")) {
+      return nodeFactory.numberNode(anyValue.get("intValue").asLong());
+    } else if (anyValue.has("doubleValue")) {
+      return nodeFactory.numberNode(anyValue.get("doubleValue").asDouble());
+    } else if (anyValue.has("boolValue")) {
+      return anyValue.get("boolValue");
+    } else if (anyValue.has("arrayValue")) {
+      var array = nodeFactory.arrayNode();
+      for (var element : anyValue.path("arrayValue").path("values")) {
+        var value = toValue(element);
+        if (!isNull(value)) {
+          array.add(value);
+        }
+      }
+      return array;
+    }
+
+    return null;
+  }
+
+  /**
+   * @param apiInformation    the API the span belongs to
+   * @param openTelemetryData the span
+   */
+  public record ObservedSpan(
+    ApiInformation apiInformation,
+    OpenTelemetryData openTelemetryData
+  ) {}
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.tempo;
+
+import static java.util.stream.Collectors.joining;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageAttributes;
+
+public record TempoAttributeSelect(CoverageAttributes coverageAttributes) {
+  public String toTraceQLString() {
+    // Quoted, because attribute names like request headers may contain characters TraceQL identifiers must not
+    return coverageAttributes
+      .allKeys()
+      .map(key -> "span.\"" + key + "\"")
+      .collect(joining(", ", " | select(", ")"));
+  }
+}
@@ -18,6 +18,7 @@ import com.tngtech.archunit.lang.ArchRule;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.InfluxDBProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.TempoProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.condition.NoTelemetryBackendConfiguredCondition;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.condition.TempoConfiguredCondition;
 
 @AnalyzeClasses(
@@ -39,7 +40,7 @@ class TechnicalStructureUnitTest {
     .whereLayer("Service").mayOnlyBeAccessedByLayers("Config", "Kafka")
 
     .ignoreDependency(belongToAnyOf(Main.class), alwaysTrue())
-    .ignoreDependency(alwaysTrue(), belongToAnyOf(InfluxDBProperties.class, TempoProperties.class, TempoConfiguredCondition.class, OpenApiCoverageStreamProperties.class))
+    .ignoreDependency(alwaysTrue(), belongToAnyOf(InfluxDBProperties.class, TempoProperties.class, TempoConfiguredCondition.class, NoTelemetryBackendConfiguredCondition.class, OpenApiCoverageStreamProperties.class))
     .ignoreDependency(simpleNameEndingWith("__BeanFactoryRegistrations"), alwaysTrue())
     .ignoreDependency(alwaysTrue(), simpleNameEndingWith("__BeanDefinitions"));
 }
@@ -7,11 +7,16 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PRIVATE;
 
 import io.github.bbortt.snow.white.commons.event.QualityGateCalculationRequestEvent;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.quality.gate.ApiType;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import java.util.List;
+import java.util.Map;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = PRIVATE)
@@ -51,4 +56,17 @@ public final class TestData {
       .lookbackWindow(LOOKBACK_WINDOW)
       .build();
   }
+
+  public static Map<String, OperationTelemetry> summarize(
+    Map<String, List<OpenTelemetryData>> pathToTelemetryMap
+  ) {
+    return pathToTelemetryMap
+      .entrySet()
+      .stream()
+      .collect(
+        toMap(Map.Entry::getKey, entry ->
+          OperationTelemetry.summarize(entry.getValue())
+        )
+      );
+  }
 }
@@ -20,6 +20,7 @@ import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -37,12 +38,15 @@ import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageCalculationService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -62,8 +66,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.databind.node.JsonNodeFactory;
-import tools.jackson.databind.node.ObjectNode;
 
 @ExtendWith({ MockitoExtension.class })
 class OpenApiCoverageCalculationProcessorUnitTest {
@@ -75,6 +77,9 @@ class OpenApiCoverageCalculationProcessorUnitTest {
 
   private final Properties snowWhiteKafkaProperties = new Properties();
 
+  private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties =
+    new OpenApiCoverageStreamProperties();
+
   private final OpenTelemetry openTelemetry = OpenTelemetry.propagating(
     ContextPropagators.create(W3CTraceContextPropagator.getInstance())
   );
@@ -86,18 +91,16 @@ class OpenApiCoverageCalculationProcessorUnitTest {
 
   @BeforeEach
   void beforeEachSetup() {
-    var openApiCoverageServiceProperties =
-      new OpenApiCoverageStreamProperties();
-    openApiCoverageServiceProperties.setCalculationRequestTopic(
+    openApiCoverageStreamProperties.setCalculationRequestTopic(
       requestTopicName
     );
-    openApiCoverageServiceProperties.setOpenapiCalculationResponseTopic(
+    openApiCoverageStreamProperties.setOpenapiCalculationResponseTopic(
       responseTopicName
     );
 
     fixture = new OpenApiCoverageCalculationProcessor(
       openTelemetry,
-      openApiCoverageServiceProperties,
+      openApiCoverageStreamProperties,
       openApiCoverageCalculationServiceMock
     );
   }
@@ -127,11 +130,7 @@ class OpenApiCoverageCalculationProcessorUnitTest {
       var enrichedContext = mock(OpenApiTestContext.class);
       doReturn(
         Set.of(
-          new OpenTelemetryData(
-            "spanId",
-            "traceId",
-            new ObjectNode(mock(JsonNodeFactory.class))
-          )
+          new OpenTelemetryData("spanId", "traceId", SpanAttributes.EMPTY)
         )
       )
         .when(enrichedContext)
@@ -188,6 +187,172 @@ class OpenApiCoverageCalculationProcessorUnitTest {
       );
     }
 
+    @Test
+    void shouldAccumulateTelemetryInStateStore_whenIncrementalCalculationIsEnabled()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      openApiCoverageStreamProperties.getIncremental().setEnabled(true);
+
+      var calculationId = "0b6f2f0e-3c1d-4f5e-9a7b-2d8c4e6f1a3b";
+      var requestEvent = qualityGateCalculationRequestEvent();
+
+      var enrichedContext = mock(OpenApiTestContext.class);
+      doReturn(
+        Map.of(
+          "GET_/pets",
+          new OperationTelemetry(
+            1,
+            Set.of("200"),
+            emptySet(),
+            emptySet(),
+            emptySet()
+          )
+        )
+      )
+        .when(enrichedContext)
+        .operationTelemetry();
+
+      var calculatedContext = mock(OpenApiTestContext.class);
+
+      var responseEvent = new OpenApiCoverageResponseEvent(
+        API_INFORMATION,
+        emptySet()
+      );
+
+      var openApiTestContext = mock(OpenApiTestContext.class);
+      doReturn(openApiTestContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .fetchOpenApiSpecification(calculationId, requestEvent);
+      doReturn(enrichedContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .enrichWithOperationTelemetry(
+          eq(openApiTestContext),
+          anyLong(),
+          notNull()
+        );
+      doReturn(calculatedContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .calculateCoverage(enrichedContext);
+      doReturn(responseEvent)
+        .when(openApiCoverageCalculationServiceMock)
+        .buildResponseEvent(calculatedContext);
+
+      sendEventsAndAssert(calculationId, requestEvent, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).containsExactly(
+          responseEvent
+        )
+      );
+
+      verify(openApiCoverageCalculationServiceMock).enrichWithOperationTelemetry(
+        eq(openApiTestContext),
+        anyLong(),
+        notNull()
+      );
+      verify(
+        openApiCoverageCalculationServiceMock,
+        never()
+      ).enrichWithOpenTelemetryData(any(OpenApiTestContext.class), anyLong());
+    }
+
+    @Test
+    void shouldServeCalculationFromSpanStream_whenSpanTopicIsConfigured()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      openApiCoverageStreamProperties
+        .getSpanStream()
+        .setSpanTopic("snow-white-otel-events-filtered");
+
+      var calculationId = "7c3e9a51-2f84-4b6d-a0e1-5d9f8b2c4e17";
+      var requestEvent = qualityGateCalculationRequestEvent();
+
+      var enrichedContext = mock(OpenApiTestContext.class);
+      doReturn(Map.of("GET_/pets", OperationTelemetry.EMPTY))
+        .when(enrichedContext)
+        .operationTelemetry();
+
+      var calculatedContext = mock(OpenApiTestContext.class);
+
+      var responseEvent = new OpenApiCoverageResponseEvent(
+        API_INFORMATION,
+        emptySet()
+      );
+
+      var openApiTestContext = mock(OpenApiTestContext.class);
+      doReturn(emptySet()).when(openApiTestContext).attributeFilters();
+      doReturn(openApiTestContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .fetchOpenApiSpecification(calculationId, requestEvent);
+      doReturn(enrichedContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .enrichWithStreamedTelemetry(eq(openApiTestContext), anyLong());
+      doReturn(calculatedContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .calculateCoverage(enrichedContext);
+      doReturn(responseEvent)
+        .when(openApiCoverageCalculationServiceMock)
+        .buildResponseEvent(calculatedContext);
+
+      sendEventsAndAssert(calculationId, requestEvent, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).containsExactly(
+          responseEvent
+        )
+      );
+
+      verify(
+        openApiCoverageCalculationServiceMock,
+        never()
+      ).enrichWithOpenTelemetryData(any(OpenApiTestContext.class), anyLong());
+    }
+
+    @Test
+    void shouldQueryTelemetryBackend_whenSpanTopicIsConfiguredButAttributeFiltersArePresent()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      openApiCoverageStreamProperties
+        .getSpanStream()
+        .setSpanTopic("snow-white-otel-events-filtered");
+
+      var calculationId = "e4a1c8f2-9b3d-4e67-8f05-2c7d1a6b9e34";
+      var requestEvent = qualityGateCalculationRequestEvent();
+
+      var enrichedContext = mock(OpenApiTestContext.class);
+      doReturn(Map.of("GET_/pets", OperationTelemetry.EMPTY))
+        .when(enrichedContext)
+        .operationTelemetry();
+
+      var calculatedContext = mock(OpenApiTestContext.class);
+
+      var responseEvent = new OpenApiCoverageResponseEvent(
+        API_INFORMATION,
+        emptySet()
+      );
+
+      var openApiTestContext = mock(OpenApiTestContext.class);
+      doReturn(Set.of(new AttributeFilter("foo", STRING_EQUALS, "bar")))
+        .when(openApiTestContext)
+        .attributeFilters();
+      doReturn(openApiTestContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .fetchOpenApiSpecification(calculationId, requestEvent);
+      doReturn(enrichedContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .enrichWithOpenTelemetryData(eq(openApiTestContext), anyLong());
+      doReturn(calculatedContext)
+        .when(openApiCoverageCalculationServiceMock)
+        .calculateCoverage(enrichedContext);
+      doReturn(responseEvent)
+        .when(openApiCoverageCalculationServiceMock)
+        .buildResponseEvent(calculatedContext);
+
+      sendEventsAndAssert(calculationId, requestEvent, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).containsExactly(
+          responseEvent
+        )
+      );
+
+      verify(
+        openApiCoverageCalculationServiceMock,
+        never()
+      ).enrichWithStreamedTelemetry(any(OpenApiTestContext.class), anyLong());
+    }
+
     @Test
     void shouldReportBackCoverageRequestsWithInvalidFilterCriteria()
       throws OpenApiNotIndexedException, UnparseableOpenApiException {
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.stream;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.stream.SpanCoverageStream.SKIPPED_RECORDS_METER_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService.SPAN_COVERAGE_STORE_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService.bucketKey;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.api.kafka.serialization.CoverageStateSerdes;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({ MockitoExtension.class })
+class SpanCoverageStreamUnitTest {
+
+  private static final String API_KEY = "serviceName\napiName\napiVersion";
+  private static final String OPERATION_KEY = "GET_/pets";
+
+  private final String spanTopicName = getClass().getSimpleName() + ":spans";
+  private final String aggregateTopicName =
+    getClass().getSimpleName() + ":aggregates";
+
+  private final OpenApiCoverageStreamProperties openApiCoverageStreamProperties =
+    new OpenApiCoverageStreamProperties();
+
+  @Mock
+  private SpanCoverageService spanCoverageServiceMock;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private SpanCoverageStream fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    openApiCoverageStreamProperties
+      .getSpanStream()
+      .setSpanTopic(spanTopicName);
+    openApiCoverageStreamProperties
+      .getSpanStream()
+      .setAggregateTopic(aggregateTopicName);
+
+    meterRegistry = new SimpleMeterRegistry();
+
+    fixture = new SpanCoverageStream(
+      openApiCoverageStreamProperties,
+      spanCoverageServiceMock,
+      meterRegistry
+    );
+  }
+
+  @Nested
+  class SpanCoverageStreamTest {
+
+    @Test
+    void shouldAggregateSpansInWindowsAndPublishAggregates() {
+      var firstRequest = "first".getBytes(UTF_8);
+      var secondRequest = "second".getBytes(UTF_8);
+
+      doReturn(Map.of(API_KEY, Map.of(OPERATION_KEY, telemetry(1, "200"))))
+        .when(spanCoverageServiceMock)
+        .summarizeSpans(firstRequest);
+      doReturn(Map.of(API_KEY, Map.of(OPERATION_KEY, telemetry(2, "404"))))
+        .when(spanCoverageServiceMock)
+        .summarizeSpans(secondRequest);
+
+      var streamsBuilder = new StreamsBuilder();
+      fixture.spanCoverageStream(streamsBuilder);
+
+      try (
+        var topologyTestDriver = new TopologyTestDriver(
+          streamsBuilder.build(),
+          new Properties()
+        )
+      ) {
+        var inputTopic = topologyTestDriver.createInputTopic(
+          spanTopicName,
+          new StringSerializer(),
+          new ByteArraySerializer()
+        );
+        var outputTopic = topologyTestDriver.createOutputTopic(
+          aggregateTopicName,
+          new StringDeserializer(),
+          CoverageStateSerdes.CoverageStateBucket().deserializer()
+        );
+
+        var windowStart = Instant.parse("2026-01-01T10:00:00Z");
+        inputTopic.pipeInput(null, firstRequest, windowStart.plusSeconds(10));
+        inputTopic.pipeInput(null, secondRequest, windowStart.plusSeconds(20));
+
+        var aggregates = outputTopic.readKeyValuesToMap();
+        var expectedKey = bucketKey(API_KEY, windowStart.toEpochMilli());
+
+        assertThat(aggregates)
+          .containsOnlyKeys(expectedKey)
+          .hasEntrySatisfying(expectedKey, bucket -> {
+            assertThat(bucket.watermark()).isEqualTo(
+              windowStart.plusSeconds(60).toEpochMilli()
+            );
+            assertThat(bucket.operationTelemetry().get(OPERATION_KEY))
+              .extracting(OperationTelemetry::observationCount)
+              .isEqualTo(3);
+          });
+
+        KeyValueStore<String, CoverageState.Bucket> spanCoverageStore =
+          topologyTestDriver.getKeyValueStore(SPAN_COVERAGE_STORE_NAME);
+        assertThat(spanCoverageStore.get(expectedKey)).isNotNull();
+      }
+    }
+
+    @Test
+    void shouldSkipAndCountRecords_whenSummarizingFails() {
+      var unparseableRequest = "not json".getBytes(UTF_8);
+      var validRequest = "valid".getBytes(UTF_8);
+
+      doThrow(new IllegalArgumentException("Unexpected character"))
+        .when(spanCoverageServiceMock)
+        .summarizeSpans(unparseableRequest);
+      doReturn(Map.of(API_KEY, Map.of(OPERATION_KEY, telemetry(1, "200"))))
+        .when(spanCoverageServiceMock)
+        .summarizeSpans(validRequest);
+
+      var streamsBuilder = new StreamsBuilder();
+      fixture.spanCoverageStream(streamsBuilder);
+
+      try (
+        var topologyTestDriver = new TopologyTestDriver(
+          streamsBuilder.build(),
+          new Properties()
+        )
+      ) {
+        var inputTopic = topologyTestDriver.createInputTopic(
+          spanTopicName,
+          new StringSerializer(),
+          new ByteArraySerializer()
+        );
+        var outputTopic = topologyTestDriver.createOutputTopic(
+          aggregateTopicName,
+          new StringDeserializer(),
+          CoverageStateSerdes.CoverageStateBucket().deserializer()
+        );
+
+        var windowStart = Instant.parse("2026-01-01T10:00:00Z");
+        inputTopic.pipeInput(
+          null,
+          unparseableRequest,
+          windowStart.plusSeconds(10)
+        );
+        inputTopic.pipeInput(null, validRequest, windowStart.plusSeconds(20));
+
+        assertThat(outputTopic.readKeyValuesToMap()).containsOnlyKeys(
+          bucketKey(API_KEY, windowStart.toEpochMilli())
+        );
+      }
+
+      assertThat(
+        meterRegistry.counter(SKIPPED_RECORDS_METER_NAME).count()
+      ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishTombstones_forAggregatesBeyondRetention() {
+      var request = "request".getBytes(UTF_8);
+
+      doReturn(Map.of(API_KEY, Map.of(OPERATION_KEY, telemetry(1, "200"))))
+        .when(spanCoverageServiceMock)
+        .summarizeSpans(request);
+
+      var streamsBuilder = new StreamsBuilder();
+      fixture.spanCoverageStream(streamsBuilder);
+
+      var windowStart = Instant.parse("2026-01-01T10:00:00Z");
+
+      try (
+        var topologyTestDriver = new TopologyTestDriver(
+          streamsBuilder.build(),
+          new Properties(),
+          windowStart
+        )
+      ) {
+        var inputTopic = topologyTestDriver.createInputTopic(
+          spanTopicName,
+          new StringSerializer(),
+          new ByteArraySerializer()
+        );
+        var outputTopic = topologyTestDriver.createOutputTopic(
+          aggregateTopicName,
+          new StringDeserializer(),
+          CoverageStateSerdes.CoverageStateBucket().deserializer()
+        );
+
+        inputTopic.pipeInput(null, request, windowStart.plusSeconds(10));
+
+        var expectedKey = bucketKey(API_KEY, windowStart.toEpochMilli());
+        assertThat(outputTopic.readKeyValue().value).isNotNull();
+
+        KeyValueStore<String, CoverageState.Bucket> spanCoverageStore =
+          topologyTestDriver.getKeyValueStore(SPAN_COVERAGE_STORE_NAME);
+        assertThat(spanCoverageStore.get(expectedKey)).isNotNull();
+
+        topologyTestDriver.advanceWallClockTime(Duration.ofDays(9));
+
+        var tombstone = outputTopic.readKeyValue();
+        assertThat(tombstone.key).isEqualTo(expectedKey);
+        assertThat(tombstone.value).isNull();
+        assertThat(spanCoverageStore.get(expectedKey)).isNull();
+      }
+    }
+  }
+
+  private static OperationTelemetry telemetry(
+    int observationCount,
+    String statusCode
+  ) {
+    return new OperationTelemetry(
+      observationCount,
+      Set.of(statusCode),
+      emptySet(),
+      emptySet(),
+      emptySet()
+    );
+  }
+}
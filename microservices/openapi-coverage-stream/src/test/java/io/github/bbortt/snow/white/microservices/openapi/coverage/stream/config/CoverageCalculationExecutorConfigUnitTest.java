@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.CoverageCalculationExecutorConfig.EXECUTOR_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CoverageCalculationExecutorConfigUnitTest {
+
+  private CoverageCalculationExecutorConfig fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new CoverageCalculationExecutorConfig();
+  }
+
+  @Nested
+  class CoverageCalculationExecutorTest {
+
+    @Test
+    void shouldReturnMonitoredExecutor() throws Exception {
+      var openApiCoverageStreamProperties =
+        new OpenApiCoverageStreamProperties();
+      openApiCoverageStreamProperties.getCalculation().setParallelism(1);
+      var meterRegistry = new SimpleMeterRegistry();
+
+      try (
+        var executor = fixture.coverageCalculationExecutor(
+          openApiCoverageStreamProperties,
+          meterRegistry
+        )
+      ) {
+        assertThat(
+          executor.submit(() -> Thread.currentThread().getName()).get()
+        ).startsWith("coverage-calculation-");
+      }
+
+      assertThat(
+        meterRegistry
+          .find("executor.pool.size")
+          .tag("name", EXECUTOR_NAME)
+          .meters()
+      ).isNotEmpty();
+    }
+  }
+}
@@ -119,6 +119,40 @@ class OpenApiCoverageStreamPropertiesValidatorUnitTest {
     }
   }
 
+  @Nested
+  class SpanStreamPropertiesTest {
+
+    @BeforeEach
+    void beforeEachSetup() {
+      fixture.getApiIndex().setBaseUrl("baseUrl");
+      fixture.setCalculationRequestTopic("calculationRequestTopic");
+      fixture.setOpenapiCalculationResponseTopic(
+        "openapiCalculationResponseTopic"
+      );
+      fixture.getSpanStream().setSpanTopic("spanTopic");
+    }
+
+    @Test
+    void shouldPass_whenAggregateTopicIsSet() {
+      fixture.getSpanStream().setAggregateTopic("aggregateTopic");
+
+      assertThatNoException().isThrownBy(() ->
+        new OpenApiCoverageStreamPropertiesValidator(fixture)
+      );
+    }
+
+    @Test
+    void shouldThrowException_whenAggregateTopicIsMissing() {
+      assertThatThrownBy(() ->
+        new OpenApiCoverageStreamPropertiesValidator(fixture)
+      )
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+          "All properties must be configured - missing: [snow.white.openapi.coverage.stream.span-stream.aggregate-topic]."
+        );
+    }
+  }
+
   @Nested
   class FilteringPropertiesTest {
 
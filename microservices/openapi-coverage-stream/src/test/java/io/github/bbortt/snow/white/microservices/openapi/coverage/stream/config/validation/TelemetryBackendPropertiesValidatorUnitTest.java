@@ -10,6 +10,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.InfluxDBProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.TempoProperties;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +22,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 class TelemetryBackendPropertiesValidatorUnitTest {
 
   private static final String NOT_CONFIGURED_MESSAGE =
-    "No telemetry backend configured! Configure either InfluxDB or Grafana Tempo. Please read the docs.";
+    "No telemetry backend configured! Configure either InfluxDB or Grafana Tempo, or a span stream. Please read the docs.";
 
   private static final String AMBIGUOUS_MESSAGE =
     "Multiple telemetry backends configured! Configure either InfluxDB or Grafana Tempo, not both. Please read the docs.";
@@ -34,18 +35,21 @@ class TelemetryBackendPropertiesValidatorUnitTest {
 
   private InfluxDBProperties influxDBProperties;
   private TempoProperties tempoProperties;
+  private OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
 
   @BeforeEach
   void beforeEachSetup() {
     influxDBProperties = new InfluxDBProperties();
     tempoProperties = new TempoProperties();
+    openApiCoverageStreamProperties = new OpenApiCoverageStreamProperties();
   }
 
   private void assertThatValidatorThrows(String message) {
     assertThatThrownBy(() ->
       new TelemetryBackendPropertiesValidator(
         influxDBProperties,
-        tempoProperties
+        tempoProperties,
+        openApiCoverageStreamProperties
       )
     )
       .isInstanceOf(IllegalArgumentException.class)
@@ -56,7 +60,8 @@ class TelemetryBackendPropertiesValidatorUnitTest {
     assertThatCode(() ->
       new TelemetryBackendPropertiesValidator(
         influxDBProperties,
-        tempoProperties
+        tempoProperties,
+        openApiCoverageStreamProperties
       )
     ).doesNotThrowAnyException();
   }
@@ -86,6 +91,15 @@ class TelemetryBackendPropertiesValidatorUnitTest {
     void shouldThrow_whenNothingConfigured() {
       assertThatValidatorThrows(NOT_CONFIGURED_MESSAGE);
     }
+
+    @Test
+    void shouldNotThrow_whenSpanStreamConfigured() {
+      openApiCoverageStreamProperties
+        .getSpanStream()
+        .setSpanTopic("snow-white-otel-events-filtered");
+
+      assertThatValidatorDoesNotThrow();
+    }
   }
 
   @Nested
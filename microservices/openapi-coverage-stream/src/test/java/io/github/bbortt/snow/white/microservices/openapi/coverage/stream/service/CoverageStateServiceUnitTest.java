@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import static io.github.bbortt.snow.white.commons.event.dto.AttributeFilterOperator.STRING_EQUALS;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.defaultApiInformation;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentCaptor.captor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.ParsedOpenApi;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({ MockitoExtension.class })
+class CoverageStateServiceUnitTest {
+
+  private static final String OPERATION_KEY = "GET_/pets";
+
+  private static final long ONE_HOUR_MILLIS = 3_600_000L;
+
+  @Mock
+  private OpenTelemetryService openTelemetryServiceMock;
+
+  @Mock
+  private OpenApiCoverageService openApiCoverageServiceMock;
+
+  @Mock
+  private KeyValueStore<String, CoverageState> coverageStateStoreMock;
+
+  private final Set<OpenTelemetryData> telemetryData = Set.of(
+    mock(OpenTelemetryData.class)
+  );
+
+  private final ApiInformation apiInformation = defaultApiInformation();
+
+  private final ParsedOpenApi parsedOpenApi = ParsedOpenApi.of(
+    new OpenAPI().paths(
+      new Paths().addPathItem("/pets", new PathItem().get(new Operation()))
+    )
+  );
+
+  private CoverageStateService fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new CoverageStateService(
+      openTelemetryServiceMock,
+      openApiCoverageServiceMock,
+      new OpenApiCoverageStreamProperties()
+    );
+  }
+
+  @Nested
+  class SummarizeTelemetryTest {
+
+    @Test
+    void shouldQueryEachBucketOnce_andOnlyNewTelemetryAfterwards() {
+      var openApiTestContext = openApiTestContext("2h", emptySet());
+      stubTelemetry();
+
+      var timestamp = epochMillis("2026-01-01T10:30:00Z");
+
+      var firstResult = fixture.summarizeTelemetry(
+        openApiTestContext,
+        timestamp,
+        coverageStateStoreMock
+      );
+
+      // Head of the window, full bucket, settled part of the current bucket and unsettled tail
+      assertThat(firstResult.get(OPERATION_KEY).observationCount()).isEqualTo(
+        4
+      );
+      verifyQueried("2026-01-01T09:00:00Z", "1800000ms");
+      verifyQueried("2026-01-01T10:00:00Z", "3600000ms");
+      verifyQueried("2026-01-01T10:25:00Z", "1500000ms");
+      verifyQueried("2026-01-01T10:30:00Z", "300000ms");
+
+      ArgumentCaptor<String> stateKeyCaptor = captor();
+      ArgumentCaptor<CoverageState> coverageStateCaptor = captor();
+      verify(coverageStateStoreMock).put(
+        stateKeyCaptor.capture(),
+        coverageStateCaptor.capture()
+      );
+
+      var coverageState = coverageStateCaptor.getValue();
+      assertThat(coverageState.buckets())
+        .containsOnlyKeys(
+          epochMillis("2026-01-01T09:00:00Z"),
+          epochMillis("2026-01-01T10:00:00Z")
+        )
+        .hasEntrySatisfying(epochMillis("2026-01-01T10:00:00Z"), bucket ->
+          assertThat(bucket.watermark()).isEqualTo(
+            epochMillis("2026-01-01T10:25:00Z")
+          )
+        );
+
+      doReturn(coverageState)
+        .when(coverageStateStoreMock)
+        .get(stateKeyCaptor.getValue());
+
+      var secondResult = fixture.summarizeTelemetry(
+        openApiTestContext,
+        timestamp + 600_000,
+        coverageStateStoreMock
+      );
+
+      // The current bucket summarizes both of its queries
+      assertThat(secondResult.get(OPERATION_KEY).observationCount()).isEqualTo(
+        5
+      );
+      verifyQueried("2026-01-01T09:00:00Z", "1200000ms");
+      verifyQueried("2026-01-01T10:35:00Z", "600000ms");
+      verifyQueried("2026-01-01T10:40:00Z", "300000ms");
+      verifyNoMoreInteractions(openTelemetryServiceMock);
+    }
+
+    @Test
+    void shouldEvictBucketsBeyondRetention() {
+      var openApiTestContext = openApiTestContext("1h", emptySet());
+      stubTelemetry();
+
+      fixture.summarizeTelemetry(
+        openApiTestContext,
+        epochMillis("2026-01-01T11:00:00Z"),
+        coverageStateStoreMock
+      );
+
+      ArgumentCaptor<CoverageState> coverageStateCaptor = captor();
+      verify(coverageStateStoreMock).put(
+        anyString(),
+        coverageStateCaptor.capture()
+      );
+      assertThat(coverageStateCaptor.getValue().buckets()).containsOnlyKeys(
+        epochMillis("2026-01-01T10:00:00Z")
+      );
+
+      doReturn(coverageStateCaptor.getValue())
+        .when(coverageStateStoreMock)
+        .get(anyString());
+
+      fixture.summarizeTelemetry(
+        openApiTestContext,
+        epochMillis("2026-01-10T10:00:00Z"),
+        coverageStateStoreMock
+      );
+
+      verify(coverageStateStoreMock, times(2)).put(
+        anyString(),
+        coverageStateCaptor.capture()
+      );
+      assertThat(coverageStateCaptor.getValue().buckets()).containsOnlyKeys(
+        epochMillis("2026-01-10T09:00:00Z")
+      );
+    }
+
+    @Test
+    void shouldDiscardState_whenSpecificationChanged() {
+      var openApiTestContext = openApiTestContext("1h", emptySet());
+      stubTelemetry();
+
+      var timestamp = epochMillis("2026-01-01T11:00:00Z");
+      var bucketStart = epochMillis("2026-01-01T10:00:00Z");
+
+      doReturn(
+        new CoverageState(
+          "outdated",
+          Map.of(
+            bucketStart,
+            new CoverageState.Bucket(
+              bucketStart + ONE_HOUR_MILLIS,
+              Map.of("GET_/removed", OperationTelemetry.EMPTY)
+            )
+          )
+        )
+      )
+        .when(coverageStateStoreMock)
+        .get(anyString());
+
+      var result = fixture.summarizeTelemetry(
+        openApiTestContext,
+        timestamp,
+        coverageStateStoreMock
+      );
+
+      assertThat(result).containsOnlyKeys(OPERATION_KEY);
+      verifyQueried("2026-01-01T10:55:00Z", "3300000ms");
+
+      ArgumentCaptor<CoverageState> coverageStateCaptor = captor();
+      verify(coverageStateStoreMock).put(
+        anyString(),
+        coverageStateCaptor.capture()
+      );
+      assertThat(coverageStateCaptor.getValue().fingerprint())
+        .isNotNull()
+        .isNotEqualTo("outdated");
+      assertThat(
+        coverageStateCaptor
+          .getValue()
+          .buckets()
+          .get(bucketStart)
+          .operationTelemetry()
+      ).containsOnlyKeys(OPERATION_KEY);
+    }
+
+    @Test
+    void shouldKeepStateKey_whenSpecificationChanged() {
+      stubTelemetry();
+
+      var timestamp = epochMillis("2026-01-01T10:00:00Z");
+
+      fixture.summarizeTelemetry(
+        openApiTestContext("1h", emptySet()),
+        timestamp,
+        coverageStateStoreMock
+      );
+
+      var changedOpenApi = ParsedOpenApi.of(
+        new OpenAPI().paths(
+          new Paths().addPathItem(
+            "/owners",
+            new PathItem().get(new Operation())
+          )
+        )
+      );
+      doReturn(Map.of())
+        .when(openApiCoverageServiceMock)
+        .summarizeByOperationKey(telemetryData, changedOpenApi.pathIndex());
+
+      fixture.summarizeTelemetry(
+        new OpenApiTestContext(
+          apiInformation,
+          changedOpenApi,
+          "1h",
+          emptySet()
+        ),
+        timestamp,
+        coverageStateStoreMock
+      );
+
+      ArgumentCaptor<String> stateKeyCaptor = captor();
+      verify(coverageStateStoreMock, times(2)).put(
+        stateKeyCaptor.capture(),
+        any()
+      );
+      assertThat(stateKeyCaptor.getAllValues()).containsOnly(
+        stateKeyCaptor.getValue()
+      );
+    }
+
+    @Test
+    void shouldKeepSeparateStatePerAttributeFilters() {
+      var unfilteredContext = openApiTestContext("1h", emptySet());
+      var filteredContext = openApiTestContext(
+        "1h",
+        Set.of(
+          new AttributeFilter("deployment.environment", STRING_EQUALS, "prod")
+        )
+      );
+      stubTelemetry();
+
+      var timestamp = epochMillis("2026-01-01T10:00:00Z");
+
+      fixture.summarizeTelemetry(
+        unfilteredContext,
+        timestamp,
+        coverageStateStoreMock
+      );
+      fixture.summarizeTelemetry(
+        filteredContext,
+        timestamp,
+        coverageStateStoreMock
+      );
+
+      ArgumentCaptor<String> stateKeyCaptor = captor();
+      verify(coverageStateStoreMock, times(2)).put(
+        stateKeyCaptor.capture(),
+        any()
+      );
+      assertThat(stateKeyCaptor.getAllValues()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldNotQueryEmptyRanges_whenSettleDelayCoversLookbackWindow() {
+      var openApiTestContext = openApiTestContext("5m", emptySet());
+      stubTelemetry();
+
+      var result = fixture.summarizeTelemetry(
+        openApiTestContext,
+        epochMillis("2026-01-01T10:02:00Z"),
+        coverageStateStoreMock
+      );
+
+      assertThat(result.get(OPERATION_KEY).observationCount()).isEqualTo(1);
+      verifyQueried("2026-01-01T10:02:00Z", "300000ms");
+      verifyNoMoreInteractions(openTelemetryServiceMock);
+    }
+
+    @Test
+    void shouldQueryWholeWindow_whenLookbackWindowCannotBeSplit() {
+      var openApiTestContext = openApiTestContext("1h30m", emptySet());
+      stubTelemetry();
+
+      var timestamp = epochMillis("2026-01-01T10:00:00Z");
+
+      var result = fixture.summarizeTelemetry(
+        openApiTestContext,
+        timestamp,
+        coverageStateStoreMock
+      );
+
+      assertThat(result.get(OPERATION_KEY).observationCount()).isEqualTo(1);
+      verify(openTelemetryServiceMock).findOpenTelemetryTracingData(
+        apiInformation,
+        timestamp,
+        "1h30m",
+        emptySet()
+      );
+      verifyNoInteractions(coverageStateStoreMock);
+    }
+  }
+
+  private OpenApiTestContext openApiTestContext(
+    String lookbackWindow,
+    Set<AttributeFilter> attributeFilters
+  ) {
+    return new OpenApiTestContext(
+      apiInformation,
+      parsedOpenApi,
+      lookbackWindow,
+      attributeFilters
+    );
+  }
+
+  private void stubTelemetry() {
+    doReturn(telemetryData)
+      .when(openTelemetryServiceMock)
+      .findOpenTelemetryTracingData(
+        eq(apiInformation),
+        anyLong(),
+        anyString(),
+        any()
+      );
+    doReturn(
+      Map.of(
+        OPERATION_KEY,
+        new OperationTelemetry(
+          1,
+          Set.of("200"),
+          emptySet(),
+          emptySet(),
+          emptySet()
+        )
+      )
+    )
+      .when(openApiCoverageServiceMock)
+      .summarizeByOperationKey(telemetryData, parsedOpenApi.pathIndex());
+  }
+
+  private void verifyQueried(String rangeEnd, String lookbackWindow) {
+    verify(openTelemetryServiceMock).findOpenTelemetryTracingData(
+      apiInformation,
+      epochMillis(rangeEnd),
+      lookbackWindow,
+      emptySet()
+    );
+  }
+
+  private static long epochMillis(String instant) {
+    return Instant.parse(instant).toEpochMilli();
+  }
+}
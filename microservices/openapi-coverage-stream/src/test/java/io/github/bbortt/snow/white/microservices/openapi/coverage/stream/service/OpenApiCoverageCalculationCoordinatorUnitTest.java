@@ -7,15 +7,28 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PATH_COVERAGE;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageCalculationCoordinator.CALCULATOR_DURATION_METER_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageCalculationCoordinator.CALCULATOR_TIMEOUTS_METER_NAME;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.CoverageCalculationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.swagger.v3.oas.models.Operation;
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -23,6 +36,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,18 +53,45 @@ class OpenApiCoverageCalculationCoordinatorUnitTest {
   @Mock
   private OpenApiCoverageCalculator openApiCoverageCalculatorMock;
 
+  private ExecutorService coverageCalculationExecutor;
+  private OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    coverageCalculationExecutor = newFixedThreadPool(2);
+    openApiCoverageStreamProperties = new OpenApiCoverageStreamProperties();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void afterEachTeardown() {
+    coverageCalculationExecutor.shutdownNow();
+  }
+
+  private OpenApiCoverageCalculationCoordinator fixture(
+    List<OpenApiCoverageCalculator> openApiCoverageCalculators
+  ) {
+    return new OpenApiCoverageCalculationCoordinator(
+      openApiCoverageCalculators,
+      coverageCalculationExecutor,
+      openApiCoverageStreamProperties,
+      meterRegistry
+    );
+  }
+
   @Nested
   class CalculateTest {
 
     private final Map<String, Operation> pathToOpenAPIOperationMap =
       new HashMap<>();
-    private final Map<String, List<OpenTelemetryData>> pathToTelemetryMap =
+    private final Map<String, OperationTelemetry> pathToTelemetryMap =
       new HashMap<>();
 
     @Test
     void shouldInvokeEachOpenApiCoverageCalculator() {
       pathToOpenAPIOperationMap.put("GET_/foo", mock(Operation.class));
-      pathToTelemetryMap.put("GET_/foo", emptyList());
+      pathToTelemetryMap.put("GET_/foo", OperationTelemetry.EMPTY);
 
       var coverage = BigDecimal.ONE;
       var openApiCriteriaResult = new OpenApiTestResult(
@@ -60,26 +105,53 @@ class OpenApiCoverageCalculationCoordinatorUnitTest {
         .when(openApiCoverageCalculatorMock)
         .calculate(pathToOpenAPIOperationMap, pathToTelemetryMap);
 
-      var fixture = new OpenApiCoverageCalculationCoordinator(
-        singletonList(openApiCoverageCalculatorMock)
+      var fixture = fixture(singletonList(openApiCoverageCalculatorMock));
+      Set<OpenApiTestResult> result = fixture.calculate(
+        pathToOpenAPIOperationMap,
+        pathToTelemetryMap,
+        null
+      );
+
+      assertThat(result).containsExactly(openApiCriteriaResult);
+    }
+
+    @Test
+    void shouldOnlyInvokeCalculatorsOfRequestedCriteria() {
+      pathToOpenAPIOperationMap.put("GET_/foo", mock(Operation.class));
+      pathToTelemetryMap.put("GET_/foo", OperationTelemetry.EMPTY);
+
+      var openApiCriteriaResult = mock(OpenApiTestResult.class);
+      doReturn(true)
+        .when(openApiCoverageCalculatorMock)
+        .accepts(PATH_COVERAGE);
+      doReturn(openApiCriteriaResult)
+        .when(openApiCoverageCalculatorMock)
+        .calculate(pathToOpenAPIOperationMap, pathToTelemetryMap);
+
+      var skippedCalculatorMock = mock(OpenApiCoverageCalculator.class);
+
+      var fixture = fixture(
+        List.of(openApiCoverageCalculatorMock, skippedCalculatorMock)
       );
       Set<OpenApiTestResult> result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        pathToTelemetryMap,
+        Set.of(PATH_COVERAGE)
       );
 
       assertThat(result).containsExactly(openApiCriteriaResult);
+
+      verify(skippedCalculatorMock, never()).calculate(any(), any());
     }
 
     @Test
     void shouldReturnEmptySet_withoutAnyOpenApiOperation() {
-      var fixture = new OpenApiCoverageCalculationCoordinator(
-        singletonList(openApiCoverageCalculatorMock)
-      );
+      var fixture = fixture(singletonList(openApiCoverageCalculatorMock));
 
       Set<OpenApiTestResult> result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        pathToTelemetryMap,
+        null
       );
 
       assertThat(result).isEmpty();
@@ -89,13 +161,12 @@ class OpenApiCoverageCalculationCoordinatorUnitTest {
 
     @Test
     void shouldReturnEmptySet_withoutAnyTelemetryData() {
-      var fixture = new OpenApiCoverageCalculationCoordinator(
-        singletonList(openApiCoverageCalculatorMock)
-      );
+      var fixture = fixture(singletonList(openApiCoverageCalculatorMock));
 
       Set<OpenApiTestResult> result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        pathToTelemetryMap,
+        null
       );
 
       assertThat(result).isEmpty();
@@ -105,14 +176,130 @@ class OpenApiCoverageCalculationCoordinatorUnitTest {
 
     @Test
     void shouldReturnEmptySet_withoutAnyOpenApiCoverageCalculator() {
-      var fixture = new OpenApiCoverageCalculationCoordinator(emptyList());
+      var fixture = fixture(emptyList());
 
       Set<OpenApiTestResult> result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        pathToTelemetryMap,
+        null
       );
 
       assertThat(result).isEmpty();
     }
+
+    @Test
+    void shouldRecordDurationPerCalculator() {
+      pathToOpenAPIOperationMap.put("GET_/foo", mock(Operation.class));
+      pathToTelemetryMap.put("GET_/foo", OperationTelemetry.EMPTY);
+
+      doReturn(mock(OpenApiTestResult.class))
+        .when(openApiCoverageCalculatorMock)
+        .calculate(pathToOpenAPIOperationMap, pathToTelemetryMap);
+
+      fixture(singletonList(openApiCoverageCalculatorMock)).calculate(
+        pathToOpenAPIOperationMap,
+        pathToTelemetryMap,
+        null
+      );
+
+      assertThat(
+        meterRegistry.get(CALCULATOR_DURATION_METER_NAME).timer().count()
+      ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrow_whenCalculatorFails() {
+      pathToOpenAPIOperationMap.put("GET_/foo", mock(Operation.class));
+      pathToTelemetryMap.put("GET_/foo", OperationTelemetry.EMPTY);
+
+      var cause = new IllegalStateException("boom");
+      doThrow(cause)
+        .when(openApiCoverageCalculatorMock)
+        .calculate(pathToOpenAPIOperationMap, pathToTelemetryMap);
+
+      var fixture = fixture(singletonList(openApiCoverageCalculatorMock));
+
+      assertThatThrownBy(() ->
+        fixture.calculate(pathToOpenAPIOperationMap, pathToTelemetryMap, null)
+      )
+        .isInstanceOf(CoverageCalculationException.class)
+        .hasMessageContaining("failed")
+        .hasCause(cause);
+    }
+
+    @Test
+    void shouldStartDeadline_onceCalculatorRuns() {
+      pathToOpenAPIOperationMap.put("GET_/foo", mock(Operation.class));
+      pathToTelemetryMap.put("GET_/foo", OperationTelemetry.EMPTY);
+
+      openApiCoverageStreamProperties.getCalculation().setTimeoutMillis(100L);
+
+      // Keeps both threads of the executor busy for longer than the deadline
+      var release = new CountDownLatch(1);
+      for (var i = 0; i < 2; i++) {
+        coverageCalculationExecutor.submit(() -> {
+          release.await();
+          return null;
+        });
+      }
+
+      var openApiCriteriaResult = mock(OpenApiTestResult.class);
+      doReturn(openApiCriteriaResult)
+        .when(openApiCoverageCalculatorMock)
+        .calculate(pathToOpenAPIOperationMap, pathToTelemetryMap);
+
+      var fixture = fixture(singletonList(openApiCoverageCalculatorMock));
+
+      var result = CompletableFuture.supplyAsync(() ->
+        fixture.calculate(pathToOpenAPIOperationMap, pathToTelemetryMap, null)
+      );
+
+      await()
+        .pollDelay(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> !result.isDone());
+      release.countDown();
+
+      assertThat(result)
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(Set.of(openApiCriteriaResult));
+    }
+
+    @Test
+    void shouldCancelAndThrow_whenCalculatorExceedsDeadline() {
+      pathToOpenAPIOperationMap.put("GET_/foo", mock(Operation.class));
+      pathToTelemetryMap.put("GET_/foo", OperationTelemetry.EMPTY);
+
+      openApiCoverageStreamProperties.getCalculation().setTimeoutMillis(50L);
+
+      var interrupted = new CountDownLatch(1);
+      doAnswer(invocation -> {
+        try {
+          Thread.sleep(Duration.ofMinutes(1));
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return null;
+      })
+        .when(openApiCoverageCalculatorMock)
+        .calculate(pathToOpenAPIOperationMap, pathToTelemetryMap);
+
+      var fixture = fixture(singletonList(openApiCoverageCalculatorMock));
+
+      assertThatThrownBy(() ->
+        fixture.calculate(pathToOpenAPIOperationMap, pathToTelemetryMap, null)
+      )
+        .isInstanceOf(CoverageCalculationException.class)
+        .hasMessageStartingWith(
+          "OpenAPI coverage calculation timed out after 50ms"
+        );
+
+      await()
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> interrupted.getCount() == 0);
+      assertThat(
+        meterRegistry.get(CALCULATOR_TIMEOUTS_METER_NAME).counter().count()
+      ).isEqualTo(1);
+    }
   }
 }
@@ -27,16 +27,16 @@ import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,16 +69,15 @@ class OpenApiCoverageServiceUnitTest {
     @Mock
     private OpenAPI openAPIMock;
 
-    private OpenApiTestContext openApiTestContext;
-
-    @BeforeEach
-    void beforeEachSetup() {
-      openApiTestContext = new OpenApiTestContext(
+    private OpenApiTestContext contextWithTelemetry(
+      @Nullable Set<OpenTelemetryData> openTelemetryData
+    ) {
+      return new OpenApiTestContext(
         defaultApiInformation(),
         openAPIMock,
         LOOKBACK_WINDOW,
         null
-      );
+      ).withOpenTelemetryData(openTelemetryData);
     }
 
     public static Stream<Arguments> shouldReturnCalculatedCoverage() {
@@ -104,30 +103,33 @@ class OpenApiCoverageServiceUnitTest {
       var attributes = JsonMapper.shared().readTree(
         // language=json
         """
-        {"http.request.method": "%s","url.path":"/api/rest/v1/foo" }
+        {"http.request.method": "%s","url.path":"/api/rest/v1/foo","http.response.status_code":"200" }
         """.formatted(httpMethod.name())
       );
 
-      openApiTestContext = openApiTestContext.withOpenTelemetryData(
-        Set.of(new OpenTelemetryData(spanId, traceId, attributes))
-      );
-
       var paths = new Paths();
       paths.addPathItem("/api/rest/v1/foo", pathItem);
 
       doReturn(paths).when(openAPIMock).getPaths();
 
+      var openApiTestContext = contextWithTelemetry(
+        Set.of(
+          new OpenTelemetryData(spanId, traceId, SpanAttributes.of(attributes))
+        )
+      );
+
       Set<OpenApiTestResult> openApiTestResults = emptySet();
       ArgumentCaptor<Map<String, Operation>> pathToOpenAPIOperationMapCaptor =
         captor();
       ArgumentCaptor<
-        Map<String, List<OpenTelemetryData>>
+        Map<String, OperationTelemetry>
       > pathToTelemetryMapCaptor = captor();
       doReturn(openApiTestResults)
         .when(openApiCoverageCalculationCoordinatorMock)
         .calculate(
           pathToOpenAPIOperationMapCaptor.capture(),
-          pathToTelemetryMapCaptor.capture()
+          pathToTelemetryMapCaptor.capture(),
+          any()
         );
 
       Set<OpenApiTestResult> result = fixture.calculateCoverage(
@@ -145,15 +147,53 @@ class OpenApiCoverageServiceUnitTest {
       assertThat(pathToTelemetryMapCaptor.getValue())
         .isNotNull()
         .hasEntrySatisfying(httpMethod.name() + "_/api/rest/v1/foo", v ->
-          assertThat(v)
-            .hasSize(1)
-            .first()
-            .satisfies(
-              d -> assertThat(d.spanId()).isEqualTo(spanId),
-              d -> assertThat(d.traceId()).isEqualTo(traceId),
-              d -> assertThat(d.attributes()).isEqualTo(attributes)
-            )
+          assertThat(v).satisfies(
+            t -> assertThat(t.observationCount()).isEqualTo(1),
+            t -> assertThat(t.statusCodes()).containsExactly("200")
+          )
+        );
+    }
+
+    @Test
+    void shouldCalculateCoverageFromSummarizedTelemetry() {
+      var paths = new Paths();
+      paths.addPathItem(
+        "/api/rest/v1/foo",
+        new PathItem().get(mock(Operation.class))
+      );
+      doReturn(paths).when(openAPIMock).getPaths();
+
+      var operationTelemetry = Map.of(
+        "GET_/api/rest/v1/foo",
+        new OperationTelemetry(
+          1,
+          Set.of("200"),
+          emptySet(),
+          emptySet(),
+          emptySet()
+        )
+      );
+      var openApiTestContext = new OpenApiTestContext(
+        defaultApiInformation(),
+        openAPIMock,
+        LOOKBACK_WINDOW,
+        null
+      ).withOperationTelemetry(operationTelemetry);
+
+      Set<OpenApiTestResult> openApiTestResults = emptySet();
+      doReturn(openApiTestResults)
+        .when(openApiCoverageCalculationCoordinatorMock)
+        .calculate(
+          openApiTestContext.pathIndex().operationKeyToOperation(),
+          operationTelemetry,
+          null
         );
+
+      Set<OpenApiTestResult> result = fixture.calculateCoverage(
+        openApiTestContext
+      );
+
+      assertThat(result).isEqualTo(openApiTestResults);
     }
 
     public static Stream<
@@ -167,9 +207,7 @@ class OpenApiCoverageServiceUnitTest {
     void shouldReturnEmptySet_whenNoTelemetryDataGathered(
       @Nullable Set<OpenTelemetryData> openTelemetryData
     ) {
-      openApiTestContext = openApiTestContext.withOpenTelemetryData(
-        openTelemetryData
-      );
+      var openApiTestContext = contextWithTelemetry(openTelemetryData);
 
       Set<OpenApiTestResult> result = fixture.calculateCoverage(
         openApiTestContext
@@ -177,7 +215,6 @@ class OpenApiCoverageServiceUnitTest {
 
       assertThat(result).isEmpty();
 
-      verifyNoInteractions(openAPIMock);
       verifyNoInteractions(openApiCoverageCalculationCoordinatorMock);
     }
   }
@@ -190,16 +227,15 @@ class OpenApiCoverageServiceUnitTest {
     @Mock
     private OpenAPI openAPIMock;
 
-    private OpenApiTestContext openApiTestContext;
-
-    @BeforeEach
-    void beforeEachSetup() {
-      openApiTestContext = new OpenApiTestContext(
+    private OpenApiTestContext contextWithTelemetry(
+      @Nullable Set<OpenTelemetryData> openTelemetryData
+    ) {
+      return new OpenApiTestContext(
         defaultApiInformation(),
         openAPIMock,
         LOOKBACK_WINDOW,
         null
-      );
+      ).withOpenTelemetryData(openTelemetryData);
     }
 
     @Test
@@ -214,21 +250,27 @@ class OpenApiCoverageServiceUnitTest {
         {"openapi.operation.id":"getPung","http.request.method":"GET","url.path":"/pung/hello"}
         """
       );
-      openApiTestContext = openApiTestContext.withOpenTelemetryData(
-        Set.of(new OpenTelemetryData("spanId", "traceId", attributes))
-      );
-
       var operation = mock(Operation.class);
       doReturn("getPung").when(operation).getOperationId();
       var paths = new Paths();
       paths.addPathItem("/pung/{message}", new PathItem().get(operation));
       doReturn(paths).when(openAPIMock).getPaths();
 
-      ArgumentCaptor<Map<String, List<OpenTelemetryData>>> telemetryCaptor =
+      var openApiTestContext = contextWithTelemetry(
+        Set.of(
+          new OpenTelemetryData(
+            "spanId",
+            "traceId",
+            SpanAttributes.of(attributes)
+          )
+        )
+      );
+
+      ArgumentCaptor<Map<String, OperationTelemetry>> telemetryCaptor =
         captor();
       doReturn(emptySet())
         .when(openApiCoverageCalculationCoordinatorMock)
-        .calculate(any(), telemetryCaptor.capture());
+        .calculate(any(), telemetryCaptor.capture(), any());
 
       fixture.calculateCoverage(openApiTestContext);
 
@@ -238,32 +280,72 @@ class OpenApiCoverageServiceUnitTest {
     }
 
     @Test
-    void shouldFallbackToConcretePathKey_whenOperationIdIsNotInSpec() {
+    void shouldFallbackToTemplateKey_whenOperationIdIsNotInSpec() {
       var attributes = JsonMapper.shared().readTree(
         // language=json
         """
         {"openapi.operation.id":"unknownOp","http.request.method":"GET","url.path":"/pung/hello"}
         """
       );
-      openApiTestContext = openApiTestContext.withOpenTelemetryData(
-        Set.of(new OpenTelemetryData("spanId", "traceId", attributes))
+      var paths = new Paths();
+      paths.addPathItem("/pung/{message}", new PathItem().get(new Operation()));
+      doReturn(paths).when(openAPIMock).getPaths();
+
+      var openApiTestContext = contextWithTelemetry(
+        Set.of(
+          new OpenTelemetryData(
+            "spanId",
+            "traceId",
+            SpanAttributes.of(attributes)
+          )
+        )
       );
 
+      ArgumentCaptor<Map<String, OperationTelemetry>> telemetryCaptor =
+        captor();
+      doReturn(emptySet())
+        .when(openApiCoverageCalculationCoordinatorMock)
+        .calculate(any(), telemetryCaptor.capture(), any());
+
+      fixture.calculateCoverage(openApiTestContext);
+
+      assertThat(telemetryCaptor.getValue())
+        .containsKey("GET_/pung/{message}")
+        .doesNotContainKey("GET_/pung/hello");
+    }
+
+    @Test
+    void shouldFallbackToConcretePathKey_whenPathIsNotInSpec() {
+      var attributes = JsonMapper.shared().readTree(
+        // language=json
+        """
+        {"http.request.method":"GET","url.path":"/pung/hello/world"}
+        """
+      );
       var paths = new Paths();
       paths.addPathItem("/pung/{message}", new PathItem().get(new Operation()));
       doReturn(paths).when(openAPIMock).getPaths();
 
-      ArgumentCaptor<Map<String, List<OpenTelemetryData>>> telemetryCaptor =
+      var openApiTestContext = contextWithTelemetry(
+        Set.of(
+          new OpenTelemetryData(
+            "spanId",
+            "traceId",
+            SpanAttributes.of(attributes)
+          )
+        )
+      );
+
+      ArgumentCaptor<Map<String, OperationTelemetry>> telemetryCaptor =
         captor();
       doReturn(emptySet())
         .when(openApiCoverageCalculationCoordinatorMock)
-        .calculate(any(), telemetryCaptor.capture());
+        .calculate(any(), telemetryCaptor.capture(), any());
 
       fixture.calculateCoverage(openApiTestContext);
 
       assertThat(telemetryCaptor.getValue())
-        .containsKey("GET_/pung/hello")
-        .doesNotContainKey("GET_/pung/{message}");
+        .containsOnlyKeys("GET_/pung/hello/world");
     }
 
     @Test
@@ -274,19 +356,25 @@ class OpenApiCoverageServiceUnitTest {
         {"openapi.operation.id":"unknownOp"}
         """
       );
-      openApiTestContext = openApiTestContext.withOpenTelemetryData(
-        Set.of(new OpenTelemetryData("spanId", "traceId", attributes))
-      );
-
       var paths = new Paths();
       paths.addPathItem("/pung/{message}", new PathItem().get(new Operation()));
       doReturn(paths).when(openAPIMock).getPaths();
 
-      ArgumentCaptor<Map<String, List<OpenTelemetryData>>> telemetryCaptor =
+      var openApiTestContext = contextWithTelemetry(
+        Set.of(
+          new OpenTelemetryData(
+            "spanId",
+            "traceId",
+            SpanAttributes.of(attributes)
+          )
+        )
+      );
+
+      ArgumentCaptor<Map<String, OperationTelemetry>> telemetryCaptor =
         captor();
       doReturn(emptySet())
         .when(openApiCoverageCalculationCoordinatorMock)
-        .calculate(any(), telemetryCaptor.capture());
+        .calculate(any(), telemetryCaptor.capture(), any());
 
       fixture.calculateCoverage(openApiTestContext);
 
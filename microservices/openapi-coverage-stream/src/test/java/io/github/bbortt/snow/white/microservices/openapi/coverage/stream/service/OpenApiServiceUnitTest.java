@@ -7,31 +7,85 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
 
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.defaultApiInformation;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiService.LATEST_SOURCE_CACHE_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiService.PARSED_OPENAPI_CACHE_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
-import io.swagger.v3.oas.models.OpenAPI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith({ MockitoExtension.class })
 class OpenApiServiceUnitTest {
 
+  private static final String PETSTORE_TITLE = "Swagger Petstore - OpenAPI 3.0";
+
   @Mock
   private CachingService cachingServiceMock;
 
-  @InjectMocks
-  private OpenApiService fixture;
+  private OpenApiCoverageStreamProperties openApiCoverageStreamProperties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    openApiCoverageStreamProperties = new OpenApiCoverageStreamProperties();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private OpenApiService fixture() {
+    return new OpenApiService(
+      cachingServiceMock,
+      openApiCoverageStreamProperties,
+      meterRegistry
+    );
+  }
+
+  private String resourceUrl(String name) {
+    return requireNonNull(
+      getClass().getClassLoader().getResource("OpenApiServiceTest/" + name)
+    ).toExternalForm();
+  }
+
+  @Nested
+  class ConstructorTest {
+
+    @Test
+    void shouldMonitorCaches() {
+      fixture();
+
+      assertThat(
+        meterRegistry
+          .find("cache.gets")
+          .tag("cache", PARSED_OPENAPI_CACHE_NAME)
+          .meters()
+      ).isNotEmpty();
+      assertThat(
+        meterRegistry
+          .find("cache.gets")
+          .tag("cache", LATEST_SOURCE_CACHE_NAME)
+          .meters()
+      ).isNotEmpty();
+    }
+  }
 
   @Nested
   class FindAndParseOpenApiTest {
@@ -46,39 +100,124 @@ class OpenApiServiceUnitTest {
     @Test
     void shouldQueryAndParseOpenApi()
       throws OpenApiNotIndexedException, UnparseableOpenApiException {
-      var sourceUrl = requireNonNull(
-        getClass()
-          .getClassLoader()
-          .getResource("OpenApiServiceTest/swagger.yaml")
-      ).toExternalForm();
-
-      doReturn(sourceUrl)
+      doReturn(resourceUrl("swagger.yaml"))
         .when(cachingServiceMock)
         .fetchApiSourceUrl(apiInformation);
 
-      OpenAPI openAPI = fixture.findAndParseOpenApi(apiInformation);
+      var parsedOpenApi = fixture().findAndParseOpenApi(apiInformation);
 
-      assertThat(openAPI)
+      assertThat(parsedOpenApi.openAPI())
         .isNotNull()
         .extracting(a -> a.getInfo().getTitle())
-        .isEqualTo("Swagger Petstore - OpenAPI 3.0");
+        .isEqualTo(PETSTORE_TITLE);
+      assertThat(
+        parsedOpenApi.pathIndex().operationKeyToOperation()
+      ).containsKey("GET_/pet/{petId}");
+      assertThat(
+        parsedOpenApi.pathIndex().operationIdToOperationKey()
+      ).containsEntry("getPetById", "GET_/pet/{petId}");
     }
 
     @Test
     void shouldThrow_whenApiIsUnparseable() throws OpenApiNotIndexedException {
-      var sourceUrl = requireNonNull(
-        getClass()
-          .getClassLoader()
-          .getResource("OpenApiServiceTest/swagger-invalid.yaml")
-      ).toExternalForm();
-
-      doReturn(sourceUrl)
+      doReturn(resourceUrl("swagger-invalid.yaml"))
         .when(cachingServiceMock)
         .fetchApiSourceUrl(apiInformation);
 
+      var fixture = fixture();
+
       assertThatThrownBy(() -> fixture.findAndParseOpenApi(apiInformation))
         .isInstanceOf(UnparseableOpenApiException.class)
         .hasMessageStartingWith("Unparsable OpenAPI");
     }
+
+    @Test
+    void shouldThrow_whenSourceIsUnreadable(@TempDir Path tempDir)
+      throws OpenApiNotIndexedException {
+      doReturn(tempDir.resolve("missing.yaml").toUri().toString())
+        .when(cachingServiceMock)
+        .fetchApiSourceUrl(apiInformation);
+
+      var fixture = fixture();
+
+      assertThatThrownBy(() -> fixture.findAndParseOpenApi(apiInformation))
+        .isInstanceOf(UnparseableOpenApiException.class)
+        .hasMessageStartingWith("Unparsable OpenAPI: failed to read source")
+        .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldServeRepeatedCalculationsFromMemory()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      doReturn(resourceUrl("swagger.yaml"))
+        .when(cachingServiceMock)
+        .fetchApiSourceUrl(apiInformation);
+
+      var fixture = fixture();
+
+      var first = fixture.findAndParseOpenApi(apiInformation);
+      var second = fixture.findAndParseOpenApi(apiInformation);
+
+      assertThat(second).isSameAs(first);
+      verify(cachingServiceMock).fetchApiSourceUrl(apiInformation);
+    }
+
+    @Test
+    void shouldNotReparse_whenSourceIsUnchangedOnRevalidation()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      openApiCoverageStreamProperties
+        .getOpenapiCache()
+        .setRevalidateAfterSeconds(0L);
+
+      doReturn(resourceUrl("swagger.yaml"))
+        .when(cachingServiceMock)
+        .fetchApiSourceUrl(apiInformation);
+
+      var fixture = fixture();
+
+      var first = fixture.findAndParseOpenApi(apiInformation);
+      var second = fixture.findAndParseOpenApi(apiInformation);
+
+      assertThat(second).isSameAs(first);
+      verify(cachingServiceMock, times(2)).fetchApiSourceUrl(apiInformation);
+    }
+
+    @Test
+    void shouldReparse_whenSourceHasChanged(@TempDir Path tempDir)
+      throws Exception {
+      openApiCoverageStreamProperties
+        .getOpenapiCache()
+        .setRevalidateAfterSeconds(0L);
+
+      var source = Files.readString(
+        Path.of(URI.create(resourceUrl("swagger.yaml"))),
+        UTF_8
+      );
+      var sourceFile = tempDir.resolve("swagger.yaml");
+      Files.writeString(sourceFile, source, UTF_8);
+
+      doReturn(sourceFile.toUri().toString())
+        .when(cachingServiceMock)
+        .fetchApiSourceUrl(apiInformation);
+
+      var fixture = fixture();
+
+      var first = fixture.findAndParseOpenApi(apiInformation);
+      assertThat(first.openAPI().getInfo().getTitle()).isEqualTo(
+        PETSTORE_TITLE
+      );
+
+      Files.writeString(
+        sourceFile,
+        source.replace(PETSTORE_TITLE, "Re-uploaded Petstore"),
+        UTF_8
+      );
+
+      var second = fixture.findAndParseOpenApi(apiInformation);
+      assertThat(second).isNotSameAs(first);
+      assertThat(second.openAPI().getInfo().getTitle()).isEqualTo(
+        "Re-uploaded Petstore"
+      );
+    }
   }
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.API_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.API_VERSION;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.SERVICE_NAME;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.defaultApiInformation;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.ParsedOpenApi;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+@ExtendWith({ MockitoExtension.class })
+class SpanCoverageServiceUnitTest {
+
+  private static final String OPERATION_KEY = "GET_/pets";
+
+  @Mock
+  private OpenApiService openApiServiceMock;
+
+  @Mock
+  private OpenApiCoverageService openApiCoverageServiceMock;
+
+  @Mock
+  private StreamsBuilderFactoryBean streamsBuilderFactoryBeanMock;
+
+  @Mock
+  private KafkaStreams kafkaStreamsMock;
+
+  @Mock
+  private ReadOnlyKeyValueStore<
+    String,
+    CoverageState.Bucket
+  > spanCoverageStoreMock;
+
+  private final ParsedOpenApi parsedOpenApi = ParsedOpenApi.of(new OpenAPI());
+
+  private SpanCoverageService fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new SpanCoverageService(
+      openApiServiceMock,
+      openApiCoverageServiceMock,
+      new OpenApiCoverageStreamProperties(),
+      streamsBuilderFactoryBeanMock
+    );
+  }
+
+  @Nested
+  class SummarizeSpansTest {
+
+    @Test
+    void shouldSummarizeSpansByApi()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      var apiInformation = defaultApiInformation();
+      var operationTelemetry = Map.of(OPERATION_KEY, OperationTelemetry.EMPTY);
+
+      doReturn(parsedOpenApi)
+        .when(openApiServiceMock)
+        .findAndParseOpenApi(apiInformation);
+      doReturn(operationTelemetry)
+        .when(openApiCoverageServiceMock)
+        .summarizeByOperationKey(anyCollection(), any());
+
+      var result = fixture.summarizeSpans(exportTraceServiceRequest());
+
+      assertThat(result).containsExactly(
+        Map.entry(
+          SpanCoverageService.apiKey(apiInformation),
+          operationTelemetry
+        )
+      );
+      verify(openApiCoverageServiceMock).summarizeByOperationKey(
+        any(),
+        any()
+      );
+    }
+
+    @Test
+    void shouldDropSpansOfApisThatHaveNotBeenIndexed()
+      throws OpenApiNotIndexedException, UnparseableOpenApiException {
+      doThrow(mock(OpenApiNotIndexedException.class))
+        .when(openApiServiceMock)
+        .findAndParseOpenApi(any());
+
+      var result = fixture.summarizeSpans(exportTraceServiceRequest());
+
+      assertThat(result).isEmpty();
+    }
+  }
+
+  @Nested
+  class SummarizeTelemetryTest {
+
+    @Test
+    void shouldMergeAggregatesOfLookbackWindow() {
+      var apiKey = SpanCoverageService.apiKey(defaultApiInformation());
+      var timestamp = Instant.parse("2026-01-01T10:00:30Z").toEpochMilli();
+
+      doReturn(kafkaStreamsMock)
+        .when(streamsBuilderFactoryBeanMock)
+        .getKafkaStreams();
+      doReturn(spanCoverageStoreMock).when(kafkaStreamsMock).store(any());
+      doReturn(
+        keyValueIterator(
+          List.of(
+            KeyValue.pair(
+              "first",
+              new CoverageState.Bucket(
+                0,
+                Map.of(
+                  OPERATION_KEY,
+                  new OperationTelemetry(
+                    1,
+                    Set.of("200"),
+                    emptySet(),
+                    emptySet(),
+                    emptySet()
+                  )
+                )
+              )
+            ),
+            KeyValue.pair(
+              "second",
+              new CoverageState.Bucket(
+                0,
+                Map.of(
+                  OPERATION_KEY,
+                  new OperationTelemetry(
+                    2,
+                    Set.of("404"),
+                    emptySet(),
+                    emptySet(),
+                    emptySet()
+                  )
+                )
+              )
+            )
+          )
+        )
+      )
+        .when(spanCoverageStoreMock)
+        .range(
+          SpanCoverageService.bucketKey(
+            apiKey,
+            Instant.parse("2026-01-01T09:00:00Z").toEpochMilli()
+          ),
+          SpanCoverageService.bucketKey(apiKey, timestamp)
+        );
+
+      var result = fixture.summarizeTelemetry(
+        new OpenApiTestContext(
+          defaultApiInformation(),
+          parsedOpenApi,
+          "1h",
+          emptySet()
+        ),
+        timestamp
+      );
+
+      assertThat(result.get(OPERATION_KEY)).satisfies(
+        operationTelemetry ->
+          assertThat(operationTelemetry.observationCount()).isEqualTo(3),
+        operationTelemetry ->
+          assertThat(operationTelemetry.statusCodes()).containsOnly(
+            "200",
+            "404"
+          )
+      );
+    }
+
+    @Test
+    void shouldThrow_whenKafkaStreamsHasNotBeenStarted() {
+      assertThatThrownBy(() ->
+        fixture.summarizeTelemetry(
+          new OpenApiTestContext(
+            defaultApiInformation(),
+            parsedOpenApi,
+            "1h",
+            emptySet()
+          ),
+          0
+        )
+      )
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Kafka Streams has not been started!");
+    }
+  }
+
+  @Nested
+  class BucketKeyTest {
+
+    @Test
+    void shouldSortByWindowStart() {
+      var apiKey = SpanCoverageService.apiKey(defaultApiInformation());
+
+      assertThat(apiKey).isEqualTo(
+        SERVICE_NAME + "\n" + API_NAME + "\n" + API_VERSION
+      );
+      assertThat(SpanCoverageService.bucketKey(apiKey, 60_000)).isLessThan(
+        SpanCoverageService.bucketKey(apiKey, 120_000)
+      );
+      assertThat(SpanCoverageService.bucketKey(apiKey, 900_000)).isLessThan(
+        SpanCoverageService.bucketKey(apiKey, 1_200_000)
+      );
+    }
+  }
+
+  private static byte[] exportTraceServiceRequest() {
+    return (
+      // language=json
+      """
+      {
+        "resourceSpans": [{
+          "resource": {
+            "attributes": [
+              { "key": "service.name", "value": { "stringValue": "%s" } },
+              { "key": "api.name", "value": { "stringValue": "%s" } },
+              { "key": "api.version", "value": { "stringValue": "%s" } }
+            ]
+          },
+          "scopeSpans": [{
+            "spans": [
+              { "traceId": "AQ==", "spanId": "Ag==", "attributes": [] },
+              { "traceId": "AQ==", "spanId": "Aw==", "attributes": [] }
+            ]
+          }]
+        }]
+      }
+      """
+    ).formatted(SERVICE_NAME, API_NAME, API_VERSION).getBytes(UTF_8);
+  }
+
+  private static <K, V> KeyValueIterator<K, V> keyValueIterator(
+    List<KeyValue<K, V>> keyValues
+  ) {
+    Iterator<KeyValue<K, V>> iterator = keyValues.iterator();
+
+    return new KeyValueIterator<>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public KeyValue<K, V> next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void close() {}
+
+      @Override
+      public K peekNextKey() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanIdentitySet.distinctSpans;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
+import java.util.HexFormat;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SpanIdentitySetUnitTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+  private static final String SPAN_ID = "00f067aa0ba902b7";
+
+  @Nested
+  class AddTest {
+
+    private final SpanIdentitySet fixture = new SpanIdentitySet();
+
+    @Test
+    void shouldAddSpanOnlyOnce() {
+      assertThat(fixture.add(TRACE_ID, SPAN_ID)).isTrue();
+      assertThat(fixture.add(TRACE_ID, SPAN_ID)).isFalse();
+
+      assertThat(fixture.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreCaseOfHexadecimalIds() {
+      assertThat(fixture.add(TRACE_ID, SPAN_ID)).isTrue();
+      assertThat(
+        fixture.add(TRACE_ID.toUpperCase(), SPAN_ID.toUpperCase())
+      ).isFalse();
+    }
+
+    @Test
+    void shouldDistinguishSpansOfDifferentTraces() {
+      assertThat(fixture.add(TRACE_ID, SPAN_ID)).isTrue();
+      assertThat(
+        fixture.add("5bf92f3577b34da6a3ce929d0e0e4736", SPAN_ID)
+      ).isTrue();
+      assertThat(
+        fixture.add("4bf92f3577b34da6a3ce929d0e0e4737", SPAN_ID)
+      ).isTrue();
+
+      assertThat(fixture.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldHashIdsThatAreNotHexadecimal() {
+      var traceId = "9/Kaoo0vQHqmXB5yifb+uw==";
+
+      assertThat(fixture.add(traceId, "PxosnX1LimE=")).isTrue();
+      assertThat(fixture.add(traceId, "PxosnX1LimE=")).isFalse();
+      assertThat(fixture.add(traceId, "QxosnX1LimE=")).isTrue();
+    }
+
+    @Test
+    void shouldKeepAllSpans_whenGrowing() {
+      var hexFormat = HexFormat.of();
+
+      IntStream.range(0, 10_000).forEach(i ->
+        assertThat(
+          fixture.add(TRACE_ID, hexFormat.toHexDigits((long) i))
+        ).isTrue()
+      );
+      IntStream.range(0, 10_000).forEach(i ->
+        assertThat(
+          fixture.add(TRACE_ID, hexFormat.toHexDigits((long) i))
+        ).isFalse()
+      );
+
+      assertThat(fixture.size()).isEqualTo(10_000);
+    }
+  }
+
+  @Nested
+  class DistinctSpansTest {
+
+    @Test
+    void shouldKeepFirstOccurrenceOfEachSpan() {
+      var first = new OpenTelemetryData(
+        SPAN_ID,
+        TRACE_ID,
+        SpanAttributes.builder().put("http.request.method", "GET").build()
+      );
+      var duplicate = new OpenTelemetryData(
+        SPAN_ID,
+        TRACE_ID,
+        SpanAttributes.builder().put("http.request.method", "POST").build()
+      );
+      var other = new OpenTelemetryData(
+        "00f067aa0ba902b8",
+        TRACE_ID,
+        SpanAttributes.EMPTY
+      );
+
+      var result = Stream.of(first, duplicate, other).collect(distinctSpans());
+
+      assertThat(result).containsExactly(first, other);
+    }
+  }
+}
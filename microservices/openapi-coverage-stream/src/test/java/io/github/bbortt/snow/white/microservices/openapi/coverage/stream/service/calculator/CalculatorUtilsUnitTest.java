@@ -50,9 +50,9 @@ class CalculatorUtilsUnitTest {
     }
 
     @Test
-    void shouldReturnTelemetryWhenConcretePathMatchesTemplate() {
+    void shouldReturnTelemetryForTemplate() {
       var telemetry = mock(OpenTelemetryData.class);
-      var telemetryMap = Map.of("GET_/pung/hello", List.of(telemetry));
+      var telemetryMap = Map.of("GET_/pung/{message}", List.of(telemetry));
 
       var result = CalculatorUtils.getTelemetryForTemplate(
         telemetryMap,
@@ -95,16 +95,15 @@ class CalculatorUtilsUnitTest {
     }
 
     @Test
-    void shouldReturnOperationWhenConcretePathMatchesTemplate() {
-      var operation = mock(Operation.class);
-      var operationMap = Map.of("GET_/pung/{message}", operation);
+    void shouldReturnNullForUnresolvedConcretePath() {
+      var operationMap = Map.of("GET_/pung/{message}", mock(Operation.class));
 
       var result = CalculatorUtils.findOperationForConcreteKey(
         operationMap,
         "GET_/pung/hello"
       );
 
-      assertThat(result).isSameAs(operation);
+      assertThat(result).isNull();
     }
 
     @Test
@@ -7,7 +7,8 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.CONTENT_TYPE_COVERAGE;
-import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator.ContentTypeCoverageCalculator.CONTENT_TYPE_HEADER_KEY;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry.CONTENT_TYPE_HEADER_KEY;
 import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -15,6 +16,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
@@ -89,7 +91,7 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -119,7 +121,7 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -143,7 +145,7 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -169,7 +171,7 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -193,7 +195,7 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -215,12 +217,18 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       var pathToTelemetryMap = Map.of(
         "POST_/api/v1/users",
-        List.of(new OpenTelemetryData("span-1", "trace-1", attributes))
+        List.of(
+          new OpenTelemetryData(
+            "span-1",
+            "trace-1",
+            SpanAttributes.of(attributes)
+          )
+        )
       );
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -243,7 +251,7 @@ class ContentTypeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -267,13 +275,13 @@ class ContentTypeCoverageCalculatorUnitTest {
       var pathToTelemetryMap = Map.of(
         "POST_/api/v1/users",
         List.of(telemetryWithContentType("application/json")),
-        "PUT_/api/v1/users/42",
+        "PUT_/api/v1/users/{id}",
         List.of(telemetryWithContentType("application/json"))
       );
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -299,7 +307,11 @@ class ContentTypeCoverageCalculatorUnitTest {
     private OpenTelemetryData telemetryWithContentType(String contentType) {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put(CONTENT_TYPE_HEADER_KEY, contentType);
-      return new OpenTelemetryData("span-1", "trace-1", attributes);
+      return new OpenTelemetryData(
+        "span-1",
+        "trace-1",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private static @NonNull BigDecimal getBigDecimal(double value) {
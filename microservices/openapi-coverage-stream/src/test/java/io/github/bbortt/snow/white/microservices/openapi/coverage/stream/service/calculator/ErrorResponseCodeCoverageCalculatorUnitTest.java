@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.ERROR_RESPONSE_CODE_COVERAGE;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
@@ -92,7 +94,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -133,7 +135,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -170,7 +172,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -204,7 +206,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -225,7 +227,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -246,7 +248,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -270,7 +272,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -288,7 +290,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -310,7 +312,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -334,7 +336,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -358,7 +360,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -383,7 +385,7 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -485,14 +487,22 @@ class ErrorResponseCodeCoverageCalculatorUnitTest {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put(attributeName, value);
 
-      return new OpenTelemetryData("span-123", "trace-456", attributes);
+      return new OpenTelemetryData(
+        "span-123",
+        "trace-456",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private OpenTelemetryData createTelemetryDataWithoutStatusCode() {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put("some.other.attribute", "value");
 
-      return new OpenTelemetryData("span-123", "trace-456", attributes);
+      return new OpenTelemetryData(
+        "span-123",
+        "trace-456",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private static @NonNull BigDecimal getBigDecimal(double value) {
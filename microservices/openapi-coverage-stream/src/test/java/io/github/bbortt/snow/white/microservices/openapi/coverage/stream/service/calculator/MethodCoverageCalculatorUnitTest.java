@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.HTTP_METHOD_COVERAGE;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -91,7 +92,7 @@ class MethodCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -121,7 +122,7 @@ class MethodCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -154,7 +155,7 @@ class MethodCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -183,7 +184,7 @@ class MethodCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -202,28 +203,6 @@ class MethodCoverageCalculatorUnitTest {
       );
     }
 
-    @Test
-    void shouldReturn100Percent_whenTelemetryUsesConcretePathForTemplate() {
-      Map<String, Operation> pathToOpenAPIOperationMap = new HashMap<>();
-      pathToOpenAPIOperationMap.put("GET_/pung/{message}", operationMock);
-
-      Map<String, List<OpenTelemetryData>> pathToTelemetryMap = new HashMap<>();
-      pathToTelemetryMap.put(
-        "GET_/pung/hello",
-        singletonList(mock(OpenTelemetryData.class))
-      );
-
-      OpenApiTestResult result = fixture.calculate(
-        pathToOpenAPIOperationMap,
-        pathToTelemetryMap
-      );
-
-      assertThat(result).satisfies(
-        r -> assertThat(r.coverage()).isEqualTo(getBigDecimal(1.0)),
-        r -> assertThat(r.additionalInformation()).isNull()
-      );
-    }
-
     @Test
     void shouldHandleEmptyOperationsMap() {
       Map<String, Operation> pathToOpenAPIOperationMap = new HashMap<>();
@@ -235,7 +214,7 @@ class MethodCoverageCalculatorUnitTest {
 
       var result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
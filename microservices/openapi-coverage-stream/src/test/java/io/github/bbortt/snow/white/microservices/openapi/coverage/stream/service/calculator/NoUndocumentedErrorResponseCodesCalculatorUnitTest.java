@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.NO_UNDOCUMENTED_ERROR_RESPONSE_CODES;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
@@ -82,7 +84,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -113,7 +115,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -134,7 +136,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -158,7 +160,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -179,7 +181,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -210,7 +212,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -232,7 +234,7 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -297,7 +299,11 @@ class NoUndocumentedErrorResponseCodesCalculatorUnitTest {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put(attributeName, value);
 
-      return new OpenTelemetryData("span-123", "trace-456", attributes);
+      return new OpenTelemetryData(
+        "span-123",
+        "trace-456",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private static @NonNull BigDecimal getBigDecimal(double value) {
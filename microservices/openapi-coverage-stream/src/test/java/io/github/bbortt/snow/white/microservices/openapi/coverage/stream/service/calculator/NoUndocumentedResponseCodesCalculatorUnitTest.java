@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.NO_UNDOCUMENTED_RESPONSE_CODES;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
@@ -82,7 +84,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -113,7 +115,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -141,7 +143,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -165,7 +167,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -186,7 +188,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -205,7 +207,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -227,7 +229,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -261,7 +263,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -273,27 +275,6 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
       );
     }
 
-    @Test
-    void shouldReturn100Percent_whenTelemetryUsesConcretePathForTemplate() {
-      var pathToOpenAPIOperationMap = createOperationsWithResponseCodes(
-        Map.of("GET_/pung/{message}", List.of("200", "400", "500"))
-      );
-
-      var pathToTelemetryMap = createTelemetryWithStatusCodes(
-        Map.of("GET_/pung/hello", List.of("200"))
-      );
-
-      OpenApiTestResult result = fixture.calculate(
-        pathToOpenAPIOperationMap,
-        pathToTelemetryMap
-      );
-
-      assertThat(result).satisfies(
-        r -> assertThat(r.coverage()).isEqualTo(getBigDecimal(1.0)),
-        r -> assertThat(r.additionalInformation()).isNull()
-      );
-    }
-
     @Test
     void shouldHandleTelemetryWithoutStatusCode() {
       var pathToOpenAPIOperationMap = createOperationsWithResponseCodes(
@@ -308,7 +289,7 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -373,14 +354,22 @@ class NoUndocumentedResponseCodesCalculatorUnitTest {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put(attributeName, value);
 
-      return new OpenTelemetryData("span-123", "trace-456", attributes);
+      return new OpenTelemetryData(
+        "span-123",
+        "trace-456",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private OpenTelemetryData createTelemetryDataWithoutStatusCode() {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put("some.other.attribute", "value");
 
-      return new OpenTelemetryData("span-123", "trace-456", attributes);
+      return new OpenTelemetryData(
+        "span-123",
+        "trace-456",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private static @NonNull BigDecimal getBigDecimal(double value) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class OperationKeyRouterUnitTest {
+
+  @Nested
+  class ResolveTest {
+
+    @Test
+    void shouldResolveExactPathWithNoParams() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/ping"));
+
+      assertThat(fixture.resolve("GET_/ping")).isEqualTo("GET_/ping");
+      assertThat(fixture.resolve("GET_/pong")).isNull();
+    }
+
+    @Test
+    void shouldResolveConcretePathToTemplate() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/pung/{message}"));
+
+      assertThat(fixture.resolve("GET_/pung/hello")).isEqualTo(
+        "GET_/pung/{message}"
+      );
+    }
+
+    @Test
+    void shouldResolveConcretePathWithMultipleParams() {
+      var fixture = OperationKeyRouter.of(
+        List.of("GET_/api/v1/users/{userId}/orders/{orderId}")
+      );
+
+      assertThat(fixture.resolve("GET_/api/v1/users/42/orders/99")).isEqualTo(
+        "GET_/api/v1/users/{userId}/orders/{orderId}"
+      );
+    }
+
+    @Test
+    void shouldNotResolve_whenSegmentCountDiffers() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/pung/{message}"));
+
+      assertThat(fixture.resolve("GET_/pung/hello/extra")).isNull();
+      assertThat(fixture.resolve("GET_/pung")).isNull();
+    }
+
+    @Test
+    void shouldNotResolve_whenParamIsEmpty() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/pung/{message}"));
+
+      assertThat(fixture.resolve("GET_/pung/")).isNull();
+    }
+
+    @Test
+    void shouldNotResolve_whenMethodDiffers() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/pung/{message}"));
+
+      assertThat(fixture.resolve("POST_/pung/hello")).isNull();
+    }
+
+    public static Stream<
+      Arguments
+    > shouldPreferStaticSegments_andBacktrackToTemplates() {
+      return Stream.of(
+        arguments("GET_/users/me", "GET_/users/me"),
+        arguments("GET_/users/42", "GET_/users/{id}"),
+        arguments("GET_/users/me/orders", "GET_/users/{id}/orders")
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void shouldPreferStaticSegments_andBacktrackToTemplates(
+      String concreteOperationKey,
+      String expectedTemplateOperationKey
+    ) {
+      var fixture = OperationKeyRouter.of(
+        List.of("GET_/users/{id}", "GET_/users/me", "GET_/users/{id}/orders")
+      );
+
+      assertThat(fixture.resolve(concreteOperationKey)).isEqualTo(
+        expectedTemplateOperationKey
+      );
+    }
+
+    @Test
+    void shouldResolveSegmentsMixingLiteralsAndParams() {
+      var fixture = OperationKeyRouter.of(
+        List.of("GET_/reports/{name}.json", "GET_/reports/{name}")
+      );
+
+      assertThat(fixture.resolve("GET_/reports/daily.json")).isEqualTo(
+        "GET_/reports/{name}.json"
+      );
+      assertThat(fixture.resolve("GET_/reports/daily")).isEqualTo(
+        "GET_/reports/{name}"
+      );
+    }
+
+    @Test
+    void shouldQuoteLiteralsInTemplatedSegments() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/reports/{name}.json"));
+
+      assertThat(fixture.resolve("GET_/reports/dailyXjson")).isNull();
+    }
+
+    @Test
+    void shouldNotResolve_whenConcreteOperationKeyIsMalformed() {
+      var fixture = OperationKeyRouter.of(List.of("GET_/ping"));
+
+      assertThat(fixture.resolve("/ping")).isNull();
+    }
+  }
+}
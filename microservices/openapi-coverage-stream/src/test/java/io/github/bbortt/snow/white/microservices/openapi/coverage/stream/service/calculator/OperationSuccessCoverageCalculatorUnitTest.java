@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.OPERATION_SUCCESS_COVERAGE;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.Operation;
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -86,7 +88,7 @@ class OperationSuccessCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -121,7 +123,7 @@ class OperationSuccessCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -148,7 +150,7 @@ class OperationSuccessCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -178,7 +180,7 @@ class OperationSuccessCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -205,7 +207,7 @@ class OperationSuccessCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -217,30 +219,6 @@ class OperationSuccessCoverageCalculatorUnitTest {
       );
     }
 
-    @Test
-    void shouldMatchTelemetryViaPathTemplate() {
-      var pathToOpenAPIOperationMap = Map.of(
-        "GET_/api/v1/users/{id}",
-        new Operation()
-      );
-
-      // Telemetry uses the concrete resolved path, not the template
-      var pathToTelemetryMap = Map.of(
-        "GET_/api/v1/users/42",
-        List.of(telemetryWithStatusCode("200"))
-      );
-
-      OpenApiTestResult result = fixture.calculate(
-        pathToOpenAPIOperationMap,
-        pathToTelemetryMap
-      );
-
-      assertThat(result).satisfies(
-        r -> assertThat(r.coverage()).isEqualTo(getBigDecimal(1.0)),
-        r -> assertThat(r.additionalInformation()).isNull()
-      );
-    }
-
     @Test
     void shouldHandleTelemetryWithoutStatusCode() {
       var pathToOpenAPIOperationMap = Map.of(
@@ -253,12 +231,18 @@ class OperationSuccessCoverageCalculatorUnitTest {
 
       var pathToTelemetryMap = Map.of(
         "GET_/api/v1/users",
-        List.of(new OpenTelemetryData("span-1", "trace-1", attributes))
+        List.of(
+          new OpenTelemetryData(
+            "span-1",
+            "trace-1",
+            SpanAttributes.of(attributes)
+          )
+        )
       );
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -270,7 +254,11 @@ class OperationSuccessCoverageCalculatorUnitTest {
     private OpenTelemetryData telemetryWithStatusCode(String statusCode) {
       var attributes = JsonMapper.shared().createObjectNode();
       attributes.put("http.response.status_code", statusCode);
-      return new OpenTelemetryData("span-1", "trace-1", attributes);
+      return new OpenTelemetryData(
+        "span-1",
+        "trace-1",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private static @NonNull BigDecimal getBigDecimal(double value) {
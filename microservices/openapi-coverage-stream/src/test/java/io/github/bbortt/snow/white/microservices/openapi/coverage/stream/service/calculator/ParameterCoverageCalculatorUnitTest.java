@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PARAMETER_COVERAGE;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
 import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import java.math.BigDecimal;
@@ -88,7 +90,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -122,7 +124,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -157,7 +159,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -188,7 +190,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -198,30 +200,6 @@ class ParameterCoverageCalculatorUnitTest {
       );
     }
 
-    @Test
-    void shouldReturn100Percent_whenTelemetryUsesConcretePathForTemplate() {
-      var pathToOpenAPIOperationMap = createOperationsWithParameters(
-        Map.of(
-          "GET_/pung/{message}",
-          List.of(createParameter("message", "path", true))
-        )
-      );
-
-      var pathToTelemetryMap = createTelemetryWithQueryParams(
-        Map.of("GET_/pung/hello", "")
-      );
-
-      OpenApiTestResult result = fixture.calculate(
-        pathToOpenAPIOperationMap,
-        pathToTelemetryMap
-      );
-
-      assertThat(result).satisfies(
-        r -> assertThat(r.coverage()).isEqualTo(getBigDecimal(1.0)),
-        r -> assertThat(r.additionalInformation()).isNull()
-      );
-    }
-
     @Test
     void shouldHandleHeaderParameters() {
       var pathToOpenAPIOperationMap = createOperationsWithParameters(
@@ -237,7 +215,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -258,7 +236,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -291,7 +269,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -317,7 +295,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -340,7 +318,7 @@ class ParameterCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -394,7 +372,7 @@ class ParameterCoverageCalculatorUnitTest {
         var telemetryData = new OpenTelemetryData(
           "span-123",
           "trace-456",
-          attributes
+          SpanAttributes.of(attributes)
         );
         result.put(entry.getKey(), List.of(telemetryData));
       }
@@ -417,7 +395,7 @@ class ParameterCoverageCalculatorUnitTest {
         var telemetryData = new OpenTelemetryData(
           "span-123",
           "trace-456",
-          attributes
+          SpanAttributes.of(attributes)
         );
         result.put(entry.getKey(), List.of(telemetryData));
       }
@@ -436,7 +414,11 @@ class ParameterCoverageCalculatorUnitTest {
         "some-value"
       );
 
-      return new OpenTelemetryData("span-123", "trace-456", attributes);
+      return new OpenTelemetryData(
+        "span-123",
+        "trace-456",
+        SpanAttributes.of(attributes)
+      );
     }
 
     private static @NonNull BigDecimal getBigDecimal(double value) {
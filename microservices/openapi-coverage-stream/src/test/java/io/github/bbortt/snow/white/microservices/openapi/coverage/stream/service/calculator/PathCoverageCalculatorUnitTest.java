@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.calculator;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PATH_COVERAGE;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.summarize;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
@@ -90,7 +91,7 @@ class PathCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -120,7 +121,7 @@ class PathCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -146,7 +147,7 @@ class PathCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -165,28 +166,6 @@ class PathCoverageCalculatorUnitTest {
       );
     }
 
-    @Test
-    void shouldReturn100Percent_whenTelemetryUsesConcretePathForTemplate() {
-      Map<String, Operation> pathToOpenAPIOperationMap = new HashMap<>();
-      pathToOpenAPIOperationMap.put("GET_/pung/{message}", operationMock);
-
-      Map<String, List<OpenTelemetryData>> pathToTelemetryMap = new HashMap<>();
-      pathToTelemetryMap.put(
-        "GET_/pung/hello",
-        singletonList(mock(OpenTelemetryData.class))
-      );
-
-      OpenApiTestResult result = fixture.calculate(
-        pathToOpenAPIOperationMap,
-        pathToTelemetryMap
-      );
-
-      assertThat(result).satisfies(
-        r -> assertThat(r.coverage()).isEqualTo(getBigDecimal(1.0)),
-        r -> assertThat(r.additionalInformation()).isNull()
-      );
-    }
-
     @Test
     void shouldHandleEmptyOperationsMap() {
       Map<String, Operation> pathToOpenAPIOperationMap = new HashMap<>();
@@ -198,7 +177,7 @@ class PathCoverageCalculatorUnitTest {
 
       OpenApiTestResult result = fixture.calculate(
         pathToOpenAPIOperationMap,
-        pathToTelemetryMap
+        summarize(pathToTelemetryMap)
       );
 
       assertThat(result).satisfies(
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CoverageAttributesUnitTest {
+
+  @Nested
+  class OfTest {
+
+    @Test
+    void shouldIncludeOperationIdAndLowerCasedRequestHeaders() {
+      var result = CoverageAttributes.of(
+        "custom.operation.id",
+        List.of("X-Request-ID")
+      );
+
+      assertThat(result.plainAttributeKeys()).containsExactly(
+        "http.request.method",
+        "url.path",
+        "http.route",
+        "http.response.status_code",
+        "url.query",
+        "custom.operation.id"
+      );
+      assertThat(result.headerAttributeKeys()).containsExactly(
+        "http.request.header.content-type",
+        "http.request.header.x-request-id"
+      );
+      assertThat(result.allKeys()).hasSize(8);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OpenApiPathIndexUnitTest {
+
+  @Nested
+  class OfTest {
+
+    @Test
+    void shouldIndexOperationsByKeyAndOperationId() {
+      var getOperation = new Operation().operationId("getPet");
+      var deleteOperation = new Operation();
+      var openAPI = new OpenAPI().paths(
+        new Paths().addPathItem(
+          "/pets/{petId}",
+          new PathItem().get(getOperation).delete(deleteOperation)
+        )
+      );
+
+      var result = OpenApiPathIndex.of(openAPI);
+
+      assertThat(result.operationKeyToOperation())
+        .hasSize(2)
+        .containsEntry("GET_/pets/{petId}", getOperation)
+        .containsEntry("DELETE_/pets/{petId}", deleteOperation);
+      assertThat(result.operationIdToOperationKey())
+        .hasSize(1)
+        .containsEntry("getPet", "GET_/pets/{petId}");
+      assertThat(
+        result.operationKeyRouter().resolve("GET_/pets/42")
+      ).isEqualTo("GET_/pets/{petId}");
+    }
+
+    @Test
+    void shouldReturnEmptyIndex_whenNoPathsAreSpecified() {
+      var result = OpenApiPathIndex.of(new OpenAPI());
+
+      assertThat(result.operationKeyToOperation()).isEmpty();
+      assertThat(result.operationIdToOperationKey()).isEmpty();
+      assertThat(result.operationKeyRouter().resolve("GET_/pets")).isNull();
+    }
+  }
+}
@@ -33,7 +33,9 @@ class OpenApiTestContextUnitTest {
     )
       .isNotNull()
       .hasNoNullFieldsOrPropertiesExcept(
+        "openApiCoverageCriteria",
         "openTelemetryData",
+        "operationTelemetry",
         "openApiTestResults"
       );
   }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class OperationTelemetryUnitTest {
+
+  @Nested
+  class SummarizeTest {
+
+    @Test
+    void shouldSummarizeAllTelemetryInOnePass() {
+      var first = telemetry(
+        // language=json
+        """
+        {
+          "http.response.status_code": "200",
+          "http.request.header.content-type": "application/json",
+          "http.request.header.x-request-id": "abc",
+          "url.query": "page=1&size=10&flag"
+        }
+        """
+      );
+      var second = telemetry(
+        // language=json
+        """
+        {
+          "http.response.status_code": 404,
+          "http.request.header.content-type": ["text/plain", "application/xml"]
+        }
+        """
+      );
+
+      var result = OperationTelemetry.summarize(List.of(first, second));
+
+      assertThat(result).satisfies(
+        r -> assertThat(r.observationCount()).isEqualTo(2),
+        r -> assertThat(r.isEmpty()).isFalse(),
+        r -> assertThat(r.statusCodes()).containsExactlyInAnyOrder("200", "404"),
+        r ->
+          assertThat(r.contentTypes()).containsExactlyInAnyOrder(
+            "application/json",
+            "text/plain",
+            "application/xml"
+          ),
+        r ->
+          assertThat(r.queryParameterNames()).containsExactlyInAnyOrder(
+            "page",
+            "size",
+            "flag"
+          ),
+        r ->
+          assertThat(r.headerNames()).containsExactlyInAnyOrder(
+            "content-type",
+            "x-request-id"
+          )
+      );
+    }
+
+    @Test
+    void shouldCountTelemetryWithoutAttributes() {
+      var result = OperationTelemetry.summarize(
+        List.of(new OpenTelemetryData("spanId", "traceId", null))
+      );
+
+      assertThat(result).satisfies(
+        r -> assertThat(r.observationCount()).isEqualTo(1),
+        r -> assertThat(r.statusCodes()).isEmpty(),
+        r -> assertThat(r.contentTypes()).isEmpty(),
+        r -> assertThat(r.queryParameterNames()).isEmpty(),
+        r -> assertThat(r.headerNames()).isEmpty()
+      );
+    }
+
+    @Test
+    void shouldReturnEmptySummary_whenNoTelemetryIsGiven() {
+      var result = OperationTelemetry.summarize(emptyList());
+
+      assertThat(result).isEqualTo(OperationTelemetry.EMPTY);
+      assertThat(result.isEmpty()).isTrue();
+    }
+
+    private static OpenTelemetryData telemetry(String attributes) {
+      return new OpenTelemetryData(
+        "spanId",
+        "traceId",
+        SpanAttributes.of(JsonMapper.shared().readTree(attributes))
+      );
+    }
+  }
+
+  @Nested
+  class MergeTest {
+
+    @Test
+    void shouldUniteObservations() {
+      var first = new OperationTelemetry(
+        2,
+        Set.of("200"),
+        Set.of("application/json"),
+        Set.of("page"),
+        emptySet()
+      );
+      var second = new OperationTelemetry(
+        1,
+        Set.of("200", "404"),
+        emptySet(),
+        Set.of("size"),
+        Set.of("x-request-id")
+      );
+
+      var result = first.merge(second);
+
+      assertThat(result).satisfies(
+        r -> assertThat(r.observationCount()).isEqualTo(3),
+        r -> assertThat(r.statusCodes()).containsExactlyInAnyOrder("200", "404"),
+        r -> assertThat(r.contentTypes()).containsExactly("application/json"),
+        r ->
+          assertThat(r.queryParameterNames()).containsExactlyInAnyOrder(
+            "page",
+            "size"
+          ),
+        r -> assertThat(r.headerNames()).containsExactly("x-request-id")
+      );
+    }
+
+    @Test
+    void shouldMergeIntoTargetByOperationKey() {
+      var target = new HashMap<String, OperationTelemetry>();
+      target.put(
+        "GET_/pets",
+        new OperationTelemetry(
+          1,
+          Set.of("200"),
+          emptySet(),
+          emptySet(),
+          emptySet()
+        )
+      );
+
+      OperationTelemetry.mergeInto(
+        target,
+        Map.of(
+          "GET_/pets",
+          new OperationTelemetry(
+            1,
+            Set.of("500"),
+            emptySet(),
+            emptySet(),
+            emptySet()
+          ),
+          "POST_/pets",
+          OperationTelemetry.EMPTY
+        )
+      );
+
+      assertThat(target)
+        .containsOnlyKeys("GET_/pets", "POST_/pets")
+        .hasEntrySatisfying("GET_/pets", t ->
+          assertThat(t.statusCodes()).containsExactlyInAnyOrder("200", "500")
+        );
+    }
+  }
+}
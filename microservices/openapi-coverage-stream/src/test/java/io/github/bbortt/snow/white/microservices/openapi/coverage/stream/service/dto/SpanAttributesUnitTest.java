@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class SpanAttributesUnitTest {
+
+  @Nested
+  class OfTest {
+
+    @Test
+    void shouldCopyAllValueTypes() {
+      var result = SpanAttributes.of(
+        JsonMapper.shared().readTree(
+          // language=json
+          """
+          {
+            "http.request.method": "GET",
+            "http.response.status_code": 200,
+            "http.server.request.duration": 0.25,
+            "error": false,
+            "http.request.header.content-type": ["text/plain", "application/xml"],
+            "nested": { "ignored": true }
+          }
+          """
+        )
+      );
+
+      assertThat(result).isEqualTo(
+        SpanAttributes.builder()
+          .put("http.request.method", "GET")
+          .put("http.response.status_code", 200L)
+          .put("http.server.request.duration", 0.25)
+          .put("error", false)
+          .put(
+            "http.request.header.content-type",
+            List.of("text/plain", "application/xml")
+          )
+          .build()
+      );
+    }
+
+    @Test
+    void shouldReturnEmptyAttributes_whenNoneAreGiven() {
+      assertThat(SpanAttributes.of(null)).isSameAs(SpanAttributes.EMPTY);
+      assertThat(
+        SpanAttributes.of(JsonMapper.shared().createObjectNode())
+      ).isSameAs(SpanAttributes.EMPTY);
+    }
+  }
+
+  @Nested
+  class GetStringTest {
+
+    private final SpanAttributes fixture = SpanAttributes.builder()
+      .put("http.request.method", "GET")
+      .put("http.response.status_code", 404L)
+      .put("http.request.header.accept", List.of("application/json"))
+      .build();
+
+    @Test
+    void shouldReturnScalarValuesAsString() {
+      assertThat(fixture.getString("http.request.method")).isEqualTo("GET");
+      assertThat(fixture.getString("http.response.status_code")).isEqualTo(
+        "404"
+      );
+    }
+
+    @Test
+    void shouldReturnNull_whenAttributeIsMissingOrHoldsMultipleValues() {
+      assertThat(fixture.getString("url.path")).isNull();
+      assertThat(fixture.getString("http.request.header.accept")).isNull();
+    }
+  }
+
+  @Nested
+  class GetStringsTest {
+
+    private final SpanAttributes fixture = SpanAttributes.builder()
+      .put("http.request.header.content-type", "application/json")
+      .put("http.request.header.accept", List.of("text/plain", "text/html"))
+      .build();
+
+    @Test
+    void shouldReturnAllValuesOfArrays() {
+      assertThat(
+        fixture.getStrings("http.request.header.accept")
+      ).containsExactly("text/plain", "text/html");
+    }
+
+    @Test
+    void shouldReturnSingleValue() {
+      assertThat(
+        fixture.getStrings("http.request.header.content-type")
+      ).containsExactly("application/json");
+    }
+
+    @Test
+    void shouldReturnEmptyList_whenAttributeIsMissing() {
+      assertThat(
+        fixture.getStrings("http.request.header.x-request-id")
+      ).isEmpty();
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+
+    @Test
+    void shouldSortKeys() {
+      var result = SpanAttributes.builder()
+        .put("url.path", "/pets")
+        .put("http.request.method", "GET")
+        .build();
+
+      assertThat(result.keys()).containsExactly(
+        "http.request.method",
+        "url.path"
+      );
+      assertThat(result.has("url.path")).isTrue();
+      assertThat(result.has("url.query")).isFalse();
+    }
+
+    @Test
+    void shouldShareKeysAcrossInstances() {
+      var first = SpanAttributes.builder()
+        .put(new String("http.request.method"), "GET")
+        .build();
+      var second = SpanAttributes.builder()
+        .put(new String("http.request.method"), "POST")
+        .build();
+
+      assertThat(first.keys().getFirst()).isSameAs(second.keys().getFirst());
+    }
+
+    @Test
+    void shouldReplacePreviousValues() {
+      var result = SpanAttributes.builder()
+        .put("http.request.method", "GET")
+        .put("http.request.method", "POST")
+        .build();
+
+      assertThat(result.size()).isEqualTo(1);
+      assertThat(result.getString("http.request.method")).isEqualTo("POST");
+    }
+  }
+}
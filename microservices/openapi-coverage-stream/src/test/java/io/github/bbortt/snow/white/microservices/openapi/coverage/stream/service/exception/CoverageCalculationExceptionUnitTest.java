@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CoverageCalculationExceptionUnitTest {
+
+  @Test
+  void shouldConstructWithMessage() {
+    assertThat(new CoverageCalculationException("message"))
+      .hasMessage("message")
+      .hasNoCause();
+  }
+
+  @Test
+  void shouldConstructWithMessageAndCause() {
+    var cause = new IllegalStateException();
+
+    assertThat(new CoverageCalculationException("message", cause))
+      .hasMessage("message")
+      .hasCause(cause);
+  }
+}
@@ -10,6 +10,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -35,4 +36,13 @@ class UnparseableOpenApiExceptionUnitTest {
       new UnparseableOpenApiException(List.of("foo", "bar"))
     ).hasMessage("Unparsable OpenAPI: foo, bar");
   }
+
+  @Test
+  void shouldConstructMessage_withUnreadableSource() {
+    var cause = new IOException();
+
+    assertThat(new UnparseableOpenApiException("file:/foo.yaml", cause))
+      .hasMessage("Unparsable OpenAPI: failed to read source file:/foo.yaml")
+      .hasCause(cause);
+  }
 }
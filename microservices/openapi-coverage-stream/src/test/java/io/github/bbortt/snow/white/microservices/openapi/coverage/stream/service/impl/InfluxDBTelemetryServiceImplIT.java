@@ -70,9 +70,7 @@ class InfluxDBTelemetryServiceImplIT extends AbstractOpenApiCoverageServiceIT {
     var data = result.iterator().next();
     assertThat(data.spanId()).isEqualTo(spanId);
     assertThat(data.traceId()).isEqualTo(traceId);
-    assertThat(data.attributes().get("http.method").asString()).isEqualTo(
-      "GET"
-    );
+    assertThat(data.attributes().getString("http.method")).isEqualTo("GET");
   }
 
   @Test
@@ -128,9 +126,7 @@ class InfluxDBTelemetryServiceImplIT extends AbstractOpenApiCoverageServiceIT {
     var data = result.iterator().next();
     assertThat(data.spanId()).isEqualTo(getSpanId);
     assertThat(data.traceId()).isEqualTo(getTraceId);
-    assertThat(data.attributes().get("http.method").asString()).isEqualTo(
-      "GET"
-    );
+    assertThat(data.attributes().getString("http.method")).isEqualTo("GET");
   }
 
   private void writeSpan(
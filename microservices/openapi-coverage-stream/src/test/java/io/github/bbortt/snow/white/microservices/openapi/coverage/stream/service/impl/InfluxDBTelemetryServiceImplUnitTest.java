@@ -11,9 +11,7 @@ import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.SPAN_ID_KEY;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.TRACE_ID_KEY;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.VALUE_KEY;
-import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
-import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentCaptor.captor;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -23,14 +21,13 @@ import static org.mockito.Mockito.mock;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.QueryApi;
 import com.influxdb.query.FluxRecord;
-import com.influxdb.query.FluxTable;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.InfluxDBProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
-import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
-import java.util.List;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -80,12 +77,6 @@ class InfluxDBTelemetryServiceImplUnitTest {
     @Mock
     private QueryApi queryApi;
 
-    @Mock
-    private FluxTable fluxTable;
-
-    @Mock
-    private FluxRecord fluxRecord;
-
     @BeforeEach
     void beforeEachSetup() {
       influxDBProperties.setBucket(OTEL_BUCKET);
@@ -104,9 +95,11 @@ class InfluxDBTelemetryServiceImplUnitTest {
       Set<AttributeFilter> attributeFilters
     ) {
       ArgumentCaptor<String> queryCaptor = captor();
-      doReturn(emptyList()).when(queryApi).query(queryCaptor.capture());
+      doReturn(Stream.empty())
+        .when(queryApi)
+        .queryStream(queryCaptor.capture());
 
-      Set<OpenTelemetryData> result = fixture.findOpenTelemetryTracingData(
+      var result = fixture.findOpenTelemetryTracingData(
         API_INFORMATION,
         LOOKBACK_FROM,
         LOOKBACK_WINDOW,
@@ -144,11 +137,13 @@ class InfluxDBTelemetryServiceImplUnitTest {
     @Test
     void withApiVersion_shouldAppendFilterExpression() {
       ArgumentCaptor<String> queryCaptor = captor();
-      doReturn(emptyList()).when(queryApi).query(queryCaptor.capture());
+      doReturn(Stream.empty())
+        .when(queryApi)
+        .queryStream(queryCaptor.capture());
 
       var apiInformation = API_INFORMATION.withApiVersion("apiVersion");
 
-      Set<OpenTelemetryData> result = fixture.findOpenTelemetryTracingData(
+      var result = fixture.findOpenTelemetryTracingData(
         apiInformation,
         LOOKBACK_FROM,
         LOOKBACK_WINDOW,
@@ -197,9 +192,11 @@ class InfluxDBTelemetryServiceImplUnitTest {
       Set<AttributeFilter> attributeFilters = Set.of(filter1, filter2);
 
       ArgumentCaptor<String> queryCaptor = captor();
-      doReturn(emptyList()).when(queryApi).query(queryCaptor.capture());
+      doReturn(Stream.empty())
+        .when(queryApi)
+        .queryStream(queryCaptor.capture());
 
-      Set<OpenTelemetryData> result = fixture.findOpenTelemetryTracingData(
+      var result = fixture.findOpenTelemetryTracingData(
         API_INFORMATION,
         LOOKBACK_FROM,
         LOOKBACK_WINDOW,
@@ -266,10 +263,11 @@ class InfluxDBTelemetryServiceImplUnitTest {
       doReturn(traceId2).when(fluxRecord2).getValueByKey(TRACE_ID_KEY);
       doReturn(attributesValue2).when(fluxRecord2).getValueByKey(VALUE_KEY);
 
-      doReturn(List.of(fluxRecord1, fluxRecord2)).when(fluxTable).getRecords();
-      doReturn(singletonList(fluxTable)).when(queryApi).query(anyString());
+      doReturn(Stream.of(fluxRecord1, fluxRecord2))
+        .when(queryApi)
+        .queryStream(anyString());
 
-      Set<OpenTelemetryData> result = fixture.findOpenTelemetryTracingData(
+      var result = fixture.findOpenTelemetryTracingData(
         API_INFORMATION,
         LOOKBACK_FROM,
         LOOKBACK_WINDOW,
@@ -283,17 +281,107 @@ class InfluxDBTelemetryServiceImplUnitTest {
             assertThat(data1.spanId()).isEqualTo(spanId1);
             assertThat(data1.traceId()).isEqualTo(traceId1);
             assertThat(data1.attributes()).isEqualTo(
-              JsonMapper.shared().readTree(attributesValue1)
+              SpanAttributes.of(JsonMapper.shared().readTree(attributesValue1))
             );
           },
           data2 -> {
             assertThat(data2.spanId()).isEqualTo(spanId2);
             assertThat(data2.traceId()).isEqualTo(traceId2);
             assertThat(data2.attributes()).isEqualTo(
-              JsonMapper.shared().readTree(attributesValue2)
+              SpanAttributes.of(JsonMapper.shared().readTree(attributesValue2))
             );
           }
         );
     }
+
+    @Test
+    void withRepeatedAttributeFilterKeys_shouldApplyCurrentValues() {
+      ArgumentCaptor<String> queryCaptor = captor();
+      doReturn(Stream.empty(), Stream.empty())
+        .when(queryApi)
+        .queryStream(queryCaptor.capture());
+
+      fixture.findOpenTelemetryTracingData(
+        API_INFORMATION,
+        LOOKBACK_FROM,
+        LOOKBACK_WINDOW,
+        Set.of(new AttributeFilter("http.method", STRING_EQUALS, "GET"))
+      );
+      fixture.findOpenTelemetryTracingData(
+        API_INFORMATION.withApiName("otherApi"),
+        LOOKBACK_FROM,
+        "2d",
+        Set.of(new AttributeFilter("http.method", STRING_EQUALS, "POST"))
+      );
+
+      assertThat(queryCaptor.getAllValues())
+        .hasSize(2)
+        .satisfiesExactly(
+          firstQuery ->
+            assertThat(firstQuery).contains(
+              "date.sub(d: " + LOOKBACK_WINDOW + ",",
+              "|> filter(fn: (r) => r[\"api_name\"] == \"" +
+                API_INFORMATION.getApiName() +
+                "\")",
+              "|> filter(fn: (r) => r.http_method == \"GET\")"
+            ),
+          secondQuery ->
+            assertThat(secondQuery).contains(
+              "date.sub(d: 2d,",
+              "|> filter(fn: (r) => r[\"api_name\"] == \"otherApi\")",
+              "|> filter(fn: (r) => r.http_method == \"POST\")"
+            )
+        );
+    }
+
+    @Test
+    void withProjectionEnabled_shouldOnlyKeepProjectedAttributes() {
+      influxDBProperties.getProjection().setEnabled(true);
+      influxDBProperties.getProjection().setRequestHeaders(Set.of("accept"));
+
+      var projectingFixture = new InfluxDBTelemetryServiceImpl(
+        influxDBClientMock,
+        influxDBProperties,
+        new OpenApiCoverageStreamProperties()
+      );
+
+      ArgumentCaptor<String> queryCaptor = captor();
+      doReturn(Stream.empty())
+        .when(queryApi)
+        .queryStream(queryCaptor.capture());
+
+      projectingFixture.findOpenTelemetryTracingData(
+        API_INFORMATION,
+        LOOKBACK_FROM,
+        LOOKBACK_WINDOW,
+        emptySet()
+      );
+
+      var capturedQuery = queryCaptor.getValue();
+      assertThat(capturedQuery)
+        .contains(
+          "\"http.request.method\": parsed[\"http.request.method\"]",
+          "\"http.request.header.accept\": if exists",
+          "|> keep(columns: [\"http.request.method\", \"url.path\", \"http.route\", \"http.response.status_code\", \"url.query\", \"openapi.operation.id\", \"http.request.header.content-type\", \"http.request.header.accept\", \"span_id\", \"trace_id\"])"
+        )
+        .doesNotContain("\"_value\", ");
+    }
+
+    @Test
+    void shouldCloseRecordStream() {
+      var closed = new AtomicBoolean(false);
+      doReturn(Stream.<FluxRecord>empty().onClose(() -> closed.set(true)))
+        .when(queryApi)
+        .queryStream(anyString());
+
+      fixture.findOpenTelemetryTracingData(
+        API_INFORMATION,
+        LOOKBACK_FROM,
+        LOOKBACK_WINDOW,
+        emptySet()
+      );
+
+      assertThat(closed).isTrue();
+    }
   }
 }
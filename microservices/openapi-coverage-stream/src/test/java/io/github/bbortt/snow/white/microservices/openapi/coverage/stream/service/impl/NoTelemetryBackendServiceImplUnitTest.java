@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.impl;
+
+import static io.github.bbortt.snow.white.commons.event.dto.AttributeFilterOperator.STRING_EQUALS;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.defaultApiInformation;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class NoTelemetryBackendServiceImplUnitTest {
+
+  private final NoTelemetryBackendServiceImpl fixture =
+    new NoTelemetryBackendServiceImpl();
+
+  @Nested
+  class FindOpenTelemetryTracingDataTest {
+
+    @Test
+    void shouldRejectQueries() {
+      var attributeFilters = Set.of(
+        new AttributeFilter("foo", STRING_EQUALS, "bar")
+      );
+
+      assertThatThrownBy(() ->
+        fixture.findOpenTelemetryTracingData(
+          defaultApiInformation(),
+          0,
+          "1h",
+          attributeFilters
+        )
+      )
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith(
+          "Calculations with attribute filters require a telemetry backend!"
+        );
+    }
+  }
+}
@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.impl;
 
 import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PATH_COVERAGE;
 import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.TestData.defaultApiInformation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -22,16 +23,23 @@ import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilterOperator;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.CoverageStateService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiCoverageService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenApiService;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.OpenTelemetryService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.SpanCoverageService;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageState;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenApiTestContext;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OperationTelemetry;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.ParsedOpenApi;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.OpenApiNotIndexedException;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.exception.UnparseableOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
+import org.apache.kafka.streams.state.KeyValueStore;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,6 +61,12 @@ class OpenApiCoverageCalculationServiceImplUnitTest {
   @Mock
   private OpenApiCoverageService openApiCoverageServiceMock;
 
+  @Mock
+  private CoverageStateService coverageStateServiceMock;
+
+  @Mock
+  private SpanCoverageService spanCoverageServiceMock;
+
   @InjectMocks
   private OpenApiCoverageCalculationServiceImpl fixture;
 
@@ -75,10 +89,11 @@ class OpenApiCoverageCalculationServiceImplUnitTest {
             )
           )
         )
+        .openApiCoverageCriteria(Set.of(PATH_COVERAGE))
         .build();
-      var openAPI = mock(OpenAPI.class);
+      var parsedOpenApi = ParsedOpenApi.of(mock(OpenAPI.class));
 
-      doReturn(openAPI)
+      doReturn(parsedOpenApi)
         .when(openApiServiceMock)
         .findAndParseOpenApi(apiInformation);
 
@@ -86,9 +101,13 @@ class OpenApiCoverageCalculationServiceImplUnitTest {
 
       assertThat(result).isNotNull();
       assertThat(result.apiInformation()).isEqualTo(apiInformation);
-      assertThat(result.openAPI()).isEqualTo(openAPI);
+      assertThat(result.openAPI()).isEqualTo(parsedOpenApi.openAPI());
+      assertThat(result.pathIndex()).isEqualTo(parsedOpenApi.pathIndex());
       assertThat(result.lookbackWindow()).isEqualTo("1h");
       assertThat(result.attributeFilters()).hasSize(1);
+      assertThat(result.openApiCoverageCriteria()).containsExactly(
+        PATH_COVERAGE
+      );
     }
 
     public static Stream<Exception> shouldPropagateExceptions() {
@@ -148,6 +167,59 @@ class OpenApiCoverageCalculationServiceImplUnitTest {
     }
   }
 
+  @Nested
+  class EnrichWithOperationTelemetryTest {
+
+    @Test
+    void shouldEnrichWithSummarizedTelemetry() {
+      var context = new OpenApiTestContext(
+        defaultApiInformation(),
+        mock(OpenAPI.class),
+        "7d",
+        Set.of()
+      );
+      KeyValueStore<String, CoverageState> coverageStateStore = mock();
+      var operationTelemetry = Map.of("GET_/pets", OperationTelemetry.EMPTY);
+
+      doReturn(operationTelemetry)
+        .when(coverageStateServiceMock)
+        .summarizeTelemetry(context, 12345L, coverageStateStore);
+
+      var result = fixture.enrichWithOperationTelemetry(
+        context,
+        12345L,
+        coverageStateStore
+      );
+
+      assertThat(result.operationTelemetry()).isEqualTo(operationTelemetry);
+      assertThat(result.openTelemetryData()).isNull();
+    }
+  }
+
+  @Nested
+  class EnrichWithStreamedTelemetryTest {
+
+    @Test
+    void shouldEnrichWithAggregatedTelemetry() {
+      var context = new OpenApiTestContext(
+        defaultApiInformation(),
+        mock(OpenAPI.class),
+        "1h",
+        Set.of()
+      );
+      var operationTelemetry = Map.of("GET_/pets", OperationTelemetry.EMPTY);
+
+      doReturn(operationTelemetry)
+        .when(spanCoverageServiceMock)
+        .summarizeTelemetry(context, 12345L);
+
+      var result = fixture.enrichWithStreamedTelemetry(context, 12345L);
+
+      assertThat(result.operationTelemetry()).isEqualTo(operationTelemetry);
+      assertThat(result.openTelemetryData()).isNull();
+    }
+  }
+
   @Nested
   class CalculateCoverageTest {
 
@@ -182,10 +254,8 @@ class OpenApiCoverageCalculationServiceImplUnitTest {
         apiInformation,
         mock(OpenAPI.class),
         "1h",
-        Set.of(),
-        null,
-        testResults
-      );
+        Set.of()
+      ).withOpenApiTestResults(testResults);
 
       var result = fixture.buildResponseEvent(context);
 
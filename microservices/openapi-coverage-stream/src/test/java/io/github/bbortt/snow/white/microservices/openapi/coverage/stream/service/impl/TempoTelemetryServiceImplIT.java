@@ -72,9 +72,7 @@ class TempoTelemetryServiceImplIT
         var data = result.iterator().next();
         assertThat(data.traceId()).isEqualTo(traceId);
         assertThat(data.spanId()).isEqualTo(spanId);
-        assertThat(data.attributes().get("http.method").asString()).isEqualTo(
-          "GET"
-        );
+        assertThat(data.attributes().getString("http.method")).isEqualTo("GET");
       });
   }
 
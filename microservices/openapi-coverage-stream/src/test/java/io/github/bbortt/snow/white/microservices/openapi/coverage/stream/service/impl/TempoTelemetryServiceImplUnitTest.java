@@ -6,6 +6,7 @@
 
 package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.impl;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -19,6 +20,7 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.TempoProperties;
 import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
@@ -30,6 +32,7 @@ import org.springframework.web.client.RestClient;
 class TempoTelemetryServiceImplUnitTest {
 
   private WireMockServer wireMockServer;
+  private TempoProperties tempoProperties;
   private TempoTelemetryServiceImpl fixture;
 
   @BeforeEach
@@ -37,12 +40,18 @@ class TempoTelemetryServiceImplUnitTest {
     wireMockServer = new WireMockServer(0);
     wireMockServer.start();
 
+    tempoProperties = new TempoProperties();
+    fixture = createFixture();
+  }
+
+  private TempoTelemetryServiceImpl createFixture() {
     var restClient = RestClient.builder()
       .baseUrl(wireMockServer.baseUrl())
       .build();
 
-    fixture = new TempoTelemetryServiceImpl(
+    return new TempoTelemetryServiceImpl(
       restClient,
+      tempoProperties,
       new OpenApiCoverageStreamProperties()
     );
   }
@@ -95,6 +104,9 @@ class TempoTelemetryServiceImplUnitTest {
       assertThat(request.getQueryParams().get("end").firstValue()).isEqualTo(
         "1704067200"
       );
+      assertThat(request.getQueryParams().get("spss").firstValue()).isEqualTo(
+        "100"
+      );
     }
 
     @Test
@@ -246,7 +258,7 @@ class TempoTelemetryServiceImplUnitTest {
         )
       );
 
-      Set<OpenTelemetryData> result = fixture.findOpenTelemetryTracingData(
+      var result = fixture.findOpenTelemetryTracingData(
         API_INFORMATION,
         LOOKBACK_FROM,
         LOOKBACK_WINDOW,
@@ -260,10 +272,10 @@ class TempoTelemetryServiceImplUnitTest {
             assertThat(data1.spanId()).isEqualTo(spanId1Hex);
             assertThat(data1.traceId()).isEqualTo(traceId1);
             assertThat(
-              data1.attributes().get("http.method").asString()
+              data1.attributes().getString("http.method")
             ).isEqualTo("GET");
             assertThat(
-              data1.attributes().get("http.path").asString()
+              data1.attributes().getString("http.path")
             ).isEqualTo("/api/v1/test");
             assertThat(data1.attributes().has("http.status_code")).isFalse();
           },
@@ -271,10 +283,10 @@ class TempoTelemetryServiceImplUnitTest {
             assertThat(data2.spanId()).isEqualTo(spanId2Hex);
             assertThat(data2.traceId()).isEqualTo(traceId2);
             assertThat(
-              data2.attributes().get("http.method").asString()
+              data2.attributes().getString("http.method")
             ).isEqualTo("POST");
             assertThat(
-              data2.attributes().get("http.path").asString()
+              data2.attributes().getString("http.path")
             ).isEqualTo("/api/v1/create");
           }
         );
@@ -338,7 +350,7 @@ class TempoTelemetryServiceImplUnitTest {
         )
       );
 
-      Set<OpenTelemetryData> result = fixture.findOpenTelemetryTracingData(
+      var result = fixture.findOpenTelemetryTracingData(
         API_INFORMATION,
         LOOKBACK_FROM,
         LOOKBACK_WINDOW,
@@ -349,5 +361,132 @@ class TempoTelemetryServiceImplUnitTest {
         .singleElement()
         .satisfies(data -> assertThat(data.traceId()).isEqualTo(fullTraceId));
     }
+
+    @Test
+    void withSelectEnabled_shouldReadAttributesFromSearchResults() {
+      wireMockServer.resetAll();
+
+      tempoProperties.getSelect().setEnabled(true);
+      fixture = createFixture();
+
+      var spanIdHex = "3f1a2c9e7d4b8a61";
+      var traceId = "f2c79a8d4bce407aa65c1e7289f6febb";
+
+      // language=json
+      var searchResponseBody = """
+      {
+        "traces": [
+          {
+            "traceID": "%s",
+            "spanSet": {
+              "spans": [
+                {
+                  "spanID": "%s",
+                  "attributes": [
+                    {
+                      "key": "http.request.method",
+                      "value": { "stringValue": "GET" }
+                    }
+                  ]
+                }
+              ]
+            }
+          }
+        ]
+      }
+      """.formatted(traceId, spanIdHex);
+
+      wireMockServer.stubFor(
+        get(urlPathEqualTo("/api/search")).willReturn(
+          okJson(searchResponseBody)
+        )
+      );
+
+      var result = fixture.findOpenTelemetryTracingData(
+        API_INFORMATION,
+        LOOKBACK_FROM,
+        LOOKBACK_WINDOW,
+        emptySet()
+      );
+
+      assertThat(result)
+        .singleElement()
+        .satisfies(data -> {
+          assertThat(data.spanId()).isEqualTo(spanIdHex);
+          assertThat(data.traceId()).isEqualTo(traceId);
+          assertThat(
+            data.attributes().getString("http.request.method")
+          ).isEqualTo("GET");
+        });
+
+      var serveEvents = wireMockServer.getAllServeEvents();
+      assertThat(serveEvents)
+        .singleElement()
+        .satisfies(serveEvent ->
+          assertThat(
+            serveEvent.getRequest().getQueryParams().get("q").firstValue()
+          ).contains(
+            " | select(span.\"http.request.method\", ",
+            "span.\"http.request.header.content-type\")"
+          )
+        );
+    }
+
+    @Test
+    void withSaturatedSearchWindow_shouldSearchHalvesSeparately() {
+      wireMockServer.resetAll();
+
+      tempoProperties.setSearchLimit(2);
+      tempoProperties.getSelect().setEnabled(true);
+      fixture = createFixture();
+
+      // language=json
+      var spanTemplate = """
+      { "traceID": "%s", "spanSet": { "spans": [{ "spanID": "%s" }] } }
+      """;
+      var traceA = spanTemplate.formatted(
+        "f2c79a8d4bce407aa65c1e7289f6febb",
+        "3f1a2c9e7d4b8a61"
+      );
+      var traceB = spanTemplate.formatted(
+        "b1e24f988ab04129be3e2cd9275c991a",
+        "8a7d2e4b9c3f1d0a"
+      );
+      var traceC = spanTemplate.formatted(
+        "069208015c154536b622b34aec8865f6",
+        "1d0a8a7d2e4b9c3f"
+      );
+
+      stubSearch("1704063600", "1704067200", traceA + "," + traceB);
+      stubSearch("1704063600", "1704065400", traceA);
+      stubSearch("1704065400", "1704067200", traceB + "," + traceC);
+      stubSearch("1704065400", "1704066300", traceB);
+      stubSearch("1704066300", "1704067200", traceC);
+
+      var result = fixture.findOpenTelemetryTracingData(
+        API_INFORMATION,
+        LOOKBACK_FROM,
+        LOOKBACK_WINDOW,
+        emptySet()
+      );
+
+      assertThat(result)
+        .extracting(OpenTelemetryData::spanId)
+        .containsExactlyInAnyOrder(
+          "3f1a2c9e7d4b8a61",
+          "8a7d2e4b9c3f1d0a",
+          "1d0a8a7d2e4b9c3f"
+        );
+      assertThat(wireMockServer.getAllServeEvents()).hasSize(5);
+    }
+
+    private void stubSearch(String start, String end, String traces) {
+      wireMockServer.stubFor(
+        get(urlPathEqualTo("/api/search"))
+          .withQueryParam("start", equalTo(start))
+          .withQueryParam("end", equalTo(end))
+          .willReturn(okJson("{\"traces\":[" + traces + "]}"))
+      );
+    }
   }
 }
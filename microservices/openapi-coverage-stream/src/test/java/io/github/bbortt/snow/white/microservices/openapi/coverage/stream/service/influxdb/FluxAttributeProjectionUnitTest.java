@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.influxdb;
+
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.SPAN_ID_KEY;
+import static io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.OpenTelemetryData.TRACE_ID_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.influxdb.query.FluxRecord;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.CoverageAttributes;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class FluxAttributeProjectionUnitTest {
+
+  private static final String OPERATION_ID_ATTRIBUTE = "openapi.operation.id";
+
+  private FluxAttributeProjection fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new FluxAttributeProjection(
+      CoverageAttributes.of(OPERATION_ID_ATTRIBUTE, Set.of("X-Request-ID"))
+    );
+  }
+
+  @Nested
+  class ColumnNamesTest {
+
+    @Test
+    void shouldContainAttributesUsedForCoverageCalculation() {
+      assertThat(fixture.columnNames()).containsExactly(
+        "http.request.method",
+        "url.path",
+        "http.route",
+        "http.response.status_code",
+        "url.query",
+        OPERATION_ID_ATTRIBUTE,
+        "http.request.header.content-type",
+        "http.request.header.x-request-id"
+      );
+    }
+  }
+
+  @Nested
+  class ToFluxColumnMappingsTest {
+
+    @Test
+    void shouldMapPlainAttributesAsIs() {
+      assertThat(fixture.toFluxColumnMappings()).contains(
+        "\"url.path\": parsed[\"url.path\"]"
+      );
+    }
+
+    @Test
+    void shouldEncodeRequestHeaders() {
+      assertThat(fixture.toFluxColumnMappings()).contains(
+        "\"http.request.header.content-type\": if exists parsed[\"http.request.header.content-type\"] then string(v: json.encode(v: parsed[\"http.request.header.content-type\"])) else \"\""
+      );
+    }
+  }
+
+  @Nested
+  class ToOpenTelemetryDataTest {
+
+    @Test
+    void shouldRestoreAttributesFromColumns() {
+      var fluxRecord = mock(FluxRecord.class);
+      doReturn("3f1a2c9e7d4b8a61").when(fluxRecord).getValueByKey(SPAN_ID_KEY);
+      doReturn("f2c79a8d4bce407aa65c1e7289f6febb")
+        .when(fluxRecord)
+        .getValueByKey(TRACE_ID_KEY);
+      doReturn("GET").when(fluxRecord).getValueByKey("http.request.method");
+      // json.parse yields floats for all JSON numbers
+      doReturn(200.0)
+        .when(fluxRecord)
+        .getValueByKey("http.response.status_code");
+      doReturn("[\"application/json\"]")
+        .when(fluxRecord)
+        .getValueByKey("http.request.header.content-type");
+      doReturn("").when(fluxRecord).getValueByKey(
+        "http.request.header.x-request-id"
+      );
+
+      var result = fixture.toOpenTelemetryData(fluxRecord);
+
+      assertThat(result.spanId()).isEqualTo("3f1a2c9e7d4b8a61");
+      assertThat(result.traceId()).isEqualTo(
+        "f2c79a8d4bce407aa65c1e7289f6febb"
+      );
+      assertThat(result.attributes()).isEqualTo(expectedAttributes());
+      assertThat(
+        result.attributes().getString("http.response.status_code")
+      ).isEqualTo("200");
+    }
+
+    @Test
+    void shouldKeepFractionalNumbers() {
+      var fluxRecord = mock(FluxRecord.class);
+      doReturn("3f1a2c9e7d4b8a61").when(fluxRecord).getValueByKey(SPAN_ID_KEY);
+      doReturn("f2c79a8d4bce407aa65c1e7289f6febb")
+        .when(fluxRecord)
+        .getValueByKey(TRACE_ID_KEY);
+      doReturn(1.5).when(fluxRecord).getValueByKey("url.query");
+
+      var result = fixture.toOpenTelemetryData(fluxRecord);
+
+      assertThat(result.attributes().getString("url.query")).isEqualTo("1.5");
+    }
+
+    private static SpanAttributes expectedAttributes() {
+      return SpanAttributes.builder()
+        .put("http.request.method", "GET")
+        .put("http.response.status_code", 200L)
+        .put("http.request.header.content-type", List.of("application/json"))
+        .build();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.otlp;
+
+import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.config.OpenApiCoverageStreamProperties;
+import io.github.bbortt.snow.white.microservices.openapi.coverage.stream.service.dto.SpanAttributes;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OtlpJsonSpanReaderUnitTest {
+
+  private OtlpJsonSpanReader fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new OtlpJsonSpanReader(
+      new OpenApiCoverageStreamProperties().getFiltering()
+    );
+  }
+
+  @Nested
+  class ReadTest {
+
+    @Test
+    void shouldResolveApiFromResourceScopeAndSpanAttributes() {
+      var exportTraceServiceRequest =
+        // language=json
+        """
+        {
+          "resourceSpans": [{
+            "resource": {
+              "attributes": [
+                { "key": "service.name", "value": { "stringValue": "pet-service" } },
+                { "key": "api.name", "value": { "stringValue": "ignored" } }
+              ]
+            },
+            "scopeSpans": [{
+              "scope": {
+                "attributes": [
+                  { "key": "api.name", "value": { "stringValue": "petstore" } }
+                ]
+              },
+              "spans": [{
+                "traceId": "9/Kaoo0vQHqmXB5yifb+uw==",
+                "spanId": "PxosnX1LimE=",
+                "attributes": [
+                  { "key": "api.version", "value": { "stringValue": "1.0.0" } },
+                  { "key": "http.request.method", "value": { "stringValue": "GET" } },
+                  { "key": "http.response.status_code", "value": { "intValue": "200" } },
+                  { "key": "http.server.request.duration", "value": { "doubleValue": 0.25 } },
+                  { "key": "error", "value": { "boolValue": false } },
+                  {
+                    "key": "http.request.header.content-type",
+                    "value": { "arrayValue": { "values": [{ "stringValue": "application/json" }] } }
+                  }
+                ]
+              }]
+            }]
+          }]
+        }
+        """;
+
+      var result = fixture.read(exportTraceServiceRequest.getBytes(UTF_8));
+
+      assertThat(result)
+        .singleElement()
+        .satisfies(
+          span ->
+            assertThat(span.apiInformation()).isEqualTo(
+              ApiInformation.builder()
+                .serviceName("pet-service")
+                .apiName("petstore")
+                .apiVersion("1.0.0")
+                .apiType(OPENAPI)
+                .build()
+            ),
+          span ->
+            assertThat(span.openTelemetryData().spanId()).isEqualTo(
+              "PxosnX1LimE="
+            ),
+          span ->
+            assertThat(span.openTelemetryData().traceId()).isEqualTo(
+              "9/Kaoo0vQHqmXB5yifb+uw=="
+            ),
+          span ->
+            assertThat(span.openTelemetryData().attributes()).isEqualTo(
+              expectedAttributes()
+            )
+        );
+    }
+
+    private static SpanAttributes expectedAttributes() {
+      return SpanAttributes.builder()
+        .put("api.version", "1.0.0")
+        .put("http.request.method", "GET")
+        // 64-bit integers are read as such, like InfluxDB returns them
+        .put("http.response.status_code", 200L)
+        .put("http.server.request.duration", 0.25)
+        .put("error", false)
+        .put("http.request.header.content-type", List.of("application/json"))
+        .build();
+    }
+
+    @Test
+    void shouldSkipSpansOfUnidentifiableApis() {
+      var exportTraceServiceRequest =
+        // language=json
+        """
+        {
+          "resourceSpans": [{
+            "resource": {
+              "attributes": [
+                { "key": "service.name", "value": { "stringValue": "pet-service" } }
+              ]
+            },
+            "scopeSpans": [{
+              "spans": [{
+                "traceId": "9/Kaoo0vQHqmXB5yifb+uw==",
+                "spanId": "PxosnX1LimE=",
+                "attributes": [
+                  { "key": "api.name", "value": { "stringValue": "petstore" } }
+                ]
+              }]
+            }]
+          }]
+        }
+        """;
+
+      assertThat(
+        fixture.read(exportTraceServiceRequest.getBytes(UTF_8))
+      ).isEmpty();
+    }
+  }
+}
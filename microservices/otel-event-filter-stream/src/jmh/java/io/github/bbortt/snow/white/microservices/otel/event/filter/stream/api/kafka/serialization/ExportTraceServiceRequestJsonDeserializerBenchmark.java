@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@code json} and {@code json-streaming} consumer modes on OTLP JSON batches of increasing size.
+ * <p>
+ * Run with {@code ./mvnw -Pjmh -pl :otel-event-filter-stream test-compile exec:exec -Djmh.args=JsonDeserializer}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class ExportTraceServiceRequestJsonDeserializerBenchmark {
+
+  private static final String TOPIC = "benchmark";
+
+  @Param({ "100", "5000" })
+  private int spansPerRequest;
+
+  private final ExportTraceServiceRequestJsonDeserializer jsonDeserializer =
+    new ExportTraceServiceRequestJsonDeserializer();
+  private final ExportTraceServiceRequestStreamingJsonDeserializer streamingJsonDeserializer =
+    new ExportTraceServiceRequestStreamingJsonDeserializer();
+
+  private byte[] json;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var scopeSpans = ScopeSpans.newBuilder();
+    for (int i = 0; i < spansPerRequest; i++) {
+      var span = Span.newBuilder()
+        .setName("span-" + i)
+        .setStartTimeUnixNano(1_760_000_000_000_000_000L + i)
+        .setEndTimeUnixNano(1_760_000_000_100_000_000L + i);
+
+      for (int a = 0; a < 16; a++) {
+        span.addAttributes(
+          KeyValue.newBuilder()
+            .setKey("attribute." + a)
+            .setValue(AnyValue.newBuilder().setStringValue("value-" + a))
+        );
+      }
+
+      scopeSpans.addSpans(span);
+    }
+
+    var exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+      .addResourceSpans(
+        ResourceSpans.newBuilder()
+          .setResource(
+            Resource.newBuilder().addAttributes(
+              KeyValue.newBuilder()
+                .setKey("service.name")
+                .setValue(AnyValue.newBuilder().setStringValue("benchmark"))
+            )
+          )
+          .addScopeSpans(scopeSpans)
+      )
+      .build();
+
+    json = new ExportTraceServiceRequestJsonSerializer().serialize(
+      TOPIC,
+      exportTraceServiceRequest
+    );
+  }
+
+  @Benchmark
+  public ExportTraceServiceRequest jsonFormat() {
+    return jsonDeserializer.deserialize(TOPIC, json);
+  }
+
+  @Benchmark
+  public ExportTraceServiceRequest streaming() {
+    return streamingJsonDeserializer.deserialize(TOPIC, json);
+  }
+}
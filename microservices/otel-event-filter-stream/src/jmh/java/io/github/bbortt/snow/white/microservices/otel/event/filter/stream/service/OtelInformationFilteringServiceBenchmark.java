@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link OtelInformationFilteringService#filterUnknownSpecifications(ExportTraceServiceRequest)} against
+ * batches shaped like the ones an OpenTelemetry collector exports: a few resources, each with a couple of
+ * instrumentation scopes and many wide spans. The API identifying attributes are spread across all three levels.
+ * <p>
+ * The serialized benchmarks compare the {@code protobuf} consumer mode (parse, filter, serialize) with the
+ * {@code protobuf-lazy} one, which filters the wire format through {@link OtelWireFormatFilteringService}.
+ * <p>
+ * Run with {@code ./mvnw -Pjmh -pl :otel-event-filter-stream test-compile exec:exec}.
+ * Add {@code -Djmh.args="-prof gc"} to see the allocation rate as well.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class OtelInformationFilteringServiceBenchmark {
+
+  private static final String SERVICE_NAME_ATTRIBUTE_KEY = "service.name";
+  private static final String API_NAME_ATTRIBUTE_KEY = "api.name";
+  private static final String API_VERSION_ATTRIBUTE_KEY = "api.version";
+
+  private static final int RESOURCE_SPANS_PER_REQUEST = 4;
+  private static final int SCOPE_SPANS_PER_RESOURCE = 3;
+
+  @Param({ "10", "100" })
+  private int spansPerScope;
+
+  @Param({ "8", "32" })
+  private int attributesPerSpan;
+
+  private OtelInformationFilteringService otelInformationFilteringService;
+  private ExportTraceServiceRequest exportTraceServiceRequest;
+
+  private OtelWireFormatFilteringService otelWireFormatFilteringService;
+  private byte[] serializedExportTraceServiceRequest;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var otelEventFilterStreamProperties = new OtelEventFilterStreamProperties();
+    var filteringProperties = otelEventFilterStreamProperties.getFiltering();
+    filteringProperties.setServiceNameAttributeKey(SERVICE_NAME_ATTRIBUTE_KEY);
+    filteringProperties.setApiNameAttributeKey(API_NAME_ATTRIBUTE_KEY);
+    filteringProperties.setApiVersionAttributeKey(API_VERSION_ATTRIBUTE_KEY);
+
+    otelInformationFilteringService = new OtelInformationFilteringService(
+      new KnownApisOnlyCachingService(),
+      otelEventFilterStreamProperties
+    );
+    otelWireFormatFilteringService = new OtelWireFormatFilteringService(
+      new KnownApisOnlyCachingService(),
+      otelEventFilterStreamProperties
+    );
+
+    var exportTraceServiceRequestBuilder =
+      ExportTraceServiceRequest.newBuilder();
+    for (int r = 0; r < RESOURCE_SPANS_PER_REQUEST; r++) {
+      exportTraceServiceRequestBuilder.addResourceSpans(resourceSpans(r));
+    }
+
+    exportTraceServiceRequest = exportTraceServiceRequestBuilder.build();
+    serializedExportTraceServiceRequest =
+      exportTraceServiceRequest.toByteArray();
+  }
+
+  @Benchmark
+  public ExportTraceServiceRequest filterUnknownSpecifications() {
+    return otelInformationFilteringService.filterUnknownSpecifications(
+      exportTraceServiceRequest
+    );
+  }
+
+  @Benchmark
+  public byte[] parseFilterAndSerialize()
+    throws InvalidProtocolBufferException {
+    return otelInformationFilteringService
+      .filterUnknownSpecifications(
+        ExportTraceServiceRequest.parseFrom(serializedExportTraceServiceRequest)
+      )
+      .toByteArray();
+  }
+
+  @Benchmark
+  public byte[] filterWireFormat() throws IOException {
+    return otelWireFormatFilteringService.filterUnknownSpecifications(
+      serializedExportTraceServiceRequest,
+      0
+    );
+  }
+
+  /**
+   * Only the first resource carries all identifying attributes on resource level.
+   * The others resolve the API name on scope level and the API version on span level,
+   * which is the worst case for the hierarchical lookup.
+   */
+  private ResourceSpans resourceSpans(int resourceIndex) {
+    var resource = Resource.newBuilder()
+      .addAttributes(
+        attribute(SERVICE_NAME_ATTRIBUTE_KEY, "service-" + resourceIndex)
+      )
+      .addAttributes(attribute("host.name", "host-" + resourceIndex))
+      .addAttributes(attribute("telemetry.sdk.language", "java"));
+
+    if (resourceIndex == 0) {
+      resource
+        .addAttributes(attribute(API_NAME_ATTRIBUTE_KEY, "api"))
+        .addAttributes(attribute(API_VERSION_ATTRIBUTE_KEY, "1.0.0"));
+    }
+
+    var resourceSpans = ResourceSpans.newBuilder().setResource(resource);
+    for (int s = 0; s < SCOPE_SPANS_PER_RESOURCE; s++) {
+      resourceSpans.addScopeSpans(scopeSpans(s));
+    }
+
+    return resourceSpans.build();
+  }
+
+  private ScopeSpans scopeSpans(int scopeIndex) {
+    var scopeSpans = ScopeSpans.newBuilder().setScope(
+      InstrumentationScope.newBuilder()
+        .setName("scope-" + scopeIndex)
+        .addAttributes(attribute(API_NAME_ATTRIBUTE_KEY, "api"))
+    );
+
+    for (int i = 0; i < spansPerScope; i++) {
+      scopeSpans.addSpans(span(i));
+    }
+
+    return scopeSpans.build();
+  }
+
+  private Span span(int spanIndex) {
+    var span = Span.newBuilder().setName("span-" + spanIndex);
+
+    for (int a = 1; a < attributesPerSpan; a++) {
+      span.addAttributes(attribute("attribute." + a, "value-" + a));
+    }
+
+    // Every other span belongs to an API that is unknown to Snow-White
+    return span
+      .addAttributes(
+        attribute(
+          API_VERSION_ATTRIBUTE_KEY,
+          spanIndex % 2 == 0 ? "1.0.0" : "0.0.1"
+        )
+      )
+      .build();
+  }
+
+  private static KeyValue attribute(String key, String value) {
+    return KeyValue.newBuilder()
+      .setKey(key)
+      .setValue(AnyValue.newBuilder().setStringValue(value))
+      .build();
+  }
+
+  private static final class KnownApisOnlyCachingService
+    implements CachingService
+  {
+
+    @Override
+    public boolean apiExists(
+      String otelServiceName,
+      String apiName,
+      String apiVersion
+    ) {
+      return "1.0.0".equals(apiVersion);
+    }
+
+    @Override
+    public void apiIndexed(
+      String otelServiceName,
+      String apiName,
+      String apiVersion
+    ) {
+      // Not part of the benchmark
+    }
+  }
+}
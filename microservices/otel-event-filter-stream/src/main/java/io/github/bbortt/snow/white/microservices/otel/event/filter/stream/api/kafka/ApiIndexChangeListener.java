@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka;
+
+import io.github.bbortt.snow.white.commons.event.ApiIndexedEvent;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.CachingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.kafka.listener.MessageListener;
+
+/**
+ * Keeps the local copy of the API index up to date, by consuming the change feed of the api-index-api.
+ */
+@Slf4j
+@NullMarked
+@RequiredArgsConstructor
+public class ApiIndexChangeListener
+  implements MessageListener<String, ApiIndexedEvent>
+{
+
+  private final CachingService cachingService;
+
+  @Override
+  public void onMessage(ConsumerRecord<String, ApiIndexedEvent> data) {
+    var apiIndexedEvent = data.value();
+    if (apiIndexedEvent == null) {
+      logger.trace("Ignoring tombstone for key '{}'", data.key());
+      return;
+    }
+
+    var apiInformation = apiIndexedEvent.apiInformation();
+    cachingService.apiIndexed(
+      apiInformation.getServiceName(),
+      apiInformation.getApiName(),
+      apiInformation.getApiVersion()
+    );
+  }
+}
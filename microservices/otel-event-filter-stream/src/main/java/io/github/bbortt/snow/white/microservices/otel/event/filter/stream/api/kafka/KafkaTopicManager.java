@@ -9,6 +9,7 @@ package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.k
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.PREFIX;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static org.springframework.util.StringUtils.hasText;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import lombok.extern.slf4j.Slf4j;
@@ -72,4 +73,29 @@ public class KafkaTopicManager {
 
     return TopicBuilder.name(outboundTopicName).build();
   }
+
+  @Bean
+  public NewTopic deadLetterTopic() {
+    var initTopics = environment.getProperty(
+      PREFIX + ".init-topics",
+      Boolean.class,
+      FALSE
+    );
+
+    if (!TRUE.equals(initTopics)) {
+      return null;
+    }
+
+    var deadLetterTopicName = otelEventFilterStreamProperties
+      .getErrorHandling()
+      .getDeadLetterTopicName();
+
+    if (!hasText(deadLetterTopicName)) {
+      return null;
+    }
+
+    logger.info("Creating dead-letter topic '{}'...", deadLetterTopicName);
+
+    return TopicBuilder.name(deadLetterTopicName).build();
+  }
 }
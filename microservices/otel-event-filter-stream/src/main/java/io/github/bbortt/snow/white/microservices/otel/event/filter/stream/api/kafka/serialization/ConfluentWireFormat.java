@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import lombok.NoArgsConstructor;
+
+/**
+ * The header the Confluent protobuf serializer puts in front of each serialized message.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class ConfluentWireFormat {
+
+  private static final byte MAGIC_BYTE = 0x0;
+  private static final int MAGIC_BYTE_AND_SCHEMA_ID_SIZE = 1 + Integer.BYTES;
+
+  /**
+   * Skips the header: magic byte, schema id and message indexes.
+   *
+   * @return the offset of the protobuf payload within {@code data}
+   */
+  public static int payloadOffset(byte[] data) throws IOException {
+    if (data.length < MAGIC_BYTE_AND_SCHEMA_ID_SIZE || data[0] != MAGIC_BYTE) {
+      throw new IOException("Unknown magic byte!");
+    }
+
+    var messageIndexes = CodedInputStream.newInstance(
+      data,
+      MAGIC_BYTE_AND_SCHEMA_ID_SIZE,
+      data.length - MAGIC_BYTE_AND_SCHEMA_ID_SIZE
+    );
+
+    // A count of zero is the shorthand for the first message in the schema
+    var messageIndexCount = messageIndexes.readSInt32();
+    for (int i = 0; i < messageIndexCount; i++) {
+      messageIndexes.readSInt32();
+    }
+
+    return MAGIC_BYTE_AND_SCHEMA_ID_SIZE + messageIndexes.getTotalBytesRead();
+  }
+}
@@ -6,6 +6,8 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.google.protobuf.util.JsonFormat;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.exception.SerializationException;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -22,7 +24,7 @@ public class ExportTraceServiceRequestJsonDeserializer
   public ExportTraceServiceRequest deserialize(String topic, byte[] bytes) {
     try {
       var builder = ExportTraceServiceRequest.newBuilder();
-      parser.merge(new String(bytes), builder);
+      parser.merge(new String(bytes, UTF_8), builder);
       return builder.build();
     } catch (Exception e) {
       throw new SerializationException(
@@ -6,6 +6,8 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.google.protobuf.util.JsonFormat;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.exception.SerializationException;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -23,7 +25,7 @@ public class ExportTraceServiceRequestJsonSerializer
     ExportTraceServiceRequest exportTraceServiceRequest
   ) {
     try {
-      return printer.print(exportTraceServiceRequest).getBytes();
+      return printer.print(exportTraceServiceRequest).getBytes(UTF_8);
     } catch (Exception e) {
       throw new SerializationException(
         "Error serializing protobuf JSON message",
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+import static com.google.protobuf.WireFormat.makeTag;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ConfluentWireFormat.payloadOffset;
+import static io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest.RESOURCE_SPANS_FIELD_NUMBER;
+import static java.util.Objects.isNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.exception.SerializationException;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Wraps the Confluent protobuf serde, so that payloads which have not been touched by the filter are forwarded
+ * byte-for-byte.
+ * <p>
+ * The deserializer associates every deserialized instance, and each of its {@code ResourceSpans}, with the raw
+ * inbound record they have been parsed from. The association is keyed by identity and only lives as long as the
+ * instances themselves. The serializer therefore only ever reuses bytes of the very value it has been given,
+ * regardless of how many records Kafka Streams has deserialized in between:
+ * <ul>
+ *     <li>If the filter returned the deserialized instance itself, the original bytes are forwarded as-is.</li>
+ *     <li>If the filter kept some {@code ResourceSpans} of a single inbound record, these are spliced from the
+ *     original payload and only the changed ones are encoded again.</li>
+ *     <li>Anything else is serialized by the wrapped serde.</li>
+ * </ul>
+ * Forwarded records keep the schema id of the inbound record.
+ */
+public class ExportTraceServiceRequestPassThroughSerde
+  implements Serde<ExportTraceServiceRequest>
+{
+
+  private static final int RESOURCE_SPANS_TAG = makeTag(
+    RESOURCE_SPANS_FIELD_NUMBER,
+    WIRETYPE_LENGTH_DELIMITED
+  );
+
+  private final Serde<ExportTraceServiceRequest> delegate;
+  private final Serializer<ExportTraceServiceRequest> delegateSerializer;
+
+  private final Cache<ExportTraceServiceRequest, InboundRecord> inboundRecords =
+    Caffeine.newBuilder().weakKeys().build();
+  private final Cache<ResourceSpans, InboundField> inboundResourceSpans =
+    Caffeine.newBuilder().weakKeys().build();
+
+  public ExportTraceServiceRequestPassThroughSerde(
+    Serde<ExportTraceServiceRequest> delegate
+  ) {
+    this.delegate = delegate;
+    this.delegateSerializer = delegate.serializer();
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    delegate.configure(configs, isKey);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public Serializer<ExportTraceServiceRequest> serializer() {
+    return new PassThroughSerializer();
+  }
+
+  @Override
+  public Deserializer<ExportTraceServiceRequest> deserializer() {
+    return new RecordingDeserializer();
+  }
+
+  /**
+   * Copies the header of the inbound record and the raw bytes of every {@code ResourceSpans} that has been parsed
+   * from it. All other {@code ResourceSpans} are encoded again.
+   */
+  private byte[] splice(
+    InboundRecord inboundRecord,
+    ExportTraceServiceRequest filtered
+  ) throws IOException {
+    var data = inboundRecord.data();
+
+    var outputStream = new ByteArrayOutputStream(data.length);
+    outputStream.write(data, 0, inboundRecord.payloadOffset());
+
+    var output = CodedOutputStream.newInstance(outputStream);
+    for (var resourceSpans : filtered.getResourceSpansList()) {
+      var inboundField = inboundResourceSpans.getIfPresent(resourceSpans);
+      if (
+        inboundField != null && inboundField.inboundRecord() == inboundRecord
+      ) {
+        output.writeRawBytes(
+          data,
+          inboundField.start(),
+          inboundField.end() - inboundField.start()
+        );
+      } else {
+        output.writeMessage(RESOURCE_SPANS_FIELD_NUMBER, resourceSpans);
+      }
+    }
+
+    filtered.getUnknownFields().writeTo(output);
+
+    output.flush();
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Returns the single inbound record all known {@code ResourceSpans} of the {@code filtered} request have been
+   * parsed from, or {@code null} if there is none.
+   */
+  private @Nullable InboundRecord spliceSource(
+    ExportTraceServiceRequest filtered
+  ) {
+    InboundRecord inboundRecord = null;
+
+    for (var resourceSpans : filtered.getResourceSpansList()) {
+      var inboundField = inboundResourceSpans.getIfPresent(resourceSpans);
+      if (isNull(inboundField)) {
+        continue;
+      }
+
+      if (isNull(inboundRecord)) {
+        inboundRecord = inboundField.inboundRecord();
+      } else if (inboundRecord != inboundField.inboundRecord()) {
+        return null;
+      }
+    }
+
+    return inboundRecord;
+  }
+
+  private void register(
+    InboundRecord inboundRecord,
+    ExportTraceServiceRequest exportTraceServiceRequest
+  ) throws IOException {
+    var data = inboundRecord.data();
+    var payloadOffset = inboundRecord.payloadOffset();
+
+    var input = CodedInputStream.newInstance(
+      data,
+      payloadOffset,
+      data.length - payloadOffset
+    );
+
+    var resourceSpansIndex = 0;
+    while (true) {
+      var fieldStart = payloadOffset + input.getTotalBytesRead();
+
+      var tag = input.readTag();
+      if (tag == 0) {
+        break;
+      }
+
+      input.skipField(tag);
+
+      if (tag == RESOURCE_SPANS_TAG) {
+        inboundResourceSpans.put(
+          exportTraceServiceRequest.getResourceSpans(resourceSpansIndex++),
+          new InboundField(
+            inboundRecord,
+            fieldStart,
+            payloadOffset + input.getTotalBytesRead()
+          )
+        );
+      }
+    }
+
+    inboundRecords.put(exportTraceServiceRequest, inboundRecord);
+  }
+
+  /**
+   * Must not reference the deserialized instance, because it is the value of weakly keyed associations.
+   */
+  private record InboundRecord(byte[] data, int payloadOffset) {}
+
+  private record InboundField(
+    InboundRecord inboundRecord,
+    int start,
+    int end
+  ) {}
+
+  private class RecordingDeserializer
+    implements Deserializer<ExportTraceServiceRequest>
+  {
+
+    @Override
+    public @Nullable ExportTraceServiceRequest deserialize(
+      String topic,
+      byte @Nullable [] data
+    ) {
+      if (data == null) {
+        return null;
+      }
+
+      try {
+        var payloadOffset = payloadOffset(data);
+        var exportTraceServiceRequest = ExportTraceServiceRequest.parser()
+          .parseFrom(data, payloadOffset, data.length - payloadOffset);
+
+        register(
+          new InboundRecord(data, payloadOffset),
+          exportTraceServiceRequest
+        );
+
+        return exportTraceServiceRequest;
+      } catch (IOException e) {
+        throw new SerializationException(
+          "Error deserializing protobuf message",
+          e
+        );
+      }
+    }
+  }
+
+  private class PassThroughSerializer
+    implements Serializer<ExportTraceServiceRequest>
+  {
+
+    @Override
+    public byte @Nullable [] serialize(
+      String topic,
+      @Nullable ExportTraceServiceRequest data
+    ) {
+      return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte @Nullable [] serialize(
+      String topic,
+      @Nullable Headers headers,
+      @Nullable ExportTraceServiceRequest data
+    ) {
+      if (data != null) {
+        var inboundRecord = inboundRecords.getIfPresent(data);
+        if (inboundRecord != null) {
+          return inboundRecord.data();
+        }
+
+        var spliceSource = spliceSource(data);
+        if (spliceSource != null) {
+          try {
+            return splice(spliceSource, data);
+          } catch (IOException e) {
+            throw new SerializationException(
+              "Error splicing protobuf message",
+              e
+            );
+          }
+        }
+      }
+
+      return delegateSerializer.serialize(topic, headers, data);
+    }
+  }
+}
@@ -22,4 +22,11 @@ public final class ExportTraceServiceRequestSerdes {
       new ExportTraceServiceRequestJsonDeserializer()
     );
   }
+
+  public static Serde<ExportTraceServiceRequest> StreamingJsonSerde() {
+    return serdeFrom(
+      new ExportTraceServiceRequestJsonSerializer(),
+      new ExportTraceServiceRequestStreamingJsonDeserializer()
+    );
+  }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static tools.jackson.core.JsonToken.END_ARRAY;
+import static tools.jackson.core.JsonToken.END_OBJECT;
+import static tools.jackson.core.JsonToken.START_ARRAY;
+import static tools.jackson.core.JsonToken.START_OBJECT;
+import static tools.jackson.core.JsonToken.VALUE_NULL;
+import static tools.jackson.core.JsonToken.VALUE_STRING;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.exception.SerializationException;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Parses protobuf JSON straight from the record bytes, without materializing an intermediate JSON tree.
+ * <p>
+ * Produces the same messages as {@link ExportTraceServiceRequestJsonDeserializer} for everything the OTLP trace
+ * protocol uses: camelCase and original field names, 64-bit integers as numbers or strings, enums as names or numbers
+ * and base64 encoded bytes. Unknown fields are ignored.
+ * Maps and well-known types do not occur in OTLP and are not supported.
+ */
+public class ExportTraceServiceRequestStreamingJsonDeserializer
+  implements Deserializer<ExportTraceServiceRequest>
+{
+
+  private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+  private static final Map<Descriptor, Map<String, FieldDescriptor>> FIELDS_BY_JSON_NAME =
+    new ConcurrentHashMap<>();
+
+  @Override
+  public @Nullable ExportTraceServiceRequest deserialize(
+    String topic,
+    byte @Nullable [] bytes
+  ) {
+    if (bytes == null) {
+      return null;
+    }
+
+    try (var parser = JSON_MAPPER.createParser(bytes)) {
+      if (parser.nextToken() != START_OBJECT) {
+        throw new IllegalArgumentException("Expected a JSON object");
+      }
+
+      var builder = ExportTraceServiceRequest.newBuilder();
+      mergeMessage(parser, builder);
+      return builder.build();
+    } catch (Exception e) {
+      throw new SerializationException(
+        "Error deserializing protobuf JSON message",
+        e
+      );
+    }
+  }
+
+  /**
+   * Merges the JSON object the {@code parser} currently points at into the {@code builder}.
+   */
+  private static void mergeMessage(JsonParser parser, Message.Builder builder) {
+    var fields = fieldsByJsonName(builder.getDescriptorForType());
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != END_OBJECT) {
+      if (token == null) {
+        throw new IllegalArgumentException("Unexpected end of JSON input");
+      }
+
+      var field = fields.get(parser.currentName());
+      token = parser.nextToken();
+
+      if (field == null || token == VALUE_NULL) {
+        parser.skipChildren();
+      } else if (field.isRepeated()) {
+        mergeRepeatedField(parser, builder, field, token);
+      } else {
+        var value = readValue(parser, builder, field, token);
+        if (value != null) {
+          builder.setField(field, value);
+        }
+      }
+    }
+  }
+
+  private static void mergeRepeatedField(
+    JsonParser parser,
+    Message.Builder builder,
+    FieldDescriptor field,
+    JsonToken token
+  ) {
+    if (token != START_ARRAY) {
+      throw new IllegalArgumentException(
+        "Expected an array for repeated field " + field.getFullName()
+      );
+    }
+
+    JsonToken element;
+    while ((element = parser.nextToken()) != END_ARRAY) {
+      if (element == null) {
+        throw new IllegalArgumentException("Unexpected end of JSON input");
+      } else if (element == VALUE_NULL) {
+        continue;
+      }
+
+      var value = readValue(parser, builder, field, element);
+      if (value != null) {
+        builder.addRepeatedField(field, value);
+      }
+    }
+  }
+
+  /**
+   * Returns {@code null} for enum names that are unknown to the schema, which are ignored like unknown fields.
+   */
+  private static @Nullable Object readValue(
+    JsonParser parser,
+    Message.Builder builder,
+    FieldDescriptor field,
+    JsonToken token
+  ) {
+    return switch (field.getJavaType()) {
+      case MESSAGE -> {
+        if (token != START_OBJECT) {
+          throw new IllegalArgumentException(
+            "Expected an object for field " + field.getFullName()
+          );
+        }
+
+        var child = builder.newBuilderForField(field);
+        mergeMessage(parser, child);
+        yield child.build();
+      }
+      case STRING -> parser.getValueAsString();
+      case BOOLEAN -> token == VALUE_STRING
+        ? Boolean.parseBoolean(parser.getValueAsString())
+        : parser.getBooleanValue();
+      case INT -> token == VALUE_STRING
+        ? parseInt(parser.getValueAsString(), field)
+        : (int) parser.getLongValue();
+      case LONG -> token == VALUE_STRING
+        ? parseLong(parser.getValueAsString(), field)
+        : parser.getLongValue();
+      case DOUBLE -> token == VALUE_STRING
+        ? Double.parseDouble(parser.getValueAsString())
+        : parser.getDoubleValue();
+      case FLOAT -> token == VALUE_STRING
+        ? Float.parseFloat(parser.getValueAsString())
+        : parser.getFloatValue();
+      case BYTE_STRING -> ByteString.copyFrom(
+        decodeBase64(parser.getValueAsString())
+      );
+      case ENUM -> token == VALUE_STRING
+        ? field.getEnumType().findValueByName(parser.getValueAsString())
+        : field
+            .getEnumType()
+            .findValueByNumberCreatingIfUnknown(parser.getIntValue());
+    };
+  }
+
+  private static int parseInt(String value, FieldDescriptor field) {
+    return switch (field.getType()) {
+      case UINT32, FIXED32 -> Integer.parseUnsignedInt(value);
+      default -> Integer.parseInt(value);
+    };
+  }
+
+  private static long parseLong(String value, FieldDescriptor field) {
+    return switch (field.getType()) {
+      case UINT64, FIXED64 -> Long.parseUnsignedLong(value);
+      default -> Long.parseLong(value);
+    };
+  }
+
+  private static byte[] decodeBase64(String value) {
+    if (value.indexOf('-') >= 0 || value.indexOf('_') >= 0) {
+      return Base64.getUrlDecoder().decode(value);
+    }
+
+    return Base64.getDecoder().decode(value);
+  }
+
+  private static Map<String, FieldDescriptor> fieldsByJsonName(
+    Descriptor descriptor
+  ) {
+    return FIELDS_BY_JSON_NAME.computeIfAbsent(descriptor, d -> {
+      var fields = new HashMap<String, FieldDescriptor>();
+      for (var field : d.getFields()) {
+        if (field.isMapField()) {
+          throw new UnsupportedOperationException(
+            "Map fields are not supported: " + field.getFullName()
+          );
+        }
+
+        fields.put(field.getJsonName(), field);
+        fields.put(field.getName(), field);
+      }
+
+      return Map.copyOf(fields);
+    });
+  }
+}
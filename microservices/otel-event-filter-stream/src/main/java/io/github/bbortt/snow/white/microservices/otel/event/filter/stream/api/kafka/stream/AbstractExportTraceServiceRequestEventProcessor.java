@@ -6,6 +6,7 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Objects.nonNull;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
@@ -17,25 +18,55 @@ import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Repartitioned;
 
 @Slf4j
 public abstract class AbstractExportTraceServiceRequestEventProcessor {
 
+  static final String FAN_OUT_REPARTITION_NAME = "fan-out";
+
   private final OtelInformationFilteringService otelInformationFilteringService;
+  private final ProcessingErrorHandler processingErrorHandler;
 
   private final String inboundTopicName;
   private final String outboundTopicName;
 
+  private final boolean fanOutEnabled;
+  private final ExportTraceServiceRequestSplitter exportTraceServiceRequestSplitter;
+  private final int fanOutPartitions;
+
   protected AbstractExportTraceServiceRequestEventProcessor(
     OtelInformationFilteringService otelInformationFilteringService,
-    OtelEventFilterStreamProperties otelEventFilterStreamProperties
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler
   ) {
     this.otelInformationFilteringService = otelInformationFilteringService;
+    this.processingErrorHandler = processingErrorHandler;
 
     this.inboundTopicName =
       otelEventFilterStreamProperties.getInboundTopicName();
     this.outboundTopicName =
       otelEventFilterStreamProperties.getOutboundTopicName();
+
+    var fanOutProperties = otelEventFilterStreamProperties.getFanOut();
+    this.fanOutEnabled = TRUE.equals(fanOutProperties.getEnabled());
+    this.exportTraceServiceRequestSplitter =
+      new ExportTraceServiceRequestSplitter(
+        otelEventFilterStreamProperties
+          .getFiltering()
+          .getServiceNameAttributeKey(),
+        fanOutProperties.getMaxSpansPerRecord()
+      );
+    this.fanOutPartitions = nonNull(fanOutProperties.getPartitions())
+      ? fanOutProperties.getPartitions()
+      : 0;
+
+    if (fanOutEnabled) {
+      logger.info(
+        "Enabled fan-out with at most {} spans per record",
+        fanOutProperties.getMaxSpansPerRecord()
+      );
+    }
   }
 
   protected KStream<String, ExportTraceServiceRequest> resourceSpansStream(
@@ -43,24 +74,22 @@ public abstract class AbstractExportTraceServiceRequestEventProcessor {
   ) {
     var stream = createStream(streamsBuilder, inboundTopicName);
 
-    stream
-      .peek((key, value) -> logger.debug("Handling message id '{}'", key))
-      .mapValues((key, value) -> {
-        try {
-          return otelInformationFilteringService.filterUnknownSpecifications(
-            value
-          );
-        } catch (Exception e) {
-          logger.error(
-            "Failed to process message with key {}: {}",
-            key,
-            e.getMessage(),
-            e
-          );
-
-          return null;
-        }
-      })
+    var outcomes = fanOut(
+      stream.peek((key, value) -> logger.debug("Handling message id '{}'", key))
+    ).mapValues((key, value) -> {
+      try {
+        return FilterOutcome.forward(
+          otelInformationFilteringService.filterUnknownSpecifications(value)
+        );
+      } catch (Exception e) {
+        return processingErrorHandler.handle(key, value, e);
+      }
+    });
+
+    processingErrorHandler.deadLetter(outcomes, outboundValueSerde());
+
+    outcomes
+      .mapValues(FilterOutcome::forward)
       .filter((key, exportTraceServiceRequest) ->
         nonNull(exportTraceServiceRequest)
       )
@@ -88,6 +117,32 @@ public abstract class AbstractExportTraceServiceRequestEventProcessor {
     return stream;
   }
 
+  /**
+   * Splits each request into smaller parts and distributes them through a repartition topic, if enabled.
+   * The repartition topic starts a new sub-topology, which filters the parts in parallel on all stream threads.
+   */
+  private KStream<String, ExportTraceServiceRequest> fanOut(
+    KStream<String, ExportTraceServiceRequest> stream
+  ) {
+    if (!fanOutEnabled) {
+      return stream;
+    }
+
+    var repartitioned = Repartitioned.<String, ExportTraceServiceRequest>as(
+      FAN_OUT_REPARTITION_NAME
+    )
+      .withKeySerde(Serdes.String())
+      .withValueSerde(outboundValueSerde());
+
+    if (fanOutPartitions > 0) {
+      repartitioned = repartitioned.withNumberOfPartitions(fanOutPartitions);
+    }
+
+    return stream
+      .flatMap(exportTraceServiceRequestSplitter::split)
+      .repartition(repartitioned);
+  }
+
   protected abstract KStream<String, ExportTraceServiceRequest> createStream(
     StreamsBuilder streamsBuilder,
     String inboundTopicName
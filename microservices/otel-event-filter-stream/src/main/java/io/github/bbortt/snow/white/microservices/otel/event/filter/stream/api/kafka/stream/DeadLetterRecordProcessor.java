@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ERROR_CAUSE_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_EXCEPTION_FQCN;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_EXCEPTION_MESSAGE;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_ORIGINAL_OFFSET;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_ORIGINAL_PARTITION;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_ORIGINAL_TOPIC;
+
+import java.nio.ByteBuffer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Unwraps dead-lettered values and describes the error in the record headers.
+ * Header names and encodings match the ones of Spring's {@code DeadLetterPublishingRecoverer}, which handles
+ * deserialization errors.
+ */
+class DeadLetterRecordProcessor<V>
+  implements FixedKeyProcessor<String, FilterOutcome<V>, V>
+{
+
+  private @Nullable FixedKeyProcessorContext<String, V> context;
+
+  @Override
+  public void init(FixedKeyProcessorContext<String, V> context) {
+    this.context = context;
+  }
+
+  @Override
+  public void process(FixedKeyRecord<String, FilterOutcome<V>> fixedKeyRecord) {
+    var processorContext = requireNonNull(context);
+    var outcome = fixedKeyRecord.value();
+
+    // Headers are shared with other branches of the topology
+    var headers = new RecordHeaders(fixedKeyRecord.headers().toArray());
+
+    var cause = outcome.cause();
+    if (nonNull(cause)) {
+      headers.add(ERROR_CAUSE_HEADER, cause.tag().getBytes(UTF_8));
+    }
+
+    var exception = outcome.exception();
+    if (nonNull(exception)) {
+      headers.add(
+        DLT_EXCEPTION_FQCN,
+        exception.getClass().getName().getBytes(UTF_8)
+      );
+
+      var message = exception.getMessage();
+      if (nonNull(message)) {
+        headers.add(DLT_EXCEPTION_MESSAGE, message.getBytes(UTF_8));
+      }
+    }
+
+    processorContext
+      .recordMetadata()
+      .ifPresent(recordMetadata -> {
+        headers.add(DLT_ORIGINAL_TOPIC, recordMetadata.topic().getBytes(UTF_8));
+        headers.add(
+          DLT_ORIGINAL_PARTITION,
+          ByteBuffer.allocate(Integer.BYTES)
+            .putInt(recordMetadata.partition())
+            .array()
+        );
+        headers.add(
+          DLT_ORIGINAL_OFFSET,
+          ByteBuffer.allocate(Long.BYTES)
+            .putLong(recordMetadata.offset())
+            .array()
+        );
+      });
+
+    processorContext.forward(
+      fixedKeyRecord.withValue(outcome.deadLetter()).withHeaders(headers)
+    );
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
+
+import static io.opentelemetry.proto.common.v1.AnyValue.ValueCase.STRING_VALUE;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.kafka.streams.KeyValue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Splits an {@link ExportTraceServiceRequest} into one request per {@link ResourceSpans}, and resource spans with many
+ * spans further into batches of at most {@code maxSpansPerRecord} spans.
+ * <p>
+ * Each part keeps its resource and instrumentation scopes, and is keyed by the service name of its resource. Parts of
+ * resources without a service name keep the key of the inbound record.
+ */
+class ExportTraceServiceRequestSplitter {
+
+  private final String serviceNameAttributeKey;
+  private final int maxSpansPerRecord;
+
+  ExportTraceServiceRequestSplitter(
+    String serviceNameAttributeKey,
+    int maxSpansPerRecord
+  ) {
+    this.serviceNameAttributeKey = serviceNameAttributeKey;
+    this.maxSpansPerRecord = maxSpansPerRecord;
+  }
+
+  List<KeyValue<String, ExportTraceServiceRequest>> split(
+    @Nullable String key,
+    @Nullable ExportTraceServiceRequest exportTraceServiceRequest
+  ) {
+    if (exportTraceServiceRequest == null) {
+      return List.of();
+    }
+
+    var resourceSpansList = exportTraceServiceRequest.getResourceSpansList();
+    if (
+      resourceSpansList.size() == 1 &&
+      !exceedsMaxSpans(resourceSpansList.getFirst())
+    ) {
+      return List.of(
+        KeyValue.pair(
+          partitionKey(key, resourceSpansList.getFirst()),
+          exportTraceServiceRequest
+        )
+      );
+    }
+
+    List<KeyValue<String, ExportTraceServiceRequest>> parts =
+      new ArrayList<>();
+    for (var resourceSpans : resourceSpansList) {
+      var partitionKey = partitionKey(key, resourceSpans);
+
+      if (exceedsMaxSpans(resourceSpans)) {
+        splitIntoBatches(resourceSpans, batch ->
+          parts.add(KeyValue.pair(partitionKey, wrap(batch)))
+        );
+      } else {
+        parts.add(KeyValue.pair(partitionKey, wrap(resourceSpans)));
+      }
+    }
+
+    return parts;
+  }
+
+  private boolean exceedsMaxSpans(ResourceSpans resourceSpans) {
+    if (maxSpansPerRecord <= 0) {
+      return false;
+    }
+
+    var spanCount = 0;
+    for (var scopeSpans : resourceSpans.getScopeSpansList()) {
+      spanCount += scopeSpans.getSpansCount();
+      if (spanCount > maxSpansPerRecord) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void splitIntoBatches(
+    ResourceSpans resourceSpans,
+    Consumer<ResourceSpans> batchConsumer
+  ) {
+    var batch = ResourceSpans.newBuilder(resourceSpans).clearScopeSpans();
+    var batchSize = 0;
+
+    for (var scopeSpans : resourceSpans.getScopeSpansList()) {
+      var spans = scopeSpans.getSpansList();
+
+      var from = 0;
+      while (from < spans.size()) {
+        var to = Math.min(spans.size(), from + maxSpansPerRecord - batchSize);
+
+        batch.addScopeSpans(
+          ScopeSpans.newBuilder(scopeSpans)
+            .clearSpans()
+            .addAllSpans(spans.subList(from, to))
+        );
+        batchSize += to - from;
+        from = to;
+
+        if (batchSize == maxSpansPerRecord) {
+          batchConsumer.accept(batch.build());
+          batch = ResourceSpans.newBuilder(resourceSpans).clearScopeSpans();
+          batchSize = 0;
+        }
+      }
+    }
+
+    if (batchSize > 0) {
+      batchConsumer.accept(batch.build());
+    }
+  }
+
+  private @Nullable String partitionKey(
+    @Nullable String key,
+    ResourceSpans resourceSpans
+  ) {
+    for (var attribute : resourceSpans.getResource().getAttributesList()) {
+      if (
+        attribute.getKey().equals(serviceNameAttributeKey) &&
+        attribute.getValue().getValueCase() == STRING_VALUE &&
+        hasText(attribute.getValue().getStringValue())
+      ) {
+        return attribute.getValue().getStringValue();
+      }
+    }
+
+    return key;
+  }
+
+  private static ExportTraceServiceRequest wrap(ResourceSpans resourceSpans) {
+    return ExportTraceServiceRequest.newBuilder()
+      .addResourceSpans(resourceSpans)
+      .build();
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of filtering a single record: a value to forward, a value to dead-letter, or neither.
+ */
+public record FilterOutcome<V>(
+  @Nullable V forward,
+  @Nullable V deadLetter,
+  ProcessingErrorHandler.@Nullable ErrorCause cause,
+  @Nullable Exception exception
+) {
+  public static <V> FilterOutcome<V> forward(@Nullable V value) {
+    return new FilterOutcome<>(value, null, null, null);
+  }
+
+  static <V> FilterOutcome<V> deadLetter(
+    V value,
+    ProcessingErrorHandler.ErrorCause cause,
+    Exception exception
+  ) {
+    return new FilterOutcome<>(null, value, cause, exception);
+  }
+
+  static <V> FilterOutcome<V> drop() {
+    return new FilterOutcome<>(null, null, null, null);
+  }
+
+  boolean isDeadLetter() {
+    return deadLetter != null;
+  }
+}
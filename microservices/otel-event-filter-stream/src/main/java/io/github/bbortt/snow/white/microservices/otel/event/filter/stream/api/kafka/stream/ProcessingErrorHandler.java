@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorAction.DEAD_LETTERED;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorAction.DROPPED;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorAction.PASSED_THROUGH;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorCause.API_INDEX_UNAVAILABLE;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorCause.DESERIALIZATION;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorCause.PROCESSING;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decides what happens to records that could not be filtered, and counts them per cause and action.
+ * <p>
+ * Failures of the api-index-api are handled according to the configured {@link ApiIndexUnavailablePolicy}.
+ * Any other failure is dead-lettered if a dead-letter topic has been configured, and dropped otherwise.
+ */
+@Slf4j
+public class ProcessingErrorHandler {
+
+  public static final String ERRORS_METER_NAME = "otel-event-filter.errors";
+  public static final String ERROR_CAUSE_HEADER = "snow-white-error-cause";
+
+  @Getter
+  private final @Nullable String deadLetterTopicName;
+
+  private final ApiIndexUnavailablePolicy apiIndexUnavailablePolicy;
+  private final MeterRegistry meterRegistry;
+
+  public ProcessingErrorHandler(
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    MeterRegistry meterRegistry
+  ) {
+    var errorHandlingProperties =
+      otelEventFilterStreamProperties.getErrorHandling();
+
+    var configuredDeadLetterTopicName =
+      errorHandlingProperties.getDeadLetterTopicName();
+    this.deadLetterTopicName = hasText(configuredDeadLetterTopicName)
+      ? configuredDeadLetterTopicName
+      : null;
+    this.apiIndexUnavailablePolicy =
+      errorHandlingProperties.getApiIndexUnavailablePolicy();
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <V> FilterOutcome<V> handle(
+    @Nullable String key,
+    V value,
+    Exception exception
+  ) {
+    if (exception instanceof ApiIndexUnavailableException) {
+      logger.warn(
+        "Failed to process message with key {}, applying policy {}: {}",
+        key,
+        apiIndexUnavailablePolicy,
+        exception.getMessage()
+      );
+
+      return switch (apiIndexUnavailablePolicy) {
+        case DROP -> drop(API_INDEX_UNAVAILABLE);
+        case DEAD_LETTER -> deadLetter(API_INDEX_UNAVAILABLE, value, exception);
+        case PASS_THROUGH -> {
+          count(API_INDEX_UNAVAILABLE, PASSED_THROUGH);
+          yield FilterOutcome.forward(value);
+        }
+      };
+    }
+
+    logger.error(
+      "Failed to process message with key {}: {}",
+      key,
+      exception.getMessage(),
+      exception
+    );
+
+    return nonNull(deadLetterTopicName)
+      ? deadLetter(PROCESSING, value, exception)
+      : drop(PROCESSING);
+  }
+
+  /**
+   * Counts a record that could not be deserialized, and has been published to the dead-letter topic.
+   */
+  public void deserializationFailed(
+    @Nullable String topic,
+    Exception exception
+  ) {
+    logger.error(
+      "Failed to deserialize message from topic {}: {}",
+      topic,
+      exception.getMessage(),
+      exception
+    );
+
+    count(DESERIALIZATION, DEAD_LETTERED);
+  }
+
+  /**
+   * Publishes dead-lettered values of the {@code outcomes} to the dead-letter topic, if one has been configured.
+   */
+  public <V> void deadLetter(
+    KStream<String, FilterOutcome<V>> outcomes,
+    Serde<V> valueSerde
+  ) {
+    if (isNull(deadLetterTopicName)) {
+      return;
+    }
+
+    outcomes
+      .filter((key, outcome) -> outcome.isDeadLetter())
+      .processValues(() -> new DeadLetterRecordProcessor<V>())
+      .to(deadLetterTopicName, Produced.with(Serdes.String(), valueSerde));
+  }
+
+  private <V> FilterOutcome<V> deadLetter(
+    ErrorCause cause,
+    V value,
+    Exception exception
+  ) {
+    count(cause, DEAD_LETTERED);
+    return FilterOutcome.deadLetter(value, cause, exception);
+  }
+
+  private <V> FilterOutcome<V> drop(ErrorCause cause) {
+    count(cause, DROPPED);
+    return FilterOutcome.drop();
+  }
+
+  private void count(ErrorCause cause, ErrorAction action) {
+    meterRegistry
+      .counter(ERRORS_METER_NAME, "cause", cause.tag, "action", action.tag)
+      .increment();
+  }
+
+  public enum ErrorCause {
+    API_INDEX_UNAVAILABLE("api-index-unavailable"),
+    DESERIALIZATION("deserialization"),
+    PROCESSING("processing");
+
+    private final String tag;
+
+    ErrorCause(String tag) {
+      this.tag = tag;
+    }
+
+    public String tag() {
+      return tag;
+    }
+  }
+
+  enum ErrorAction {
+    DEAD_LETTERED("dead-lettered"),
+    DROPPED("dropped"),
+    PASSED_THROUGH("passed-through");
+
+    private final String tag;
+
+    ErrorAction(String tag) {
+      this.tag = tag;
+    }
+  }
+}
@@ -9,6 +9,7 @@ package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.k
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ExportTraceServiceRequestSerdes.JsonSerde;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.AbstractExportTraceServiceRequestEventProcessor;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -25,11 +26,34 @@ public class ExportTraceServiceRequestEventJsonProcessor
   extends AbstractExportTraceServiceRequestEventProcessor
 {
 
+  private final Serde<ExportTraceServiceRequest> jsonSerde;
+
   public ExportTraceServiceRequestEventJsonProcessor(
     OtelInformationFilteringService otelInformationFilteringService,
-    OtelEventFilterStreamProperties otelEventFilterStreamProperties
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler
   ) {
-    super(otelInformationFilteringService, otelEventFilterStreamProperties);
+    this(
+      otelInformationFilteringService,
+      otelEventFilterStreamProperties,
+      processingErrorHandler,
+      JsonSerde()
+    );
+  }
+
+  public ExportTraceServiceRequestEventJsonProcessor(
+    OtelInformationFilteringService otelInformationFilteringService,
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler,
+    Serde<ExportTraceServiceRequest> jsonSerde
+  ) {
+    super(
+      otelInformationFilteringService,
+      otelEventFilterStreamProperties,
+      processingErrorHandler
+    );
+    this.jsonSerde = jsonSerde;
+
     logger.info("Enabled JSON processing mode");
   }
 
@@ -48,12 +72,12 @@ public class ExportTraceServiceRequestEventJsonProcessor
   ) {
     return streamsBuilder.stream(
       inboundTopicName,
-      Consumed.with(Serdes.String(), JsonSerde())
+      Consumed.with(Serdes.String(), jsonSerde)
     );
   }
 
   @Override
   protected Serde<ExportTraceServiceRequest> outboundValueSerde() {
-    return JsonSerde();
+    return jsonSerde;
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.protobuf;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ConfluentWireFormat.payloadOffset;
+import static java.util.Objects.nonNull;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.FilterOutcome;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelWireFormatFilteringService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Filters Confluent protobuf records on the wire format level, without ever deserializing them.
+ * Forwarded records keep the schema registry header of the inbound record, and so do dead-lettered ones.
+ */
+@Slf4j
+public class ExportTraceServiceRequestEventLazyProtobufProcessor {
+
+  private final OtelWireFormatFilteringService otelWireFormatFilteringService;
+  private final ProcessingErrorHandler processingErrorHandler;
+
+  private final String inboundTopicName;
+  private final String outboundTopicName;
+
+  public ExportTraceServiceRequestEventLazyProtobufProcessor(
+    OtelWireFormatFilteringService otelWireFormatFilteringService,
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler
+  ) {
+    this.otelWireFormatFilteringService = otelWireFormatFilteringService;
+    this.processingErrorHandler = processingErrorHandler;
+
+    this.inboundTopicName =
+      otelEventFilterStreamProperties.getInboundTopicName();
+    this.outboundTopicName =
+      otelEventFilterStreamProperties.getOutboundTopicName();
+
+    logger.info("Enabled lazy protobuf processing mode");
+  }
+
+  @Bean
+  public KStream<String, byte[]> resourceSpansStream(
+    StreamsBuilder streamsBuilder
+  ) {
+    var stream = streamsBuilder.stream(
+      inboundTopicName,
+      Consumed.with(Serdes.String(), Serdes.ByteArray())
+    );
+
+    var outcomes = stream
+      .peek((key, value) -> logger.debug("Handling message id '{}'", key))
+      .mapValues((key, value) -> {
+        try {
+          return FilterOutcome.forward(
+            otelWireFormatFilteringService.filterUnknownSpecifications(
+              value,
+              payloadOffset(value)
+            )
+          );
+        } catch (Exception e) {
+          return processingErrorHandler.handle(key, value, e);
+        }
+      });
+
+    processingErrorHandler.deadLetter(outcomes, Serdes.ByteArray());
+
+    outcomes
+      .mapValues(FilterOutcome::forward)
+      .filter((key, value) -> nonNull(value))
+      .peek((key, value) -> logger.trace("Message '{}' passed processing", key))
+      .to(
+        outboundTopicName,
+        Produced.with(Serdes.String(), Serdes.ByteArray())
+      );
+
+    return stream;
+  }
+}
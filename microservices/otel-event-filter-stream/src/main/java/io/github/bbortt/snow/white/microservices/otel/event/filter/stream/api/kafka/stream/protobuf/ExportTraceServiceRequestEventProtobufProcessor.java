@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.protobuf;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.AbstractExportTraceServiceRequestEventProcessor;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -28,9 +29,14 @@ public class ExportTraceServiceRequestEventProtobufProcessor
   public ExportTraceServiceRequestEventProtobufProcessor(
     OtelInformationFilteringService otelInformationFilteringService,
     OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler,
     Serde<ExportTraceServiceRequest> protobufSerde
   ) {
-    super(otelInformationFilteringService, otelEventFilterStreamProperties);
+    super(
+      otelInformationFilteringService,
+      otelEventFilterStreamProperties,
+      processingErrorHandler
+    );
     this.protobufSerde = protobufSerde;
 
     logger.info("Enabled protobuf processing mode");
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config;
+
+import static java.lang.Boolean.FALSE;
+import static java.util.UUID.randomUUID;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.springframework.util.StringUtils.hasText;
+
+import io.github.bbortt.snow.white.commons.event.ApiIndexedEvent;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.ApiIndexChangeListener;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.CachingService;
+import java.util.HashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+
+/**
+ * Consumes the compacted change feed of the api-index-api, if one has been configured.
+ * <p>
+ * Every instance reads the whole topic from the beginning, using a random consumer group.
+ * Offsets are never committed, because the local index is rebuilt on every startup anyway.
+ * Apart from that, the consumer configuration of the application applies, including security settings.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ApiIndexChangeFeedConfig {
+
+  private final KafkaProperties kafkaProperties;
+  private final OtelEventFilterStreamProperties otelEventFilterStreamProperties;
+
+  @Bean
+  public KafkaMessageListenerContainer<
+    String,
+    ApiIndexedEvent
+  > apiIndexChangeListenerContainer(
+    CachingService cachingService,
+    SslBundles sslBundles
+  ) {
+    var changeTopicName = otelEventFilterStreamProperties
+      .getApiIndex()
+      .getChangeTopicName();
+
+    if (!hasText(changeTopicName)) {
+      return null;
+    }
+
+    logger.info("Consuming API index changes from '{}'...", changeTopicName);
+
+    var consumerProperties = new HashMap<>(
+      kafkaProperties.buildConsumerProperties(sslBundles)
+    );
+    consumerProperties.put(
+      GROUP_ID_CONFIG,
+      "otel-event-filter-stream-" + randomUUID()
+    );
+    consumerProperties.put(AUTO_OFFSET_RESET_CONFIG, "earliest");
+    consumerProperties.put(ENABLE_AUTO_COMMIT_CONFIG, FALSE);
+
+    var consumerFactory = new DefaultKafkaConsumerFactory<>(
+      consumerProperties,
+      new StringDeserializer(),
+      new JacksonJsonDeserializer<>(ApiIndexedEvent.class)
+    );
+
+    var containerProperties = new ContainerProperties(changeTopicName);
+    containerProperties.setMessageListener(
+      new ApiIndexChangeListener(cachingService)
+    );
+
+    return new KafkaMessageListenerContainer<>(
+      consumerFactory,
+      containerProperties
+    );
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.kafka.streams.StreamsConfig.DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG;
+import static org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler.KSTREAM_DESERIALIZATION_RECOVERER;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBeanConfigurer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler;
+
+/**
+ * Publishes records failing deserialization to the dead-letter topic, if one has been configured.
+ * <p>
+ * The records are published as-is, using their original key and value bytes.
+ * Records failing later on are dead-lettered by the {@link ProcessingErrorHandler} within the topology. These are
+ * written with the outbound serde: the original bytes in lazy-protobuf mode, and in protobuf mode as long as the
+ * record has not been split by the fan-out. JSON modes re-print the record, and with fan-out enabled only the failing
+ * part is dead-lettered.
+ * <p>
+ * The dead-letter producer shares the producer configuration of the application, including security settings. It is
+ * not exposed as a {@link org.springframework.kafka.core.ProducerFactory} bean, which would replace the auto-configured
+ * one of any other {@link KafkaTemplate}.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DeadLetterConfig implements DisposableBean {
+
+  private final KafkaProperties kafkaProperties;
+  private final SslBundles sslBundles;
+
+  private @Nullable DefaultKafkaProducerFactory<
+    byte[],
+    byte[]
+  > deadLetterProducerFactory;
+
+  @Bean
+  public ProcessingErrorHandler processingErrorHandler(
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    MeterRegistry meterRegistry
+  ) {
+    return new ProcessingErrorHandler(
+      otelEventFilterStreamProperties,
+      meterRegistry
+    );
+  }
+
+  @Bean
+  public StreamsBuilderFactoryBeanConfigurer deadLetterStreamsConfigurer(
+    ProcessingErrorHandler processingErrorHandler
+  ) {
+    return streamsBuilderFactoryBean -> {
+      var deadLetterTopicName = processingErrorHandler.getDeadLetterTopicName();
+      var streamsConfiguration =
+        streamsBuilderFactoryBean.getStreamsConfiguration();
+
+      if (isNull(deadLetterTopicName) || isNull(streamsConfiguration)) {
+        return;
+      }
+
+      logger.info("Dead-lettering records to '{}'...", deadLetterTopicName);
+
+      var deadLetterPublishingRecoverer = new DeadLetterPublishingRecoverer(
+        new KafkaTemplate<>(deadLetterProducerFactory()),
+        (consumerRecord, exception) ->
+          new TopicPartition(deadLetterTopicName, -1)
+      );
+
+      ConsumerRecordRecoverer recoverer = (consumerRecord, exception) -> {
+        processingErrorHandler.deserializationFailed(
+          consumerRecord.topic(),
+          exception
+        );
+        deadLetterPublishingRecoverer.accept(consumerRecord, exception);
+      };
+
+      streamsConfiguration.put(
+        DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+        RecoveringDeserializationExceptionHandler.class
+      );
+      streamsConfiguration.put(KSTREAM_DESERIALIZATION_RECOVERER, recoverer);
+      streamsBuilderFactoryBean.setStreamsConfiguration(streamsConfiguration);
+    };
+  }
+
+  synchronized DefaultKafkaProducerFactory<
+    byte[],
+    byte[]
+  > deadLetterProducerFactory() {
+    if (isNull(deadLetterProducerFactory)) {
+      deadLetterProducerFactory = new DefaultKafkaProducerFactory<>(
+        kafkaProperties.buildProducerProperties(sslBundles),
+        new ByteArraySerializer(),
+        new ByteArraySerializer()
+      );
+    }
+
+    return deadLetterProducerFactory;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (nonNull(deadLetterProducerFactory)) {
+      deadLetterProducerFactory.destroy();
+    }
+  }
+}
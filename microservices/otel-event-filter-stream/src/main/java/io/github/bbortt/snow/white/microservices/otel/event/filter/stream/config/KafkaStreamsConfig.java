@@ -13,6 +13,7 @@ import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream
 import static org.springframework.util.StringUtils.hasText;
 
 import io.confluent.kafka.streams.serdes.protobuf.KafkaProtobufSerde;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ExportTraceServiceRequestPassThroughSerde;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import java.util.Properties;
 import org.apache.kafka.common.serialization.Serde;
@@ -68,6 +69,6 @@ public class KafkaStreamsConfig {
       propertiesToMap(snowWhiteKafkaProperties),
       false
     );
-    return kafkaProtobufSerde;
+    return new ExportTraceServiceRequestPassThroughSerde(kafkaProtobufSerde);
   }
 }
@@ -6,6 +6,7 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config;
 
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.DROP;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ConsumerMode.JSON;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.PREFIX;
 
@@ -41,6 +42,9 @@ public class OtelEventFilterStreamProperties {
 
   private final ApiIndexProperties apiIndex = new ApiIndexProperties();
   private final FilteringProperties filtering = new FilteringProperties();
+  private final FanOutProperties fanOut = new FanOutProperties();
+  private final ErrorHandlingProperties errorHandling =
+    new ErrorHandlingProperties();
 
   @Getter
   @Setter
@@ -50,14 +54,126 @@ public class OtelEventFilterStreamProperties {
       PREFIX + ".api-index.base-url";
 
     private String baseUrl;
+
+    /**
+     * Whether to bulk-load all indexed APIs on startup, instead of checking each API on first sight.
+     */
+    private Boolean preloadEnabled = true;
+
+    private Integer preloadPageSize = 500;
+
+    /**
+     * Compacted topic the api-index-api publishes newly indexed APIs to.
+     * <p>
+     * Optional - when set, newly indexed APIs are added to the local copy of the index without a remote check.
+     * APIs missing from the local copy are still checked remotely, with negative results cached,
+     * so that a lost change notification cannot hide an API.
+     */
+    private String changeTopicName;
+
+    private final CacheProperties cache = new CacheProperties();
+  }
+
+  @Getter
+  @Setter
+  public static class CacheProperties {
+
+    /**
+     * Upper bound of distinct {@code (service, api, version)} entries kept in memory.
+     */
+    private Long maximumSize = 10_000L;
+
+    /**
+     * How long an API that is known to the index is considered to exist.
+     */
+    private Long positiveTtlSeconds = 600L;
+
+    /**
+     * How long an API that is <b>not</b> known to the index is considered missing.
+     * Kept shorter than {@link #positiveTtlSeconds}, so that newly indexed APIs become visible quickly.
+     */
+    private Long negativeTtlSeconds = 30L;
+
+    /**
+     * Entries being read after this period are reloaded in the background,
+     * before they eventually expire.
+     * Must be shorter than {@link #positiveTtlSeconds} to have any effect.
+     */
+    private Long refreshAfterSeconds = 300L;
+  }
+
+  @Getter
+  @Setter
+  public static class FanOutProperties {
+
+    /**
+     * Whether to split inbound requests before filtering them.
+     * The parts are re-keyed by service name and distributed through a repartition topic, so that filtering scales
+     * with partitions and stream threads instead of with the largest inbound record.
+     */
+    private Boolean enabled = false;
+
+    /**
+     * Upper bound of spans per part. Requests are always split per {@code ResourceSpans}, bigger ones are split into
+     * batches of this size. A value of {@code 0} disables the batching.
+     */
+    private Integer maxSpansPerRecord = 500;
+
+    /**
+     * Number of partitions of the repartition topic. Defaults to the number of partitions of the inbound topic.
+     */
+    private Integer partitions;
+  }
+
+  @Getter
+  @Setter
+  public static class ErrorHandlingProperties {
+
+    public static final String DEAD_LETTER_TOPIC_PROPERTY_NAME =
+      PREFIX + ".error-handling.dead-letter-topic-name";
+
+    /**
+     * Topic that records failing deserialization or filtering are published to, along with headers describing the
+     * error. Optional - such records are dropped if not set.
+     * <p>
+     * Records failing deserialization keep their original bytes. Records failing to be filtered are written with the
+     * outbound serde, so JSON modes re-print them, and with fan-out enabled only the failing part is published.
+     */
+    private String deadLetterTopicName;
+
+    /**
+     * What happens to records that cannot be filtered, because the api-index-api is unavailable.
+     */
+    private ApiIndexUnavailablePolicy apiIndexUnavailablePolicy = DROP;
   }
 
   @Getter
   @Setter
   public static class FilteringProperties extends DefaultFilteringProperties {}
 
+  public enum ApiIndexUnavailablePolicy {
+    DROP,
+    /**
+     * Requires a {@link ErrorHandlingProperties#deadLetterTopicName}, from which records can be replayed later on.
+     */
+    DEAD_LETTER,
+    /**
+     * Forwards records unfiltered, trading precision for not losing any telemetry.
+     */
+    PASS_THROUGH,
+  }
+
   public enum ConsumerMode {
     JSON,
+    /**
+     * Same wire format as {@link #JSON}, but parsed by a streaming deserializer.
+     */
+    JSON_STREAMING,
     PROTOBUF,
+    /**
+     * Same wire format as {@link #PROTOBUF}, but records are filtered without being deserialized.
+     * Only attributes are decoded, and the outbound record is assembled from slices of the inbound one.
+     */
+    PROTOBUF_LAZY,
   }
 }
@@ -6,14 +6,21 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config;
 
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ExportTraceServiceRequestSerdes.JsonSerde;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ExportTraceServiceRequestSerdes.StreamingJsonSerde;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.CONSUMER_MODE_PROPERTY_NAME;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ConsumerMode.JSON;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ConsumerMode.JSON_STREAMING;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ConsumerMode.PROTOBUF;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ConsumerMode.PROTOBUF_LAZY;
 import static java.util.Objects.requireNonNull;
 
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.json.ExportTraceServiceRequestEventJsonProcessor;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.protobuf.ExportTraceServiceRequestEventLazyProtobufProcessor;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.protobuf.ExportTraceServiceRequestEventProtobufProcessor;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelWireFormatFilteringService;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.serialization.Serde;
@@ -38,23 +45,19 @@ public class ProtobufProcessorConfig {
   > exportTraceServiceRequestJsonStream(
     OtelInformationFilteringService otelInformationFilteringService,
     OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler,
     StreamsBuilder streamsBuilder
   ) {
-    if (
-      !JSON.equals(
-        OtelEventFilterStreamProperties.ConsumerMode.valueOf(
-          environment
-            .getProperty(CONSUMER_MODE_PROPERTY_NAME, "json")
-            .toUpperCase()
-        )
-      )
-    ) {
+    var consumerMode = consumerMode();
+    if (!JSON.equals(consumerMode) && !JSON_STREAMING.equals(consumerMode)) {
       return null;
     }
 
     return new ExportTraceServiceRequestEventJsonProcessor(
       otelInformationFilteringService,
-      otelEventFilterStreamProperties
+      otelEventFilterStreamProperties,
+      processingErrorHandler,
+      JSON_STREAMING.equals(consumerMode) ? StreamingJsonSerde() : JsonSerde()
     ).resourceSpansStream(streamsBuilder);
   }
 
@@ -65,20 +68,13 @@ public class ProtobufProcessorConfig {
   > exportTraceServiceRequestProtobufStream(
     OtelInformationFilteringService otelInformationFilteringService,
     OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler,
     @Autowired(
       required = false
     ) @Nullable Serde<ExportTraceServiceRequest> protobufSerde,
     StreamsBuilder streamsBuilder
   ) {
-    if (
-      !PROTOBUF.equals(
-        OtelEventFilterStreamProperties.ConsumerMode.valueOf(
-          environment
-            .getProperty(CONSUMER_MODE_PROPERTY_NAME, "json")
-            .toUpperCase()
-        )
-      )
-    ) {
+    if (!PROTOBUF.equals(consumerMode())) {
       return null;
     }
 
@@ -87,7 +83,38 @@ public class ProtobufProcessorConfig {
     return new ExportTraceServiceRequestEventProtobufProcessor(
       otelInformationFilteringService,
       otelEventFilterStreamProperties,
+      processingErrorHandler,
       protobufSerde
     ).resourceSpansStream(streamsBuilder);
   }
+
+  @Bean
+  public KStream<
+    String,
+    byte[]
+  > exportTraceServiceRequestLazyProtobufStream(
+    OtelWireFormatFilteringService otelWireFormatFilteringService,
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    ProcessingErrorHandler processingErrorHandler,
+    StreamsBuilder streamsBuilder
+  ) {
+    if (!PROTOBUF_LAZY.equals(consumerMode())) {
+      return null;
+    }
+
+    return new ExportTraceServiceRequestEventLazyProtobufProcessor(
+      otelWireFormatFilteringService,
+      otelEventFilterStreamProperties,
+      processingErrorHandler
+    ).resourceSpansStream(streamsBuilder);
+  }
+
+  private OtelEventFilterStreamProperties.ConsumerMode consumerMode() {
+    return OtelEventFilterStreamProperties.ConsumerMode.valueOf(
+      environment
+        .getProperty(CONSUMER_MODE_PROPERTY_NAME, "json")
+        .toUpperCase()
+        .replace('-', '_')
+    );
+  }
 }
@@ -9,6 +9,8 @@ package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.confi
 import static io.github.bbortt.snow.white.commons.PropertyUtils.assertRequiredProperties;
 import static io.github.bbortt.snow.white.commons.logging.LoggingJsonMapper.toMaskedJsonRepresentation;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.INBOUND_TOPIC_PROPERTY_NAME;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.DEAD_LETTER;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ErrorHandlingProperties.DEAD_LETTER_TOPIC_PROPERTY_NAME;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.OUTBOUND_TOPIC_PROPERTY_NAME;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
@@ -38,6 +40,17 @@ public class OtelEventFilterStreamPropertiesValidator {
       otelEventFilterStreamProperties.getApiIndex().getBaseUrl()
     );
 
+    var errorHandlingProperties =
+      otelEventFilterStreamProperties.getErrorHandling();
+    if (
+      DEAD_LETTER.equals(errorHandlingProperties.getApiIndexUnavailablePolicy())
+    ) {
+      properties.put(
+        DEAD_LETTER_TOPIC_PROPERTY_NAME,
+        errorHandlingProperties.getDeadLetterTopicName()
+      );
+    }
+
     assertRequiredProperties(properties);
 
     logger.info(
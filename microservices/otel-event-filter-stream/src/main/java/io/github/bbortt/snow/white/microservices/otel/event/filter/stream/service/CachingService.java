@@ -8,4 +8,6 @@ package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.servi
 
 public interface CachingService {
   boolean apiExists(String otelServiceName, String apiName, String apiVersion);
+
+  void apiIndexed(String otelServiceName, String apiName, String apiVersion);
 }
@@ -6,21 +6,18 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service;
 
-import static java.util.function.Function.identity;
-import static java.util.stream.Stream.concat;
+import static java.util.Objects.nonNull;
 import static org.springframework.util.StringUtils.hasText;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
-import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.KeyValue;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import io.opentelemetry.proto.trace.v1.ScopeSpans;
 import io.opentelemetry.proto.trace.v1.Span;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -52,112 +49,144 @@ public class OtelInformationFilteringService {
     logger.info("Filter is in place: {}", filteringProperties);
   }
 
+  /**
+   * Drops all spans that do not belong to an API known to Snow-White.
+   * <p>
+   * Every part of the request that is kept as a whole is returned as the very same instance.
+   * If nothing has been filtered at all, the given {@code exportTraceServiceRequest} itself is returned.
+   * This allows serializers to forward the original payload without re-encoding it.
+   */
   public @NonNull ExportTraceServiceRequest filterUnknownSpecifications(
     ExportTraceServiceRequest exportTraceServiceRequest
   ) {
+    var resourceSpansList = exportTraceServiceRequest.getResourceSpansList();
+    var filteredResourceSpans = filterPreservingIdentity(
+      resourceSpansList,
+      this::filterResourceSpansDropAllOfUnknownSpecifications
+    );
+
+    if (filteredResourceSpans == resourceSpansList) {
+      return exportTraceServiceRequest;
+    }
+
     return ExportTraceServiceRequest.newBuilder()
-      .addAllResourceSpans(
-        exportTraceServiceRequest
-          .getResourceSpansList()
-          .stream()
-          .map(this::filterResourceSpansDropAllOfUnknownSpecifications)
-          .toList()
-      )
+      .addAllResourceSpans(filteredResourceSpans)
       .build();
   }
 
   private @NonNull ResourceSpans filterResourceSpansDropAllOfUnknownSpecifications(
     ResourceSpans resourceSpans
   ) {
-    var resourceAttributes = resourceSpans.getResource().getAttributesList();
-    var apiIdentifier = extractApiIdentifyingAttributes(resourceAttributes);
+    var apiIdentifier = resolveApiIdentifyingAttributes(
+      ApiIdentifier.EMPTY,
+      resourceSpans.getResource().getAttributesList()
+    );
 
-    if (apiIdentifier.isPresent()) {
-      if (apiIsKnownToSnowWhite(apiIdentifier.get())) {
+    if (apiIdentifier.isComplete()) {
+      if (apiIsKnownToSnowWhite(apiIdentifier)) {
         return resourceSpans;
       }
 
       return ResourceSpans.newBuilder(resourceSpans).clearScopeSpans().build();
     }
 
+    var scopeSpansList = resourceSpans.getScopeSpansList();
+    var filteredScopeSpans = filterPreservingIdentity(
+      scopeSpansList,
+      scopeSpans ->
+        filterScopeSpansDropAllOfUnknownSpecifications(
+          scopeSpans,
+          apiIdentifier
+        )
+    );
+
+    if (filteredScopeSpans == scopeSpansList) {
+      return resourceSpans;
+    }
+
     return ResourceSpans.newBuilder(resourceSpans)
       .clearScopeSpans()
-      .addAllScopeSpans(
-        resourceSpans
-          .getScopeSpansList()
-          .stream()
-          .map(scopeSpans ->
-            filterScopeSpansDropAllOfUnknownSpecifications(
-              scopeSpans,
-              resourceAttributes
-            )
-          )
-          .toList()
-      )
+      .addAllScopeSpans(filteredScopeSpans)
       .build();
   }
 
   private @NonNull ScopeSpans filterScopeSpansDropAllOfUnknownSpecifications(
     ScopeSpans scopeSpans,
-    List<KeyValue> resourceAttributes
+    ApiIdentifier resourceApiIdentifier
   ) {
-    var scopeAttributes = scopeSpans.getScope().getAttributesList();
-    var apiIdentifier = extractApiIdentifyingAttributes(
-      concat(resourceAttributes.stream(), scopeAttributes.stream()).toList()
+    var apiIdentifier = resolveApiIdentifyingAttributes(
+      resourceApiIdentifier,
+      scopeSpans.getScope().getAttributesList()
     );
 
-    if (apiIdentifier.isPresent()) {
-      if (apiIsKnownToSnowWhite(apiIdentifier.get())) {
+    if (apiIdentifier.isComplete()) {
+      if (apiIsKnownToSnowWhite(apiIdentifier)) {
         return scopeSpans;
       }
 
       return ScopeSpans.newBuilder(scopeSpans).clearSpans().build();
     }
 
+    var spansList = scopeSpans.getSpansList();
+    var filteredSpans = filterPreservingIdentity(
+      spansList,
+      span ->
+        filterSpanReturnNullWhenSpecificationIsUnknown(span, apiIdentifier)
+    );
+
+    if (filteredSpans == spansList) {
+      return scopeSpans;
+    }
+
     return ScopeSpans.newBuilder(scopeSpans)
       .clearSpans()
-      .addAllSpans(
-        scopeSpans
-          .getSpansList()
-          .stream()
-          .map(span ->
-            filterSpanReturnNullWhenSpecificationIsUnknown(
-              span,
-              resourceAttributes,
-              scopeAttributes
-            )
-          )
-          .filter(Objects::nonNull)
-          .toList()
-      )
+      .addAllSpans(filteredSpans)
       .build();
   }
 
   private @Nullable Span filterSpanReturnNullWhenSpecificationIsUnknown(
     Span span,
-    List<KeyValue> resourceAttributes,
-    List<KeyValue> scopeAttributes
+    ApiIdentifier scopeApiIdentifier
   ) {
-    var spanAttributes = span.getAttributesList();
-    var apiIdentifier = extractApiIdentifyingAttributes(
-      Stream.of(
-        resourceAttributes.stream(),
-        scopeAttributes.stream(),
-        spanAttributes.stream()
-      )
-        .flatMap(identity())
-        .toList()
+    var apiIdentifier = resolveApiIdentifyingAttributes(
+      scopeApiIdentifier,
+      span.getAttributesList()
     );
 
-    if (
-      apiIdentifier.isPresent() && apiIsKnownToSnowWhite(apiIdentifier.get())
-    ) {
+    if (apiIdentifier.isComplete() && apiIsKnownToSnowWhite(apiIdentifier)) {
       return span;
     }
 
     return null;
   }
 
+  /**
+   * Applies the {@code filter} to each element, dropping all {@code null} results.
+   * Returns the very same {@code elements} if the filter returned each of them unchanged.
+   */
+  private static <T> List<T> filterPreservingIdentity(
+    List<T> elements,
+    Function<T, @Nullable T> filter
+  ) {
+    List<T> filtered = null;
+
+    for (int i = 0; i < elements.size(); i++) {
+      var element = elements.get(i);
+      var result = filter.apply(element);
+
+      if (filtered == null && result != element) {
+        filtered = new ArrayList<>(elements.size());
+        filtered.addAll(elements.subList(0, i));
+      }
+
+      if (filtered != null && nonNull(result)) {
+        filtered.add(result);
+      }
+    }
+
+    return filtered == null ? elements : filtered;
+  }
+
   private boolean apiIsKnownToSnowWhite(ApiIdentifier apiIdentifier) {
     return cachingService.apiExists(
       apiIdentifier.otelServiceName,
@@ -166,43 +195,81 @@ public class OtelInformationFilteringService {
     );
   }
 
-  private Optional<ApiIdentifier> extractApiIdentifyingAttributes(
+  /**
+   * Resolves the API identifying attributes in a single pass over the given {@code attributes}.
+   * <p>
+   * Attributes already resolved by the {@code parent} (e.g. on resource level) take precedence and are never overridden
+   * by nested levels (e.g. scope or span attributes).
+   * The {@code parent} is returned as-is if nothing has been added, which means no allocation at all in most cases.
+   */
+  ApiIdentifier resolveApiIdentifyingAttributes(
+    ApiIdentifier parent,
     List<KeyValue> attributes
   ) {
-    var apiName = attributes
-      .stream()
-      .filter(attribute -> attribute.getKey().equals(apiNameAttributeKey))
-      .findFirst()
-      .map(KeyValue::getValue)
-      .map(AnyValue::getStringValue)
-      .orElse(null);
-    var apiVersion = attributes
-      .stream()
-      .filter(attribute -> attribute.getKey().equals(apiVersionAttributeKey))
-      .findFirst()
-      .map(KeyValue::getValue)
-      .map(AnyValue::getStringValue)
-      .orElse(null);
-    var otelServiceName = attributes
-      .stream()
-      .filter(attribute -> attribute.getKey().equals(serviceNameAttributeKey))
-      .findFirst()
-      .map(KeyValue::getValue)
-      .map(AnyValue::getStringValue)
-      .orElse(null);
-
-    if (hasText(apiName) && hasText(apiVersion) && hasText(otelServiceName)) {
-      return Optional.of(
-        new ApiIdentifier(apiName, apiVersion, otelServiceName)
-      );
+    if (parent.isResolved() || attributes.isEmpty()) {
+      return parent;
     }
 
-    return Optional.empty();
+    var apiName = parent.apiName;
+    var apiVersion = parent.apiVersion;
+    var otelServiceName = parent.otelServiceName;
+    var resolvedAny = false;
+
+    // Protobuf lists are random access, so this avoids an iterator per level
+    for (int i = 0; i < attributes.size(); i++) {
+      var attribute = attributes.get(i);
+      var key = attribute.getKey();
+
+      if (apiName == null && key.equals(apiNameAttributeKey)) {
+        apiName = attribute.getValue().getStringValue();
+        resolvedAny = true;
+      }
+      if (apiVersion == null && key.equals(apiVersionAttributeKey)) {
+        apiVersion = attribute.getValue().getStringValue();
+        resolvedAny = true;
+      }
+      if (otelServiceName == null && key.equals(serviceNameAttributeKey)) {
+        otelServiceName = attribute.getValue().getStringValue();
+        resolvedAny = true;
+      }
+
+      if (apiName != null && apiVersion != null && otelServiceName != null) {
+        break;
+      }
+    }
+
+    if (!resolvedAny) {
+      return parent;
+    }
+
+    return new ApiIdentifier(apiName, apiVersion, otelServiceName);
   }
 
-  private record ApiIdentifier(
-    String apiName,
-    String apiVersion,
-    String otelServiceName
-  ) {}
+  /**
+   * The API identifying attributes, as far as they have been found up to a given level.
+   * A {@code null} value means the attribute has not been seen yet, whereas an empty value has been explicitly set.
+   */
+  record ApiIdentifier(
+    @Nullable String apiName,
+    @Nullable String apiVersion,
+    @Nullable String otelServiceName
+  ) {
+    static final ApiIdentifier EMPTY = new ApiIdentifier(null, null, null);
+
+    /**
+     * Whether all attributes have been found, so that nested levels cannot contribute anything.
+     */
+    boolean isResolved() {
+      return apiName != null && apiVersion != null && otelServiceName != null;
+    }
+
+    /**
+     * Whether all attributes have been found <b>and</b> carry a value that identifies an API.
+     */
+    boolean isComplete() {
+      return (
+        hasText(apiName) && hasText(apiVersion) && hasText(otelServiceName)
+      );
+    }
+  }
 }
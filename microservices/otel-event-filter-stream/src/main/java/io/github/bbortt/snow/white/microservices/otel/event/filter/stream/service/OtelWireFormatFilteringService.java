@@ -0,0 +1,550 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service;
+
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+import static com.google.protobuf.WireFormat.getTagFieldNumber;
+import static com.google.protobuf.WireFormat.makeTag;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService.ApiIdentifier;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Filters serialized {@link ExportTraceServiceRequest}s without deserializing them.
+ * <p>
+ * Makes the very same decisions as {@link OtelInformationFilteringService#filterUnknownSpecifications(ExportTraceServiceRequest)},
+ * but only scans the wire format for the attributes of resources, scopes and spans.
+ * Nothing else is decoded: events, links and all other span fields are skipped by their length.
+ * The filtered payload is assembled from slices of the original one, and only the messages enclosing a dropped span
+ * are written with a new length.
+ */
+@Service
+public class OtelWireFormatFilteringService {
+
+  private static final int RESOURCE_SPANS_TAG = lengthDelimitedTag(
+    ExportTraceServiceRequest.RESOURCE_SPANS_FIELD_NUMBER
+  );
+
+  private static final int RESOURCE_TAG = lengthDelimitedTag(
+    ResourceSpans.RESOURCE_FIELD_NUMBER
+  );
+  private static final int SCOPE_SPANS_TAG = lengthDelimitedTag(
+    ResourceSpans.SCOPE_SPANS_FIELD_NUMBER
+  );
+
+  private static final int SCOPE_TAG = lengthDelimitedTag(
+    ScopeSpans.SCOPE_FIELD_NUMBER
+  );
+  private static final int SPANS_TAG = lengthDelimitedTag(
+    ScopeSpans.SPANS_FIELD_NUMBER
+  );
+
+  private static final int RESOURCE_ATTRIBUTES_TAG = lengthDelimitedTag(
+    Resource.ATTRIBUTES_FIELD_NUMBER
+  );
+  private static final int SCOPE_ATTRIBUTES_TAG = lengthDelimitedTag(
+    InstrumentationScope.ATTRIBUTES_FIELD_NUMBER
+  );
+  private static final int SPAN_ATTRIBUTES_TAG = lengthDelimitedTag(
+    Span.ATTRIBUTES_FIELD_NUMBER
+  );
+
+  private static final int KEY_TAG = lengthDelimitedTag(
+    KeyValue.KEY_FIELD_NUMBER
+  );
+  private static final int VALUE_TAG = lengthDelimitedTag(
+    KeyValue.VALUE_FIELD_NUMBER
+  );
+
+  private static final int STRING_VALUE_TAG = lengthDelimitedTag(
+    AnyValue.STRING_VALUE_FIELD_NUMBER
+  );
+
+  /**
+   * All members of the {@code AnyValue.value} oneof have a field number up to this one.
+   */
+  private static final int LAST_ANY_VALUE_FIELD_NUMBER =
+    AnyValue.BYTES_VALUE_FIELD_NUMBER;
+
+  private final CachingService cachingService;
+
+  private final byte[] apiNameAttributeKey;
+  private final byte[] apiVersionAttributeKey;
+  private final byte[] serviceNameAttributeKey;
+
+  public OtelWireFormatFilteringService(
+    CachingService cachingService,
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties
+  ) {
+    this.cachingService = cachingService;
+
+    var filteringProperties = otelEventFilterStreamProperties.getFiltering();
+    this.apiNameAttributeKey = filteringProperties
+      .getApiNameAttributeKey()
+      .getBytes(UTF_8);
+    this.apiVersionAttributeKey = filteringProperties
+      .getApiVersionAttributeKey()
+      .getBytes(UTF_8);
+    this.serviceNameAttributeKey = filteringProperties
+      .getServiceNameAttributeKey()
+      .getBytes(UTF_8);
+  }
+
+  private static int lengthDelimitedTag(int fieldNumber) {
+    return makeTag(fieldNumber, WIRETYPE_LENGTH_DELIMITED);
+  }
+
+  /**
+   * Drops all spans that do not belong to an API known to Snow-White.
+   * <p>
+   * The serialized {@link ExportTraceServiceRequest} starts at {@code payloadOffset}, anything in front of it (e.g. a
+   * schema registry header) is kept as-is.
+   *
+   * @return {@code data} itself if nothing has been filtered, {@code null} if not a single span is left
+   */
+  public byte @Nullable [] filterUnknownSpecifications(
+    byte[] data,
+    int payloadOffset
+  ) throws IOException {
+    var input = CodedInputStream.newInstance(
+      data,
+      payloadOffset,
+      data.length - payloadOffset
+    );
+
+    var rewriter = new Rewriter(data, 0);
+    var hasSpans = false;
+
+    while (true) {
+      var fieldStart = payloadOffset + input.getTotalBytesRead();
+
+      var tag = input.readTag();
+      if (tag == 0) {
+        break;
+      } else if (tag != RESOURCE_SPANS_TAG) {
+        input.skipField(tag);
+        continue;
+      }
+
+      var resourceSpans = readField(input, payloadOffset, fieldStart);
+      var filtered = filterResourceSpans(data, resourceSpans);
+
+      hasSpans |= filtered.hasSpans();
+      if (filtered.message() != null) {
+        rewriter.replace(
+          resourceSpans,
+          ExportTraceServiceRequest.RESOURCE_SPANS_FIELD_NUMBER,
+          filtered.message()
+        );
+      }
+    }
+
+    if (!hasSpans) {
+      return null;
+    }
+
+    var filteredData = rewriter.finish(data.length);
+    return filteredData == null ? data : filteredData;
+  }
+
+  private Filtered filterResourceSpans(byte[] data, Field resourceSpans)
+    throws IOException {
+    var input = resourceSpans.newInput(data);
+
+    var apiIdentifier = ApiIdentifier.EMPTY;
+    List<Field> scopeSpansList = new ArrayList<>();
+
+    while (true) {
+      var fieldStart = resourceSpans.valueStart() + input.getTotalBytesRead();
+
+      var tag = input.readTag();
+      if (tag == 0) {
+        break;
+      } else if (tag == RESOURCE_TAG) {
+        apiIdentifier = resolveApiIdentifyingAttributes(
+          apiIdentifier,
+          data,
+          readField(input, resourceSpans.valueStart(), fieldStart),
+          RESOURCE_ATTRIBUTES_TAG
+        );
+      } else if (tag == SCOPE_SPANS_TAG) {
+        scopeSpansList.add(
+          readField(input, resourceSpans.valueStart(), fieldStart)
+        );
+      } else {
+        input.skipField(tag);
+      }
+    }
+
+    var rewriter = new Rewriter(data, resourceSpans.valueStart());
+
+    if (apiIdentifier.isComplete()) {
+      if (apiIsKnownToSnowWhite(apiIdentifier)) {
+        return new Filtered(null, anyHasSpans(data, scopeSpansList));
+      }
+
+      for (var scopeSpans : scopeSpansList) {
+        rewriter.drop(scopeSpans);
+      }
+
+      return new Filtered(rewriter.finish(resourceSpans.valueEnd()), false);
+    }
+
+    var hasSpans = false;
+    for (var scopeSpans : scopeSpansList) {
+      var filtered = filterScopeSpans(data, scopeSpans, apiIdentifier);
+
+      hasSpans |= filtered.hasSpans();
+      if (filtered.message() != null) {
+        rewriter.replace(
+          scopeSpans,
+          ResourceSpans.SCOPE_SPANS_FIELD_NUMBER,
+          filtered.message()
+        );
+      }
+    }
+
+    return new Filtered(rewriter.finish(resourceSpans.valueEnd()), hasSpans);
+  }
+
+  private Filtered filterScopeSpans(
+    byte[] data,
+    Field scopeSpans,
+    ApiIdentifier resourceApiIdentifier
+  ) throws IOException {
+    var input = scopeSpans.newInput(data);
+
+    var apiIdentifier = resourceApiIdentifier;
+    List<Field> spansList = new ArrayList<>();
+
+    while (true) {
+      var fieldStart = scopeSpans.valueStart() + input.getTotalBytesRead();
+
+      var tag = input.readTag();
+      if (tag == 0) {
+        break;
+      } else if (tag == SCOPE_TAG) {
+        apiIdentifier = resolveApiIdentifyingAttributes(
+          apiIdentifier,
+          data,
+          readField(input, scopeSpans.valueStart(), fieldStart),
+          SCOPE_ATTRIBUTES_TAG
+        );
+      } else if (tag == SPANS_TAG) {
+        spansList.add(readField(input, scopeSpans.valueStart(), fieldStart));
+      } else {
+        input.skipField(tag);
+      }
+    }
+
+    if (
+      apiIdentifier.isComplete() && apiIsKnownToSnowWhite(apiIdentifier)
+    ) {
+      return new Filtered(null, !spansList.isEmpty());
+    }
+
+    var rewriter = new Rewriter(data, scopeSpans.valueStart());
+    var hasSpans = false;
+
+    for (var span : spansList) {
+      if (
+        !apiIdentifier.isComplete() &&
+        spanIsKnownToSnowWhite(data, span, apiIdentifier)
+      ) {
+        hasSpans = true;
+      } else {
+        rewriter.drop(span);
+      }
+    }
+
+    return new Filtered(rewriter.finish(scopeSpans.valueEnd()), hasSpans);
+  }
+
+  private boolean spanIsKnownToSnowWhite(
+    byte[] data,
+    Field span,
+    ApiIdentifier scopeApiIdentifier
+  ) throws IOException {
+    var apiIdentifier = resolveApiIdentifyingAttributes(
+      scopeApiIdentifier,
+      data,
+      span,
+      SPAN_ATTRIBUTES_TAG
+    );
+
+    return apiIdentifier.isComplete() && apiIsKnownToSnowWhite(apiIdentifier);
+  }
+
+  private static boolean anyHasSpans(byte[] data, List<Field> scopeSpansList)
+    throws IOException {
+    for (var scopeSpans : scopeSpansList) {
+      var input = scopeSpans.newInput(data);
+
+      int tag;
+      while ((tag = input.readTag()) != 0) {
+        if (tag == SPANS_TAG) {
+          return true;
+        }
+
+        input.skipField(tag);
+      }
+    }
+
+    return false;
+  }
+
+  private boolean apiIsKnownToSnowWhite(ApiIdentifier apiIdentifier) {
+    return cachingService.apiExists(
+      apiIdentifier.otelServiceName(),
+      apiIdentifier.apiName(),
+      apiIdentifier.apiVersion()
+    );
+  }
+
+  /**
+   * Resolves the API identifying attributes of the given {@code message}, which are stored in the field identified by
+   * {@code attributesTag}.
+   * Same precedence rules as {@link OtelInformationFilteringService#resolveApiIdentifyingAttributes(ApiIdentifier, List)}.
+   */
+  private ApiIdentifier resolveApiIdentifyingAttributes(
+    ApiIdentifier parent,
+    byte[] data,
+    Field message,
+    int attributesTag
+  ) throws IOException {
+    var apiIdentifier = parent;
+    var input = message.newInput(data);
+
+    int tag;
+    while (!apiIdentifier.isResolved() && (tag = input.readTag()) != 0) {
+      if (tag == attributesTag) {
+        var fieldStart = message.valueStart() + input.getTotalBytesRead();
+        apiIdentifier = resolveApiIdentifyingAttribute(
+          apiIdentifier,
+          data,
+          readField(input, message.valueStart(), fieldStart)
+        );
+      } else {
+        input.skipField(tag);
+      }
+    }
+
+    return apiIdentifier;
+  }
+
+  private ApiIdentifier resolveApiIdentifyingAttribute(
+    ApiIdentifier apiIdentifier,
+    byte[] data,
+    Field keyValue
+  ) throws IOException {
+    var input = keyValue.newInput(data);
+
+    // A missing key is the empty string, a missing value the default instance
+    Field key = null;
+    Field value = null;
+
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      var fieldStart = keyValue.valueStart() + input.getTotalBytesRead();
+      if (tag == KEY_TAG) {
+        key = readField(input, keyValue.valueStart(), fieldStart);
+      } else if (tag == VALUE_TAG) {
+        value = readField(input, keyValue.valueStart(), fieldStart);
+      } else {
+        input.skipField(tag);
+      }
+    }
+
+    var apiName = apiIdentifier.apiName();
+    var apiVersion = apiIdentifier.apiVersion();
+    var otelServiceName = apiIdentifier.otelServiceName();
+    var resolvedAny = false;
+
+    if (apiName == null && keyEquals(data, key, apiNameAttributeKey)) {
+      apiName = stringValue(data, value);
+      resolvedAny = true;
+    }
+    if (apiVersion == null && keyEquals(data, key, apiVersionAttributeKey)) {
+      apiVersion = stringValue(data, value);
+      resolvedAny = true;
+    }
+    if (
+      otelServiceName == null && keyEquals(data, key, serviceNameAttributeKey)
+    ) {
+      otelServiceName = stringValue(data, value);
+      resolvedAny = true;
+    }
+
+    if (!resolvedAny) {
+      return apiIdentifier;
+    }
+
+    return new ApiIdentifier(apiName, apiVersion, otelServiceName);
+  }
+
+  private static boolean keyEquals(
+    byte[] data,
+    @Nullable Field key,
+    byte[] attributeKey
+  ) {
+    if (key == null) {
+      return attributeKey.length == 0;
+    }
+
+    return Arrays.equals(
+      data,
+      key.valueStart(),
+      key.valueEnd(),
+      attributeKey,
+      0,
+      attributeKey.length
+    );
+  }
+
+  /**
+   * Reads the {@code string_value} of an {@code AnyValue}, which is empty if any other member of the oneof is set.
+   */
+  private static String stringValue(byte[] data, @Nullable Field anyValue)
+    throws IOException {
+    if (anyValue == null) {
+      return "";
+    }
+
+    var input = anyValue.newInput(data);
+    Field stringValue = null;
+
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (tag == STRING_VALUE_TAG) {
+        var fieldStart = anyValue.valueStart() + input.getTotalBytesRead();
+        stringValue = readField(input, anyValue.valueStart(), fieldStart);
+        continue;
+      } else if (getTagFieldNumber(tag) <= LAST_ANY_VALUE_FIELD_NUMBER) {
+        stringValue = null;
+      }
+
+      input.skipField(tag);
+    }
+
+    if (stringValue == null) {
+      return "";
+    }
+
+    return new String(
+      data,
+      stringValue.valueStart(),
+      stringValue.valueEnd() - stringValue.valueStart(),
+      UTF_8
+    );
+  }
+
+  /**
+   * Reads the length-delimited value following a tag that has just been read.
+   *
+   * @param base       the absolute offset at which the {@code input} started reading
+   * @param fieldStart the absolute offset of the tag
+   */
+  private static Field readField(
+    CodedInputStream input,
+    int base,
+    int fieldStart
+  ) throws IOException {
+    var length = input.readRawVarint32();
+    var valueStart = base + input.getTotalBytesRead();
+    input.skipRawBytes(length);
+    return new Field(fieldStart, valueStart, valueStart + length);
+  }
+
+  /**
+   * A length-delimited field: {@code fieldStart} points at the tag, the value is {@code valueStart} to
+   * {@code valueEnd} (exclusive).
+   */
+  private record Field(int fieldStart, int valueStart, int valueEnd) {
+    CodedInputStream newInput(byte[] data) {
+      return CodedInputStream.newInstance(
+        data,
+        valueStart,
+        valueEnd - valueStart
+      );
+    }
+  }
+
+  /**
+   * The outcome of filtering one message: a {@code null} message means it is unchanged.
+   */
+  private record Filtered(byte @Nullable [] message, boolean hasSpans) {}
+
+  /**
+   * Copies a serialized message while replacing or dropping some of its fields, in order of their appearance.
+   * Nothing is copied at all unless a field actually changes.
+   */
+  private static final class Rewriter {
+
+    private final byte[] data;
+    private int copiedUpTo;
+
+    private @Nullable ByteArrayOutputStream outputStream;
+    private @Nullable CodedOutputStream output;
+
+    private Rewriter(byte[] data, int start) {
+      this.data = data;
+      this.copiedUpTo = start;
+    }
+
+    void drop(Field field) throws IOException {
+      copyUpTo(field);
+      copiedUpTo = field.valueEnd();
+    }
+
+    void replace(Field field, int fieldNumber, byte[] message)
+      throws IOException {
+      copyUpTo(field).writeByteArray(fieldNumber, message);
+      copiedUpTo = field.valueEnd();
+    }
+
+    private CodedOutputStream copyUpTo(Field field) throws IOException {
+      if (output == null) {
+        outputStream = new ByteArrayOutputStream(data.length - copiedUpTo);
+        output = CodedOutputStream.newInstance(outputStream);
+      }
+
+      output.writeRawBytes(data, copiedUpTo, field.fieldStart() - copiedUpTo);
+      return output;
+    }
+
+    /**
+     * Returns the rewritten message up to {@code end}, or {@code null} if nothing has changed.
+     */
+    byte @Nullable [] finish(int end) throws IOException {
+      if (output == null || outputStream == null) {
+        return null;
+      }
+
+      output.writeRawBytes(data, copiedUpTo, end - copiedUpTo);
+      output.flush();
+      return outputStream.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception;
+
+/**
+ * Signals that the api-index-api could not answer, even after retrying.
+ * In contrast to an unknown API, this does not tell anything about the telemetry itself.
+ */
+public class ApiIndexUnavailableException extends RuntimeException {
+
+  public ApiIndexUnavailableException(String message, Exception cause) {
+    super(message, cause);
+  }
+}
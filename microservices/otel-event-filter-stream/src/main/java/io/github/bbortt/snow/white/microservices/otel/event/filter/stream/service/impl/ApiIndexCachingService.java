@@ -6,26 +6,146 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.impl;
 
+import static java.lang.Boolean.TRUE;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.springframework.http.HttpStatus.OK;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.client.apiindexapi.api.ApiIndexApi;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.client.apiindexapi.dto.GetAllApis200ResponseInner;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.CachingService;
-import lombok.RequiredArgsConstructor;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 
+/**
+ * Answers API existence checks from a bounded in-memory cache, falling back to the api-index-api on a miss.
+ * <p>
+ * Both positive and negative results are cached, each with their own TTL.
+ * Entries that are read after the configured refresh period are reloaded in the background,
+ * which means a steady-state filter does not block on HTTP calls at all.
+ * Failed lookups are never cached.
+ * <p>
+ * On startup, the whole index is bulk-loaded into a local set of known APIs,
+ * which the change feed of the api-index-api keeps up to date (see {@link #apiIndexed(String, String, String)}).
+ * Known APIs are pure in-memory lookups. The set is not authoritative though: APIs missing from it still go through the cache,
+ * so that a lost change notification only delays an API by the negative TTL.
+ * <p>
+ * A client error of the api-index-api means the API is unknown. Any other failure that persists after retrying
+ * surfaces as {@link ApiIndexUnavailableException}, so that callers can tell it apart from unknown APIs.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class ApiIndexCachingService implements CachingService {
+public class ApiIndexCachingService
+  implements CachingService, SmartInitializingSingleton
+{
+
+  static final String CACHE_NAME = "api-index.api-exists";
+  static final String INDEXED_APIS_METER_NAME = "api-index.indexed-apis";
+
+  private static final String PRELOAD_SORT = "indexedAt,asc";
 
   private final ApiIndexApi apiIndexApi;
 
+  private final boolean preloadEnabled;
+  private final int preloadPageSize;
+
+  private final LoadingCache<ApiKey, Boolean> apiExistsCache;
+  private final Set<ApiKey> indexedApis = ConcurrentHashMap.newKeySet();
+
+  public ApiIndexCachingService(
+    ApiIndexApi apiIndexApi,
+    OtelEventFilterStreamProperties otelEventFilterStreamProperties,
+    MeterRegistry meterRegistry
+  ) {
+    this.apiIndexApi = apiIndexApi;
+
+    var apiIndexProperties = otelEventFilterStreamProperties.getApiIndex();
+    this.preloadEnabled = TRUE.equals(apiIndexProperties.getPreloadEnabled());
+    this.preloadPageSize = apiIndexProperties.getPreloadPageSize();
+
+    var cacheProperties = apiIndexProperties.getCache();
+
+    this.apiExistsCache = Caffeine.newBuilder()
+      .maximumSize(cacheProperties.getMaximumSize())
+      .expireAfter(
+        new ApiExistsExpiry(
+          SECONDS.toNanos(cacheProperties.getPositiveTtlSeconds()),
+          SECONDS.toNanos(cacheProperties.getNegativeTtlSeconds())
+        )
+      )
+      .refreshAfterWrite(cacheProperties.getRefreshAfterSeconds(), SECONDS)
+      .recordStats()
+      .build(this::checkApiExists);
+
+    CaffeineCacheMetrics.monitor(meterRegistry, apiExistsCache, CACHE_NAME);
+    meterRegistry.gaugeCollectionSize(
+      INDEXED_APIS_METER_NAME,
+      Tags.empty(),
+      indexedApis
+    );
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (preloadEnabled) {
+      preloadApiIndex();
+    }
+  }
+
+  void preloadApiIndex() {
+    logger.info("Preloading API index...");
+
+    try {
+      var page = 0;
+      List<GetAllApis200ResponseInner> apis;
+      do {
+        apis = apiIndexApi.getAllApis(
+          page++,
+          preloadPageSize,
+          PRELOAD_SORT,
+          null,
+          null
+        );
+
+        apis.forEach(api ->
+          indexedApis.add(
+            new ApiKey(
+              api.getServiceName(),
+              api.getApiName(),
+              api.getApiVersion()
+            )
+          )
+        );
+      } while (apis.size() >= preloadPageSize);
+
+      logger.info("Preloaded {} indexed APIs", indexedApis.size());
+    } catch (RestClientException e) {
+      logger.warn(
+        "Failed to preload API index, falling back to single API checks!",
+        e
+      );
+    }
+  }
+
   @Override
   @Retryable(
     retryFor = {
@@ -39,10 +159,25 @@ public class ApiIndexCachingService implements CachingService {
     String apiName,
     String apiVersion
   ) {
-    return apiIndexApi
-      .checkApiExistsWithHttpInfo(otelServiceName, apiName, apiVersion, true)
-      .getStatusCode()
-      .equals(OK);
+    var apiKey = new ApiKey(otelServiceName, apiName, apiVersion);
+    if (indexedApis.contains(apiKey)) {
+      return true;
+    }
+
+    return TRUE.equals(apiExistsCache.get(apiKey));
+  }
+
+  @Override
+  public void apiIndexed(
+    String otelServiceName,
+    String apiName,
+    String apiVersion
+  ) {
+    var apiKey = new ApiKey(otelServiceName, apiName, apiVersion);
+    logger.debug("API has been indexed: {}", apiKey);
+
+    indexedApis.add(apiKey);
+    apiExistsCache.invalidate(apiKey);
   }
 
   @Recover
@@ -52,7 +187,65 @@ public class ApiIndexCachingService implements CachingService {
     String apiName,
     String apiVersion
   ) {
-    logger.debug("Failed to check if API exists - recovering!", e);
-    return false;
+    if (e instanceof HttpClientErrorException) {
+      logger.debug("Failed to check if API exists - recovering!", e);
+      return false;
+    }
+
+    throw new ApiIndexUnavailableException(
+      "Failed to check if API exists, api-index-api is unavailable",
+      e
+    );
+  }
+
+  private Boolean checkApiExists(ApiKey apiKey) {
+    logger.trace("Cache miss, checking existence of API: {}", apiKey);
+
+    try {
+      return apiIndexApi
+        .checkApiExistsWithHttpInfo(
+          apiKey.otelServiceName(),
+          apiKey.apiName(),
+          apiKey.apiVersion(),
+          true
+        )
+        .getStatusCode()
+        .equals(OK);
+    } catch (HttpClientErrorException.NotFound _) {
+      // The client reports unknown APIs by throwing, which must still be cached
+      return false;
+    }
+  }
+
+  record ApiKey(String otelServiceName, String apiName, String apiVersion) {}
+
+  @NullMarked
+  private record ApiExistsExpiry(long positiveTtlNanos, long negativeTtlNanos)
+    implements Expiry<ApiKey, Boolean>
+  {
+    @Override
+    public long expireAfterCreate(ApiKey key, Boolean exists, long currentTime) {
+      return TRUE.equals(exists) ? positiveTtlNanos : negativeTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+      ApiKey key,
+      Boolean exists,
+      long currentTime,
+      long currentDuration
+    ) {
+      return expireAfterCreate(key, exists, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+      ApiKey key,
+      Boolean exists,
+      long currentTime,
+      long currentDuration
+    ) {
+      return currentDuration;
+    }
   }
 }
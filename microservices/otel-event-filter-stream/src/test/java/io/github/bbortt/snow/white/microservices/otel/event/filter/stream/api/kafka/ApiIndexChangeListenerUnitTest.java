@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka;
+
+import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.github.bbortt.snow.white.commons.event.ApiIndexedEvent;
+import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.CachingService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({ MockitoExtension.class })
+class ApiIndexChangeListenerUnitTest {
+
+  private static final String TOPIC = "api-index-changes";
+
+  @Mock
+  private CachingService cachingServiceMock;
+
+  private ApiIndexChangeListener fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new ApiIndexChangeListener(cachingServiceMock);
+  }
+
+  @Nested
+  class OnMessageTest {
+
+    @Test
+    void shouldMarkApiAsIndexed() {
+      var apiInformation = ApiInformation.builder()
+        .serviceName("serviceName")
+        .apiName("apiName")
+        .apiVersion("apiVersion")
+        .apiType(OPENAPI)
+        .build();
+
+      fixture.onMessage(
+        new ConsumerRecord<>(
+          TOPIC,
+          0,
+          0L,
+          ApiIndexedEvent.key("serviceName", "apiName", "apiVersion"),
+          new ApiIndexedEvent(apiInformation, false)
+        )
+      );
+
+      verify(cachingServiceMock).apiIndexed(
+        "serviceName",
+        "apiName",
+        "apiVersion"
+      );
+    }
+
+    @Test
+    void shouldIgnoreTombstones() {
+      fixture.onMessage(new ConsumerRecord<>(TOPIC, 0, 0L, "key", null));
+
+      verifyNoInteractions(cachingServiceMock);
+    }
+  }
+}
@@ -40,6 +40,10 @@ class KafkaTopicManagerUnitTest {
 
   @Test
   void shouldBeEnabled_whenPropertyIsSet() {
+    doReturn(new OtelEventFilterStreamProperties.ErrorHandlingProperties())
+      .when(otelEventFilterStreamPropertiesMock)
+      .getErrorHandling();
+
     var contextRunner = new ApplicationContextRunner().withUserConfiguration(
       KafkaTopicManager.class
     );
@@ -64,6 +68,7 @@ class KafkaTopicManagerUnitTest {
 
     verify(otelEventFilterStreamPropertiesMock).getInboundTopicName();
     verify(otelEventFilterStreamPropertiesMock).getOutboundTopicName();
+    verify(otelEventFilterStreamPropertiesMock).getErrorHandling();
   }
 
   @Nested
@@ -123,4 +128,49 @@ class KafkaTopicManagerUnitTest {
       assertThat(fixture.outboundTopic()).isNull();
     }
   }
+
+  @Nested
+  class DeadLetterTopicTest {
+
+    @Test
+    void shouldReturnBean() {
+      doReturn(TRUE)
+        .when(environmentMock)
+        .getProperty(PREFIX + ".init-topics", Boolean.class, FALSE);
+
+      var errorHandlingProperties =
+        new OtelEventFilterStreamProperties.ErrorHandlingProperties();
+      var testDeadLetterTopic = "KafkaTopicManagerTest:dead-letter";
+      errorHandlingProperties.setDeadLetterTopicName(testDeadLetterTopic);
+      doReturn(errorHandlingProperties)
+        .when(otelEventFilterStreamPropertiesMock)
+        .getErrorHandling();
+
+      NewTopic deadLetterTopic = fixture.deadLetterTopic();
+
+      assertThat(deadLetterTopic.name()).isEqualTo(testDeadLetterTopic);
+    }
+
+    @Test
+    void shouldReturnNullBean_whenNoDeadLetterTopicIsConfigured() {
+      doReturn(TRUE)
+        .when(environmentMock)
+        .getProperty(PREFIX + ".init-topics", Boolean.class, FALSE);
+
+      doReturn(new OtelEventFilterStreamProperties.ErrorHandlingProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getErrorHandling();
+
+      assertThat(fixture.deadLetterTopic()).isNull();
+    }
+
+    @Test
+    void shouldReturnNullBean_whenNotEnabled() {
+      doReturn(FALSE)
+        .when(environmentMock)
+        .getProperty(PREFIX + ".init-topics", Boolean.class, FALSE);
+
+      assertThat(fixture.deadLetterTopic()).isNull();
+    }
+  }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ConfluentWireFormatUnitTest {
+
+  @Nested
+  class PayloadOffsetTest {
+
+    @Test
+    void skipsFirstMessageShorthand() throws IOException {
+      var data = new byte[] { 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0xa };
+
+      assertThat(ConfluentWireFormat.payloadOffset(data)).isEqualTo(6);
+    }
+
+    @Test
+    void skipsMessageIndexes() throws IOException {
+      // Two message indexes (zigzag encoded): 1 and 2
+      var data = new byte[] { 0x0, 0x0, 0x0, 0x0, 0x1, 0x4, 0x2, 0x4, 0xa };
+
+      assertThat(ConfluentWireFormat.payloadOffset(data)).isEqualTo(8);
+    }
+
+    @Test
+    void throwsException_whenMagicByteIsUnknown() {
+      var data = new byte[] { 0x1, 0x0, 0x0, 0x0, 0x1, 0x0 };
+
+      assertThatThrownBy(() -> ConfluentWireFormat.payloadOffset(data))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Unknown magic byte!");
+    }
+
+    @Test
+    void throwsException_whenHeaderIsTruncated() {
+      var data = new byte[] { 0x0, 0x0, 0x0 };
+
+      assertThatThrownBy(() ->
+        ConfluentWireFormat.payloadOffset(data)
+      ).isInstanceOf(IOException.class);
+    }
+  }
+}
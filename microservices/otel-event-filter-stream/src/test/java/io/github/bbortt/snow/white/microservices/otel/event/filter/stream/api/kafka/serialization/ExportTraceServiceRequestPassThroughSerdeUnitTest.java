@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static java.util.Arrays.copyOfRange;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.exception.SerializationException;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.KafkaStreamsConfig;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import java.io.IOException;
+import org.apache.kafka.common.serialization.Serde;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ExportTraceServiceRequestPassThroughSerdeUnitTest {
+
+  private static final String TOPIC = "test-topic";
+
+  private final TestData testData = TestData.builder().build();
+
+  private Serde<ExportTraceServiceRequest> fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    var otelEventFilterStreamProperties = new OtelEventFilterStreamProperties();
+    otelEventFilterStreamProperties.setSchemaRegistryUrl(
+      "mock://" + getClass().getSimpleName()
+    );
+
+    var kafkaStreamsConfig = new KafkaStreamsConfig();
+    fixture = kafkaStreamsConfig.protobufSerde(
+      kafkaStreamsConfig.snowWhiteKafkaProperties(
+        otelEventFilterStreamProperties
+      )
+    );
+  }
+
+  private ExportTraceServiceRequest exportTraceServiceRequest() {
+    return ExportTraceServiceRequest.newBuilder()
+      .addResourceSpans(testData.resourceSpansWithResourceAttributes())
+      .addResourceSpans(testData.resourceSpansWithAttributesOnEachLevel())
+      .build();
+  }
+
+  @Test
+  void isPassThroughSerde() {
+    assertThat(fixture).isInstanceOf(
+      ExportTraceServiceRequestPassThroughSerde.class
+    );
+  }
+
+  @Nested
+  class SerializerTest {
+
+    @Test
+    void serializationAndDeserializationLoop() {
+      var originalMessage = exportTraceServiceRequest();
+
+      var serializedData = fixture
+        .serializer()
+        .serialize(TOPIC, originalMessage);
+      assertThat(serializedData).isNotNull();
+
+      var deserializedMessage = fixture
+        .deserializer()
+        .deserialize(TOPIC, serializedData);
+      assertThat(deserializedMessage).isEqualTo(originalMessage);
+    }
+
+    @Test
+    void forwardsOriginalBytes_whenMessageIsUnchanged() {
+      var inboundData = fixture
+        .serializer()
+        .serialize(TOPIC, exportTraceServiceRequest());
+
+      var deserializedMessage = fixture
+        .deserializer()
+        .deserialize(TOPIC, inboundData);
+
+      assertThat(
+        fixture.serializer().serialize(TOPIC, deserializedMessage)
+      ).isSameAs(inboundData);
+    }
+
+    @Test
+    void splicesUnchangedResourceSpans_whenSomeHaveBeenFiltered()
+      throws IOException {
+      var inboundData = fixture
+        .serializer()
+        .serialize(TOPIC, exportTraceServiceRequest());
+
+      var deserializedMessage = fixture
+        .deserializer()
+        .deserialize(TOPIC, inboundData);
+
+      var filteredMessage = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(deserializedMessage.getResourceSpans(0))
+        .addResourceSpans(
+          ResourceSpans.newBuilder(deserializedMessage.getResourceSpans(1))
+            .clearScopeSpans()
+        )
+        .build();
+
+      var outboundData = fixture
+        .serializer()
+        .serialize(TOPIC, filteredMessage);
+
+      var payloadOffset = ConfluentWireFormat.payloadOffset(inboundData);
+      assertThat(copyOfRange(outboundData, 0, payloadOffset)).isEqualTo(
+        copyOfRange(inboundData, 0, payloadOffset)
+      );
+
+      assertThat(
+        fixture.deserializer().deserialize(TOPIC, outboundData)
+      ).isEqualTo(filteredMessage);
+    }
+
+    @Test
+    void splicesKeptResourceSpans_whenSomeHaveBeenRemoved() {
+      var inboundData = fixture
+        .serializer()
+        .serialize(TOPIC, exportTraceServiceRequest());
+
+      var deserializedMessage = fixture
+        .deserializer()
+        .deserialize(TOPIC, inboundData);
+
+      var filteredMessage = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(deserializedMessage.getResourceSpans(1))
+        .build();
+
+      var outboundData = fixture
+        .serializer()
+        .serialize(TOPIC, filteredMessage);
+
+      assertThat(
+        fixture.deserializer().deserialize(TOPIC, outboundData)
+      ).isEqualTo(filteredMessage);
+    }
+
+    @Test
+    void forwardsBytesOfSerializedMessage_whenOtherMessagesHaveBeenDeserializedSince() {
+      var firstInboundData = fixture
+        .serializer()
+        .serialize(TOPIC, exportTraceServiceRequest());
+      var secondInboundData = fixture
+        .serializer()
+        .serialize(
+          TOPIC,
+          TestData.wrapResourceSpans(testData.resourceSpansWithSpanAttributes())
+        );
+
+      var deserializer = fixture.deserializer();
+      var firstMessage = deserializer.deserialize(TOPIC, firstInboundData);
+      var secondMessage = deserializer.deserialize(TOPIC, secondInboundData);
+
+      var serializer = fixture.serializer();
+      assertThat(serializer.serialize(TOPIC, firstMessage)).isSameAs(
+        firstInboundData
+      );
+      assertThat(serializer.serialize(TOPIC, secondMessage)).isSameAs(
+        secondInboundData
+      );
+    }
+
+    @Test
+    void splicesFromOwnInboundRecord_whenOtherMessagesHaveBeenDeserializedSince() {
+      var firstInboundData = fixture
+        .serializer()
+        .serialize(TOPIC, exportTraceServiceRequest());
+
+      var deserializer = fixture.deserializer();
+      var firstMessage = deserializer.deserialize(TOPIC, firstInboundData);
+      deserializer.deserialize(
+        TOPIC,
+        fixture
+          .serializer()
+          .serialize(
+            TOPIC,
+            TestData.wrapResourceSpans(
+              testData.resourceSpansWithSpanAttributes()
+            )
+          )
+      );
+
+      var filteredMessage = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(firstMessage.getResourceSpans(0))
+        .build();
+
+      var outboundData = fixture
+        .serializer()
+        .serialize(TOPIC, filteredMessage);
+
+      assertThat(
+        fixture.deserializer().deserialize(TOPIC, outboundData)
+      ).isEqualTo(filteredMessage);
+    }
+
+    @Test
+    void delegatesSerialization_whenResourceSpansStemFromDifferentRecords() {
+      var serializer = fixture.serializer();
+      var deserializer = fixture.deserializer();
+
+      var firstMessage = deserializer.deserialize(
+        TOPIC,
+        serializer.serialize(TOPIC, exportTraceServiceRequest())
+      );
+      var secondMessage = deserializer.deserialize(
+        TOPIC,
+        serializer.serialize(
+          TOPIC,
+          TestData.wrapResourceSpans(testData.resourceSpansWithSpanAttributes())
+        )
+      );
+
+      var mixedMessage = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(firstMessage.getResourceSpans(0))
+        .addResourceSpans(secondMessage.getResourceSpans(0))
+        .build();
+
+      assertThat(
+        deserializer.deserialize(
+          TOPIC,
+          serializer.serialize(TOPIC, mixedMessage)
+        )
+      ).isEqualTo(mixedMessage);
+    }
+  }
+
+  @Nested
+  class DeserializerTest {
+
+    @Test
+    void returnsNull_whenDataIsNull() {
+      assertThat(fixture.deserializer().deserialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    void throwsException_whenMagicByteIsUnknown() {
+      var deserializer = fixture.deserializer();
+      var data = new byte[] { 0x1, 0x0, 0x0, 0x0, 0x1, 0x0 };
+
+      assertThatThrownBy(() ->
+        deserializer.deserialize(TOPIC, data)
+      ).isInstanceOf(SerializationException.class);
+    }
+  }
+}
@@ -38,4 +38,28 @@ class ExportTraceServiceRequestSerdesUnitTest {
       assertThat(deserializedMessage).isNotNull().isEqualTo(originalMessage);
     }
   }
+
+  @Nested
+  class StreamingJsonSerdeTest {
+
+    private final TestData testData = TestData.builder().build();
+
+    @Test
+    void serializationAndDeserializationLoop() {
+      var originalMessage = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(testData.resourceSpansWithAttributesOnEachLevel())
+        .build();
+
+      byte[] serializedData = ExportTraceServiceRequestSerdes.StreamingJsonSerde()
+        .serializer()
+        .serialize("test-topic", originalMessage);
+      assertThat(serializedData).isNotNull();
+
+      ExportTraceServiceRequest deserializedMessage =
+        ExportTraceServiceRequestSerdes.StreamingJsonSerde()
+          .deserializer()
+          .deserialize("test-topic", serializedData);
+      assertThat(deserializedMessage).isNotNull().isEqualTo(originalMessage);
+    }
+  }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization;
+
+import static com.google.protobuf.ByteString.fromHex;
+import static io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER;
+import static io.opentelemetry.proto.trace.v1.Status.StatusCode.STATUS_CODE_ERROR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.util.JsonFormat;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.exception.SerializationException;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.common.v1.KeyValueList;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ExportTraceServiceRequestStreamingJsonDeserializerUnitTest {
+
+  private static final String TOPIC = "test-topic";
+
+  private final TestData testData = TestData.builder().build();
+
+  private final ExportTraceServiceRequestStreamingJsonDeserializer fixture =
+    new ExportTraceServiceRequestStreamingJsonDeserializer();
+
+  private static KeyValue attribute(String key, AnyValue.Builder value) {
+    return KeyValue.newBuilder().setKey(key).setValue(value).build();
+  }
+
+  private static ExportTraceServiceRequest richExportTraceServiceRequest(
+    ResourceSpans resourceSpans
+  ) {
+    var span = Span.newBuilder()
+      .setTraceId(fromHex(TestData.TRACE_ID))
+      .setSpanId(fromHex(TestData.SPAN_ID))
+      .setName("GET /pets/{id}")
+      .setKind(SPAN_KIND_SERVER)
+      .setStartTimeUnixNano(1_760_000_000_123_456_789L)
+      .setEndTimeUnixNano(1_760_000_000_223_456_789L)
+      .setFlags(0xffff_ffff)
+      .setDroppedAttributesCount(3)
+      .addAttributes(
+        attribute("http.status", AnyValue.newBuilder().setIntValue(500))
+      )
+      .addAttributes(
+        attribute("duration", AnyValue.newBuilder().setDoubleValue(0.25))
+      )
+      .addAttributes(
+        attribute("cached", AnyValue.newBuilder().setBoolValue(true))
+      )
+      .addAttributes(
+        attribute(
+          "payload",
+          AnyValue.newBuilder().setBytesValue(ByteString.copyFromUtf8("?>~"))
+        )
+      )
+      .addAttributes(
+        attribute(
+          "tags",
+          AnyValue.newBuilder()
+            .setArrayValue(
+              ArrayValue.newBuilder()
+                .addValues(AnyValue.newBuilder().setStringValue("a"))
+                .addValues(AnyValue.newBuilder().setIntValue(-1))
+            )
+        )
+      )
+      .addAttributes(
+        attribute(
+          "nested",
+          AnyValue.newBuilder()
+            .setKvlistValue(
+              KeyValueList.newBuilder().addValues(
+                attribute("key", AnyValue.newBuilder().setStringValue("value"))
+              )
+            )
+        )
+      )
+      .addEvents(
+        Span.Event.newBuilder()
+          .setName("exception")
+          .setTimeUnixNano(1_760_000_000_200_000_000L)
+      )
+      .addLinks(
+        Span.Link.newBuilder()
+          .setTraceId(fromHex(TestData.TRACE_ID))
+          .setSpanId(fromHex(TestData.SPAN_ID))
+      )
+      .setStatus(
+        Status.newBuilder().setCode(STATUS_CODE_ERROR).setMessage("boom")
+      );
+
+    return ExportTraceServiceRequest.newBuilder()
+      .addResourceSpans(resourceSpans)
+      .addResourceSpans(
+        ResourceSpans.newBuilder()
+          .setSchemaUrl("https://opentelemetry.io/schemas/1.24.0")
+          .addScopeSpans(ScopeSpans.newBuilder().addSpans(span))
+      )
+      .build();
+  }
+
+  @Nested
+  class DeserializeTest {
+
+    @Test
+    void producesSameMessageAsJsonFormat() throws Exception {
+      var originalMessage = richExportTraceServiceRequest(
+        testData.resourceSpansWithAttributesOnEachLevel()
+      );
+      var json = JsonFormat.printer().print(originalMessage).getBytes(UTF_8);
+
+      var deserializedMessage = fixture.deserialize(TOPIC, json);
+
+      assertThat(deserializedMessage)
+        .isEqualTo(originalMessage)
+        .isEqualTo(
+          new ExportTraceServiceRequestJsonDeserializer().deserialize(
+            TOPIC,
+            json
+          )
+        );
+    }
+
+    @Test
+    void acceptsOriginalFieldNamesAndEnumNumbers() {
+      var json = """
+        {
+          "resource_spans": [{
+            "scope_spans": [{
+              "spans": [{
+                "name": "span",
+                "kind": 2,
+                "start_time_unix_nano": 1760000000123456789,
+                "unknownField": { "ignored": [1, 2, 3] }
+              }]
+            }]
+          }]
+        }
+        """.getBytes(UTF_8);
+
+      var deserializedMessage = fixture.deserialize(TOPIC, json);
+
+      assertThat(deserializedMessage).isNotNull();
+      var span = deserializedMessage
+        .getResourceSpans(0)
+        .getScopeSpans(0)
+        .getSpans(0);
+      assertThat(span.getName()).isEqualTo("span");
+      assertThat(span.getKind()).isEqualTo(SPAN_KIND_SERVER);
+      assertThat(span.getStartTimeUnixNano()).isEqualTo(
+        1_760_000_000_123_456_789L
+      );
+    }
+
+    @Test
+    void returnsNull_whenDataIsNull() {
+      assertThat(fixture.deserialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    void throwsException_whenJsonIsInvalid() {
+      var json = "{\"resourceSpans\": [".getBytes(UTF_8);
+
+      assertThatThrownBy(() -> fixture.deserialize(TOPIC, json))
+        .isInstanceOf(SerializationException.class)
+        .hasMessage("Error deserializing protobuf JSON message");
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.OTEL_SERVICE_NAME;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.wrapResourceSpans;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ExportTraceServiceRequestSplitterUnitTest {
+
+  private static final String KEY = "fe5b8e43-0b84-4d7c-9d4c-3b4e0f1c2d6a";
+
+  private static final TestData TEST_DATA = TestData.builder().build();
+
+  private final ExportTraceServiceRequestSplitter fixture =
+    new ExportTraceServiceRequestSplitter("service.name", 3);
+
+  private static ScopeSpans scopeSpans(String scopeName, int spanCount) {
+    var scopeSpans = ScopeSpans.newBuilder().setScope(
+      InstrumentationScope.newBuilder().setName(scopeName)
+    );
+
+    for (int i = 0; i < spanCount; i++) {
+      scopeSpans.addSpans(Span.newBuilder().setName(scopeName + "-" + i));
+    }
+
+    return scopeSpans.build();
+  }
+
+  private static int spanCount(ExportTraceServiceRequest request) {
+    return request
+      .getResourceSpansList()
+      .stream()
+      .flatMap(resourceSpans -> resourceSpans.getScopeSpansList().stream())
+      .mapToInt(ScopeSpans::getSpansCount)
+      .sum();
+  }
+
+  @Nested
+  class SplitTest {
+
+    @Test
+    void returnsNothing_whenRequestIsNull() {
+      assertThat(fixture.split(KEY, null)).isEmpty();
+    }
+
+    @Test
+    void returnsRequestItself_whenItIsSmallEnough() {
+      var exportTraceServiceRequest = wrapResourceSpans(
+        TEST_DATA.resourceSpansWithResourceAttributes()
+      );
+
+      assertThat(fixture.split(KEY, exportTraceServiceRequest))
+        .singleElement()
+        .satisfies(
+          part -> assertThat(part.key).isEqualTo(OTEL_SERVICE_NAME),
+          part -> assertThat(part.value).isSameAs(exportTraceServiceRequest)
+        );
+    }
+
+    @Test
+    void splitsPerResourceSpans() {
+      var exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes())
+        .addResourceSpans(TEST_DATA.resourceSpansWithSpanAttributes())
+        .build();
+
+      assertThat(fixture.split(KEY, exportTraceServiceRequest))
+        .hasSize(2)
+        .satisfiesExactly(
+          part -> {
+            assertThat(part.key).isEqualTo(OTEL_SERVICE_NAME);
+            assertThat(part.value).isEqualTo(
+              wrapResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes())
+            );
+          },
+          part -> {
+            assertThat(part.key).isEqualTo(KEY);
+            assertThat(part.value).isEqualTo(
+              wrapResourceSpans(TEST_DATA.resourceSpansWithSpanAttributes())
+            );
+          }
+        );
+    }
+
+    @Test
+    void splitsBigResourceSpansIntoBatches() {
+      var resourceSpans = ResourceSpans.newBuilder(
+        TEST_DATA.resourceSpansWithResourceAttributes()
+      )
+        .clearScopeSpans()
+        .addScopeSpans(scopeSpans("first", 2))
+        .addScopeSpans(scopeSpans("second", 5))
+        .build();
+
+      var parts = fixture.split(KEY, wrapResourceSpans(resourceSpans));
+
+      assertThat(parts)
+        .hasSize(3)
+        .allSatisfy(part -> {
+          assertThat(part.key).isEqualTo(OTEL_SERVICE_NAME);
+          assertThat(part.value.getResourceSpans(0).getResource()).isEqualTo(
+            resourceSpans.getResource()
+          );
+        })
+        .extracting(part -> spanCount(part.value))
+        .containsExactly(3, 3, 1);
+
+      var firstBatch = parts.getFirst().value.getResourceSpans(0);
+      assertThat(firstBatch.getScopeSpansList())
+        .extracting(scopeSpans -> scopeSpans.getScope().getName())
+        .containsExactly("first", "second");
+    }
+
+    @Test
+    void doesNotBatch_whenMaxSpansPerRecordIsZero() {
+      var resourceSpans = ResourceSpans.newBuilder()
+        .addScopeSpans(scopeSpans("scope", 10))
+        .build();
+      var exportTraceServiceRequest = wrapResourceSpans(resourceSpans);
+
+      assertThat(
+        new ExportTraceServiceRequestSplitter("service.name", 0).split(
+          KEY,
+          exportTraceServiceRequest
+        )
+      )
+        .singleElement()
+        .satisfies(part ->
+          assertThat(part.value).isSameAs(exportTraceServiceRequest)
+        );
+    }
+  }
+}
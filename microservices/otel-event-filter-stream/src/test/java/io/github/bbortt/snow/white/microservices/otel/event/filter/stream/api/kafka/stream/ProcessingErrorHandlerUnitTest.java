@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ERRORS_METER_NAME;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorCause.API_INDEX_UNAVAILABLE;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ErrorCause.PROCESSING;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.DEAD_LETTER;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.PASS_THROUGH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProcessingErrorHandlerUnitTest {
+
+  private static final String KEY = "key";
+  private static final String VALUE = "value";
+
+  private OtelEventFilterStreamProperties otelEventFilterStreamProperties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    otelEventFilterStreamProperties = new OtelEventFilterStreamProperties();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private ProcessingErrorHandler fixture() {
+    return new ProcessingErrorHandler(
+      otelEventFilterStreamProperties,
+      meterRegistry
+    );
+  }
+
+  private double count(String cause, String action) {
+    return meterRegistry
+      .get(ERRORS_METER_NAME)
+      .tags("cause", cause, "action", action)
+      .counter()
+      .count();
+  }
+
+  @Nested
+  class ConstructorTest {
+
+    @Test
+    void shouldIgnoreBlankDeadLetterTopic() {
+      otelEventFilterStreamProperties
+        .getErrorHandling()
+        .setDeadLetterTopicName(" ");
+
+      assertThat(fixture().getDeadLetterTopicName()).isNull();
+    }
+  }
+
+  @Nested
+  class HandleTest {
+
+    @Test
+    void shouldDropFailingRecord_whenNoDeadLetterTopicIsConfigured() {
+      var outcome = fixture().handle(KEY, VALUE, new IllegalStateException());
+
+      assertThat(outcome).isEqualTo(FilterOutcome.drop());
+      assertThat(count("processing", "dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeadLetterFailingRecord_whenDeadLetterTopicIsConfigured() {
+      otelEventFilterStreamProperties
+        .getErrorHandling()
+        .setDeadLetterTopicName("dead-letter");
+
+      var exception = new IllegalStateException();
+      var outcome = fixture().handle(KEY, VALUE, exception);
+
+      assertThat(outcome).satisfies(
+        o -> assertThat(o.forward()).isNull(),
+        o -> assertThat(o.deadLetter()).isEqualTo(VALUE),
+        o -> assertThat(o.cause()).isEqualTo(PROCESSING),
+        o -> assertThat(o.exception()).isEqualTo(exception)
+      );
+      assertThat(count("processing", "dead-lettered")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropRecord_whenApiIndexIsUnavailable() {
+      var outcome = fixture().handle(KEY, VALUE, apiIndexUnavailable());
+
+      assertThat(outcome).isEqualTo(FilterOutcome.drop());
+      assertThat(count("api-index-unavailable", "dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeadLetterRecord_whenApiIndexIsUnavailable() {
+      var errorHandlingProperties =
+        otelEventFilterStreamProperties.getErrorHandling();
+      errorHandlingProperties.setDeadLetterTopicName("dead-letter");
+      errorHandlingProperties.setApiIndexUnavailablePolicy(DEAD_LETTER);
+
+      var outcome = fixture().handle(KEY, VALUE, apiIndexUnavailable());
+
+      assertThat(outcome).satisfies(
+        o -> assertThat(o.deadLetter()).isEqualTo(VALUE),
+        o -> assertThat(o.cause()).isEqualTo(API_INDEX_UNAVAILABLE)
+      );
+      assertThat(count("api-index-unavailable", "dead-lettered")).isEqualTo(
+        1
+      );
+    }
+
+    @Test
+    void shouldPassThroughRecord_whenApiIndexIsUnavailable() {
+      otelEventFilterStreamProperties
+        .getErrorHandling()
+        .setApiIndexUnavailablePolicy(PASS_THROUGH);
+
+      var outcome = fixture().handle(KEY, VALUE, apiIndexUnavailable());
+
+      assertThat(outcome).isEqualTo(FilterOutcome.forward(VALUE));
+      assertThat(count("api-index-unavailable", "passed-through")).isEqualTo(
+        1
+      );
+    }
+
+    private static ApiIndexUnavailableException apiIndexUnavailable() {
+      return new ApiIndexUnavailableException("down", new Exception());
+    }
+  }
+
+  @Nested
+  class DeserializationFailedTest {
+
+    @Test
+    void shouldCountDeadLetteredRecord() {
+      fixture().deserializationFailed("topic", new IllegalStateException());
+
+      assertThat(count("deserialization", "dead-lettered")).isEqualTo(1);
+    }
+  }
+}
@@ -6,22 +6,36 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.json;
 
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.OTEL_SERVICE_NAME;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.wrapResourceSpans;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.serialization.ExportTraceServiceRequestSerdes.JsonSerde;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ERRORS_METER_NAME;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler.ERROR_CAUSE_HEADER;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.DEAD_LETTER;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.PASS_THROUGH;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_EXCEPTION_FQCN;
+import static org.springframework.kafka.support.KafkaHeaders.DLT_ORIGINAL_TOPIC;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.KafkaStreamsConfig;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import java.util.Properties;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -49,6 +63,10 @@ class ExportTraceServiceRequestEventJsonProcessorUnitTest {
     getClass().getSimpleName() + ":inbound";
   private final String outboundTopicName =
     getClass().getSimpleName() + ":outbound";
+  private final String deadLetterTopicName =
+    getClass().getSimpleName() + ":dead-letter";
+
+  private SimpleMeterRegistry meterRegistry;
 
   private Properties snowWhiteKafkaProperties;
 
@@ -59,6 +77,8 @@ class ExportTraceServiceRequestEventJsonProcessorUnitTest {
 
   @BeforeEach
   void beforeEachSetup() {
+    meterRegistry = new SimpleMeterRegistry();
+
     var kafkaEventFilterProperties = new OtelEventFilterStreamProperties();
     kafkaEventFilterProperties.setSchemaRegistryUrl(
       "mock://" + getClass().getSimpleName()
@@ -73,7 +93,8 @@ class ExportTraceServiceRequestEventJsonProcessorUnitTest {
 
     fixture = new ExportTraceServiceRequestEventJsonProcessor(
       otelInformationFilteringServiceMock,
-      kafkaEventFilterProperties
+      kafkaEventFilterProperties,
+      new ProcessingErrorHandler(kafkaEventFilterProperties, meterRegistry)
     );
   }
 
@@ -169,6 +190,14 @@ class ExportTraceServiceRequestEventJsonProcessorUnitTest {
         ExportTraceServiceRequest.getDefaultInstance(),
         outputTopic -> assertThat(outputTopic.readKeyValuesToList()).isEmpty()
       );
+
+      assertThat(
+        meterRegistry
+          .get(ERRORS_METER_NAME)
+          .tags("cause", "processing", "action", "dropped")
+          .counter()
+          .count()
+      ).isEqualTo(1);
     }
 
     private void sendEventsAndAssert(
@@ -206,6 +235,270 @@ class ExportTraceServiceRequestEventJsonProcessorUnitTest {
     }
   }
 
+  @Nested
+  class FanOutTest {
+
+    @BeforeEach
+    void beforeEachSetup() {
+      var kafkaEventFilterProperties = new OtelEventFilterStreamProperties();
+      kafkaEventFilterProperties.setInboundTopicName(inboundTopicName);
+      kafkaEventFilterProperties.setOutboundTopicName(outboundTopicName);
+      kafkaEventFilterProperties.getFanOut().setEnabled(true);
+
+      fixture = new ExportTraceServiceRequestEventJsonProcessor(
+        otelInformationFilteringServiceMock,
+        kafkaEventFilterProperties,
+        new ProcessingErrorHandler(kafkaEventFilterProperties, meterRegistry)
+      );
+    }
+
+    @Test
+    void streamShouldForwardEachResourceSpansSeparately() {
+      doAnswer(returnsFirstArg())
+        .when(otelInformationFilteringServiceMock)
+        .filterUnknownSpecifications(any(ExportTraceServiceRequest.class));
+
+      var requestId = "0c3bd7a5-5e37-4f43-9d3c-6e0a3e4b9f21";
+      var exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes())
+        .addResourceSpans(TEST_DATA.resourceSpansWithSpanAttributes())
+        .build();
+
+      var streamsBuilder = new StreamsBuilder();
+      fixture.resourceSpansStream(streamsBuilder);
+
+      try (
+        var topologyTestDriver = new TopologyTestDriver(
+          streamsBuilder.build(),
+          snowWhiteKafkaProperties
+        )
+      ) {
+        topologyTestDriver
+          .createInputTopic(
+            inboundTopicName,
+            new StringSerializer(),
+            JsonSerde().serializer()
+          )
+          .pipeInput(requestId, exportTraceServiceRequest);
+
+        assertThat(
+          topologyTestDriver
+            .createOutputTopic(
+              outboundTopicName,
+              new StringDeserializer(),
+              JsonSerde().deserializer()
+            )
+            .readKeyValuesToList()
+        ).satisfiesExactlyInAnyOrder(
+          r -> {
+            assertThat(r.key).isEqualTo(OTEL_SERVICE_NAME);
+            assertThat(r.value).isEqualTo(
+              wrapResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes())
+            );
+          },
+          r -> {
+            assertThat(r.key).isEqualTo(requestId);
+            assertThat(r.value).isEqualTo(
+              wrapResourceSpans(TEST_DATA.resourceSpansWithSpanAttributes())
+            );
+          }
+        );
+      }
+    }
+  }
+
+  @Nested
+  class ErrorHandlingTest {
+
+    private OtelEventFilterStreamProperties kafkaEventFilterProperties;
+
+    @BeforeEach
+    void beforeEachSetup() {
+      kafkaEventFilterProperties = new OtelEventFilterStreamProperties();
+      kafkaEventFilterProperties.setInboundTopicName(inboundTopicName);
+      kafkaEventFilterProperties.setOutboundTopicName(outboundTopicName);
+      kafkaEventFilterProperties
+        .getErrorHandling()
+        .setDeadLetterTopicName(deadLetterTopicName);
+    }
+
+    @Test
+    void streamShouldDeadLetterFailingRecords() {
+      doThrow(new IllegalArgumentException("boom"))
+        .when(otelInformationFilteringServiceMock)
+        .filterUnknownSpecifications(any(ExportTraceServiceRequest.class));
+
+      var exportTraceServiceRequest = wrapResourceSpans(
+        TEST_DATA.resourceSpansWithResourceAttributes()
+      );
+
+      pipeInputAndAssert(
+        exportTraceServiceRequest,
+        (outputTopic, deadLetterTopic) -> {
+          assertThat(outputTopic.readKeyValuesToList()).isEmpty();
+          assertThat(deadLetterTopic.readRecordsToList())
+            .hasSize(1)
+            .first()
+            .satisfies(
+              r -> assertThat(r.value()).isEqualTo(exportTraceServiceRequest),
+              r ->
+                assertThat(
+                  r.headers().lastHeader(ERROR_CAUSE_HEADER).value()
+                ).isEqualTo("processing".getBytes(UTF_8)),
+              r ->
+                assertThat(
+                  r.headers().lastHeader(DLT_EXCEPTION_FQCN).value()
+                ).isEqualTo(
+                  IllegalArgumentException.class.getName().getBytes(UTF_8)
+                ),
+              r ->
+                assertThat(
+                  r.headers().lastHeader(DLT_ORIGINAL_TOPIC).value()
+                ).isEqualTo(inboundTopicName.getBytes(UTF_8))
+            );
+        }
+      );
+
+      assertThat(
+        meterRegistry
+          .get(ERRORS_METER_NAME)
+          .tags("cause", "processing", "action", "dead-lettered")
+          .counter()
+          .count()
+      ).isEqualTo(1);
+    }
+
+    @Test
+    void streamShouldDropRecords_whenApiIndexIsUnavailable() {
+      doThrow(new ApiIndexUnavailableException("down", new Exception()))
+        .when(otelInformationFilteringServiceMock)
+        .filterUnknownSpecifications(any(ExportTraceServiceRequest.class));
+
+      pipeInputAndAssert(
+        wrapResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes()),
+        (outputTopic, deadLetterTopic) -> {
+          assertThat(outputTopic.readKeyValuesToList()).isEmpty();
+          assertThat(deadLetterTopic.readKeyValuesToList()).isEmpty();
+        }
+      );
+
+      assertThat(
+        meterRegistry
+          .get(ERRORS_METER_NAME)
+          .tags("cause", "api-index-unavailable", "action", "dropped")
+          .counter()
+          .count()
+      ).isEqualTo(1);
+    }
+
+    @Test
+    void streamShouldDeadLetterRecords_whenApiIndexIsUnavailable() {
+      kafkaEventFilterProperties
+        .getErrorHandling()
+        .setApiIndexUnavailablePolicy(DEAD_LETTER);
+
+      doThrow(new ApiIndexUnavailableException("down", new Exception()))
+        .when(otelInformationFilteringServiceMock)
+        .filterUnknownSpecifications(any(ExportTraceServiceRequest.class));
+
+      pipeInputAndAssert(
+        wrapResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes()),
+        (outputTopic, deadLetterTopic) -> {
+          assertThat(outputTopic.readKeyValuesToList()).isEmpty();
+          assertThat(deadLetterTopic.readRecordsToList())
+            .hasSize(1)
+            .first()
+            .satisfies(r ->
+              assertThat(
+                r.headers().lastHeader(ERROR_CAUSE_HEADER).value()
+              ).isEqualTo("api-index-unavailable".getBytes(UTF_8))
+            );
+        }
+      );
+    }
+
+    @Test
+    void streamShouldPassThroughRecords_whenApiIndexIsUnavailable() {
+      kafkaEventFilterProperties
+        .getErrorHandling()
+        .setApiIndexUnavailablePolicy(PASS_THROUGH);
+
+      doThrow(new ApiIndexUnavailableException("down", new Exception()))
+        .when(otelInformationFilteringServiceMock)
+        .filterUnknownSpecifications(any(ExportTraceServiceRequest.class));
+
+      var exportTraceServiceRequest = wrapResourceSpans(
+        TEST_DATA.resourceSpansWithResourceAttributes()
+      );
+
+      pipeInputAndAssert(
+        exportTraceServiceRequest,
+        (outputTopic, deadLetterTopic) -> {
+          assertThat(outputTopic.readValuesToList()).containsExactly(
+            exportTraceServiceRequest
+          );
+          assertThat(deadLetterTopic.readKeyValuesToList()).isEmpty();
+        }
+      );
+
+      assertThat(
+        meterRegistry
+          .get(ERRORS_METER_NAME)
+          .tags("cause", "api-index-unavailable", "action", "passed-through")
+          .counter()
+          .count()
+      ).isEqualTo(1);
+    }
+
+    private void pipeInputAndAssert(
+      ExportTraceServiceRequest exportTraceServiceRequest,
+      BiConsumer<
+        TestOutputTopic<String, ExportTraceServiceRequest>,
+        TestOutputTopic<String, ExportTraceServiceRequest>
+      > eventAssert
+    ) {
+      fixture = new ExportTraceServiceRequestEventJsonProcessor(
+        otelInformationFilteringServiceMock,
+        kafkaEventFilterProperties,
+        new ProcessingErrorHandler(kafkaEventFilterProperties, meterRegistry)
+      );
+
+      var streamsBuilder = new StreamsBuilder();
+      fixture.resourceSpansStream(streamsBuilder);
+
+      try (
+        var topologyTestDriver = new TopologyTestDriver(
+          streamsBuilder.build(),
+          snowWhiteKafkaProperties
+        )
+      ) {
+        topologyTestDriver
+          .createInputTopic(
+            inboundTopicName,
+            new StringSerializer(),
+            JsonSerde().serializer()
+          )
+          .pipeInput(
+            "5d0f4a8e-7d57-4a39-8f86-2c1d0f2e7b11",
+            exportTraceServiceRequest
+          );
+
+        eventAssert.accept(
+          topologyTestDriver.createOutputTopic(
+            outboundTopicName,
+            new StringDeserializer(),
+            JsonSerde().deserializer()
+          ),
+          topologyTestDriver.createOutputTopic(
+            deadLetterTopicName,
+            new StringDeserializer(),
+            JsonSerde().deserializer()
+          )
+        );
+      }
+    }
+  }
+
   @Nested
   class CreateStreamTest {
 
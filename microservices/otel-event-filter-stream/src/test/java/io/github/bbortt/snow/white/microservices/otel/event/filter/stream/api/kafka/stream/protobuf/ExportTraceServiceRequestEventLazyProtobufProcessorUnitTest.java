@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.protobuf;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.PASS_THROUGH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelWireFormatFilteringService;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({ MockitoExtension.class })
+class ExportTraceServiceRequestEventLazyProtobufProcessorUnitTest {
+
+  private static final byte[] HEADER = { 0x0, 0x0, 0x0, 0x0, 0x1, 0x0 };
+
+  private final String inboundTopicName =
+    getClass().getSimpleName() + ":inbound";
+  private final String outboundTopicName =
+    getClass().getSimpleName() + ":outbound";
+  private final String deadLetterTopicName =
+    getClass().getSimpleName() + ":dead-letter";
+
+  @Mock
+  private OtelWireFormatFilteringService otelWireFormatFilteringServiceMock;
+
+  private OtelEventFilterStreamProperties kafkaEventFilterProperties;
+
+  private ExportTraceServiceRequestEventLazyProtobufProcessor fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    kafkaEventFilterProperties = new OtelEventFilterStreamProperties();
+    kafkaEventFilterProperties.setInboundTopicName(inboundTopicName);
+    kafkaEventFilterProperties.setOutboundTopicName(outboundTopicName);
+
+    fixture = createFixture();
+  }
+
+  private ExportTraceServiceRequestEventLazyProtobufProcessor createFixture() {
+    return new ExportTraceServiceRequestEventLazyProtobufProcessor(
+      otelWireFormatFilteringServiceMock,
+      kafkaEventFilterProperties,
+      new ProcessingErrorHandler(
+        kafkaEventFilterProperties,
+        new SimpleMeterRegistry()
+      )
+    );
+  }
+
+  @Test
+  void constructor() {
+    assertThat(fixture).hasNoNullFieldsOrProperties();
+  }
+
+  @Nested
+  class ProcessResourceSpansTest {
+
+    @Test
+    void filteredRecordIsBeingForwarded() throws IOException {
+      var filteredData = new byte[] { 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0xa };
+      doReturn(filteredData)
+        .when(otelWireFormatFilteringServiceMock)
+        .filterUnknownSpecifications(any(byte[].class), eq(HEADER.length));
+
+      sendEventsAndAssert(HEADER, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).containsExactly(
+          filteredData
+        )
+      );
+    }
+
+    @Test
+    void recordWithoutSpansIsBeingDiscarded() throws IOException {
+      doReturn(null)
+        .when(otelWireFormatFilteringServiceMock)
+        .filterUnknownSpecifications(any(byte[].class), anyInt());
+
+      sendEventsAndAssert(HEADER, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).isEmpty()
+      );
+    }
+
+    @Test
+    void recordFailingToBeFilteredIsBeingDiscarded() throws IOException {
+      doThrow(new IOException("truncated"))
+        .when(otelWireFormatFilteringServiceMock)
+        .filterUnknownSpecifications(any(byte[].class), anyInt());
+
+      sendEventsAndAssert(HEADER, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).isEmpty()
+      );
+    }
+
+    @Test
+    void recordWithUnknownMagicByteIsBeingDiscarded() {
+      sendEventsAndAssert(new byte[] { 0x1, 0x0, 0x0, 0x0, 0x1 }, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).isEmpty()
+      );
+
+      verifyNoInteractions(otelWireFormatFilteringServiceMock);
+    }
+
+    @Test
+    void recordFailingToBeFilteredIsBeingDeadLettered() throws IOException {
+      kafkaEventFilterProperties
+        .getErrorHandling()
+        .setDeadLetterTopicName(deadLetterTopicName);
+      fixture = createFixture();
+
+      doThrow(new IOException("truncated"))
+        .when(otelWireFormatFilteringServiceMock)
+        .filterUnknownSpecifications(any(byte[].class), anyInt());
+
+      sendEventsAndAssert(HEADER, (outputTopic, deadLetterTopic) -> {
+        assertThat(outputTopic.readValuesToList()).isEmpty();
+        assertThat(deadLetterTopic.readValuesToList()).containsExactly(HEADER);
+      });
+    }
+
+    @Test
+    void recordIsBeingPassedThrough_whenApiIndexIsUnavailable()
+      throws IOException {
+      kafkaEventFilterProperties
+        .getErrorHandling()
+        .setApiIndexUnavailablePolicy(PASS_THROUGH);
+      fixture = createFixture();
+
+      doThrow(new ApiIndexUnavailableException("down", new Exception()))
+        .when(otelWireFormatFilteringServiceMock)
+        .filterUnknownSpecifications(any(byte[].class), anyInt());
+
+      sendEventsAndAssert(HEADER, outputTopic ->
+        assertThat(outputTopic.readValuesToList()).containsExactly(HEADER)
+      );
+    }
+
+    private void sendEventsAndAssert(
+      byte[] data,
+      Consumer<TestOutputTopic<String, byte[]>> eventAssert
+    ) {
+      sendEventsAndAssert(data, (outputTopic, deadLetterTopic) ->
+        eventAssert.accept(outputTopic)
+      );
+    }
+
+    private void sendEventsAndAssert(
+      byte[] data,
+      BiConsumer<
+        TestOutputTopic<String, byte[]>,
+        TestOutputTopic<String, byte[]>
+      > eventAssert
+    ) {
+      var streamsBuilder = new StreamsBuilder();
+
+      fixture.resourceSpansStream(streamsBuilder);
+      var topology = streamsBuilder.build();
+
+      try (
+        var topologyTestDriver = new TopologyTestDriver(
+          topology,
+          new Properties()
+        )
+      ) {
+        var inputTopic = topologyTestDriver.createInputTopic(
+          inboundTopicName,
+          new StringSerializer(),
+          new ByteArraySerializer()
+        );
+
+        var outputTopic = topologyTestDriver.createOutputTopic(
+          outboundTopicName,
+          new StringDeserializer(),
+          new ByteArrayDeserializer()
+        );
+
+        var deadLetterTopic = topologyTestDriver.createOutputTopic(
+          deadLetterTopicName,
+          new StringDeserializer(),
+          new ByteArrayDeserializer()
+        );
+
+        inputTopic.pipeInput("53b8f95a-1a2b-41d7-ac2a-3faf9f08331f", data);
+
+        eventAssert.accept(outputTopic, deadLetterTopic);
+      }
+    }
+  }
+}
@@ -9,15 +9,19 @@ package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.k
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.KafkaStreamsConfig;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -74,6 +78,10 @@ class ExportTraceServiceRequestEventProtobufProcessorUnitTest {
     fixture = new ExportTraceServiceRequestEventProtobufProcessor(
       otelInformationFilteringServiceMock,
       kafkaEventFilterProperties,
+      new ProcessingErrorHandler(
+        kafkaEventFilterProperties,
+        new SimpleMeterRegistry()
+      ),
       protobufSerde
     );
   }
@@ -144,9 +152,53 @@ class ExportTraceServiceRequestEventProtobufProcessorUnitTest {
       );
     }
 
+    @Test
+    void eachRecordIsForwardedWithItsOwnPayload() {
+      var unchangedRequest = TestData.wrapResourceSpans(
+        TEST_DATA.resourceSpansWithResourceAttributes()
+      );
+      var filteredRequest = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(TEST_DATA.resourceSpansWithScopeAttributes())
+        .addResourceSpans(TEST_DATA.resourceSpansWithSpanAttributes())
+        .build();
+
+      doAnswer(invocation -> {
+        ExportTraceServiceRequest exportTraceServiceRequest =
+          invocation.getArgument(0);
+        return exportTraceServiceRequest.getResourceSpansCount() > 1
+          ? ExportTraceServiceRequest.newBuilder()
+              .addResourceSpans(exportTraceServiceRequest.getResourceSpans(1))
+              .build()
+          : exportTraceServiceRequest;
+      })
+        .when(otelInformationFilteringServiceMock)
+        .filterUnknownSpecifications(any(ExportTraceServiceRequest.class));
+
+      sendEventsAndAssert(
+        List.of(unchangedRequest, filteredRequest),
+        outputTopic ->
+          assertThat(outputTopic.readValuesToList()).containsExactly(
+            unchangedRequest,
+            TestData.wrapResourceSpans(
+              TEST_DATA.resourceSpansWithSpanAttributes()
+            )
+          )
+      );
+    }
+
     private void sendEventsAndAssert(
       ExportTraceServiceRequest exportTraceServiceRequest,
       Consumer<TestOutputTopic<String, ExportTraceServiceRequest>> eventAssert
+    ) {
+      sendEventsAndAssert(List.of(exportTraceServiceRequest), eventAssert);
+    }
+
+    /**
+     * Pipes all requests before any output is being read.
+     */
+    private void sendEventsAndAssert(
+      List<ExportTraceServiceRequest> exportTraceServiceRequests,
+      Consumer<TestOutputTopic<String, ExportTraceServiceRequest>> eventAssert
     ) {
       var streamsBuilder = new StreamsBuilder();
 
@@ -171,9 +223,11 @@ class ExportTraceServiceRequestEventProtobufProcessorUnitTest {
           protobufSerde.deserializer()
         );
 
-        inputTopic.pipeInput(
-          "53b8f95a-1a2b-41d7-ac2a-3faf9f08331f",
-          exportTraceServiceRequest
+        exportTraceServiceRequests.forEach(exportTraceServiceRequest ->
+          inputTopic.pipeInput(
+            "53b8f95a-1a2b-41d7-ac2a-3faf9f08331f",
+            exportTraceServiceRequest
+          )
         );
 
         eventAssert.accept(outputTopic);
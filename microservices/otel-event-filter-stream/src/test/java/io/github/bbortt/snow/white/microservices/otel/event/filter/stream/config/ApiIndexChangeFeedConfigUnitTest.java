@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config;
+
+import static java.lang.Boolean.FALSE;
+import static org.apache.kafka.clients.CommonClientConfigs.SECURITY_PROTOCOL_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.ApiIndexChangeListener;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.CachingService;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+@ExtendWith({ MockitoExtension.class })
+class ApiIndexChangeFeedConfigUnitTest {
+
+  @Mock
+  private KafkaProperties kafkaPropertiesMock;
+
+  @Mock
+  private CachingService cachingServiceMock;
+
+  private OtelEventFilterStreamProperties otelEventFilterStreamProperties;
+
+  private ApiIndexChangeFeedConfig fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    otelEventFilterStreamProperties = new OtelEventFilterStreamProperties();
+
+    fixture = new ApiIndexChangeFeedConfig(
+      kafkaPropertiesMock,
+      otelEventFilterStreamProperties
+    );
+  }
+
+  @Nested
+  class ApiIndexChangeListenerContainerTest {
+
+    @Test
+    void shouldReturnContainer_whenChangeTopicIsConfigured() {
+      var changeTopicName = "api-index-changes";
+      otelEventFilterStreamProperties
+        .getApiIndex()
+        .setChangeTopicName(changeTopicName);
+
+      var sslBundles = new DefaultSslBundleRegistry();
+      Map<String, Object> consumerProperties = Map.of(
+        BOOTSTRAP_SERVERS_CONFIG,
+        "bootstrapServer",
+        SECURITY_PROTOCOL_CONFIG,
+        "SASL_SSL",
+        GROUP_ID_CONFIG,
+        "application-group",
+        ENABLE_AUTO_COMMIT_CONFIG,
+        true
+      );
+
+      doReturn(consumerProperties)
+        .when(kafkaPropertiesMock)
+        .buildConsumerProperties(sslBundles);
+
+      var container = fixture.apiIndexChangeListenerContainer(
+        cachingServiceMock,
+        sslBundles
+      );
+
+      assertThat(container).isNotNull();
+      assertThat(container.getContainerProperties().getTopics()).containsExactly(
+        changeTopicName
+      );
+      assertThat(
+        container.getContainerProperties().getMessageListener()
+      ).isInstanceOf(ApiIndexChangeListener.class);
+
+      assertThat(container)
+        .extracting("consumerFactory")
+        .asInstanceOf(type(DefaultKafkaConsumerFactory.class))
+        .extracting(DefaultKafkaConsumerFactory::getConfigurationProperties)
+        .satisfies(configurationProperties ->
+          assertThat(configurationProperties)
+            .containsEntry(BOOTSTRAP_SERVERS_CONFIG, "bootstrapServer")
+            .containsEntry(SECURITY_PROTOCOL_CONFIG, "SASL_SSL")
+            .containsEntry(AUTO_OFFSET_RESET_CONFIG, "earliest")
+            .containsEntry(ENABLE_AUTO_COMMIT_CONFIG, FALSE)
+            .hasEntrySatisfying(GROUP_ID_CONFIG, groupId ->
+              assertThat(groupId)
+                .asString()
+                .startsWith("otel-event-filter-stream-")
+            )
+        );
+    }
+
+    @Test
+    void shouldReturnNull_whenNoChangeTopicIsConfigured() {
+      assertThat(
+        fixture.apiIndexChangeListenerContainer(
+          cachingServiceMock,
+          new DefaultSslBundleRegistry()
+        )
+      ).isNull();
+
+      verifyNoInteractions(kafkaPropertiesMock);
+    }
+  }
+}
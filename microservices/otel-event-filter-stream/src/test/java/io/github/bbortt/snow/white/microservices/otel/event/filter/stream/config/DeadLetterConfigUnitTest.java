@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config;
+
+import static org.apache.kafka.clients.CommonClientConfigs.SECURITY_PROTOCOL_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.streams.StreamsConfig.APPLICATION_ID_CONFIG;
+import static org.apache.kafka.streams.StreamsConfig.DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler.KSTREAM_DESERIALIZATION_RECOVERER;
+
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler;
+
+@ExtendWith({ MockitoExtension.class })
+class DeadLetterConfigUnitTest {
+
+  @Mock
+  private KafkaProperties kafkaPropertiesMock;
+
+  private DefaultSslBundleRegistry sslBundles;
+  private OtelEventFilterStreamProperties otelEventFilterStreamProperties;
+
+  private DeadLetterConfig fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    sslBundles = new DefaultSslBundleRegistry();
+    otelEventFilterStreamProperties = new OtelEventFilterStreamProperties();
+
+    fixture = new DeadLetterConfig(kafkaPropertiesMock, sslBundles);
+  }
+
+  @Nested
+  class ProcessingErrorHandlerTest {
+
+    @Test
+    void shouldReturnHandler() {
+      var deadLetterTopicName = "dead-letter";
+      otelEventFilterStreamProperties
+        .getErrorHandling()
+        .setDeadLetterTopicName(deadLetterTopicName);
+
+      assertThat(
+        fixture.processingErrorHandler(
+          otelEventFilterStreamProperties,
+          new SimpleMeterRegistry()
+        )
+      )
+        .isNotNull()
+        .extracting(ProcessingErrorHandler::getDeadLetterTopicName)
+        .isEqualTo(deadLetterTopicName);
+    }
+  }
+
+  @Nested
+  class DeadLetterProducerFactoryTest {
+
+    @Test
+    void shouldUseProducerProperties() {
+      Map<String, Object> producerProperties = Map.of(
+        BOOTSTRAP_SERVERS_CONFIG,
+        "bootstrapServer",
+        SECURITY_PROTOCOL_CONFIG,
+        "SASL_SSL"
+      );
+
+      doReturn(producerProperties)
+        .when(kafkaPropertiesMock)
+        .buildProducerProperties(sslBundles);
+
+      assertThat(
+        fixture.deadLetterProducerFactory().getConfigurationProperties()
+      ).containsAllEntriesOf(producerProperties);
+    }
+
+    @Test
+    void shouldCreateProducerFactoryOnce() {
+      doReturn(Map.of(BOOTSTRAP_SERVERS_CONFIG, "bootstrapServer"))
+        .when(kafkaPropertiesMock)
+        .buildProducerProperties(sslBundles);
+
+      assertThat(fixture.deadLetterProducerFactory()).isSameAs(
+        fixture.deadLetterProducerFactory()
+      );
+
+      verify(kafkaPropertiesMock).buildProducerProperties(sslBundles);
+    }
+  }
+
+  @Nested
+  class DeadLetterStreamsConfigurerTest {
+
+    private StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+    @BeforeEach
+    void beforeEachSetup() {
+      streamsBuilderFactoryBean = new StreamsBuilderFactoryBean(
+        new KafkaStreamsConfiguration(
+          Map.of(APPLICATION_ID_CONFIG, "otel-event-filter-stream")
+        )
+      );
+    }
+
+    @Test
+    void shouldRecoverDeserializationErrors_whenDeadLetterTopicIsConfigured() {
+      otelEventFilterStreamProperties
+        .getErrorHandling()
+        .setDeadLetterTopicName("dead-letter");
+
+      doReturn(Map.of(BOOTSTRAP_SERVERS_CONFIG, "bootstrapServer"))
+        .when(kafkaPropertiesMock)
+        .buildProducerProperties(sslBundles);
+
+      fixture
+        .deadLetterStreamsConfigurer(processingErrorHandler())
+        .configure(streamsBuilderFactoryBean);
+
+      assertThat(streamsBuilderFactoryBean.getStreamsConfiguration())
+        .containsEntry(
+          DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+          RecoveringDeserializationExceptionHandler.class
+        )
+        .hasEntrySatisfying(KSTREAM_DESERIALIZATION_RECOVERER, recoverer ->
+          assertThat(recoverer).isInstanceOf(ConsumerRecordRecoverer.class)
+        );
+    }
+
+    @Test
+    void shouldNotChangeConfiguration_whenNoDeadLetterTopicIsConfigured() {
+      fixture
+        .deadLetterStreamsConfigurer(processingErrorHandler())
+        .configure(streamsBuilderFactoryBean);
+
+      assertThat(streamsBuilderFactoryBean.getStreamsConfiguration())
+        .doesNotContainKey(DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG)
+        .doesNotContainKey(KSTREAM_DESERIALIZATION_RECOVERER);
+
+      verifyNoInteractions(kafkaPropertiesMock);
+    }
+
+    private ProcessingErrorHandler processingErrorHandler() {
+      return new ProcessingErrorHandler(
+        otelEventFilterStreamProperties,
+        new SimpleMeterRegistry()
+      );
+    }
+  }
+}
@@ -96,6 +96,9 @@ class NativeRuntimeHintsConfigurationUnitTest {
     verify(reflectionHintsMock).registerType(
       io.confluent.kafka.streams.serdes.protobuf.KafkaProtobufSerde.class
     );
+    verify(reflectionHintsMock).registerType(
+      org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler.class
+    );
 
     verify(reflectionHintsMock).registerType(
       io.confluent.kafka.serializers.subject.TopicNameStrategy.class
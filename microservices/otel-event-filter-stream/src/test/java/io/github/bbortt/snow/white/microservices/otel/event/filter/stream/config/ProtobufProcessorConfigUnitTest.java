@@ -11,7 +11,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
 
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.kafka.stream.ProcessingErrorHandler;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelInformationFilteringService;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.OtelWireFormatFilteringService;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.streams.StreamsBuilder;
@@ -34,9 +36,15 @@ class ProtobufProcessorConfigUnitTest {
   @Mock
   private OtelInformationFilteringService otelInformationFilteringServiceMock;
 
+  @Mock
+  private OtelWireFormatFilteringService otelWireFormatFilteringServiceMock;
+
   @Mock
   private OtelEventFilterStreamProperties otelEventFilterStreamPropertiesMock;
 
+  @Mock
+  private ProcessingErrorHandler processingErrorHandlerMock;
+
   private final StreamsBuilder streamsBuilder = new StreamsBuilder();
 
   @InjectMocks
@@ -57,16 +65,30 @@ class ProtobufProcessorConfigUnitTest {
       doReturn("outboundTopicName")
         .when(otelEventFilterStreamPropertiesMock)
         .getOutboundTopicName();
+      doReturn(new OtelEventFilterStreamProperties.FanOutProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getFanOut();
+      doReturn(new OtelEventFilterStreamProperties.FilteringProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getFiltering();
 
       contextRunner
         .withBean(
           OtelInformationFilteringService.class,
           () -> otelInformationFilteringServiceMock
         )
+        .withBean(
+          OtelWireFormatFilteringService.class,
+          () -> otelWireFormatFilteringServiceMock
+        )
         .withBean(
           OtelEventFilterStreamProperties.class,
           () -> otelEventFilterStreamPropertiesMock
         )
+        .withBean(
+          ProcessingErrorHandler.class,
+          () -> processingErrorHandlerMock
+        )
         .withBean(StreamsBuilder.class, () -> streamsBuilder)
         .withPropertyValues(CONSUMER_MODE_PROPERTY_NAME + "=json")
         .run(context ->
@@ -76,6 +98,51 @@ class ProtobufProcessorConfigUnitTest {
         );
     }
 
+    @Test
+    void shouldBePresent_whenConsumerModeIsJsonStreaming() {
+      var contextRunner = new ApplicationContextRunner().withUserConfiguration(
+        ProtobufProcessorConfig.class
+      );
+
+      doReturn("inboundTopicName")
+        .when(otelEventFilterStreamPropertiesMock)
+        .getInboundTopicName();
+      doReturn("outboundTopicName")
+        .when(otelEventFilterStreamPropertiesMock)
+        .getOutboundTopicName();
+      doReturn(new OtelEventFilterStreamProperties.FanOutProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getFanOut();
+      doReturn(new OtelEventFilterStreamProperties.FilteringProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getFiltering();
+
+      contextRunner
+        .withBean(
+          OtelInformationFilteringService.class,
+          () -> otelInformationFilteringServiceMock
+        )
+        .withBean(
+          OtelWireFormatFilteringService.class,
+          () -> otelWireFormatFilteringServiceMock
+        )
+        .withBean(
+          OtelEventFilterStreamProperties.class,
+          () -> otelEventFilterStreamPropertiesMock
+        )
+        .withBean(
+          ProcessingErrorHandler.class,
+          () -> processingErrorHandlerMock
+        )
+        .withBean(StreamsBuilder.class, () -> streamsBuilder)
+        .withPropertyValues(CONSUMER_MODE_PROPERTY_NAME + "=json-streaming")
+        .run(context ->
+          assertThat(context)
+            .getBean("exportTraceServiceRequestJsonStream", KStream.class)
+            .isNotNull()
+        );
+    }
+
     @Test
     void shouldReturnNullBean_whenConsumerModeIsProtobuf() {
       doReturn("protobuf")
@@ -86,6 +153,7 @@ class ProtobufProcessorConfigUnitTest {
         fixture.exportTraceServiceRequestJsonStream(
           otelInformationFilteringServiceMock,
           otelEventFilterStreamPropertiesMock,
+          processingErrorHandlerMock,
           streamsBuilder
         )
       ).isNull();
@@ -110,16 +178,30 @@ class ProtobufProcessorConfigUnitTest {
       doReturn("outboundTopicName")
         .when(otelEventFilterStreamPropertiesMock)
         .getOutboundTopicName();
+      doReturn(new OtelEventFilterStreamProperties.FanOutProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getFanOut();
+      doReturn(new OtelEventFilterStreamProperties.FilteringProperties())
+        .when(otelEventFilterStreamPropertiesMock)
+        .getFiltering();
 
       contextRunner
         .withBean(
           OtelInformationFilteringService.class,
           () -> otelInformationFilteringServiceMock
         )
+        .withBean(
+          OtelWireFormatFilteringService.class,
+          () -> otelWireFormatFilteringServiceMock
+        )
         .withBean(
           OtelEventFilterStreamProperties.class,
           () -> otelEventFilterStreamPropertiesMock
         )
+        .withBean(
+          ProcessingErrorHandler.class,
+          () -> processingErrorHandlerMock
+        )
         .withBean(Serde.class, () -> protobufSerdeMock)
         .withBean(StreamsBuilder.class, () -> streamsBuilder)
         .withPropertyValues(CONSUMER_MODE_PROPERTY_NAME + "=protobuf")
@@ -140,6 +222,7 @@ class ProtobufProcessorConfigUnitTest {
         fixture.exportTraceServiceRequestProtobufStream(
           otelInformationFilteringServiceMock,
           otelEventFilterStreamPropertiesMock,
+          processingErrorHandlerMock,
           protobufSerdeMock,
           streamsBuilder
         )
@@ -156,10 +239,73 @@ class ProtobufProcessorConfigUnitTest {
         fixture.exportTraceServiceRequestProtobufStream(
           otelInformationFilteringServiceMock,
           otelEventFilterStreamPropertiesMock,
+          processingErrorHandlerMock,
           null,
           streamsBuilder
         )
       ).isInstanceOf(NullPointerException.class);
     }
   }
+
+  @Nested
+  class LazyProtobufProcessorTest {
+
+    @Test
+    void shouldBePresent_whenConsumerModeIsProtobufLazy() {
+      var contextRunner = new ApplicationContextRunner().withUserConfiguration(
+        ProtobufProcessorConfig.class
+      );
+
+      doReturn("inboundTopicName")
+        .when(otelEventFilterStreamPropertiesMock)
+        .getInboundTopicName();
+      doReturn("outboundTopicName")
+        .when(otelEventFilterStreamPropertiesMock)
+        .getOutboundTopicName();
+
+      contextRunner
+        .withBean(
+          OtelInformationFilteringService.class,
+          () -> otelInformationFilteringServiceMock
+        )
+        .withBean(
+          OtelWireFormatFilteringService.class,
+          () -> otelWireFormatFilteringServiceMock
+        )
+        .withBean(
+          OtelEventFilterStreamProperties.class,
+          () -> otelEventFilterStreamPropertiesMock
+        )
+        .withBean(
+          ProcessingErrorHandler.class,
+          () -> processingErrorHandlerMock
+        )
+        .withBean(StreamsBuilder.class, () -> streamsBuilder)
+        .withPropertyValues(CONSUMER_MODE_PROPERTY_NAME + "=protobuf-lazy")
+        .run(context ->
+          assertThat(context)
+            .getBean(
+              "exportTraceServiceRequestLazyProtobufStream",
+              KStream.class
+            )
+            .isNotNull()
+        );
+    }
+
+    @Test
+    void shouldReturnNullBean_whenConsumerModeIsProtobuf() {
+      doReturn("protobuf")
+        .when(environmentMock)
+        .getProperty(CONSUMER_MODE_PROPERTY_NAME, "json");
+
+      assertThat(
+        fixture.exportTraceServiceRequestLazyProtobufStream(
+          otelWireFormatFilteringServiceMock,
+          otelEventFilterStreamPropertiesMock,
+          processingErrorHandlerMock,
+          streamsBuilder
+        )
+      ).isNull();
+    }
+  }
 }
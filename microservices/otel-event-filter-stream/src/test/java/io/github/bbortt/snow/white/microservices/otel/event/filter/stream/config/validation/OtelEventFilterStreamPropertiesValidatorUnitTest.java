@@ -6,6 +6,8 @@
 
 package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.validation;
 
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.DEAD_LETTER;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ApiIndexUnavailablePolicy.DROP;
 import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties.ConsumerMode.JSON;
 import static io.opentelemetry.semconv.ServiceAttributes.SERVICE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -158,6 +160,60 @@ class OtelEventFilterStreamPropertiesValidatorUnitTest {
           );
       }
     }
+
+    @Nested
+    class ErrorHandlingPropertiesTest {
+
+      static Stream<String> emptyAndNullString() {
+        return OtelEventFilterStreamPropertiesValidatorUnitTest.emptyAndNullString();
+      }
+
+      @BeforeEach
+      void beforeEachSetup() {
+        fixture.setInboundTopicName("inbound");
+        fixture.setOutboundTopicName("outbound");
+        fixture.getApiIndex().setBaseUrl("baseUrl");
+      }
+
+      @Test
+      void shouldDropRecordsByDefault() {
+        assertThat(fixture.getErrorHandling()).satisfies(
+          e -> assertThat(e.getApiIndexUnavailablePolicy()).isEqualTo(DROP),
+          e -> assertThat(e.getDeadLetterTopicName()).isNull()
+        );
+
+        assertThatCode(() ->
+          new OtelEventFilterStreamPropertiesValidator(fixture)
+        ).doesNotThrowAnyException();
+      }
+
+      @Test
+      void shouldPass_whenDeadLetterPolicyHasTopic() {
+        fixture.getErrorHandling().setApiIndexUnavailablePolicy(DEAD_LETTER);
+        fixture.getErrorHandling().setDeadLetterTopicName("dead-letter");
+
+        assertThatCode(() ->
+          new OtelEventFilterStreamPropertiesValidator(fixture)
+        ).doesNotThrowAnyException();
+      }
+
+      @ParameterizedTest
+      @MethodSource("emptyAndNullString")
+      void shouldThrowException_whenDeadLetterPolicyHasNoTopic(
+        String deadLetterTopicName
+      ) {
+        fixture.getErrorHandling().setApiIndexUnavailablePolicy(DEAD_LETTER);
+        fixture.getErrorHandling().setDeadLetterTopicName(deadLetterTopicName);
+
+        assertThatThrownBy(() ->
+          new OtelEventFilterStreamPropertiesValidator(fixture)
+        )
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage(
+            "All properties must be configured - missing: [snow.white.otel.event.filter.error-handling.dead-letter-topic-name]."
+          );
+      }
+    }
   }
 
   @Nested
@@ -19,8 +19,11 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -126,6 +129,46 @@ class OtelInformationFilteringServiceUnitTest {
       );
     }
 
+    @ParameterizedTest
+    @MethodSource("resourceSpansWithValidApiIdentifiers")
+    void returnsSameInstance_whenNothingHasBeenFiltered(
+      ResourceSpans resourceSpans
+    ) {
+      doReturn(true)
+        .when(cachingServiceMock)
+        .apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION);
+
+      var exportTraceServiceRequest = wrapResourceSpans(resourceSpans);
+
+      assertThat(
+        fixture.filterUnknownSpecifications(exportTraceServiceRequest)
+      ).isSameAs(exportTraceServiceRequest);
+    }
+
+    @Test
+    void keepsSameInstanceOfKnownResourceSpans_whenOthersHaveBeenFiltered() {
+      var knownResourceSpans = TEST_DATA.resourceSpansWithResourceAttributes();
+      var unknownResourceSpans = TEST_DATA.resourceSpansWithoutApiName();
+
+      doReturn(true)
+        .when(cachingServiceMock)
+        .apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION);
+
+      var result = fixture.filterUnknownSpecifications(
+        ExportTraceServiceRequest.newBuilder()
+          .addResourceSpans(knownResourceSpans)
+          .addResourceSpans(unknownResourceSpans)
+          .build()
+      );
+
+      assertThat(result.getResourceSpans(0)).isSameAs(knownResourceSpans);
+      assertThat(result.getResourceSpans(1).getScopeSpansList())
+        .isNotEmpty()
+        .allSatisfy(scopeSpans ->
+          assertThat(scopeSpans.getSpansList()).isEmpty()
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("resourceSpansWithValidApiIdentifiers")
     void doesNotReturnValidExportTraceServiceRequestOfUnknownApi(
@@ -187,4 +230,108 @@ class OtelInformationFilteringServiceUnitTest {
       verifyNoInteractions(cachingServiceMock);
     }
   }
+
+  @Nested
+  class ResolveApiIdentifyingAttributesTest {
+
+    private static KeyValue attribute(String key, String value) {
+      return KeyValue.newBuilder()
+        .setKey(key)
+        .setValue(AnyValue.newBuilder().setStringValue(value))
+        .build();
+    }
+
+    @Test
+    void shouldResolveAllAttributesInSinglePass() {
+      var apiIdentifier = fixture.resolveApiIdentifyingAttributes(
+        OtelInformationFilteringService.ApiIdentifier.EMPTY,
+        List.of(
+          attribute(API_NAME_ATTRIBUTE_KEY, API_NAME),
+          attribute("unrelated", "value"),
+          attribute(API_VERSION_ATTRIBUTE_KEY, API_VERSION),
+          attribute(SERVICE_NAME_ATTRIBUTE_KEY, OTEL_SERVICE_NAME)
+        )
+      );
+
+      assertThat(apiIdentifier).isEqualTo(
+        new OtelInformationFilteringService.ApiIdentifier(
+          API_NAME,
+          API_VERSION,
+          OTEL_SERVICE_NAME
+        )
+      );
+      assertThat(apiIdentifier.isComplete()).isTrue();
+    }
+
+    @Test
+    void shouldNotOverrideAttributesOfParentLevel() {
+      var resourceApiIdentifier = new OtelInformationFilteringService.ApiIdentifier(
+        API_NAME,
+        null,
+        null
+      );
+
+      var apiIdentifier = fixture.resolveApiIdentifyingAttributes(
+        resourceApiIdentifier,
+        List.of(
+          attribute(API_NAME_ATTRIBUTE_KEY, "other-api"),
+          attribute(API_VERSION_ATTRIBUTE_KEY, API_VERSION)
+        )
+      );
+
+      assertThat(apiIdentifier).isEqualTo(
+        new OtelInformationFilteringService.ApiIdentifier(
+          API_NAME,
+          API_VERSION,
+          null
+        )
+      );
+      assertThat(apiIdentifier.isComplete()).isFalse();
+    }
+
+    @Test
+    void shouldKeepFirstOccurrence_whenAttributeIsRepeated() {
+      var apiIdentifier = fixture.resolveApiIdentifyingAttributes(
+        OtelInformationFilteringService.ApiIdentifier.EMPTY,
+        List.of(
+          attribute(API_NAME_ATTRIBUTE_KEY, ""),
+          attribute(API_NAME_ATTRIBUTE_KEY, API_NAME)
+        )
+      );
+
+      assertThat(apiIdentifier.apiName()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnParent_whenNothingHasBeenResolved() {
+      var resourceApiIdentifier = new OtelInformationFilteringService.ApiIdentifier(
+        API_NAME,
+        null,
+        null
+      );
+
+      assertThat(
+        fixture.resolveApiIdentifyingAttributes(
+          resourceApiIdentifier,
+          List.of(attribute("unrelated", "value"))
+        )
+      ).isSameAs(resourceApiIdentifier);
+    }
+
+    @Test
+    void shouldReturnParent_whenParentIsResolvedAlready() {
+      var resourceApiIdentifier = new OtelInformationFilteringService.ApiIdentifier(
+        "",
+        API_VERSION,
+        OTEL_SERVICE_NAME
+      );
+
+      assertThat(
+        fixture.resolveApiIdentifyingAttributes(
+          resourceApiIdentifier,
+          List.of(attribute(API_NAME_ATTRIBUTE_KEY, API_NAME))
+        )
+      ).isSameAs(resourceApiIdentifier);
+    }
+  }
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service;
+
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.API_NAME;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.API_VERSION;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.OTEL_SERVICE_NAME;
+import static io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData.wrapResourceSpans;
+import static java.util.Arrays.copyOfRange;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.TestData;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({ MockitoExtension.class })
+class OtelWireFormatFilteringServiceUnitTest {
+
+  private static final String SERVICE_NAME_ATTRIBUTE_KEY =
+    "OtelWireFormatFilteringServiceTest:serviceName";
+  private static final String API_NAME_ATTRIBUTE_KEY =
+    "OtelWireFormatFilteringServiceTest:apiName";
+  private static final String API_VERSION_ATTRIBUTE_KEY =
+    "OtelWireFormatFilteringServiceTest:apiVersion";
+
+  private static final TestData TEST_DATA = TestData.builder()
+    .serviceNameAttributeKey(SERVICE_NAME_ATTRIBUTE_KEY)
+    .apiNameAttributeKey(API_NAME_ATTRIBUTE_KEY)
+    .apiVersionAttributeKey(API_VERSION_ATTRIBUTE_KEY)
+    .build();
+
+  private static final byte[] HEADER = { 0x0, 0x0, 0x0, 0x0, 0x1, 0x0 };
+
+  @Mock
+  private CachingService cachingServiceMock;
+
+  private OtelInformationFilteringService otelInformationFilteringService;
+
+  private OtelWireFormatFilteringService fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    var kafkaEventFilterProperties = new OtelEventFilterStreamProperties();
+    kafkaEventFilterProperties
+      .getFiltering()
+      .setApiNameAttributeKey(API_NAME_ATTRIBUTE_KEY);
+    kafkaEventFilterProperties
+      .getFiltering()
+      .setApiVersionAttributeKey(API_VERSION_ATTRIBUTE_KEY);
+    kafkaEventFilterProperties
+      .getFiltering()
+      .setServiceNameAttributeKey(SERVICE_NAME_ATTRIBUTE_KEY);
+
+    otelInformationFilteringService = new OtelInformationFilteringService(
+      cachingServiceMock,
+      kafkaEventFilterProperties
+    );
+    fixture = new OtelWireFormatFilteringService(
+      cachingServiceMock,
+      kafkaEventFilterProperties
+    );
+  }
+
+  private static byte[] withHeader(ExportTraceServiceRequest request) {
+    var payload = request.toByteArray();
+
+    var data = new byte[HEADER.length + payload.length];
+    System.arraycopy(HEADER, 0, data, 0, HEADER.length);
+    System.arraycopy(payload, 0, data, HEADER.length, payload.length);
+    return data;
+  }
+
+  private static ExportTraceServiceRequest withoutHeader(byte[] data)
+    throws InvalidProtocolBufferException {
+    return ExportTraceServiceRequest.parseFrom(
+      copyOfRange(data, HEADER.length, data.length)
+    );
+  }
+
+  private static Span spanWithApiName(String apiName) {
+    return Span.newBuilder()
+      .setName(apiName)
+      .addAttributes(
+        KeyValue.newBuilder()
+          .setKey(API_NAME_ATTRIBUTE_KEY)
+          .setValue(AnyValue.newBuilder().setStringValue(apiName))
+      )
+      .addAttributes(
+        KeyValue.newBuilder()
+          .setKey(API_VERSION_ATTRIBUTE_KEY)
+          .setValue(AnyValue.newBuilder().setStringValue(API_VERSION))
+      )
+      .addAttributes(
+        KeyValue.newBuilder()
+          .setKey(SERVICE_NAME_ATTRIBUTE_KEY)
+          .setValue(AnyValue.newBuilder().setStringValue(OTEL_SERVICE_NAME))
+      )
+      .build();
+  }
+
+  private void knownApi() {
+    lenient()
+      .doAnswer(invocation -> API_NAME.equals(invocation.getArgument(1)))
+      .when(cachingServiceMock)
+      .apiExists(anyString(), anyString(), anyString());
+  }
+
+  @Nested
+  class ConstructorTest {
+
+    @Test
+    void extractsProperties() {
+      assertThat(fixture).hasNoNullFieldsOrProperties();
+    }
+  }
+
+  @Nested
+  class FilterUnknownSpecificationsTest {
+
+    public static Stream<ResourceSpans> resourceSpansWithValidApiIdentifiers() {
+      return Stream.of(
+        TEST_DATA.resourceSpansWithResourceAttributes(),
+        TEST_DATA.resourceSpansWithScopeAttributes(),
+        TEST_DATA.resourceSpansWithSpanAttributes(),
+        TEST_DATA.resourceSpansWithAttributesOnEachLevel()
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("resourceSpansWithValidApiIdentifiers")
+    void returnsSameData_whenApiIsKnown(ResourceSpans resourceSpans)
+      throws IOException {
+      knownApi();
+
+      var data = withHeader(wrapResourceSpans(resourceSpans));
+
+      assertThat(
+        fixture.filterUnknownSpecifications(data, HEADER.length)
+      ).isSameAs(data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("resourceSpansWithValidApiIdentifiers")
+    void returnsNull_whenApiIsUnknown(ResourceSpans resourceSpans)
+      throws IOException {
+      var data = withHeader(wrapResourceSpans(resourceSpans));
+
+      assertThat(
+        fixture.filterUnknownSpecifications(data, HEADER.length)
+      ).isNull();
+    }
+
+    public static Stream<ResourceSpans> resourceSpansWithoutApiIdentifiers() {
+      return Stream.of(
+        TEST_DATA.resourceSpansWithoutApiName(),
+        TEST_DATA.resourceSpansWithoutApiVersion(),
+        TEST_DATA.resourceSpansWithoutOtelServiceName()
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("resourceSpansWithoutApiIdentifiers")
+    void returnsNull_whenApiIdentifiersAreMissing(ResourceSpans resourceSpans)
+      throws IOException {
+      var data = withHeader(wrapResourceSpans(resourceSpans));
+
+      assertThat(
+        fixture.filterUnknownSpecifications(data, HEADER.length)
+      ).isNull();
+
+      verifyNoInteractions(cachingServiceMock);
+    }
+
+    public static Stream<ResourceSpans> resourceSpansWithoutContent() {
+      return Stream.of(
+        TEST_DATA.resourceSpansWithoutScopeSpans(),
+        TEST_DATA.resourceSpansWithoutSpans()
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("resourceSpansWithoutContent")
+    void returnsNull_whenNoSpanIsLeft(ResourceSpans resourceSpans)
+      throws IOException {
+      knownApi();
+
+      var data = withHeader(wrapResourceSpans(resourceSpans));
+
+      assertThat(
+        fixture.filterUnknownSpecifications(data, HEADER.length)
+      ).isNull();
+    }
+
+    @Test
+    void dropsUnknownSpans_likeMessageBasedFilter() throws IOException {
+      knownApi();
+
+      var exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(TEST_DATA.resourceSpansWithResourceAttributes())
+        .addResourceSpans(
+          ResourceSpans.newBuilder()
+            .setSchemaUrl("https://opentelemetry.io/schemas/1.24.0")
+            .addScopeSpans(
+              ScopeSpans.newBuilder()
+                .addSpans(spanWithApiName("unknown"))
+                .addSpans(spanWithApiName(API_NAME))
+                .addSpans(spanWithApiName("unknown"))
+            )
+            .addScopeSpans(
+              ScopeSpans.newBuilder().addSpans(spanWithApiName("unknown"))
+            )
+        )
+        .build();
+
+      var data = withHeader(exportTraceServiceRequest);
+
+      var filteredData = fixture.filterUnknownSpecifications(
+        data,
+        HEADER.length
+      );
+
+      assertThat(filteredData).isNotNull().isNotSameAs(data);
+      assertThat(copyOfRange(filteredData, 0, HEADER.length)).isEqualTo(
+        HEADER
+      );
+      assertThat(withoutHeader(filteredData)).isEqualTo(
+        otelInformationFilteringService.filterUnknownSpecifications(
+          exportTraceServiceRequest
+        )
+      );
+    }
+
+    @Test
+    void clearsScopeSpansOfUnknownResource_likeMessageBasedFilter()
+      throws IOException {
+      knownApi();
+
+      var exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+        .addResourceSpans(
+          ResourceSpans.newBuilder()
+            .addScopeSpans(
+              ScopeSpans.newBuilder().addSpans(spanWithApiName(API_NAME))
+            )
+        )
+        .addResourceSpans(
+          TEST_DATA.resourceSpansWithResourceAttributes()
+            .toBuilder()
+            .setResource(
+              TEST_DATA.resourceSpansWithResourceAttributes()
+                .getResource()
+                .toBuilder()
+                .setAttributes(
+                  0,
+                  KeyValue.newBuilder()
+                    .setKey(API_NAME_ATTRIBUTE_KEY)
+                    .setValue(AnyValue.newBuilder().setStringValue("unknown"))
+                )
+            )
+        )
+        .build();
+
+      var filteredData = fixture.filterUnknownSpecifications(
+        withHeader(exportTraceServiceRequest),
+        HEADER.length
+      );
+
+      assertThat(filteredData).isNotNull();
+      assertThat(withoutHeader(filteredData)).isEqualTo(
+        otelInformationFilteringService.filterUnknownSpecifications(
+          exportTraceServiceRequest
+        )
+      );
+    }
+
+    @Test
+    void throwsException_whenPayloadIsTruncated() {
+      var data = withHeader(
+        wrapResourceSpans(TEST_DATA.resourceSpansWithSpanAttributes())
+      );
+      var truncatedData = copyOfRange(data, 0, data.length - 1);
+
+      assertThatThrownBy(() ->
+        fixture.filterUnknownSpecifications(truncatedData, HEADER.length)
+      ).isInstanceOf(InvalidProtocolBufferException.class);
+    }
+  }
+}
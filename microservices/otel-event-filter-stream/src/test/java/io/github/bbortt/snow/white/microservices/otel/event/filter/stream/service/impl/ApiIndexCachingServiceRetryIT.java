@@ -8,14 +8,17 @@ package io.github.bbortt.snow.white.microservices.otel.event.filter.stream.servi
 
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
 import static com.github.tomakehurst.wiremock.client.WireMock.reset;
 import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.IntegrationTest;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,13 +56,24 @@ class ApiIndexCachingServiceRetryIT {
   }
 
   @Test
-  void shouldRetryAndRecoverApiExists() {
+  void shouldRetryAndThrowApiIndexUnavailableException() {
     stubFor(get(urlPathEqualTo(EXISTS_PATH)).willReturn(serverError()));
 
+    assertThatThrownBy(() ->
+      apiIndexCachingService.apiExists(SERVICE_NAME, API_NAME, API_VERSION)
+    ).isInstanceOf(ApiIndexUnavailableException.class);
+
+    verify(3, getRequestedFor(urlPathEqualTo(EXISTS_PATH)));
+  }
+
+  @Test
+  void shouldRecoverApiExistsWithoutRetry_whenApiIsNotFound() {
+    stubFor(get(urlPathEqualTo(EXISTS_PATH)).willReturn(notFound()));
+
     assertThat(
       apiIndexCachingService.apiExists(SERVICE_NAME, API_NAME, API_VERSION)
     ).isFalse();
 
-    verify(3, getRequestedFor(urlPathEqualTo(EXISTS_PATH)));
+    verify(1, getRequestedFor(urlPathEqualTo(EXISTS_PATH)));
   }
 }
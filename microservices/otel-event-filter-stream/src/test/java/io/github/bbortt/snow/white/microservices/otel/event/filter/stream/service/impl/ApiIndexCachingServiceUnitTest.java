@@ -10,18 +10,33 @@ import static java.lang.Boolean.TRUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.client.apiindexapi.api.ApiIndexApi;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.api.client.apiindexapi.dto.GetAllApis200ResponseInner;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.config.OtelEventFilterStreamProperties;
+import io.github.bbortt.snow.white.microservices.otel.event.filter.stream.service.exception.ApiIndexUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 
 @ExtendWith({ MockitoExtension.class })
@@ -34,9 +49,132 @@ class ApiIndexCachingServiceUnitTest {
   @Mock
   private ApiIndexApi apiIndexApiMock;
 
-  @InjectMocks
+  private OtelEventFilterStreamProperties otelEventFilterStreamProperties;
+  private SimpleMeterRegistry meterRegistry;
+
   private ApiIndexCachingService fixture;
 
+  @BeforeEach
+  void beforeEachSetup() {
+    otelEventFilterStreamProperties = new OtelEventFilterStreamProperties();
+    meterRegistry = new SimpleMeterRegistry();
+
+    fixture = new ApiIndexCachingService(
+      apiIndexApiMock,
+      otelEventFilterStreamProperties,
+      meterRegistry
+    );
+  }
+
+  private static HttpClientErrorException apiNotFound() {
+    return HttpClientErrorException.create(
+      NOT_FOUND,
+      NOT_FOUND.getReasonPhrase(),
+      null,
+      null,
+      UTF_8
+    );
+  }
+
+  private static GetAllApis200ResponseInner indexedApi(String apiVersion) {
+    return new GetAllApis200ResponseInner()
+      .serviceName(OTEL_SERVICE_NAME)
+      .apiName(API_NAME)
+      .apiVersion(apiVersion);
+  }
+
+  @Nested
+  class AfterSingletonsInstantiatedTest {
+
+    @Test
+    void shouldPreloadAllPagesOfApiIndex() {
+      otelEventFilterStreamProperties.getApiIndex().setPreloadPageSize(1);
+      fixture = new ApiIndexCachingService(
+        apiIndexApiMock,
+        otelEventFilterStreamProperties,
+        meterRegistry
+      );
+
+      doReturn(List.of(indexedApi(API_VERSION)))
+        .when(apiIndexApiMock)
+        .getAllApis(0, 1, "indexedAt,asc", null, null);
+      doReturn(List.of(indexedApi("other-version")))
+        .when(apiIndexApiMock)
+        .getAllApis(1, 1, "indexedAt,asc", null, null);
+      doReturn(List.of())
+        .when(apiIndexApiMock)
+        .getAllApis(2, 1, "indexedAt,asc", null, null);
+
+      fixture.afterSingletonsInstantiated();
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, "other-version")
+      ).isTrue();
+
+      verify(apiIndexApiMock, never()).checkApiExistsWithHttpInfo(
+        anyString(),
+        anyString(),
+        anyString(),
+        anyBoolean()
+      );
+
+      assertThat(
+        meterRegistry
+          .get(ApiIndexCachingService.INDEXED_APIS_METER_NAME)
+          .gauge()
+          .value()
+      ).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotPreloadApiIndex_whenDisabled() {
+      otelEventFilterStreamProperties.getApiIndex().setPreloadEnabled(false);
+      fixture = new ApiIndexCachingService(
+        apiIndexApiMock,
+        otelEventFilterStreamProperties,
+        meterRegistry
+      );
+
+      fixture.afterSingletonsInstantiated();
+
+      verifyNoInteractions(apiIndexApiMock);
+    }
+
+    @Test
+    void shouldFallBackToRemoteChecks_whenPreloadFails() {
+      otelEventFilterStreamProperties
+        .getApiIndex()
+        .setChangeTopicName("api-index-changes");
+      fixture = new ApiIndexCachingService(
+        apiIndexApiMock,
+        otelEventFilterStreamProperties,
+        meterRegistry
+      );
+
+      doThrow(new ResourceAccessException("Connection refused"))
+        .when(apiIndexApiMock)
+        .getAllApis(0, 500, "indexedAt,asc", null, null);
+
+      fixture.afterSingletonsInstantiated();
+
+      doReturn(ResponseEntity.ok().build())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+    }
+  }
+
   @Nested
   class ApiExistsTest {
 
@@ -58,7 +196,7 @@ class ApiIndexCachingServiceUnitTest {
 
     @Test
     void shouldReturnFalse_whenApiHasNotBeenIndexedBefore() {
-      doReturn(ResponseEntity.notFound().build())
+      doThrow(apiNotFound())
         .when(apiIndexApiMock)
         .checkApiExistsWithHttpInfo(
           OTEL_SERVICE_NAME,
@@ -96,5 +234,225 @@ class ApiIndexCachingServiceUnitTest {
         fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
       ).isInstanceOf(RestClientResponseException.class);
     }
+
+    @Test
+    void shouldCacheResult_whenApiHasBeenIndexedBefore() {
+      doReturn(ResponseEntity.ok().build())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+
+      verify(apiIndexApiMock, times(1)).checkApiExistsWithHttpInfo(
+        OTEL_SERVICE_NAME,
+        API_NAME,
+        API_VERSION,
+        TRUE
+      );
+    }
+
+    @Test
+    void shouldCacheResult_whenApiHasNotBeenIndexedBefore() {
+      doThrow(apiNotFound())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isFalse();
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isFalse();
+
+      verify(apiIndexApiMock, times(1)).checkApiExistsWithHttpInfo(
+        OTEL_SERVICE_NAME,
+        API_NAME,
+        API_VERSION,
+        TRUE
+      );
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+      doThrow(
+        new RestClientResponseException(
+          "Service Unavailable",
+          SERVICE_UNAVAILABLE,
+          SERVICE_UNAVAILABLE.getReasonPhrase(),
+          null,
+          null,
+          UTF_8
+        )
+      )
+        .doReturn(ResponseEntity.ok().build())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      assertThatThrownBy(() ->
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isInstanceOf(RestClientResponseException.class);
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+    }
+
+    @Test
+    void shouldRecordCacheMetrics() {
+      doReturn(ResponseEntity.ok().build())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION);
+      fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION);
+
+      assertThat(
+        meterRegistry
+          .get("cache.gets")
+          .tag("cache", ApiIndexCachingService.CACHE_NAME)
+          .tag("result", "hit")
+          .functionCounter()
+          .count()
+      ).isEqualTo(1);
+      assertThat(
+        meterRegistry
+          .get("cache.gets")
+          .tag("cache", ApiIndexCachingService.CACHE_NAME)
+          .tag("result", "miss")
+          .functionCounter()
+          .count()
+      ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCheckRemotelyAndCacheResult_whenApiIsMissingFromPreloadedIndex() {
+      otelEventFilterStreamProperties
+        .getApiIndex()
+        .setChangeTopicName("api-index-changes");
+      fixture = new ApiIndexCachingService(
+        apiIndexApiMock,
+        otelEventFilterStreamProperties,
+        meterRegistry
+      );
+
+      doReturn(List.of())
+        .when(apiIndexApiMock)
+        .getAllApis(0, 500, "indexedAt,asc", null, null);
+
+      fixture.afterSingletonsInstantiated();
+
+      // The change notification for this API has been lost
+      doReturn(ResponseEntity.ok().build())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+
+      verify(apiIndexApiMock, times(1)).checkApiExistsWithHttpInfo(
+        OTEL_SERVICE_NAME,
+        API_NAME,
+        API_VERSION,
+        TRUE
+      );
+    }
+  }
+
+  @Nested
+  class ApiIndexedTest {
+
+    @Test
+    void shouldInvalidateNegativeResult() {
+      doThrow(apiNotFound())
+        .when(apiIndexApiMock)
+        .checkApiExistsWithHttpInfo(
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION,
+          TRUE
+        );
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isFalse();
+
+      fixture.apiIndexed(OTEL_SERVICE_NAME, API_NAME, API_VERSION);
+
+      assertThat(
+        fixture.apiExists(OTEL_SERVICE_NAME, API_NAME, API_VERSION)
+      ).isTrue();
+
+      verify(apiIndexApiMock, times(1)).checkApiExistsWithHttpInfo(
+        OTEL_SERVICE_NAME,
+        API_NAME,
+        API_VERSION,
+        TRUE
+      );
+    }
+  }
+
+  @Nested
+  class RecoverApiExistsTest {
+
+    @Test
+    void shouldReturnFalse_whenApiIndexRespondsWithClientError() {
+      assertThat(
+        fixture.recoverApiExists(
+          new HttpClientErrorException(NOT_FOUND),
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION
+        )
+      ).isFalse();
+    }
+
+    @Test
+    void shouldThrowApiIndexUnavailableException_whenApiIndexIsUnavailable() {
+      var cause = new HttpServerErrorException(SERVICE_UNAVAILABLE);
+
+      assertThatThrownBy(() ->
+        fixture.recoverApiExists(
+          cause,
+          OTEL_SERVICE_NAME,
+          API_NAME,
+          API_VERSION
+        )
+      )
+        .isInstanceOf(ApiIndexUnavailableException.class)
+        .hasCause(cause);
+    }
   }
 }
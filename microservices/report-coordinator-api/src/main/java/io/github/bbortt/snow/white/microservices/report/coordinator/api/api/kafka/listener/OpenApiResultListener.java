@@ -7,105 +7,228 @@
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.api.kafka.listener;
 
 import static io.github.bbortt.snow.white.commons.kafka.OtelPropagators.KAFKA_HEADERS_GETTER;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.BATCH_SIZE;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.CONSUMER_GROUP_ID;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.DEFAULT_BATCH_SIZE;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.DEFAULT_CONSUMER_GROUP_ID;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.DEFAULT_LINGER_MS;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.LINGER_MS;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties.OpenapiCalculationResponse.OPENAPI_CALCULATION_RESPONSE_TOPIC;
 
 import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.ReportService;
-import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.TestResultForUnknownApiException;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.Context;
-import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Headers;
 import org.jspecify.annotations.NonNull;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Consumes OpenAPI coverage results in batches.
+ * <p>
+ * Results are grouped by calculation ID, and each group is persisted in a single transaction.
+ * Results whose key is no valid calculation ID are logged and skipped.
+ * A failing group is retried on its own, so that groups persisted already are never applied twice.
+ * Once all retries are exhausted, the affected API tests are marked as {@link io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus#FINISHED_EXCEPTIONALLY}.
+ * If even that fails, the group is logged and skipped, because redelivering the batch would apply the other groups again.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OpenApiResultListener {
 
+  // The broker only lingers for as long as less than this is available
+  private static final int FETCH_MIN_BYTES = 64 * 1024;
+
   private final OpenTelemetry openTelemetry;
   private final ReportService reportService;
   private final ReportCoordinationServiceProperties properties;
 
-  @Transactional
   @KafkaListener(
     groupId = "${" + CONSUMER_GROUP_ID + ":" + DEFAULT_CONSUMER_GROUP_ID + "}",
-    topics = { "${" + OPENAPI_CALCULATION_RESPONSE_TOPIC + "}" }
+    topics = { "${" + OPENAPI_CALCULATION_RESPONSE_TOPIC + "}" },
+    batch = "true",
+    properties = {
+      ConsumerConfig.MAX_POLL_RECORDS_CONFIG +
+        "=${" +
+        BATCH_SIZE +
+        ":" +
+        DEFAULT_BATCH_SIZE +
+        "}",
+      ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG +
+        "=${" +
+        LINGER_MS +
+        ":" +
+        DEFAULT_LINGER_MS +
+        "}",
+      ConsumerConfig.FETCH_MIN_BYTES_CONFIG + "=" + FETCH_MIN_BYTES,
+    }
   )
-  public void onOpenApiCoverageResponse(
-    ConsumerRecord<
-      String,
-      OpenApiCoverageResponseEvent
-    > openApiCoverageResponseEventConsumerRecord
+  public void onOpenApiCoverageResponses(
+    List<
+      ConsumerRecord<String, OpenApiCoverageResponseEvent>
+    > openApiCoverageResponseEventConsumerRecords
   ) {
-    var extractedContext = extractTraceContextFromIncomingHeaders(
-      openApiCoverageResponseEventConsumerRecord.headers()
+    var consumerRecordsByCalculationId =
+      new LinkedHashMap<
+        UUID,
+        List<ConsumerRecord<String, OpenApiCoverageResponseEvent>>
+      >();
+
+    for (var consumerRecord : openApiCoverageResponseEventConsumerRecords) {
+      parseCalculationId(consumerRecord).ifPresent(calculationId ->
+        consumerRecordsByCalculationId
+          .computeIfAbsent(calculationId, _ -> new ArrayList<>())
+          .add(consumerRecord)
+      );
+    }
+
+    consumerRecordsByCalculationId.forEach(this::updateReport);
+  }
+
+  private static Optional<UUID> parseCalculationId(
+    ConsumerRecord<String, OpenApiCoverageResponseEvent> consumerRecord
+  ) {
+    var key = consumerRecord.key();
+
+    try {
+      if (key != null) {
+        return Optional.of(UUID.fromString(key));
+      }
+    } catch (IllegalArgumentException _) {
+      // Logged and skipped below, just like a missing key
+    }
+
+    // Redelivering the batch would not fix the key, but apply the other groups again
+    logger.warn(
+      "Received OpenAPI coverage response with invalid calculation ID '{}' at {}-{}@{}! Skipping it.",
+      key,
+      consumerRecord.topic(),
+      consumerRecord.partition(),
+      consumerRecord.offset()
     );
 
-    var calculationId = UUID.fromString(
-      openApiCoverageResponseEventConsumerRecord.key()
+    return Optional.empty();
+  }
+
+  private void updateReport(
+    UUID calculationId,
+    List<ConsumerRecord<String, OpenApiCoverageResponseEvent>> consumerRecords
+  ) {
+    // Results of one calculation usually share the trace they have been calculated in
+    var extractedContext = extractTraceContextFromIncomingHeaders(
+      consumerRecords.getFirst().headers()
     );
 
-    var openApiCoverageResponseEvent =
-      openApiCoverageResponseEventConsumerRecord.value();
+    var openApiCoverageResponseEvents = consumerRecords
+      .stream()
+      .map(ConsumerRecord::value)
+      .toList();
+
     try (var _ = extractedContext.makeCurrent()) {
+      retryTemplate().execute(
+        _ -> {
+          reportService.updateReportWithOpenApiCoverageResults(
+            calculationId,
+            openApiCoverageResponseEvents
+          );
+          return null;
+        },
+        retryContext -> {
+          markAsFinishedExceptionally(
+            calculationId,
+            openApiCoverageResponseEvents,
+            retryContext.getLastThrowable()
+          );
+          return null;
+        }
+      );
+    }
+  }
+
+  private void markAsFinishedExceptionally(
+    UUID calculationId,
+    List<OpenApiCoverageResponseEvent> openApiCoverageResponseEvents,
+    Throwable throwable
+  ) {
+    logger.error(
+      "Failed to persist OpenAPI results '{}'! Marking them as finished exceptionally.",
+      calculationId,
+      throwable
+    );
+
+    try {
       reportService.updateReportWithOpenApiCoverageResults(
         calculationId,
-        openApiCoverageResponseEvent
+        openApiCoverageResponseEvents
+          .stream()
+          .map(event -> event.withErrorMessage(throwable.getMessage()))
+          .toList()
       );
-    } catch (TestResultForUnknownApiException e) {
-      logger.error("Failed to update OpenAPI result '{}'!", calculationId, e);
-    } catch (RuntimeException runtimeException) {
+    } catch (Exception e) {
       logger.error(
-        "Failed to persist OpenAPI result '{}'! Rejecting Kafka message for retry.",
+        "Failed to mark OpenAPI results '{}' as finished exceptionally! Skipping {} result(s).",
         calculationId,
-        runtimeException
+        openApiCoverageResponseEvents.size(),
+        e
       );
-
-      if (
-        isLastDeliveryAttempt(
-          openApiCoverageResponseEventConsumerRecord.headers()
-        )
-      ) {
-        reportService
-          .findReportByCalculationId(calculationId)
-          .ifPresent(report ->
-            reportService.handleExceptionalResponse(
-              report,
-              openApiCoverageResponseEvent.withErrorMessage(
-                runtimeException.getMessage()
-              )
-            )
-          );
-      }
-
-      throw runtimeException;
     }
   }
 
-  private boolean isLastDeliveryAttempt(Headers headers) {
-    var header = headers.lastHeader(KafkaHeaders.DELIVERY_ATTEMPT);
-    int attempt = header != null ? ByteBuffer.wrap(header.value()).getInt() : 1;
+  private RetryTemplate retryTemplate() {
+    var openapiCalculationResponse = properties.getOpenapiCalculationResponse();
+
     int maxAttempts =
       Math.max(
-        Optional.ofNullable(
-          properties.getOpenapiCalculationResponse().getMaxRetries()
-        ).orElse(2),
+        Optional.ofNullable(openapiCalculationResponse.getMaxRetries()).orElse(
+          2
+        ),
         0
       ) + 1;
-    return attempt >= maxAttempts;
+
+    return RetryTemplate.builder()
+      .maxAttempts(maxAttempts)
+      .fixedBackoff(
+        Math.max(
+          Optional.ofNullable(
+            openapiCalculationResponse.getBackOffRetryMs()
+          ).orElse(5_000L),
+          1L
+        )
+      )
+      .withListener(
+        new RetryListener() {
+          @Override
+          public <T, E extends Throwable> void onError(
+            RetryContext context,
+            RetryCallback<T, E> callback,
+            Throwable throwable
+          ) {
+            logger.warn(
+              "Failed to persist OpenAPI results, attempt {} of {}!",
+              context.getRetryCount(),
+              maxAttempts,
+              throwable
+            );
+          }
+        }
+      )
+      .build();
   }
 
   private @NonNull Context extractTraceContextFromIncomingHeaders(
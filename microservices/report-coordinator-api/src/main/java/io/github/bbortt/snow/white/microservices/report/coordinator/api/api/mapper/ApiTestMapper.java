@@ -15,6 +15,7 @@ import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.CalculateQualityGateRequestIncludeApisInner;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports200ResponseInnerInterfacesInner;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTest;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTestSummary;
 import java.util.List;
 import java.util.Set;
 import org.mapstruct.Mapper;
@@ -74,4 +75,11 @@ public interface ApiTestMapper {
   ListQualityGateReports200ResponseInnerInterfacesInner toListInterfaces(
     ApiTest apiTest
   );
+
+  @Mapping(target = "testResults", ignore = true)
+  @Mapping(target = "stackTrace", ignore = true)
+  @Mapping(target = "status", source = "reportStatus")
+  ListQualityGateReports200ResponseInnerInterfacesInner toListInterfaces(
+    ApiTestSummary apiTestSummary
+  );
 }
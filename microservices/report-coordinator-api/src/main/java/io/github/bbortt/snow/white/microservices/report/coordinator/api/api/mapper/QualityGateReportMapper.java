@@ -13,6 +13,7 @@ import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports200ResponseInner;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports200ResponseInnerCalculationRequest;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -50,6 +51,9 @@ public interface QualityGateReportMapper {
     QualityGateReport qualityGateReport
   );
 
+  /**
+   * Maps a fully loaded report, including the test results of its API tests.
+   */
   @Mapping(
     target = "calculationRequest",
     source = ".",
@@ -73,6 +77,27 @@ public interface QualityGateReportMapper {
     QualityGateReport qualityGateReport
   );
 
+  /**
+   * Maps a report of a listing, leaving out the test results of its API tests.
+   */
+  @Mapping(
+    target = "calculationRequest",
+    source = ".",
+    qualifiedByName = "toSummaryIncludeApis"
+  )
+  @Mapping(target = "initiatedAt", source = "createdAt")
+  @Mapping(target = "interfaces", source = "apiTests")
+  @Mapping(target = "status", source = "reportStatus")
+  ListQualityGateReports200ResponseInner toListDto(
+    QualityGateReportSummary qualityGateReportSummary
+  );
+
+  @Named("toSummaryIncludeApis")
+  @Mapping(target = "includeApis", source = "apiTests")
+  ListQualityGateReports200ResponseInnerCalculationRequest toSummaryIncludeApis(
+    QualityGateReportSummary qualityGateReportSummary
+  );
+
   default OffsetDateTime map(Instant instant) {
     return OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
   }
@@ -12,28 +12,45 @@ import static io.github.bbortt.snow.white.microservices.report.coordinator.api.a
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.resource.ReportResource.ReportOrErrorResponse.qualityGateReport;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_XML;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 
 import io.github.bbortt.snow.white.commons.testing.VisibleForTesting;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.mapper.QualityGateReportMapper;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.ReportApi;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports200ResponseInner;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports500Response;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportCursor;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.junit.JUnitReporter;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.ReportService;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,13 +59,45 @@ public class ReportResource implements ReportApi {
   @VisibleForTesting
   static final String JUNIT_XML_FILENAME = "snow-white-junit.xml";
 
+  @VisibleForTesting
+  static final String REPORT_EVENT_NAME = "report";
+
+  @VisibleForTesting
+  static final String HEADER_X_NEXT_CURSOR = "X-Next-Cursor";
+
+  // Time for re-reading the report after a wait timed out, before the emitter times out itself
+  private static final Duration EMITTER_TIMEOUT_LEEWAY = Duration.ofSeconds(5);
+
   private final JUnitReporter jUnitReporter;
   private final ReportService reportService;
   private final QualityGateReportMapper qualityGateReportMapper;
+  private final ReportCoordinationServiceProperties reportCoordinationServiceProperties;
 
   @Override
-  public ResponseEntity getReportByCalculationId(UUID calculationId) {
-    var reportOrError = getReportByCalculationIdOrErrorResponse(calculationId);
+  public ResponseEntity getReportByCalculationId(
+    UUID calculationId,
+    @Nullable String waitFor
+  ) {
+    ReportOrErrorResponse reportOrError;
+    if (isNull(waitFor)) {
+      reportOrError = getReportByCalculationIdOrErrorResponse(calculationId);
+    } else {
+      var timeout = parseWaitFor(waitFor);
+      if (timeout.isEmpty()) {
+        return errorResponseEntity(
+          BAD_REQUEST,
+          format("Invalid waitFor duration '%s'!", waitFor)
+        );
+      }
+
+      reportOrError = toReportOrErrorResponse(
+        calculationId,
+        reportService
+          .awaitReportCompletion(calculationId, timeout.get())
+          .join()
+      );
+    }
+
     if (nonNull(reportOrError.errorResponse())) {
       return reportOrError.errorResponse();
     }
@@ -78,6 +127,37 @@ public class ReportResource implements ReportApi {
       .body(jUnitReport);
   }
 
+  @Override
+  public ResponseEntity<SseEmitter> streamReportByCalculationId(
+    UUID calculationId
+  ) {
+    var maxWait = maxWait();
+    var reportCompletion = reportService.awaitReportCompletion(
+      calculationId,
+      maxWait
+    );
+
+    if (reportCompletion.isDone() && reportCompletion.join().isEmpty()) {
+      throw new ResponseStatusException(
+        NOT_FOUND,
+        format("No report by id '%s' exists!", calculationId)
+      );
+    }
+
+    var emitter = new SseEmitter(
+      maxWait.plus(EMITTER_TIMEOUT_LEEWAY).toMillis()
+    );
+    emitter.onCompletion(() -> reportCompletion.cancel(false));
+    emitter.onTimeout(() -> reportCompletion.cancel(false));
+    emitter.onError(_ -> reportCompletion.cancel(false));
+
+    reportCompletion.whenComplete((report, throwable) ->
+      sendReportEvent(emitter, report, throwable)
+    );
+
+    return ResponseEntity.ok().contentType(TEXT_EVENT_STREAM).body(emitter);
+  }
+
   @Override
   public ResponseEntity<
     @NonNull List<ListQualityGateReports200ResponseInner>
@@ -87,40 +167,81 @@ public class ReportResource implements ReportApi {
     @Nullable String sort,
     @Nullable String serviceName,
     @Nullable String apiName,
-    @Nullable String apiVersion
+    @Nullable String apiVersion,
+    @Nullable String after
   ) {
+    var pageable = toPageable(page, size, sort);
+
+    if (nonNull(after)) {
+      var qualityGateReports = reportService.findAllReports(
+        serviceName,
+        apiName,
+        apiVersion,
+        parseCursor(after),
+        pageable.getPageSize()
+      );
+
+      var headers = new HttpHeaders();
+      if (qualityGateReports.hasNext()) {
+        headers.add(
+          HEADER_X_NEXT_CURSOR,
+          nextCursor(qualityGateReports.getContent())
+        );
+      }
+
+      return ResponseEntity.ok()
+        .headers(headers)
+        .body(toListDtos(qualityGateReports.getContent()));
+    }
+
     var qualityGateReports = reportService.findAllReports(
       serviceName,
       apiName,
       apiVersion,
-      toPageable(page, size, sort)
+      pageable
     );
 
-    return ResponseEntity.ok()
-      .headers(generatePaginationHttpHeaders(qualityGateReports))
-      .body(
-        qualityGateReports
-          .stream()
-          .map(qualityGateReportMapper::toListDto)
-          .toList()
+    var headers = generatePaginationHttpHeaders(qualityGateReports);
+    if (qualityGateReports.hasNext() && isKeysetOrder(pageable.getSort())) {
+      headers.add(
+        HEADER_X_NEXT_CURSOR,
+        nextCursor(qualityGateReports.getContent())
       );
+    }
+
+    return ResponseEntity.ok()
+      .headers(headers)
+      .body(toListDtos(qualityGateReports.getContent()));
+  }
+
+  private List<ListQualityGateReports200ResponseInner> toListDtos(
+    List<QualityGateReportSummary> qualityGateReports
+  ) {
+    return qualityGateReports
+      .stream()
+      .map(qualityGateReportMapper::toListDto)
+      .toList();
   }
 
   private ReportOrErrorResponse getReportByCalculationIdOrErrorResponse(
     UUID calculationId
   ) {
-    var optionalReport = reportService.findReportByCalculationId(calculationId);
+    return toReportOrErrorResponse(
+      calculationId,
+      reportService.findReportByCalculationId(calculationId)
+    );
+  }
 
+  private ReportOrErrorResponse toReportOrErrorResponse(
+    UUID calculationId,
+    Optional<QualityGateReport> optionalReport
+  ) {
     if (optionalReport.isEmpty()) {
       return errorResponse(
-        ResponseEntity.status(NOT_FOUND)
-          .contentType(APPLICATION_JSON)
-          .body(
-            ListQualityGateReports500Response.builder()
-              .code(NOT_FOUND.getReasonPhrase())
-              .message(format("No report by id '%s' exists!", calculationId))
-              .build()
-          )
+        errorResponseEntity(
+          NOT_FOUND,
+          format("No report by id '%s' exists!", calculationId)
+        )
       );
     }
 
@@ -137,6 +258,99 @@ public class ReportResource implements ReportApi {
     return qualityGateReport(report);
   }
 
+  private static QualityGateReportCursor parseCursor(String after) {
+    try {
+      return QualityGateReportCursor.fromToken(after);
+    } catch (IllegalArgumentException _) {
+      throw new ResponseStatusException(
+        BAD_REQUEST,
+        format("Invalid cursor '%s'!", after)
+      );
+    }
+  }
+
+  private static String nextCursor(
+    List<QualityGateReportSummary> qualityGateReports
+  ) {
+    return QualityGateReportCursor.after(
+      qualityGateReports.getLast()
+    ).toToken();
+  }
+
+  /**
+   * Cursors only continue the default order, newest reports first.
+   */
+  private static boolean isKeysetOrder(Sort sort) {
+    return sort.isUnsorted() || sort.equals(Sort.by(DESC, "createdAt"));
+  }
+
+  private Optional<Duration> parseWaitFor(String waitFor) {
+    try {
+      var duration = DurationStyle.SIMPLE.parse(waitFor);
+      if (duration.isNegative()) {
+        return Optional.empty();
+      }
+
+      var maxWait = maxWait();
+      return Optional.of(duration.compareTo(maxWait) > 0 ? maxWait : duration);
+    } catch (IllegalArgumentException _) {
+      return Optional.empty();
+    }
+  }
+
+  private Duration maxWait() {
+    return Duration.ofSeconds(
+      reportCoordinationServiceProperties
+        .getReportCompletion()
+        .getMaxWaitSeconds()
+    );
+  }
+
+  private void sendReportEvent(
+    SseEmitter emitter,
+    @Nullable Optional<QualityGateReport> report,
+    @Nullable Throwable throwable
+  ) {
+    if (throwable instanceof CancellationException) {
+      // The client went away in the meantime
+      return;
+    } else if (nonNull(throwable)) {
+      emitter.completeWithError(throwable);
+      return;
+    }
+
+    try {
+      if (nonNull(report) && report.isPresent()) {
+        emitter.send(
+          SseEmitter.event()
+            .name(REPORT_EVENT_NAME)
+            .data(
+              qualityGateReportMapper.toListDto(report.get()),
+              APPLICATION_JSON
+            )
+        );
+      }
+
+      emitter.complete();
+    } catch (IOException e) {
+      emitter.completeWithError(e);
+    }
+  }
+
+  private static ResponseEntity errorResponseEntity(
+    HttpStatus status,
+    String message
+  ) {
+    return ResponseEntity.status(status)
+      .contentType(APPLICATION_JSON)
+      .body(
+        ListQualityGateReports500Response.builder()
+          .code(status.getReasonPhrase())
+          .message(message)
+          .build()
+      );
+  }
+
   record ReportOrErrorResponse(
     @Nullable QualityGateReport qualityGateReport,
     @Nullable ResponseEntity errorResponse
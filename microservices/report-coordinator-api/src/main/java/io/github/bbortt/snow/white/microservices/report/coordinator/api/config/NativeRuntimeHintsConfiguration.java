@@ -14,6 +14,8 @@ import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_METHODS;
 import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.commons.event.QualityGateCalculationRequestEvent;
 import io.github.bbortt.snow.white.commons.event.dto.OpenApiTestResult;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTestSummary;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.junit.Failure;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.junit.Property;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.junit.Skipped;
@@ -40,6 +42,9 @@ import org.springframework.core.io.ClassPathResource;
   // For Coverage Responses
   OpenApiCoverageResponseEvent.class,
   OpenApiTestResult.class,
+  // For Report Listings
+  ApiTestSummary.class,
+  QualityGateReportSummary.class,
   // For JUnit Report Generation
   Failure.class,
   Property.class,
@@ -27,6 +27,12 @@ public class ReportCoordinationServiceProperties {
 
   private String publicApiGatewayUrl;
 
+  /**
+   * Whether to calculate all OpenAPI coverage criteria, instead of only those the quality gate evaluates.
+   * Results of criteria not being evaluated are still stored, but excluded from the report.
+   */
+  private Boolean computeAllOpenApiCoverageCriteria = false;
+
   private final ApiIndexProperties apiIndex = new ApiIndexProperties();
   private final HousekeepingProperties housekeepingProperties =
     new HousekeepingProperties();
@@ -34,6 +40,8 @@ public class ReportCoordinationServiceProperties {
     new OpenapiCalculationResponse();
   private final QualityGateApiProperties qualityGateApi =
     new QualityGateApiProperties();
+  private final ReportCompletionProperties reportCompletion =
+    new ReportCompletionProperties();
 
   @Getter
   @Setter
@@ -64,13 +72,31 @@ public class ReportCoordinationServiceProperties {
     public static final String OPENAPI_CALCULATION_RESPONSE_TOPIC =
       OPENAPI_CALCULATION_RESPONSE + ".topic";
 
+    public static final String BATCH_SIZE =
+      OPENAPI_CALCULATION_RESPONSE + ".batch-size";
+    public static final String LINGER_MS =
+      OPENAPI_CALCULATION_RESPONSE + ".linger-ms";
+
     public static final String DEFAULT_CONSUMER_GROUP_ID =
       "report-coordinator-api";
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final long DEFAULT_LINGER_MS = 100L;
 
     private String consumerGroupId = DEFAULT_CONSUMER_GROUP_ID;
     private Integer maxRetries = 2;
     private Long backOffRetryMs = 5_000L;
     private String topic;
+
+    /**
+     * Upper bound of OpenAPI coverage results consumed at once.
+     * Results of the same report within one batch are persisted in a single transaction.
+     */
+    private Integer batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * How long the broker may hold back a fetch, waiting for more results to fill up the batch.
+     */
+    private Long lingerMs = DEFAULT_LINGER_MS;
   }
 
   @Getter
@@ -81,5 +107,34 @@ public class ReportCoordinationServiceProperties {
       PREFIX + ".quality-gate-api.base-url";
 
     private String baseUrl;
+
+    private final CacheProperties cache = new CacheProperties();
+  }
+
+  @Getter
+  @Setter
+  public static class CacheProperties {
+
+    /**
+     * Upper bound of distinct Quality-Gate configurations kept in memory.
+     */
+    private Long maximumSize = 1_000L;
+
+    /**
+     * How long a Quality-Gate configuration is used, before it is fetched from the quality-gate-api again.
+     * Reports are evaluated against the configuration snapshotted at their initialization regardless.
+     */
+    private Long ttlSeconds = 60L;
+  }
+
+  @Getter
+  @Setter
+  public static class ReportCompletionProperties {
+
+    /**
+     * Upper bound for how long a single request may wait for a report to complete.
+     * Applies to long-polling, as well as server-sent event streams.
+     */
+    private Long maxWaitSeconds = 60L;
   }
 }
@@ -9,7 +9,7 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.reportStatus;
 import static jakarta.persistence.CascadeType.ALL;
-import static jakarta.persistence.FetchType.EAGER;
+import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PRIVATE;
 import static lombok.AccessLevel.PROTECTED;
@@ -85,7 +85,7 @@ public class ApiTest {
 
   @NonNull
   @Builder.Default
-  @OneToMany(mappedBy = "apiTest", cascade = { ALL }, fetch = EAGER)
+  @OneToMany(mappedBy = "apiTest", cascade = { ALL }, fetch = LAZY)
   private final Set<ApiTestResult> apiTestResults = new HashSet<>();
 
   @ManyToOne(optional = false)
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model;
+
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.reportStatus;
+
+import io.github.bbortt.snow.white.commons.quality.gate.ApiType;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read model of an {@link ApiTest} in report listings, without test results or stack traces.
+ */
+public record ApiTestSummary(
+  @NonNull UUID calculationId,
+  @NonNull String serviceName,
+  @NonNull String apiName,
+  @Nullable String apiVersion,
+  @NonNull ApiType apiType,
+  @NonNull ReportStatus reportStatus
+) {
+  /**
+   * Constructor expression target, taking the columns as they are persisted.
+   */
+  public ApiTestSummary(
+    UUID calculationId,
+    String serviceName,
+    String apiName,
+    @Nullable String apiVersion,
+    Short apiType,
+    Short reportStatus
+  ) {
+    this(
+      calculationId,
+      serviceName,
+      apiName,
+      apiVersion,
+      ApiType.apiType(apiType),
+      reportStatus(reportStatus)
+    );
+  }
+}
@@ -9,12 +9,15 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.reportStatus;
 import static jakarta.persistence.CascadeType.ALL;
-import static jakarta.persistence.FetchType.EAGER;
+import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PRIVATE;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -30,6 +33,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.With;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 @Entity
 @Table
@@ -55,14 +59,14 @@ public class QualityGateReport {
   @OneToOne(
     mappedBy = "qualityGateReport",
     cascade = { ALL },
-    fetch = EAGER,
+    fetch = LAZY,
     optional = false
   )
   private ReportParameter reportParameter;
 
   @NonNull
   @Builder.Default
-  @OneToMany(mappedBy = "qualityGateReport", cascade = { ALL }, fetch = EAGER)
+  @OneToMany(mappedBy = "qualityGateReport", cascade = { ALL }, fetch = LAZY)
   private final Set<ApiTest> apiTests = new HashSet<>();
 
   @NonNull
@@ -70,6 +74,48 @@ public class QualityGateReport {
   @Column(nullable = false)
   private Short reportStatus = IN_PROGRESS.getVal();
 
+  /**
+   * Number of API tests per status, so that completion can be detected without loading them.
+   * Only ever changed relatively, in SQL: entity updates leave them untouched, not to overwrite concurrent changes.
+   */
+  @NonNull
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  private Integer apiTestsInProgress = 0;
+
+  @NonNull
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  private Integer apiTestsPassed = 0;
+
+  @NonNull
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  private Integer apiTestsFailed = 0;
+
+  @NonNull
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  private Integer apiTestsFinishedExceptionally = 0;
+
+  /**
+   * Snapshot of the Quality-Gate configuration at initialization, so that results can be evaluated without fetching it again.
+   * {@code null} for reports initialized before configurations were snapshotted.
+   */
+  @Nullable
+  @Column(updatable = false)
+  private Integer minCoveragePercentage;
+
+  @NonNull
+  @Builder.Default
+  @ElementCollection
+  @Column(name = "openapi_coverage_criteria", nullable = false, length = 64)
+  @CollectionTable(
+    name = "quality_gate_report_openapi_coverage_criteria",
+    joinColumns = @JoinColumn(name = "calculation_id")
+  )
+  private final Set<String> openApiCoverageCriteria = new HashSet<>();
+
   @NonNull
   @Builder.Default
   @Column(nullable = false, updatable = false)
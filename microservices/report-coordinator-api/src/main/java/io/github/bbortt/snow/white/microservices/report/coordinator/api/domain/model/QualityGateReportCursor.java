@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keyset position within reports ordered by creation time, newest first.
+ * The calculation ID breaks ties between reports created at the same instant.
+ */
+public record QualityGateReportCursor(
+  @NonNull Instant createdAt,
+  @NonNull UUID calculationId
+) {
+  private static final String SEPARATOR = ",";
+
+  public static QualityGateReportCursor after(
+    QualityGateReportSummary qualityGateReportSummary
+  ) {
+    return new QualityGateReportCursor(
+      qualityGateReportSummary.createdAt(),
+      qualityGateReportSummary.calculationId()
+    );
+  }
+
+  /**
+   * @throws IllegalArgumentException if the token has not been issued by {@link #toToken()}
+   */
+  public static QualityGateReportCursor fromToken(String token) {
+    var keys = new String(Base64.getUrlDecoder().decode(token), UTF_8).split(
+      SEPARATOR
+    );
+
+    if (keys.length != 2) {
+      throw new IllegalArgumentException(
+        "Cursor must consist of creation time and calculation ID!"
+      );
+    }
+
+    try {
+      return new QualityGateReportCursor(
+        Instant.parse(keys[0]),
+        UUID.fromString(keys[1])
+      );
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+
+  public String toToken() {
+    return Base64.getUrlEncoder()
+      .withoutPadding()
+      .encodeToString((createdAt + SEPARATOR + calculationId).getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model;
+
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.reportStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.With;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Read model of a {@link QualityGateReport} in report listings.
+ * <p>
+ * Holds the tested APIs by name and status only, leaving out their test results and stack traces.
+ */
+@With
+public record QualityGateReportSummary(
+  @NonNull UUID calculationId,
+  @NonNull String qualityGateConfigName,
+  @NonNull ReportStatus reportStatus,
+  @NonNull Instant createdAt,
+  @NonNull String lookbackWindow,
+  @NonNull Map<String, String> attributeFilters,
+  @NonNull List<ApiTestSummary> apiTests
+) {
+  /**
+   * Constructor expression target, taking the columns as they are persisted.
+   * Attribute filters and API tests are attached afterwards.
+   */
+  public QualityGateReportSummary(
+    UUID calculationId,
+    String qualityGateConfigName,
+    Short reportStatus,
+    Instant createdAt,
+    String lookbackWindow
+  ) {
+    this(
+      calculationId,
+      qualityGateConfigName,
+      reportStatus(reportStatus),
+      createdAt,
+      lookbackWindow,
+      Map.of(),
+      List.of()
+    );
+  }
+}
@@ -6,7 +6,7 @@
 
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model;
 
-import static jakarta.persistence.FetchType.EAGER;
+import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PRIVATE;
 
 import jakarta.persistence.CollectionTable;
@@ -51,7 +51,7 @@ public class ReportParameter {
   private final String lookbackWindow = "1h";
 
   @Builder.Default
-  @ElementCollection(fetch = EAGER)
+  @ElementCollection(fetch = LAZY)
   @Column(name = "attribute_value")
   @MapKeyColumn(name = "attribute_key")
   @CollectionTable(
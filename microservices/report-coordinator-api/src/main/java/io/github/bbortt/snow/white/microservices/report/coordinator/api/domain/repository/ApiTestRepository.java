@@ -9,8 +9,28 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTest;
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ApiTestRepository
-  extends JpaRepository<@NonNull ApiTest, @NonNull Long> {}
+  extends JpaRepository<@NonNull ApiTest, @NonNull Long>
+{
+  /**
+   * Completes an API test that is still in progress.
+   * Only one of any concurrent or redelivered results of the same API test is thereby applied.
+   *
+   * @return {@code 1} if the API test has been completed by this call, {@code 0} otherwise
+   */
+  @Modifying
+  @Query(
+    "UPDATE ApiTest a SET a.reportStatus = :status WHERE a.id = :id AND a.reportStatus = :inProgress"
+  )
+  int updateStatusWhenInProgress(
+    @Param("id") Long id,
+    @Param("status") short status,
+    @Param("inProgress") short inProgress
+  );
+}
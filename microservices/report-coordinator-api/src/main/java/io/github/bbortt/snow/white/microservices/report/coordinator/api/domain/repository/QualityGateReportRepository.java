@@ -8,11 +8,12 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.
 
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
 import java.time.Instant;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.jspecify.annotations.NonNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,8 +23,28 @@ import org.springframework.stereotype.Repository;
 public interface QualityGateReportRepository
   extends
     JpaRepository<@NonNull QualityGateReport, @NonNull UUID>,
-    JpaSpecificationExecutor<@NonNull QualityGateReport>
+    QualityGateReportSummaryRepository
 {
+  /**
+   * Loads the full report graph in a single query, including all test results.
+   * Listings should use {@link #findAllSummaries} instead.
+   */
+  @Override
+  @EntityGraph(
+    attributePaths = {
+      "reportParameter",
+      "reportParameter.attributeFilters",
+      "apiTests",
+      "apiTests.apiTestResults",
+    }
+  )
+  Optional<@NonNull QualityGateReport> findById(@NonNull UUID calculationId);
+
+  /**
+   * Loads the report only, e.g. to apply results without fetching all test results of the report.
+   */
+  Optional<@NonNull QualityGateReport> findByCalculationId(UUID calculationId);
+
   @Modifying
   @Query(
     "UPDATE QualityGateReport r SET r.reportStatus = :status WHERE r.createdAt < :cutoff AND r.reportStatus IN (:initialStatus)"
@@ -33,4 +54,55 @@ public interface QualityGateReportRepository
     @Param("status") int status,
     @Param("initialStatus") Set<Short> initialStatus
   );
+
+  /**
+   * Adds to the number of API tests per status.
+   * Relative to the persisted counts, so that concurrent consumers of the same report do not overwrite each other.
+   */
+  @Modifying
+  @Query(
+    """
+    UPDATE QualityGateReport r
+    SET r.apiTestsInProgress = r.apiTestsInProgress + :inProgress,
+      r.apiTestsPassed = r.apiTestsPassed + :passed,
+      r.apiTestsFailed = r.apiTestsFailed + :failed,
+      r.apiTestsFinishedExceptionally = r.apiTestsFinishedExceptionally + :finishedExceptionally
+    WHERE r.calculationId = :calculationId
+    """
+  )
+  int addToApiTestCounts(
+    @Param("calculationId") UUID calculationId,
+    @Param("inProgress") int inProgress,
+    @Param("passed") int passed,
+    @Param("failed") int failed,
+    @Param("finishedExceptionally") int finishedExceptionally
+  );
+
+  /**
+   * Completes a report once none of its API tests is in progress anymore, deriving the status from the counts alone.
+   * Any failed API test fails the report, any exceptionally finished one finishes it exceptionally.
+   *
+   * @return {@code 1} if the report has been completed by this call, {@code 0} otherwise
+   */
+  @Modifying
+  @Query(
+    """
+    UPDATE QualityGateReport r
+    SET r.reportStatus = CASE
+        WHEN r.apiTestsFailed > 0 THEN :failed
+        WHEN r.apiTestsFinishedExceptionally > 0 THEN :finishedExceptionally
+        ELSE :passed
+      END
+    WHERE r.calculationId = :calculationId
+      AND r.reportStatus = :inProgress
+      AND r.apiTestsInProgress = 0
+    """
+  )
+  int updateStatusToCompletedWhenNoApiTestInProgress(
+    @Param("calculationId") UUID calculationId,
+    @Param("inProgress") short inProgress,
+    @Param("failed") short failed,
+    @Param("finishedExceptionally") short finishedExceptionally,
+    @Param("passed") short passed
+  );
 }
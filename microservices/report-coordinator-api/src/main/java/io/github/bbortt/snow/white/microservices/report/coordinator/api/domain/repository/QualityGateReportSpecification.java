@@ -6,10 +6,10 @@
 
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository;
 
-import static jakarta.persistence.criteria.JoinType.INNER;
 import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PRIVATE;
 
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTest;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
@@ -20,6 +20,11 @@ import org.springframework.data.jpa.domain.Specification;
 @NoArgsConstructor(access = PRIVATE)
 public final class QualityGateReportSpecification {
 
+  /**
+   * Filters reports by the APIs they include.
+   * <p>
+   * Matches are looked up in a correlated {@code EXISTS} subquery, so that reports neither need to be joined with, nor deduplicated over their API tests.
+   */
   public static Specification<QualityGateReport> from(
     @Nullable String serviceName,
     @Nullable String apiName,
@@ -30,10 +35,13 @@ public final class QualityGateReportSpecification {
         return criteriaBuilder.conjunction();
       }
 
-      query.distinct(true);
-      var apiTests = root.join("apiTests", INNER);
+      var subquery = query.subquery(Long.class);
+      var apiTests = subquery.from(ApiTest.class);
 
       var predicates = new ArrayList<Predicate>();
+      predicates.add(
+        criteriaBuilder.equal(apiTests.get("qualityGateReport"), root)
+      );
       if (nonNull(serviceName)) {
         predicates.add(
           criteriaBuilder.equal(apiTests.get("serviceName"), serviceName)
@@ -48,7 +56,11 @@ public final class QualityGateReportSpecification {
         );
       }
 
-      return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+      subquery
+        .select(apiTests.get("id"))
+        .where(criteriaBuilder.and(predicates.toArray(new Predicate[0])));
+
+      return criteriaBuilder.exists(subquery);
     };
   }
 }
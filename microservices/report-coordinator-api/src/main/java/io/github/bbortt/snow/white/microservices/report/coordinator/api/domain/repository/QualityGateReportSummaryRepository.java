@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository;
+
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportCursor;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Lightweight read models for report listings.
+ * <p>
+ * Each page is read in three queries at most: the report rows, then the tested APIs and attribute filters of all reports on the page.
+ * Neither test results nor stack traces are loaded.
+ */
+public interface QualityGateReportSummaryRepository {
+  /**
+   * Offset pagination, ordered by creation time, newest first, unless sorted otherwise.
+   */
+  Page<@NonNull QualityGateReportSummary> findAllSummaries(
+    Specification<QualityGateReport> specification,
+    Pageable pageable
+  );
+
+  /**
+   * Keyset pagination, ordered by creation time, newest first.
+   * Neither skips over, nor counts all previous reports.
+   *
+   * @param after position of the last report on the previous page, {@code null} for the first page
+   */
+  Window<@NonNull QualityGateReportSummary> findAllSummaries(
+    Specification<QualityGateReport> specification,
+    @Nullable QualityGateReportCursor after,
+    int limit
+  );
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTestSummary;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportCursor;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+@RequiredArgsConstructor
+class QualityGateReportSummaryRepositoryImpl
+  implements QualityGateReportSummaryRepository
+{
+
+  private static final String CALCULATION_ID = "calculationId";
+  private static final String CREATED_AT = "createdAt";
+
+  private static final Sort KEYSET_SORT = Sort.by(
+    DESC,
+    CREATED_AT,
+    CALCULATION_ID
+  );
+
+  private static final String API_TEST_SUMMARIES_QUERY = """
+    SELECT new io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTestSummary(
+      a.qualityGateReport.calculationId,
+      a.serviceName,
+      a.apiName,
+      a.apiVersion,
+      a.apiType,
+      a.reportStatus
+    )
+    FROM ApiTest a
+    WHERE a.qualityGateReport.calculationId IN :calculationIds
+    ORDER BY a.id
+    """;
+
+  private static final String ATTRIBUTE_FILTERS_QUERY = """
+    SELECT p.calculationId, KEY(f), VALUE(f)
+    FROM ReportParameter p
+    JOIN p.attributeFilters f
+    WHERE p.calculationId IN :calculationIds
+    """;
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Page<@NonNull QualityGateReportSummary> findAllSummaries(
+    Specification<QualityGateReport> specification,
+    Pageable pageable
+  ) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createQuery(QualityGateReportSummary.class);
+    var root = selectSummaries(query, criteriaBuilder);
+
+    query
+      .where(specification.toPredicate(root, query, criteriaBuilder))
+      .orderBy(
+        toOrders(pageable.getSortOr(KEYSET_SORT), root, criteriaBuilder)
+      );
+
+    var typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery
+        .setFirstResult(Math.toIntExact(pageable.getOffset()))
+        .setMaxResults(pageable.getPageSize());
+    }
+
+    return PageableExecutionUtils.getPage(
+      withApiTestsAndAttributeFilters(typedQuery.getResultList()),
+      pageable,
+      () -> count(specification)
+    );
+  }
+
+  @Override
+  public Window<@NonNull QualityGateReportSummary> findAllSummaries(
+    Specification<QualityGateReport> specification,
+    @Nullable QualityGateReportCursor after,
+    int limit
+  ) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createQuery(QualityGateReportSummary.class);
+    var root = selectSummaries(query, criteriaBuilder);
+
+    var predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if (nonNull(after)) {
+      var createdAt = root.<Instant>get(CREATED_AT);
+      predicate = criteriaBuilder.and(
+        predicate,
+        criteriaBuilder.or(
+          criteriaBuilder.lessThan(createdAt, after.createdAt()),
+          criteriaBuilder.and(
+            criteriaBuilder.equal(createdAt, after.createdAt()),
+            criteriaBuilder.lessThan(
+              root.<UUID>get(CALCULATION_ID),
+              after.calculationId()
+            )
+          )
+        )
+      );
+    }
+
+    query
+      .where(predicate)
+      .orderBy(toOrders(KEYSET_SORT, root, criteriaBuilder));
+
+    // One more than requested tells whether there is a next page
+    var summaries = entityManager
+      .createQuery(query)
+      .setMaxResults(limit + 1)
+      .getResultList();
+
+    var hasNext = summaries.size() > limit;
+    var content = withApiTestsAndAttributeFilters(
+      hasNext ? summaries.subList(0, limit) : summaries
+    );
+
+    return Window.from(
+      content,
+      index ->
+        ScrollPosition.forward(
+          Map.of(
+            CREATED_AT,
+            content.get(index).createdAt(),
+            CALCULATION_ID,
+            content.get(index).calculationId()
+          )
+        ),
+      hasNext
+    );
+  }
+
+  private static Root<QualityGateReport> selectSummaries(
+    CriteriaQuery<QualityGateReportSummary> query,
+    CriteriaBuilder criteriaBuilder
+  ) {
+    var root = query.from(QualityGateReport.class);
+    var reportParameter = root.join("reportParameter");
+
+    query.select(
+      criteriaBuilder.construct(
+        QualityGateReportSummary.class,
+        root.get(CALCULATION_ID),
+        root.get("qualityGateConfigName"),
+        root.get("reportStatus"),
+        root.get(CREATED_AT),
+        reportParameter.get("lookbackWindow")
+      )
+    );
+
+    return root;
+  }
+
+  private long count(Specification<QualityGateReport> specification) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createQuery(Long.class);
+    var root = query.from(QualityGateReport.class);
+
+    query
+      .select(criteriaBuilder.count(root))
+      .where(specification.toPredicate(root, query, criteriaBuilder));
+
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  private List<QualityGateReportSummary> withApiTestsAndAttributeFilters(
+    List<QualityGateReportSummary> summaries
+  ) {
+    if (summaries.isEmpty()) {
+      return summaries;
+    }
+
+    var calculationIds = summaries
+      .stream()
+      .map(QualityGateReportSummary::calculationId)
+      .toList();
+
+    var apiTests = entityManager
+      .createQuery(API_TEST_SUMMARIES_QUERY, ApiTestSummary.class)
+      .setParameter("calculationIds", calculationIds)
+      .getResultList()
+      .stream()
+      .collect(groupingBy(ApiTestSummary::calculationId));
+
+    var attributeFilters = entityManager
+      .createQuery(ATTRIBUTE_FILTERS_QUERY, Object[].class)
+      .setParameter("calculationIds", calculationIds)
+      .getResultList()
+      .stream()
+      .collect(
+        groupingBy(
+          row -> (UUID) row[0],
+          toMap(row -> (String) row[1], row -> (String) row[2])
+        )
+      );
+
+    return summaries
+      .stream()
+      .map(summary ->
+        summary
+          .withApiTests(
+            apiTests.getOrDefault(summary.calculationId(), emptyList())
+          )
+          .withAttributeFilters(
+            attributeFilters.getOrDefault(summary.calculationId(), Map.of())
+          )
+      )
+      .toList();
+  }
+}
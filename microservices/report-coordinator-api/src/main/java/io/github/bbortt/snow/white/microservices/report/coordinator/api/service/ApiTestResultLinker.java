@@ -7,6 +7,7 @@
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
 
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FAILED;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.PASSED;
 import static java.util.Objects.nonNull;
 import static org.springframework.util.ObjectUtils.isEmpty;
@@ -17,6 +18,7 @@ import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.m
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository.ApiTestRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,32 +31,50 @@ final class ApiTestResultLinker {
 
   private final ApiTestRepository apiTestRepository;
 
-  void addApiTestResultsToApiTest(
+  /**
+   * Links the results to an API test that is still in progress, completing it.
+   *
+   * @return whether the API test has been completed by this call, {@code false} if it was not in progress anymore, e.g. because its results have been delivered twice
+   */
+  boolean addApiTestResultsToApiTest(
     Set<ApiTestResult> apiTestResults,
     ApiTest apiTest,
     Set<String> includedOpenApiCoverageCriteria,
     int minCoveragePercentage
   ) {
     if (isEmpty(apiTestResults)) {
-      return;
+      return false;
     }
 
-    apiTest.getApiTestResults().addAll(
-      apiTestResults
-        .stream()
-        .map(apiTestResult ->
-          apiTestResult.withIncludedInReport(
-            isIncludedInReport(apiTestResult, includedOpenApiCoverageCriteria)
-          )
+    var linkedApiTestResults = apiTestResults
+      .stream()
+      .map(apiTestResult ->
+        apiTestResult.withIncludedInReport(
+          isIncludedInReport(apiTestResult, includedOpenApiCoverageCriteria)
         )
-        .toList()
+      )
+      .toList();
+
+    // API tests in progress have no results yet
+    var reportStatus = deriveApiTestStatus(
+      linkedApiTestResults,
+      minCoveragePercentage
     );
 
-    apiTestRepository.save(
-      apiTest.withReportStatus(
-        deriveApiTestStatus(apiTest, minCoveragePercentage)
-      )
+    // Claimed before changing the API test, which would otherwise be flushed ahead of the update
+    var completedApiTests = apiTestRepository.updateStatusWhenInProgress(
+      apiTest.getId(),
+      reportStatus.getVal(),
+      IN_PROGRESS.getVal()
     );
+    if (completedApiTests == 0) {
+      return false;
+    }
+
+    apiTest.getApiTestResults().addAll(linkedApiTestResults);
+    apiTestRepository.save(apiTest.withReportStatus(reportStatus));
+
+    return true;
   }
 
   private boolean isIncludedInReport(
@@ -70,7 +90,7 @@ final class ApiTestResultLinker {
   }
 
   private ReportStatus deriveApiTestStatus(
-    ApiTest apiTest,
+    List<ApiTestResult> apiTestResults,
     int minCoveragePercentage
   ) {
     var threshold = BigDecimal.valueOf(minCoveragePercentage).divide(
@@ -79,8 +99,7 @@ final class ApiTestResultLinker {
       RoundingMode.UNNECESSARY
     );
 
-    var includedResults = apiTest
-      .getApiTestResults()
+    var includedResults = apiTestResults
       .stream()
       .filter(ApiTestResult::getIncludedInReport)
       .toList();
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
+
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus;
+import lombok.Getter;
+
+/**
+ * Changes to the number of API tests per status of a single report, collected to be applied at once.
+ * <p>
+ * Not thread-safe.
+ */
+@Getter
+final class ApiTestStatusTransitions {
+
+  private int inProgress;
+  private int passed;
+  private int failed;
+  private int finishedExceptionally;
+
+  void record(ReportStatus previousStatus, ReportStatus reportStatus) {
+    if (previousStatus == reportStatus) {
+      return;
+    }
+
+    add(previousStatus, -1);
+    add(reportStatus, 1);
+  }
+
+  boolean isEmpty() {
+    return (
+      inProgress == 0 && passed == 0 && failed == 0 && finishedExceptionally == 0
+    );
+  }
+
+  private void add(ReportStatus reportStatus, int delta) {
+    switch (reportStatus) {
+      case IN_PROGRESS -> inProgress += delta;
+      case PASSED -> passed += delta;
+      case FAILED -> failed += delta;
+      case FINISHED_EXCEPTIONALLY -> finishedExceptionally += delta;
+      default -> {
+        // API tests are never in any other status
+      }
+    }
+  }
+}
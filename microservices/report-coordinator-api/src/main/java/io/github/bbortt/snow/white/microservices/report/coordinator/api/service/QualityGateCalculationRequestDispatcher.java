@@ -7,12 +7,17 @@
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
 
 import static io.github.bbortt.snow.white.commons.event.dto.AttributeFilterOperator.STRING_EQUALS;
+import static java.lang.Boolean.TRUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.stream;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
+import static org.springframework.util.CollectionUtils.isEmpty;
 
 import io.github.bbortt.snow.white.commons.event.QualityGateCalculationRequestEvent;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.commons.event.dto.AttributeFilter;
+import io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTest;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportParameter;
@@ -22,6 +27,7 @@ import java.util.Set;
 import java.util.UUID;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -36,6 +42,7 @@ class QualityGateCalculationRequestDispatcher {
   private final OpenTelemetry openTelemetry;
 
   private final String calculationRequestTopic;
+  private final boolean computeAllOpenApiCoverageCriteria;
 
   public QualityGateCalculationRequestDispatcher(
     KafkaTemplate<
@@ -50,22 +57,36 @@ class QualityGateCalculationRequestDispatcher {
 
     calculationRequestTopic =
       reportCoordinationServiceProperties.getCalculationRequestTopic();
+    computeAllOpenApiCoverageCriteria = TRUE.equals(
+      reportCoordinationServiceProperties.getComputeAllOpenApiCoverageCriteria()
+    );
   }
 
   public void dispatch(
     UUID calculationId,
     ReportParameter reportParameter,
-    Set<ApiTest> apiTests
+    Set<ApiTest> apiTests,
+    Set<String> includedOpenApiCoverageCriteria
   ) {
+    var openApiCoverageCriteria = computeAllOpenApiCoverageCriteria
+      ? null
+      : toOpenApiCoverageCriteria(includedOpenApiCoverageCriteria);
+
     apiTests.forEach(apiTest ->
-      dispatchSingle(calculationId, reportParameter, apiTest)
+      dispatchSingle(
+        calculationId,
+        reportParameter,
+        apiTest,
+        openApiCoverageCriteria
+      )
     );
   }
 
   private void dispatchSingle(
     UUID calculationId,
     ReportParameter reportParameter,
-    ApiTest apiTest
+    ApiTest apiTest,
+    @Nullable Set<OpenApiCoverageCriteria> openApiCoverageCriteria
   ) {
     var qualityGateCalculationRequestEventProducerRecord = new ProducerRecord<>(
       calculationRequestTopic,
@@ -81,6 +102,7 @@ class QualityGateCalculationRequestDispatcher {
         )
         .lookbackWindow(reportParameter.getLookbackWindow())
         .attributeFilters(toAttributeFilters(reportParameter))
+        .openApiCoverageCriteria(openApiCoverageCriteria)
         .build()
     );
 
@@ -108,4 +130,21 @@ class QualityGateCalculationRequestDispatcher {
       )
       .collect(toSet());
   }
+
+  /**
+   * Unknown criteria names are skipped, the quality gate cannot evaluate them anyway.
+   */
+  private static Set<OpenApiCoverageCriteria> toOpenApiCoverageCriteria(
+    @Nullable Set<String> includedOpenApiCoverageCriteria
+  ) {
+    if (isEmpty(includedOpenApiCoverageCriteria)) {
+      return emptySet();
+    }
+
+    return stream(OpenApiCoverageCriteria.values())
+      .filter(openApiCoverageCriteria ->
+        includedOpenApiCoverageCriteria.contains(openApiCoverageCriteria.name())
+      )
+      .collect(toSet());
+  }
 }
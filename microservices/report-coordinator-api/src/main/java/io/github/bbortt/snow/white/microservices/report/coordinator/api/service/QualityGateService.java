@@ -6,13 +6,20 @@
 
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
 
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.client.qualitygateapi.api.QualityGateApi;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.dto.QualityGateConfig;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.dto.mapper.QualityGateConfigMapper;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.QualityGateNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -21,13 +28,48 @@ import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 
+/**
+ * Finds Quality-Gate configurations in the quality-gate-api.
+ * <p>
+ * Configurations are cached for a short period, because a single calculation looks up the same configuration for each of its APIs.
+ * Unknown configurations and failed lookups are never cached.
+ */
 @Service
-@RequiredArgsConstructor
 public class QualityGateService {
 
+  static final String QUALITY_GATE_CONFIG_CACHE_NAME = "quality-gate.config";
+
   private final QualityGateApi qualityGateApi;
   private final QualityGateConfigMapper qualityGateConfigMapper;
 
+  private final Cache<String, QualityGateConfig> qualityGateConfigCache;
+
+  public QualityGateService(
+    QualityGateApi qualityGateApi,
+    QualityGateConfigMapper qualityGateConfigMapper,
+    ReportCoordinationServiceProperties reportCoordinationServiceProperties,
+    MeterRegistry meterRegistry
+  ) {
+    this.qualityGateApi = qualityGateApi;
+    this.qualityGateConfigMapper = qualityGateConfigMapper;
+
+    var cacheProperties = reportCoordinationServiceProperties
+      .getQualityGateApi()
+      .getCache();
+
+    this.qualityGateConfigCache = Caffeine.newBuilder()
+      .maximumSize(cacheProperties.getMaximumSize())
+      .expireAfterWrite(cacheProperties.getTtlSeconds(), SECONDS)
+      .recordStats()
+      .build();
+
+    CaffeineCacheMetrics.monitor(
+      meterRegistry,
+      qualityGateConfigCache,
+      QUALITY_GATE_CONFIG_CACHE_NAME
+    );
+  }
+
   @WithSpan
   @Retryable(
     retryFor = {
@@ -39,9 +81,16 @@ public class QualityGateService {
   public QualityGateConfig findQualityGateConfigByName(
     String qualityGateConfigName
   ) throws QualityGateNotFoundException {
-    return queryQualityGateConfigByName(qualityGateConfigName).orElseThrow(() ->
-      new QualityGateNotFoundException(qualityGateConfigName)
+    var qualityGateConfig = qualityGateConfigCache.get(
+      qualityGateConfigName,
+      name -> queryQualityGateConfigByName(name).orElse(null)
     );
+
+    if (isNull(qualityGateConfig)) {
+      throw new QualityGateNotFoundException(qualityGateConfigName);
+    }
+
+    return qualityGateConfig;
   }
 
   private Optional<QualityGateConfig> queryQualityGateConfigByName(
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import io.github.bbortt.snow.white.commons.testing.VisibleForTesting;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process signal for reports leaving {@link io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus#IN_PROGRESS}.
+ * <p>
+ * Waiting clients hold a future each, instead of polling the database.
+ * Completions are only signalled within this instance.
+ */
+@Component
+public class ReportCompletionNotifier {
+
+  private final Map<UUID, Set<CompletableFuture<Void>>> completions =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Registers interest in the completion of a report.
+   * The returned future is deregistered as soon as it completes, or is cancelled by the caller.
+   */
+  public CompletableFuture<Void> register(UUID calculationId) {
+    var completion = new CompletableFuture<Void>();
+
+    completions.compute(calculationId, (_, registered) -> {
+      var futures = isNull(registered)
+        ? ConcurrentHashMap.<CompletableFuture<Void>>newKeySet()
+        : registered;
+      futures.add(completion);
+      return futures;
+    });
+
+    completion.whenComplete((_, _) -> deregister(calculationId, completion));
+
+    return completion;
+  }
+
+  public void notifyCompletion(UUID calculationId) {
+    var registered = completions.remove(calculationId);
+    if (nonNull(registered)) {
+      registered.forEach(completion -> completion.complete(null));
+    }
+  }
+
+  /**
+   * Withdraws interest in the completion of a report, e.g. because the waiting client went away.
+   * The future is cancelled, unless it has completed already.
+   */
+  public void deregister(
+    UUID calculationId,
+    CompletableFuture<Void> completion
+  ) {
+    completions.computeIfPresent(calculationId, (_, registered) -> {
+      registered.remove(completion);
+      return registered.isEmpty() ? null : registered;
+    });
+
+    completion.cancel(false);
+  }
+
+  @VisibleForTesting
+  int registrations() {
+    return completions.values().stream().mapToInt(Set::size).sum();
+  }
+}
@@ -6,10 +6,16 @@
 
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
 
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FAILED;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FINISHED_EXCEPTIONALLY;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.PASSED;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toSet;
 import static org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive;
 import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
@@ -19,22 +25,32 @@ import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.mapper.ApiTestResultMapper;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTest;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportCursor;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportParameter;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository.ApiTestRepository;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository.QualityGateReportRepository;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository.QualityGateReportSpecification;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.dto.QualityGateConfig;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.QualityGateNotFoundException;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.TestResultForUnknownApiException;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -54,9 +70,11 @@ public class ReportService {
   private final ApiTestResultMapper apiTestResultMapper;
   private final QualityGateReportApiTestsFilter qualityGateReportApiTestsFilter;
   private final ApiTestResultLinker apiTestResultLinker;
-  private final QualityGateStatusCalculator qualityGateStatusCalculator;
 
   private final QualityGateCalculationRequestDispatcher dispatcher;
+  private final ReportCompletionNotifier reportCompletionNotifier;
+
+  private final Executor virtualThreadExecutor;
 
   @WithSpan
   public Optional<QualityGateReport> findReportByCalculationId(
@@ -67,79 +85,138 @@ public class ReportService {
     return qualityGateReportRepository.findById(calculationId);
   }
 
+  /**
+   * Waits for a report to leave {@link io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus#IN_PROGRESS}, without querying the database in the meantime.
+   * Reports completed by another instance are only picked up once the timeout elapsed.
+   *
+   * @return the report once completed, or as it is after the timeout; empty if there is no such report.
+   * Cancelling it stops waiting for the completion.
+   */
+  @WithSpan
+  public CompletableFuture<Optional<QualityGateReport>> awaitReportCompletion(
+    UUID calculationId,
+    Duration timeout
+  ) {
+    tagCurrentSpanWithCalculationId(calculationId);
+
+    // Register before reading, so that no completion goes amiss in between
+    var completion = reportCompletionNotifier.register(calculationId);
+
+    var report = qualityGateReportRepository.findById(calculationId);
+    if (
+      report.isEmpty() || !IN_PROGRESS.equals(report.get().getReportStatus())
+    ) {
+      completion.cancel(false);
+      return completedFuture(report);
+    }
+
+    var reportCompletion = completion
+      .completeOnTimeout(null, timeout.toMillis(), MILLISECONDS)
+      .thenApplyAsync(
+        _ -> qualityGateReportRepository.findById(calculationId),
+        virtualThreadExecutor
+      );
+
+    // Cancelling the returned future does not propagate to the registration, e.g. once the client went away
+    reportCompletion.whenComplete((_, _) ->
+      reportCompletionNotifier.deregister(calculationId, completion)
+    );
+
+    return reportCompletion;
+  }
+
+  /**
+   * Applies all OpenAPI coverage results of a single report at once.
+   * The API test counts of the report are only updated once, after all results have been linked.
+   * Results that cannot be mapped to any API test of the report, or whose API test is not in progress anymore, are skipped.
+   */
   @WithSpan
   @Transactional
   public void updateReportWithOpenApiCoverageResults(
     UUID calculationId,
-    OpenApiCoverageResponseEvent event
+    List<OpenApiCoverageResponseEvent> events
   ) {
     tagCurrentSpanWithCalculationId(calculationId);
 
-    var report = findReportByCalculationId(calculationId).orElseGet(() -> {
-      logger.warn(
-        "Received OpenAPI coverage response for unknown calculation ID: {}",
-        calculationId
-      );
-      return null;
-    });
+    // Test results are not needed to apply further ones
+    var report = qualityGateReportRepository
+      .findByCalculationId(calculationId)
+      .orElseGet(() -> {
+        logger.warn(
+          "Received OpenAPI coverage response for unknown calculation ID: {}",
+          calculationId
+        );
+        return null;
+      });
 
     if (isNull(report)) {
       return;
     }
 
-    if (nonNull(event.errorMessage())) {
-      handleExceptionalResponse(report, event);
-      return;
-    }
+    var eventsByException = events
+      .stream()
+      .collect(partitioningBy(event -> nonNull(event.errorMessage())));
 
-    handleSuccessfulResponse(report, event);
+    var transitions = new ApiTestStatusTransitions();
+    applyExceptionalResponses(report, eventsByException.get(true), transitions);
+    applySuccessfulResponses(report, eventsByException.get(false), transitions);
+
+    if (!transitions.isEmpty()) {
+      updateWithStatusUpdate(calculationId, transitions);
+    }
   }
 
-  public void handleExceptionalResponse(
+  private void applyExceptionalResponses(
     QualityGateReport report,
-    OpenApiCoverageResponseEvent event
+    List<OpenApiCoverageResponseEvent> events,
+    ApiTestStatusTransitions transitions
   ) {
-    var apiTest =
-      qualityGateReportApiTestsFilter.findApiTestMatchingApiInformationInQualityGateReport(
-        report,
-        event.apiInformation()
-      );
-
-    apiTest = apiTest
-      .withStackTrace(event.errorMessage())
-      .withReportStatus(FINISHED_EXCEPTIONALLY);
+    for (var event : events) {
+      try {
+        var apiTest =
+          qualityGateReportApiTestsFilter.findApiTestMatchingApiInformationInQualityGateReport(
+            report,
+            event.apiInformation()
+          );
+
+        // Must precede any change to the API test, as with the ApiTestResultLinker
+        var completedApiTests = apiTestRepository.updateStatusWhenInProgress(
+          apiTest.getId(),
+          FINISHED_EXCEPTIONALLY.getVal(),
+          IN_PROGRESS.getVal()
+        );
+        if (completedApiTests == 0) {
+          logApiTestNotInProgress(report, apiTest);
+          continue;
+        }
 
-    apiTestRepository.save(apiTest);
+        apiTestRepository.save(
+          apiTest
+            .withStackTrace(event.errorMessage())
+            .withReportStatus(FINISHED_EXCEPTIONALLY)
+        );
 
-    updateWithStatusUpdate(report);
+        transitions.record(IN_PROGRESS, FINISHED_EXCEPTIONALLY);
+      } catch (TestResultForUnknownApiException e) {
+        logUnknownApi(report, e);
+      }
+    }
   }
 
-  private void handleSuccessfulResponse(
+  private void applySuccessfulResponses(
     QualityGateReport report,
-    OpenApiCoverageResponseEvent event
+    List<OpenApiCoverageResponseEvent> events,
+    ApiTestStatusTransitions transitions
   ) {
+    if (events.isEmpty()) {
+      return;
+    }
+
     var qualityGateConfigName = report.getQualityGateConfigName();
 
+    QualityGateConfig qualityGateConfig;
     try {
-      var qualityGateConfig = qualityGateService.findQualityGateConfigByName(
-        qualityGateConfigName
-      );
-
-      var apiTest =
-        qualityGateReportApiTestsFilter.findApiTestMatchingApiInformationInQualityGateReport(
-          report,
-          event.apiInformation()
-        );
-
-      apiTestResultLinker.addApiTestResultsToApiTest(
-        apiTestResultMapper.fromDtos(
-          requireNonNull(event.openApiTestResults()),
-          apiTest
-        ),
-        apiTest,
-        qualityGateConfig.getOpenApiCoverageCriteria(),
-        qualityGateConfig.getMinCoveragePercentage()
-      );
+      qualityGateConfig = resolveQualityGateConfig(report);
     } catch (QualityGateNotFoundException e) {
       logger.warn(
         "Cannot find quality-gate config: {}",
@@ -149,7 +226,55 @@ public class ReportService {
       return;
     }
 
-    updateWithStatusUpdate(report);
+    for (var event : events) {
+      try {
+        var apiTest =
+          qualityGateReportApiTestsFilter.findApiTestMatchingApiInformationInQualityGateReport(
+            report,
+            event.apiInformation()
+          );
+
+        var completed = apiTestResultLinker.addApiTestResultsToApiTest(
+          apiTestResultMapper.fromDtos(
+            requireNonNull(event.openApiTestResults()),
+            apiTest
+          ),
+          apiTest,
+          qualityGateConfig.getOpenApiCoverageCriteria(),
+          qualityGateConfig.getMinCoveragePercentage()
+        );
+        if (!completed) {
+          logApiTestNotInProgress(report, apiTest);
+          continue;
+        }
+
+        transitions.record(IN_PROGRESS, apiTest.getReportStatus());
+      } catch (TestResultForUnknownApiException e) {
+        logUnknownApi(report, e);
+      }
+    }
+  }
+
+  private static void logApiTestNotInProgress(
+    QualityGateReport report,
+    ApiTest apiTest
+  ) {
+    logger.debug(
+      "OpenAPI result '{}' did not complete API test {}, e.g. because it is not in progress anymore",
+      report.getCalculationId(),
+      apiTest.getId()
+    );
+  }
+
+  private static void logUnknownApi(
+    QualityGateReport report,
+    TestResultForUnknownApiException e
+  ) {
+    logger.error(
+      "Failed to update OpenAPI result '{}'!",
+      report.getCalculationId(),
+      e
+    );
   }
 
   @WithSpan
@@ -164,18 +289,40 @@ public class ReportService {
     );
 
     var report = persistInitialQualityGateReport(
-      qualityGateConfig.getName(),
+      qualityGateConfig,
       apiTests,
       reportParameter
     );
 
     tagCurrentSpanWithCalculationId(report.getCalculationId());
 
-    dispatchAfterTransactionCommit(report);
+    runAfterTransactionCommit(() ->
+      dispatchCalculationRequest(
+        report,
+        qualityGateConfig.getOpenApiCoverageCriteria()
+      )
+    );
 
     return report;
   }
 
+  private QualityGateConfig resolveQualityGateConfig(QualityGateReport report)
+    throws QualityGateNotFoundException {
+    var minCoveragePercentage = report.getMinCoveragePercentage();
+    if (nonNull(minCoveragePercentage)) {
+      return new QualityGateConfig(
+        report.getQualityGateConfigName(),
+        report.getOpenApiCoverageCriteria(),
+        minCoveragePercentage
+      );
+    }
+
+    // Reports initialized before configurations were snapshotted
+    return qualityGateService.findQualityGateConfigByName(
+      report.getQualityGateConfigName()
+    );
+  }
+
   private void tagCurrentSpanWithCalculationId(UUID calculationId) {
     Span.current().setAttribute(
       CALCULATION_ID_ATTRIBUTE,
@@ -183,13 +330,13 @@ public class ReportService {
     );
   }
 
-  private void dispatchAfterTransactionCommit(QualityGateReport report) {
+  private void runAfterTransactionCommit(Runnable action) {
     if (isSynchronizationActive() && isActualTransactionActive()) {
       registerSynchronization(
         new TransactionSynchronization() {
           @Override
           public void afterCommit() {
-            dispatchCalculationRequest(report);
+            action.run();
           }
         }
       );
@@ -197,25 +344,34 @@ public class ReportService {
       return;
     }
 
-    dispatchCalculationRequest(report);
+    action.run();
   }
 
-  private void dispatchCalculationRequest(QualityGateReport report) {
+  private void dispatchCalculationRequest(
+    QualityGateReport report,
+    Set<String> includedOpenApiCoverageCriteria
+  ) {
     dispatcher.dispatch(
       report.getCalculationId(),
       report.getReportParameter(),
-      report.getApiTests()
+      report.getApiTests(),
+      includedOpenApiCoverageCriteria
     );
   }
 
   private QualityGateReport persistInitialQualityGateReport(
-    String qualityGateConfigName,
+    QualityGateConfig qualityGateConfig,
     Set<ApiTest> apiTests,
     ReportParameter reportParameter
   ) {
     var report = QualityGateReport.builder()
       .calculationId(reportParameter.getCalculationId())
-      .qualityGateConfigName(qualityGateConfigName)
+      .apiTestsInProgress(apiTests.size())
+      .qualityGateConfigName(qualityGateConfig.getName())
+      .minCoveragePercentage(qualityGateConfig.getMinCoveragePercentage())
+      .openApiCoverageCriteria(
+        new HashSet<>(qualityGateConfig.getOpenApiCoverageCriteria())
+      )
       .reportParameter(reportParameter)
       .build();
 
@@ -232,11 +388,34 @@ public class ReportService {
     return persistedReport.withApiTests(persistedApiTests);
   }
 
-  private void updateWithStatusUpdate(QualityGateReport qualityGateReport) {
-    var qualityGateReportWithUpdatedStatus =
-      qualityGateStatusCalculator.withUpdatedReportStatus(qualityGateReport);
+  private void updateWithStatusUpdate(
+    UUID calculationId,
+    ApiTestStatusTransitions transitions
+  ) {
+    qualityGateReportRepository.addToApiTestCounts(
+      calculationId,
+      transitions.getInProgress(),
+      transitions.getPassed(),
+      transitions.getFailed(),
+      transitions.getFinishedExceptionally()
+    );
+
+    // Only one of any concurrent consumers completes the report
+    var completedReports =
+      qualityGateReportRepository.updateStatusToCompletedWhenNoApiTestInProgress(
+        calculationId,
+        IN_PROGRESS.getVal(),
+        FAILED.getVal(),
+        FINISHED_EXCEPTIONALLY.getVal(),
+        PASSED.getVal()
+      );
 
-    qualityGateReportRepository.save(qualityGateReportWithUpdatedStatus);
+    if (completedReports > 0) {
+      // Waiting clients re-read the report, which must have been committed by then
+      runAfterTransactionCommit(() ->
+        reportCompletionNotifier.notifyCompletion(calculationId)
+      );
+    }
   }
 
   @WithSpan
@@ -246,16 +425,40 @@ public class ReportService {
     return qualityGateReportRepository.save(qualityGateReport);
   }
 
+  /**
+   * Lists reports with offset pagination, e.g. to jump to arbitrary pages.
+   */
   @WithSpan
-  public Page<@NonNull QualityGateReport> findAllReports(
+  @Transactional(readOnly = true)
+  public Page<@NonNull QualityGateReportSummary> findAllReports(
     @Nullable String serviceName,
     @Nullable String apiName,
     @Nullable String apiVersion,
     Pageable pageable
   ) {
-    return qualityGateReportRepository.findAll(
+    return qualityGateReportRepository.findAllSummaries(
       QualityGateReportSpecification.from(serviceName, apiName, apiVersion),
       pageable
     );
   }
+
+  /**
+   * Lists reports with keyset pagination, newest first.
+   * Costs the same for every page, no matter how long the report history is.
+   */
+  @WithSpan
+  @Transactional(readOnly = true)
+  public Window<@NonNull QualityGateReportSummary> findAllReports(
+    @Nullable String serviceName,
+    @Nullable String apiName,
+    @Nullable String apiVersion,
+    @Nullable QualityGateReportCursor after,
+    int limit
+  ) {
+    return qualityGateReportRepository.findAllSummaries(
+      QualityGateReportSpecification.from(serviceName, apiName, apiVersion),
+      after,
+      limit
+    );
+  }
 }
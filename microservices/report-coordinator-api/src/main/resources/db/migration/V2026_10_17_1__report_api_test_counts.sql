@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+-- Number of API tests per status, maintained as API tests finish
+ALTER TABLE quality_gate_report
+    ADD COLUMN api_tests_in_progress            INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN api_tests_passed                 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN api_tests_failed                 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN api_tests_finished_exceptionally INTEGER NOT NULL DEFAULT 0;
+
+UPDATE quality_gate_report r
+SET api_tests_in_progress            = c.in_progress,
+    api_tests_passed                 = c.passed,
+    api_tests_failed                 = c.failed,
+    api_tests_finished_exceptionally = c.finished_exceptionally
+FROM (SELECT calculation_id,
+             COUNT(*) FILTER (WHERE report_status = 1) AS in_progress,
+             COUNT(*) FILTER (WHERE report_status = 3) AS passed,
+             COUNT(*) FILTER (WHERE report_status = 2) AS failed,
+             COUNT(*) FILTER (WHERE report_status = 4) AS finished_exceptionally
+      FROM api_test
+      GROUP BY calculation_id) c
+WHERE r.calculation_id = c.calculation_id;
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+-- Snapshot of the Quality-Gate configuration at initialization, NULL for reports initialized before
+ALTER TABLE quality_gate_report
+    ADD COLUMN min_coverage_percentage INTEGER;
+
+CREATE TABLE quality_gate_report_openapi_coverage_criteria
+(
+    calculation_id            UUID        NOT NULL,
+    openapi_coverage_criteria VARCHAR(64) NOT NULL,
+    PRIMARY KEY (calculation_id, openapi_coverage_criteria),
+    CONSTRAINT fk_quality_gate_report_openapi_coverage_criteria
+        FOREIGN KEY (calculation_id)
+            REFERENCES quality_gate_report (calculation_id)
+            ON DELETE CASCADE
+);
@@ -108,6 +108,55 @@ class OpenApiResultListenerIT extends AbstractReportCoordinationServiceIT {
     );
   }
 
+  @Test
+  void kafkaEvent_withSnapshottedQualityGateConfig_shouldBePersisted() {
+    var calculationId = UUID.fromString("a4f0c2d6-1b3e-4f5a-8c7d-9e0f1a2b3c4d");
+    var qualityGateReport = qualityGateReportRepository.save(
+      QualityGateReport.builder()
+        .calculationId(calculationId)
+        .qualityGateConfigName("snapshotted")
+        .apiTestsInProgress(1)
+        .minCoveragePercentage(100)
+        .openApiCoverageCriteria(Set.of(PATH_COVERAGE.name()))
+        .reportParameter(
+          ReportParameter.builder()
+            .calculationId(calculationId)
+            .lookbackWindow("1h")
+            .build()
+        )
+        .build()
+    );
+
+    apiTestRepository.save(
+      defaultApiTest().withQualityGateReport(qualityGateReport)
+    );
+
+    var duration = Duration.ofMillis(1234);
+    kafkaTemplate.send(
+      reportCoordinationServiceProperties
+        .getOpenapiCalculationResponse()
+        .getTopic(),
+      calculationId.toString(),
+      new OpenApiCoverageResponseEvent(
+        defaultApiInformation(),
+        Set.of(new OpenApiTestResult(PATH_COVERAGE, ONE, duration))
+      )
+    );
+
+    assertThatEntityHasBeenUpdated(
+      calculationId,
+      PATH_COVERAGE,
+      PASSED,
+      ONE.setScale(2, HALF_UP),
+      duration
+    );
+
+    qualityGateApi.verifyThat(
+      0,
+      getRequestedFor(urlMatching("/api/rest/v1/quality-gates/snapshotted"))
+    );
+  }
+
   @Test
   void kafkaEvent_withException_shouldBePersisted() {
     var calculationId = UUID.fromString("0946c831-cc38-4707-b24c-46fedc7665af");
@@ -159,7 +208,7 @@ class OpenApiResultListenerIT extends AbstractReportCoordinationServiceIT {
   void multipleKafkaEvents_withSameCalculationId_shouldBeAggregated() {
     var calculationId = UUID.fromString("521f9236-369d-4cab-813a-98aa6e46b0a2");
 
-    var qualityGateReport = persistInitialQualityGateReport(calculationId);
+    var qualityGateReport = persistInitialQualityGateReport(calculationId, 2);
     var apiTest = apiTestRepository.save(
       ApiTest.builder()
         .serviceName("serviceName")
@@ -217,14 +266,92 @@ class OpenApiResultListenerIT extends AbstractReportCoordinationServiceIT {
       );
   }
 
+  @Test
+  void redeliveredKafkaEvent_shouldBeAppliedOnce() {
+    var calculationId = UUID.fromString("3c1d7e52-8a4f-4b6e-9d20-5f7a1c8e4b93");
+
+    var qualityGateReport = persistInitialQualityGateReport(calculationId, 2);
+    var apiTest = apiTestRepository.save(
+      ApiTest.builder()
+        .serviceName("serviceName")
+        .apiName("otherApiName")
+        .apiVersion("apiVersion")
+        .apiType(OPENAPI.getVal())
+        .build()
+        .withQualityGateReport(qualityGateReport)
+    );
+
+    var topic = reportCoordinationServiceProperties
+      .getOpenapiCalculationResponse()
+      .getTopic();
+    var redeliveredEvent = new OpenApiCoverageResponseEvent(
+      defaultApiInformation(),
+      "Exception that is delivered twice"
+    );
+
+    // Records of the same calculation ID are consumed in order
+    kafkaTemplate.send(topic, calculationId.toString(), redeliveredEvent);
+    kafkaTemplate.send(topic, calculationId.toString(), redeliveredEvent);
+    kafkaTemplate.send(
+      topic,
+      calculationId.toString(),
+      new OpenApiCoverageResponseEvent(
+        ApiInformation.builder()
+          .serviceName(apiTest.getServiceName())
+          .apiName(apiTest.getApiName())
+          .apiVersion(apiTest.getApiVersion())
+          .apiType(OPENAPI)
+          .build(),
+        "Exception that should be persisted"
+      )
+    );
+
+    // The last record has been applied once the other API test finished
+    await()
+      .atMost(1, MINUTES)
+      .untilAsserted(
+        () -> apiTestRepository.findById(apiTest.getId()),
+        persistedApiTest ->
+          assertThat(persistedApiTest)
+            .isPresent()
+            .get()
+            .extracting(ApiTest::getReportStatus)
+            .isEqualTo(FINISHED_EXCEPTIONALLY)
+      );
+
+    assertThat(qualityGateReportRepository.findById(calculationId))
+      .isPresent()
+      .get()
+      .satisfies(
+        report ->
+          assertThat(report.getReportStatus()).isEqualTo(
+            FINISHED_EXCEPTIONALLY
+          ),
+        report -> assertThat(report.getApiTestsInProgress()).isZero(),
+        report ->
+          assertThat(report.getApiTestsFinishedExceptionally()).isEqualTo(2)
+      );
+  }
+
   private @NonNull QualityGateReport persistInitialQualityGateReport(
     UUID calculationId
+  ) {
+    return persistInitialQualityGateReport(calculationId, 1);
+  }
+
+  /**
+   * Persists a report with one default API test, counting {@code apiTestsInProgress} in total.
+   */
+  private @NonNull QualityGateReport persistInitialQualityGateReport(
+    UUID calculationId,
+    int apiTestsInProgress
   ) {
     var qualityGateConfigName = "minimal";
     var qualityGateReport = qualityGateReportRepository.save(
       QualityGateReport.builder()
         .calculationId(calculationId)
         .qualityGateConfigName(qualityGateConfigName)
+        .apiTestsInProgress(apiTestsInProgress)
         .reportParameter(
           ReportParameter.builder()
             .calculationId(calculationId)
@@ -6,35 +6,31 @@
 
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.api.kafka.listener;
 
-import static io.github.bbortt.snow.white.microservices.report.coordinator.api.TestData.minimalQualityGateReport;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentCaptor.captor;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import io.github.bbortt.snow.white.commons.event.OpenApiCoverageResponseEvent;
 import io.github.bbortt.snow.white.commons.event.dto.ApiInformation;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
-import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.ReportService;
-import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.TestResultForUnknownApiException;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapPropagator;
-import java.nio.ByteBuffer;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -49,7 +45,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.support.KafkaHeaders;
 
 @ExtendWith({ MockitoExtension.class })
 class OpenApiResultListenerUnitTest {
@@ -73,7 +68,7 @@ class OpenApiResultListenerUnitTest {
   private OpenApiResultListener fixture;
 
   @Nested
-  class OnOpenApiCoverageResponseTest {
+  class OnOpenApiCoverageResponsesTest {
 
     private static final UUID CALCULATION_ID = UUID.fromString(
       "9f679723-a328-47c6-b24e-e16894c675f1"
@@ -83,10 +78,11 @@ class OpenApiResultListenerUnitTest {
       return new RecordHeaders();
     }
 
-    private @NonNull ConsumerRecord<
+    private static @NonNull ConsumerRecord<
       String,
       OpenApiCoverageResponseEvent
     > getOpenApiCoverageResponseEventConsumerRecord(
+      UUID calculationId,
       OpenApiCoverageResponseEvent event,
       Headers headers
     ) {
@@ -94,7 +90,7 @@ class OpenApiResultListenerUnitTest {
         "snow-white-openapi-calculation-response", // topic
         0, // partition
         0L, // offset
-        CALCULATION_ID.toString(), // key
+        calculationId.toString(), // key
         event // value
       );
       headers.forEach(
@@ -109,6 +105,8 @@ class OpenApiResultListenerUnitTest {
       doReturn(textMapPropagatorMock)
         .when(contextPropagatorsMock)
         .getTextMapPropagator();
+
+      withMaxRetries(2);
     }
 
     @Test
@@ -128,8 +126,14 @@ class OpenApiResultListenerUnitTest {
 
       var event = getEmptyOpenApiCoverageResponseEvent();
 
-      fixture.onOpenApiCoverageResponse(
-        getOpenApiCoverageResponseEventConsumerRecord(event, headers)
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            event,
+            headers
+          )
+        )
       );
 
       ArgumentCaptor<Headers> headersCaptor = captor();
@@ -158,8 +162,14 @@ class OpenApiResultListenerUnitTest {
 
       var event = getEmptyOpenApiCoverageResponseEvent();
 
-      fixture.onOpenApiCoverageResponse(
-        getOpenApiCoverageResponseEventConsumerRecord(event, headers)
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            event,
+            headers
+          )
+        )
       );
 
       assertThat(resolvedTraceparent.get()).isEqualTo(traceparentValue);
@@ -171,106 +181,229 @@ class OpenApiResultListenerUnitTest {
 
       var event = getEmptyOpenApiCoverageResponseEvent();
 
-      fixture.onOpenApiCoverageResponse(
-        getOpenApiCoverageResponseEventConsumerRecord(event, emptyHeaders())
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            event,
+            emptyHeaders()
+          )
+        )
       );
 
       verify(reportServiceMock).updateReportWithOpenApiCoverageResults(
         CALCULATION_ID,
-        event
+        List.of(event)
       );
     }
 
     @Test
-    void shouldCatchButNotRetryTestResultForUnknownApiException() {
+    void shouldGroupEvents_byCalculationId() {
       withValidOpenTelemetryContext();
 
-      var event = getEmptyOpenApiCoverageResponseEvent();
+      var otherCalculationId = UUID.fromString(
+        "0f1e2d3c-4b5a-4697-8877-665544332211"
+      );
 
-      doThrow(
-        new TestResultForUnknownApiException(
-          mock(QualityGateReport.class),
-          mock(ApiInformation.class)
+      var first = getEmptyOpenApiCoverageResponseEvent();
+      var other = getEmptyOpenApiCoverageResponseEvent();
+      var second = getEmptyOpenApiCoverageResponseEvent();
+
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            first,
+            emptyHeaders()
+          ),
+          getOpenApiCoverageResponseEventConsumerRecord(
+            otherCalculationId,
+            other,
+            emptyHeaders()
+          ),
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            second,
+            emptyHeaders()
+          )
         )
-      )
-        .when(reportServiceMock)
-        .updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
+      );
+
+      var inOrder = inOrder(reportServiceMock);
+      inOrder
+        .verify(reportServiceMock)
+        .updateReportWithOpenApiCoverageResults(
+          CALCULATION_ID,
+          List.of(first, second)
+        );
+      inOrder
+        .verify(reportServiceMock)
+        .updateReportWithOpenApiCoverageResults(
+          otherCalculationId,
+          List.of(other)
+        );
+      verifyNoMoreInteractions(reportServiceMock);
+    }
+
+    @Test
+    void shouldSkipRecord_whenKeyIsNoCalculationId() {
+      withValidOpenTelemetryContext();
 
-      fixture.onOpenApiCoverageResponse(
-        getOpenApiCoverageResponseEventConsumerRecord(event, emptyHeaders())
+      var malformed = getEmptyOpenApiCoverageResponseEvent();
+      var valid = getEmptyOpenApiCoverageResponseEvent();
+
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          new ConsumerRecord<>(
+            "snow-white-openapi-calculation-response", // topic
+            0, // partition
+            0L, // offset
+            "not-a-calculation-id", // key
+            malformed // value
+          ),
+          new ConsumerRecord<>(
+            "snow-white-openapi-calculation-response", // topic
+            0, // partition
+            1L, // offset
+            null, // key
+            malformed // value
+          ),
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            valid,
+            emptyHeaders()
+          )
+        )
       );
 
       verify(reportServiceMock).updateReportWithOpenApiCoverageResults(
         CALCULATION_ID,
-        event
+        List.of(valid)
       );
       verifyNoMoreInteractions(reportServiceMock);
     }
 
     @Test
-    void shouldCatchAndThrowAnyOtherExceptionForRetrying() {
+    void shouldRetryFailingGroup_withoutReapplyingOtherGroups() {
       withValidOpenTelemetryContext();
-      withMaxRetries(2);
+
+      var otherCalculationId = UUID.fromString(
+        "0f1e2d3c-4b5a-4697-8877-665544332211"
+      );
 
       var event = getEmptyOpenApiCoverageResponseEvent();
+      var other = getEmptyOpenApiCoverageResponseEvent();
 
-      var exception = new IllegalArgumentException("thrown on purpose");
-      doThrow(exception)
+      doThrow(new IllegalArgumentException("thrown on purpose"))
+        .doNothing()
         .when(reportServiceMock)
-        .updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
+        .updateReportWithOpenApiCoverageResults(CALCULATION_ID, List.of(event));
 
-      assertThatThrownBy(() ->
-        fixture.onOpenApiCoverageResponse(
-          getOpenApiCoverageResponseEventConsumerRecord(event, emptyHeaders())
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            event,
+            emptyHeaders()
+          ),
+          getOpenApiCoverageResponseEventConsumerRecord(
+            otherCalculationId,
+            other,
+            emptyHeaders()
+          )
         )
-      ).isEqualTo(exception);
+      );
 
-      verify(reportServiceMock, never()).handleExceptionalResponse(
-        any(),
-        any(OpenApiCoverageResponseEvent.class)
+      verify(
+        reportServiceMock,
+        times(2)
+      ).updateReportWithOpenApiCoverageResults(CALCULATION_ID, List.of(event));
+      verify(reportServiceMock).updateReportWithOpenApiCoverageResults(
+        otherCalculationId,
+        List.of(other)
       );
+      verifyNoMoreInteractions(reportServiceMock);
     }
 
     @Test
-    void shouldCatchAndPersistExhaustedRetryException() {
+    void shouldMarkGroupAsFinishedExceptionally_whenRetriesAreExhausted() {
       withValidOpenTelemetryContext();
-      withMaxRetries(2);
 
       var event = getEmptyOpenApiCoverageResponseEvent();
 
       var rootCause = "thrown on purpose";
-      var exception = new IllegalArgumentException(rootCause);
-      doThrow(exception)
-        .when(reportServiceMock)
-        .updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
-
-      var qualityGateReport = minimalQualityGateReport(CALCULATION_ID);
-      doReturn(Optional.of(qualityGateReport))
+      doThrow(new IllegalArgumentException(rootCause))
         .when(reportServiceMock)
-        .findReportByCalculationId(CALCULATION_ID);
+        .updateReportWithOpenApiCoverageResults(CALCULATION_ID, List.of(event));
 
-      assertThatThrownBy(() ->
-        fixture.onOpenApiCoverageResponse(
+      fixture.onOpenApiCoverageResponses(
+        List.of(
           getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
             event,
-            headersWithDeliveryAttempt(3)
+            emptyHeaders()
           )
         )
-      ).isEqualTo(exception);
+      );
 
-      ArgumentCaptor<OpenApiCoverageResponseEvent> openApiCoverageResponseEventArgumentCaptor =
-        captor();
-      verify(reportServiceMock).handleExceptionalResponse(
-        eq(qualityGateReport),
-        openApiCoverageResponseEventArgumentCaptor.capture()
+      ArgumentCaptor<
+        List<OpenApiCoverageResponseEvent>
+      > openApiCoverageResponseEventsArgumentCaptor = captor();
+      verify(
+        reportServiceMock,
+        times(4)
+      ).updateReportWithOpenApiCoverageResults(
+        eq(CALCULATION_ID),
+        openApiCoverageResponseEventsArgumentCaptor.capture()
       );
 
-      assertThat(openApiCoverageResponseEventArgumentCaptor.getValue())
-        .isNotNull()
+      assertThat(openApiCoverageResponseEventsArgumentCaptor.getValue())
+        .singleElement()
         .extracting(OpenApiCoverageResponseEvent::errorMessage)
         .isEqualTo(rootCause);
     }
 
+    @Test
+    void shouldSkipGroup_whenMarkingAsFinishedExceptionallyFails() {
+      withValidOpenTelemetryContext();
+
+      var otherCalculationId = UUID.fromString(
+        "0f1e2d3c-4b5a-4697-8877-665544332211"
+      );
+
+      var event = getEmptyOpenApiCoverageResponseEvent();
+      var other = getEmptyOpenApiCoverageResponseEvent();
+
+      doThrow(new IllegalStateException("database unavailable"))
+        .when(reportServiceMock)
+        .updateReportWithOpenApiCoverageResults(eq(CALCULATION_ID), any());
+
+      fixture.onOpenApiCoverageResponses(
+        List.of(
+          getOpenApiCoverageResponseEventConsumerRecord(
+            CALCULATION_ID,
+            event,
+            emptyHeaders()
+          ),
+          getOpenApiCoverageResponseEventConsumerRecord(
+            otherCalculationId,
+            other,
+            emptyHeaders()
+          )
+        )
+      );
+
+      verify(
+        reportServiceMock,
+        times(4)
+      ).updateReportWithOpenApiCoverageResults(eq(CALCULATION_ID), any());
+      verify(reportServiceMock).updateReportWithOpenApiCoverageResults(
+        otherCalculationId,
+        List.of(other)
+      );
+      verifyNoMoreInteractions(reportServiceMock);
+    }
+
     private void withValidOpenTelemetryContext() {
       doReturn(Context.root())
         .when(textMapPropagatorMock)
@@ -281,20 +414,12 @@ class OpenApiResultListenerUnitTest {
       var openapiProps =
         new ReportCoordinationServiceProperties.OpenapiCalculationResponse();
       openapiProps.setMaxRetries(maxRetries);
+      openapiProps.setBackOffRetryMs(1L);
       doReturn(openapiProps)
         .when(propertiesMock)
         .getOpenapiCalculationResponse();
     }
 
-    private static Headers headersWithDeliveryAttempt(int attempt) {
-      var headers = new RecordHeaders();
-      headers.add(
-        KafkaHeaders.DELIVERY_ATTEMPT,
-        ByteBuffer.allocate(4).putInt(attempt).array()
-      );
-      return headers;
-    }
-
     private static @NonNull OpenApiCoverageResponseEvent getEmptyOpenApiCoverageResponseEvent() {
       return new OpenApiCoverageResponseEvent(
         mock(ApiInformation.class),
@@ -384,6 +384,72 @@ class ReportResourceIT extends AbstractReportCoordinationServiceIT {
       );
   }
 
+  @Test
+  void findAllReports_afterCursor_continuesWithOlderReports()
+    throws Exception {
+    var calculationId1 = UUID.fromString(
+      "b30bb84b-7bf6-4744-8bfc-ac05b8a85991"
+    );
+    qualityGateReportRepository.save(
+      QualityGateReport.builder()
+        .calculationId(calculationId1)
+        .qualityGateConfigName("nameA")
+        .reportParameter(
+          ReportParameter.builder().calculationId(calculationId1).build()
+        )
+        .reportStatus(PASSED.getVal())
+        .createdAt(Instant.parse("2025-05-07T18:00:00.00Z"))
+        .build()
+    );
+
+    var calculationId2 = UUID.fromString(
+      "99635525-27a5-43ee-ae46-1cedf2ba4c35"
+    );
+    qualityGateReportRepository.save(
+      QualityGateReport.builder()
+        .calculationId(calculationId2)
+        .qualityGateConfigName("nameB")
+        .reportParameter(
+          ReportParameter.builder().calculationId(calculationId2).build()
+        )
+        .reportStatus(PASSED.getVal())
+        .createdAt(Instant.parse("2025-05-07T18:05:00.00Z"))
+        .build()
+    );
+
+    var nextCursor = mockMvc
+      .perform(get(PATH_LIST_QUALITY_GATE_REPORTS).queryParam("size", "1"))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HEADER_X_TOTAL_COUNT, "2"))
+      .andExpect(header().exists("X-Next-Cursor"))
+      .andExpect(jsonPath("$.length()").value(1))
+      .andExpect(jsonPath("$[0].qualityGateConfigName").value("nameB"))
+      .andReturn()
+      .getResponse()
+      .getHeader("X-Next-Cursor");
+
+    mockMvc
+      .perform(
+        get(PATH_LIST_QUALITY_GATE_REPORTS)
+          .queryParam("size", "1")
+          .queryParam("after", nextCursor)
+      )
+      .andExpect(status().isOk())
+      .andExpect(header().doesNotExist(HEADER_X_TOTAL_COUNT))
+      .andExpect(header().doesNotExist("X-Next-Cursor"))
+      .andExpect(jsonPath("$.length()").value(1))
+      .andExpect(jsonPath("$[0].qualityGateConfigName").value("nameA"));
+  }
+
+  @Test
+  void findAllReports_withInvalidCursor_returnsBadRequest() throws Exception {
+    mockMvc
+      .perform(
+        get(PATH_LIST_QUALITY_GATE_REPORTS).queryParam("after", "not-a-cursor")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
   private QualityGateReport createAndPersistQualityGateReport(
     UUID calculationId,
     String serviceName,
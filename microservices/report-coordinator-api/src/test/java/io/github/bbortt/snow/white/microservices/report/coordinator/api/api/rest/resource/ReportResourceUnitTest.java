@@ -7,11 +7,13 @@
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.resource;
 
 import static io.github.bbortt.snow.white.commons.web.PaginationUtils.HEADER_X_TOTAL_COUNT;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.resource.ReportResource.HEADER_X_NEXT_CURSOR;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FAILED;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.PASSED;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.mockito.ArgumentCaptor.captor;
 import static org.mockito.ArgumentMatchers.any;
@@ -19,27 +21,36 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.mapper.QualityGateReportMapper;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports200ResponseInner;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.rest.dto.ListQualityGateReports500Response;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportCursor;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.junit.JUnitReporter;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.junit.TestSuites;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.ReportService;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -51,8 +62,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith({ MockitoExtension.class })
 class ReportResourceUnitTest {
@@ -66,6 +80,9 @@ class ReportResourceUnitTest {
   @Mock
   private QualityGateReportMapper qualityGateReportMapperMock;
 
+  @Mock
+  private ReportCoordinationServiceProperties reportCoordinationServicePropertiesMock;
+
   @InjectMocks
   private ReportResource fixture;
 
@@ -109,7 +126,7 @@ class ReportResourceUnitTest {
 
       doReturn(IN_PROGRESS).when(qualityGateReport).getReportStatus();
 
-      var response = fixture.getReportByCalculationId(calculationId);
+      var response = fixture.getReportByCalculationId(calculationId, null);
 
       assertThatResponseHasBody(response, ACCEPTED, responseDto);
     }
@@ -133,7 +150,7 @@ class ReportResourceUnitTest {
         .when(reportServiceMock)
         .findReportByCalculationId(calculationId);
 
-      var response = fixture.getReportByCalculationId(calculationId);
+      var response = fixture.getReportByCalculationId(calculationId, null);
 
       assertThat(response)
         .isNotNull()
@@ -155,6 +172,83 @@ class ReportResourceUnitTest {
         );
     }
 
+    @Test
+    void shouldAwaitReportCompletion_whenWaitForIsGiven() {
+      var calculationId = UUID.fromString(
+        "0c5e7c3b-2a43-4f1e-9a0d-8f0a9d0e7b61"
+      );
+      configureMaxWaitSeconds(60L);
+
+      doReturn(
+        CompletableFuture.completedFuture(Optional.of(qualityGateReport))
+      )
+        .when(reportServiceMock)
+        .awaitReportCompletion(calculationId, Duration.ofSeconds(30));
+      doReturn(PASSED).when(qualityGateReport).getReportStatus();
+
+      var responseDto = mock(ListQualityGateReports200ResponseInner.class);
+      doReturn(responseDto)
+        .when(qualityGateReportMapperMock)
+        .toListDto(qualityGateReport);
+
+      var response = fixture.getReportByCalculationId(calculationId, "30s");
+
+      assertThatResponseHasBody(response, OK, responseDto);
+
+      verify(reportServiceMock, never()).findReportByCalculationId(
+        calculationId
+      );
+    }
+
+    @Test
+    void shouldCapWaitFor_atMaximumWait() {
+      var calculationId = UUID.fromString(
+        "5b8f0f0e-6c1a-4c8e-8d1b-7a2f3e4d5c6b"
+      );
+      configureMaxWaitSeconds(60L);
+
+      doReturn(
+        CompletableFuture.completedFuture(Optional.of(qualityGateReport))
+      )
+        .when(reportServiceMock)
+        .awaitReportCompletion(calculationId, Duration.ofSeconds(60));
+      doReturn(IN_PROGRESS).when(qualityGateReport).getReportStatus();
+
+      var responseDto = mock(ListQualityGateReports200ResponseInner.class);
+      doReturn(responseDto)
+        .when(qualityGateReportMapperMock)
+        .toListDto(qualityGateReport);
+
+      var response = fixture.getReportByCalculationId(calculationId, "10m");
+
+      assertThatResponseHasBody(response, ACCEPTED, responseDto);
+    }
+
+    @Test
+    void shouldReturnHttpBadRequest_whenWaitForIsInvalid() {
+      var calculationId = UUID.fromString(
+        "e1f2d3c4-b5a6-4978-8a9b-0c1d2e3f4a5b"
+      );
+
+      var response = fixture.getReportByCalculationId(calculationId, "soon");
+
+      assertThat(response)
+        .isNotNull()
+        .satisfies(
+          r -> assertThat(r.getStatusCode()).isEqualTo(BAD_REQUEST),
+          r ->
+            assertThat(r.getBody())
+              .asInstanceOf(type(ListQualityGateReports500Response.class))
+              .satisfies(e ->
+                assertThat(e.getMessage()).isEqualTo(
+                  "Invalid waitFor duration 'soon'!"
+                )
+              )
+        );
+
+      verifyNoInteractions(reportServiceMock);
+    }
+
     private void assertThatResponseIsStatusOkWithDto(
       ReportStatus failed,
       UUID calculationId,
@@ -162,7 +256,7 @@ class ReportResourceUnitTest {
     ) {
       doReturn(failed).when(qualityGateReport).getReportStatus();
 
-      var response = fixture.getReportByCalculationId(calculationId);
+      var response = fixture.getReportByCalculationId(calculationId, null);
 
       assertThatResponseHasBody(response, OK, responseDto);
     }
@@ -181,6 +275,73 @@ class ReportResourceUnitTest {
     }
   }
 
+  @Nested
+  class StreamReportByCalculationIdTest {
+
+    @Mock
+    private QualityGateReport qualityGateReport;
+
+    @Test
+    void shouldStreamReport_onceReportCompleted() {
+      var calculationId = UUID.fromString(
+        "3a7d1c9e-8b2f-4e6a-9c0d-1f2e3a4b5c6d"
+      );
+      configureMaxWaitSeconds(60L);
+
+      var reportCompletion =
+        new CompletableFuture<Optional<QualityGateReport>>();
+      doReturn(reportCompletion)
+        .when(reportServiceMock)
+        .awaitReportCompletion(calculationId, Duration.ofSeconds(60));
+
+      var response = fixture.streamReportByCalculationId(calculationId);
+
+      assertThat(response)
+        .isNotNull()
+        .satisfies(
+          r -> assertThat(r.getStatusCode()).isEqualTo(OK),
+          r ->
+            assertThat(r.getHeaders().getContentType()).isEqualTo(
+              TEXT_EVENT_STREAM
+            ),
+          r ->
+            assertThat(r.getBody())
+              .isInstanceOf(SseEmitter.class)
+              .extracting(SseEmitter::getTimeout)
+              .isEqualTo(65_000L)
+        );
+
+      verifyNoInteractions(qualityGateReportMapperMock);
+
+      doReturn(mock(ListQualityGateReports200ResponseInner.class))
+        .when(qualityGateReportMapperMock)
+        .toListDto(qualityGateReport);
+
+      reportCompletion.complete(Optional.of(qualityGateReport));
+
+      verify(qualityGateReportMapperMock).toListDto(qualityGateReport);
+    }
+
+    @Test
+    void shouldThrowNotFound_whenReportByCalculationIdNotFound() {
+      var calculationId = UUID.fromString(
+        "7c6b5a49-3827-4165-a4b3-c2d1e0f9a8b7"
+      );
+      configureMaxWaitSeconds(60L);
+
+      doReturn(CompletableFuture.completedFuture(Optional.empty()))
+        .when(reportServiceMock)
+        .awaitReportCompletion(calculationId, Duration.ofSeconds(60));
+
+      assertThatThrownBy(() ->
+        fixture.streamReportByCalculationId(calculationId)
+      )
+        .isInstanceOf(ResponseStatusException.class)
+        .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+        .isEqualTo(NOT_FOUND);
+    }
+  }
+
   @Nested
   class GetReportByCalculationIdAsJUnitTest {
 
@@ -260,10 +421,10 @@ class ReportResourceUnitTest {
       var size = 10;
       var sort = "createdAt,asc";
 
-      var report1 = mock(QualityGateReport.class);
-      var report2 = mock(QualityGateReport.class);
+      var report1 = mock(QualityGateReportSummary.class);
+      var report2 = mock(QualityGateReportSummary.class);
 
-      Page<@NonNull QualityGateReport> qualityGateReportsPage = mock();
+      Page<@NonNull QualityGateReportSummary> qualityGateReportsPage = mock();
       doReturn(2L).when(qualityGateReportsPage).getTotalElements();
 
       ArgumentCaptor<Pageable> pageableArgumentCaptor = captor();
@@ -276,9 +437,9 @@ class ReportResourceUnitTest {
           pageableArgumentCaptor.capture()
         );
 
-      doReturn(Stream.of(report1, report2))
+      doReturn(List.of(report1, report2))
         .when(qualityGateReportsPage)
-        .stream();
+        .getContent();
 
       var dto1 = mock(ListQualityGateReports200ResponseInner.class);
       doReturn(dto1).when(qualityGateReportMapperMock).toListDto(report1);
@@ -294,6 +455,7 @@ class ReportResourceUnitTest {
         sort,
         null,
         null,
+        null,
         null
       );
 
@@ -327,7 +489,7 @@ class ReportResourceUnitTest {
       var size = 10;
       var sort = "createdAt,desc";
 
-      Page<@NonNull QualityGateReport> qualityGateReportsPage = mock();
+      Page<@NonNull QualityGateReportSummary> qualityGateReportsPage = mock();
 
       ArgumentCaptor<Pageable> pageableArgumentCaptor = captor();
       doReturn(qualityGateReportsPage)
@@ -339,7 +501,6 @@ class ReportResourceUnitTest {
           pageableArgumentCaptor.capture()
         );
 
-      doReturn(Stream.empty()).when(qualityGateReportsPage).stream();
 
       ResponseEntity<
         @NonNull List<ListQualityGateReports200ResponseInner>
@@ -349,6 +510,7 @@ class ReportResourceUnitTest {
         sort,
         null,
         null,
+        null,
         null
       );
 
@@ -380,9 +542,8 @@ class ReportResourceUnitTest {
 
     @Test
     void shouldPassFiltersToService_whenFiltersProvided() {
-      Page<@NonNull QualityGateReport> qualityGateReportsPage = mock();
+      Page<@NonNull QualityGateReportSummary> qualityGateReportsPage = mock();
       doReturn(0L).when(qualityGateReportsPage).getTotalElements();
-      doReturn(Stream.empty()).when(qualityGateReportsPage).stream();
 
       doReturn(qualityGateReportsPage)
         .when(reportServiceMock)
@@ -399,7 +560,8 @@ class ReportResourceUnitTest {
         "createdAt,asc",
         "my-service",
         "my-api",
-        "v1"
+        "v1",
+        null
       );
 
       verify(reportServiceMock).findAllReports(
@@ -409,5 +571,172 @@ class ReportResourceUnitTest {
         any(Pageable.class)
       );
     }
+
+    @Test
+    void shouldReturnNextCursor_whenMoreReportsExistInDefaultOrder() {
+      var report = qualityGateReportSummary();
+
+      Page<@NonNull QualityGateReportSummary> qualityGateReportsPage = mock();
+      doReturn(true).when(qualityGateReportsPage).hasNext();
+      doReturn(List.of(report)).when(qualityGateReportsPage).getContent();
+      doReturn(2L).when(qualityGateReportsPage).getTotalElements();
+
+      doReturn(qualityGateReportsPage)
+        .when(reportServiceMock)
+        .findAllReports(isNull(), isNull(), isNull(), any(Pageable.class));
+
+      var dto = mock(ListQualityGateReports200ResponseInner.class);
+      doReturn(dto).when(qualityGateReportMapperMock).toListDto(report);
+
+      ResponseEntity<
+        @NonNull List<ListQualityGateReports200ResponseInner>
+      > response = fixture.listQualityGateReports(
+        0,
+        1,
+        null,
+        null,
+        null,
+        null,
+        null
+      );
+
+      assertThat(response)
+        .isNotNull()
+        .satisfies(
+          r -> assertThat(r.getStatusCode()).isEqualTo(OK),
+          r -> assertThat(r.getBody()).containsExactly(dto),
+          r ->
+            assertThat(r.getHeaders().toSingleValueMap())
+              .hasSize(2)
+              .containsEntry(HEADER_X_TOTAL_COUNT, "2")
+              .containsEntry(
+                HEADER_X_NEXT_CURSOR,
+                QualityGateReportCursor.after(report).toToken()
+              )
+        );
+    }
+
+    @Test
+    void shouldNotReturnNextCursor_whenSortedOtherwise() {
+      Page<@NonNull QualityGateReportSummary> qualityGateReportsPage = mock();
+      doReturn(true).when(qualityGateReportsPage).hasNext();
+      doReturn(2L).when(qualityGateReportsPage).getTotalElements();
+
+      doReturn(qualityGateReportsPage)
+        .when(reportServiceMock)
+        .findAllReports(isNull(), isNull(), isNull(), any(Pageable.class));
+
+      ResponseEntity<
+        @NonNull List<ListQualityGateReports200ResponseInner>
+      > response = fixture.listQualityGateReports(
+        0,
+        1,
+        "createdAt,asc",
+        null,
+        null,
+        null,
+        null
+      );
+
+      assertThat(response.getHeaders().toSingleValueMap())
+        .hasSize(1)
+        .containsEntry(HEADER_X_TOTAL_COUNT, "2");
+    }
+
+    @Test
+    void shouldContinueAfterCursor_whenCursorProvided() {
+      var after = new QualityGateReportCursor(
+        Instant.parse("2026-01-01T12:00:00Z"),
+        UUID.fromString("a0c4e9d2-1b3f-4e6a-8c5d-7f9e0b1a2c3d")
+      );
+      var report = qualityGateReportSummary();
+
+      Window<@NonNull QualityGateReportSummary> qualityGateReportsWindow =
+        mock();
+      doReturn(true).when(qualityGateReportsWindow).hasNext();
+      doReturn(List.of(report)).when(qualityGateReportsWindow).getContent();
+
+      doReturn(qualityGateReportsWindow)
+        .when(reportServiceMock)
+        .findAllReports("my-service", "my-api", "v1", after, 1);
+
+      var dto = mock(ListQualityGateReports200ResponseInner.class);
+      doReturn(dto).when(qualityGateReportMapperMock).toListDto(report);
+
+      ResponseEntity<
+        @NonNull List<ListQualityGateReports200ResponseInner>
+      > response = fixture.listQualityGateReports(
+        5,
+        1,
+        "createdAt,asc",
+        "my-service",
+        "my-api",
+        "v1",
+        after.toToken()
+      );
+
+      assertThat(response)
+        .isNotNull()
+        .satisfies(
+          r -> assertThat(r.getStatusCode()).isEqualTo(OK),
+          r -> assertThat(r.getBody()).containsExactly(dto),
+          r ->
+            assertThat(r.getHeaders().toSingleValueMap())
+              .hasSize(1)
+              .containsEntry(
+                HEADER_X_NEXT_CURSOR,
+                QualityGateReportCursor.after(report).toToken()
+              )
+        );
+
+      verify(reportServiceMock, never()).findAllReports(
+        any(),
+        any(),
+        any(),
+        any(Pageable.class)
+      );
+    }
+
+    @Test
+    void shouldThrowBadRequest_whenCursorIsInvalid() {
+      assertThatThrownBy(() ->
+        fixture.listQualityGateReports(
+          null,
+          null,
+          null,
+          null,
+          null,
+          null,
+          "not-a-cursor"
+        )
+      )
+        .isInstanceOf(ResponseStatusException.class)
+        .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+        .isEqualTo(BAD_REQUEST);
+
+      verifyNoInteractions(reportServiceMock);
+    }
+
+    private static QualityGateReportSummary qualityGateReportSummary() {
+      return new QualityGateReportSummary(
+        UUID.fromString("f6e5d4c3-b2a1-4098-8765-43210fedcba9"),
+        "basic-coverage",
+        PASSED,
+        Instant.parse("2026-01-01T11:00:00Z"),
+        "1h",
+        Map.of(),
+        List.of()
+      );
+    }
+  }
+
+  private void configureMaxWaitSeconds(long maxWaitSeconds) {
+    var reportCompletion =
+      new ReportCoordinationServiceProperties.ReportCompletionProperties();
+    reportCompletion.setMaxWaitSeconds(maxWaitSeconds);
+
+    doReturn(reportCompletion)
+      .when(reportCoordinationServicePropertiesMock)
+      .getReportCompletion();
   }
 }
@@ -6,8 +6,8 @@
 
 package io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository;
 
-import static jakarta.persistence.criteria.JoinType.INNER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -18,10 +18,11 @@ import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.m
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,97 +57,116 @@ class QualityGateReportSpecificationUnitTest {
 
       assertThat(result).isSameAs(conjunction);
       verifyNoInteractions(rootMock);
-      verify(criteriaQueryMock, never()).distinct(true);
+      verifyNoInteractions(criteriaQueryMock);
     }
+  }
 
-    @Test
-    void shouldJoinAndFilterByServiceName_whenOnlyServiceNameIsProvided() {
-      Join<QualityGateReport, ApiTest> joinMock = mock();
-      doReturn(joinMock).when(rootMock).join("apiTests", INNER);
+  @Nested
+  class FromWithFiltersTest {
+
+    @Mock
+    private Subquery<Long> subqueryMock;
+
+    @Mock
+    private Root<ApiTest> apiTestsMock;
+
+    @Mock
+    private Predicate correlationMock;
+
+    @Mock
+    private Predicate existsMock;
+
+    @BeforeEach
+    void beforeEachSetup() {
+      doReturn(subqueryMock).when(criteriaQueryMock).subquery(Long.class);
+      doReturn(apiTestsMock).when(subqueryMock).from(ApiTest.class);
+      doReturn(subqueryMock).when(subqueryMock).select(any());
+
+      Path<QualityGateReport> qualityGateReportPath = mock();
+      doReturn(qualityGateReportPath)
+        .when(apiTestsMock)
+        .get("qualityGateReport");
+      doReturn(correlationMock)
+        .when(criteriaBuilderMock)
+        .equal(qualityGateReportPath, rootMock);
 
+      doReturn(existsMock).when(criteriaBuilderMock).exists(subqueryMock);
+    }
+
+    @Test
+    void shouldFilterByServiceName_whenOnlyServiceNameIsProvided() {
       Path<String> serviceNamePath = mock();
-      doReturn(serviceNamePath).when(joinMock).get("serviceName");
+      doReturn(serviceNamePath).when(apiTestsMock).get("serviceName");
 
       var predicate = mock(Predicate.class);
       doReturn(predicate)
         .when(criteriaBuilderMock)
         .equal(serviceNamePath, "my-service");
-      doReturn(predicate).when(criteriaBuilderMock).and(predicate);
 
-      QualityGateReportSpecification.from("my-service", null, null).toPredicate(
-        rootMock,
-        criteriaQueryMock,
-        criteriaBuilderMock
-      );
+      var result = QualityGateReportSpecification.from(
+        "my-service",
+        null,
+        null
+      ).toPredicate(rootMock, criteriaQueryMock, criteriaBuilderMock);
 
-      verify(criteriaQueryMock).distinct(true);
-      verify(rootMock).join("apiTests", INNER);
-      verify(criteriaBuilderMock).equal(serviceNamePath, "my-service");
-      verify(joinMock, never()).get("apiName");
-      verify(joinMock, never()).get("apiVersion");
+      assertThat(result).isSameAs(existsMock);
+      verify(criteriaBuilderMock).and(correlationMock, predicate);
+      verify(apiTestsMock, never()).get("apiName");
+      verify(apiTestsMock, never()).get("apiVersion");
+      verify(rootMock, never()).join("apiTests");
+      verify(criteriaQueryMock, never()).distinct(true);
     }
 
     @Test
-    void shouldJoinAndFilterByApiName_whenOnlyApiNameIsProvided() {
-      Join<QualityGateReport, ApiTest> joinMock = mock();
-      doReturn(joinMock).when(rootMock).join("apiTests", INNER);
-
+    void shouldFilterByApiName_whenOnlyApiNameIsProvided() {
       Path<String> apiNamePath = mock();
-      doReturn(apiNamePath).when(joinMock).get("apiName");
+      doReturn(apiNamePath).when(apiTestsMock).get("apiName");
 
       var predicate = mock(Predicate.class);
       doReturn(predicate)
         .when(criteriaBuilderMock)
         .equal(apiNamePath, "my-api");
-      doReturn(predicate).when(criteriaBuilderMock).and(predicate);
 
-      QualityGateReportSpecification.from(null, "my-api", null).toPredicate(
-        rootMock,
-        criteriaQueryMock,
-        criteriaBuilderMock
-      );
+      var result = QualityGateReportSpecification.from(
+        null,
+        "my-api",
+        null
+      ).toPredicate(rootMock, criteriaQueryMock, criteriaBuilderMock);
 
-      verify(criteriaQueryMock).distinct(true);
-      verify(criteriaBuilderMock).equal(apiNamePath, "my-api");
-      verify(joinMock, never()).get("serviceName");
-      verify(joinMock, never()).get("apiVersion");
+      assertThat(result).isSameAs(existsMock);
+      verify(criteriaBuilderMock).and(correlationMock, predicate);
+      verify(apiTestsMock, never()).get("serviceName");
+      verify(apiTestsMock, never()).get("apiVersion");
     }
 
     @Test
-    void shouldJoinAndFilterByApiVersion_whenOnlyApiVersionIsProvided() {
-      Join<QualityGateReport, ApiTest> joinMock = mock();
-      doReturn(joinMock).when(rootMock).join("apiTests", INNER);
-
+    void shouldFilterByApiVersion_whenOnlyApiVersionIsProvided() {
       Path<String> apiVersionPath = mock();
-      doReturn(apiVersionPath).when(joinMock).get("apiVersion");
+      doReturn(apiVersionPath).when(apiTestsMock).get("apiVersion");
 
       var predicate = mock(Predicate.class);
       doReturn(predicate).when(criteriaBuilderMock).equal(apiVersionPath, "v1");
-      doReturn(predicate).when(criteriaBuilderMock).and(predicate);
 
-      QualityGateReportSpecification.from(null, null, "v1").toPredicate(
-        rootMock,
-        criteriaQueryMock,
-        criteriaBuilderMock
-      );
+      var result = QualityGateReportSpecification.from(
+        null,
+        null,
+        "v1"
+      ).toPredicate(rootMock, criteriaQueryMock, criteriaBuilderMock);
 
-      verify(criteriaQueryMock).distinct(true);
-      verify(criteriaBuilderMock).equal(apiVersionPath, "v1");
-      verify(joinMock, never()).get("serviceName");
-      verify(joinMock, never()).get("apiName");
+      assertThat(result).isSameAs(existsMock);
+      verify(criteriaBuilderMock).and(correlationMock, predicate);
+      verify(apiTestsMock, never()).get("serviceName");
+      verify(apiTestsMock, never()).get("apiName");
     }
 
     @Test
-    void shouldJoinOnceAndApplyAllPredicates_whenAllFiltersAreProvided() {
-      Join<QualityGateReport, ApiTest> joinMock = mock();
-      doReturn(joinMock).when(rootMock).join("apiTests", INNER);
-
+    void shouldApplyAllPredicatesInSingleSubquery_whenAllFiltersAreProvided() {
       Path<String> serviceNamePath = mock();
-      doReturn(serviceNamePath).when(joinMock).get("serviceName");
+      doReturn(serviceNamePath).when(apiTestsMock).get("serviceName");
       Path<String> apiNamePath = mock();
-      doReturn(apiNamePath).when(joinMock).get("apiName");
+      doReturn(apiNamePath).when(apiTestsMock).get("apiName");
       Path<String> apiVersionPath = mock();
-      doReturn(apiVersionPath).when(joinMock).get("apiVersion");
+      doReturn(apiVersionPath).when(apiTestsMock).get("apiVersion");
 
       var p1 = mock(Predicate.class);
       doReturn(p1).when(criteriaBuilderMock).equal(serviceNamePath, "svc");
@@ -161,9 +181,8 @@ class QualityGateReportSpecificationUnitTest {
         criteriaBuilderMock
       );
 
-      verify(criteriaQueryMock).distinct(true);
-      verify(rootMock).join("apiTests", INNER);
-      verify(criteriaBuilderMock).and(p1, p2, p3);
+      verify(criteriaQueryMock).subquery(Long.class);
+      verify(criteriaBuilderMock).and(correlationMock, p1, p2, p3);
     }
   }
 }
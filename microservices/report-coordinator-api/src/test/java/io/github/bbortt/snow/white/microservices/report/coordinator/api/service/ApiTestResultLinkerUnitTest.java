@@ -9,6 +9,7 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.service
 import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
 import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PATH_COVERAGE;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FAILED;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.PASSED;
 import static java.lang.Boolean.FALSE;
 import static java.math.BigDecimal.ONE;
@@ -16,6 +17,9 @@ import static java.math.BigDecimal.ZERO;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -69,7 +73,7 @@ class ApiTestResultLinkerUnitTest {
       );
 
       verifyNoInteractions(apiTestMock);
-      verify(apiTestRepositoryMock, never()).save(any());
+      verifyNoInteractions(apiTestRepositoryMock);
     }
 
     @ParameterizedTest
@@ -89,6 +93,14 @@ class ApiTestResultLinkerUnitTest {
           .build()
       );
 
+      doReturn(1)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          any(),
+          anyShort(),
+          eq(IN_PROGRESS.getVal())
+        );
+
       fixture.addApiTestResultsToApiTest(
         Set.of(apiTestResult),
         apiTest,
@@ -118,19 +130,33 @@ class ApiTestResultLinkerUnitTest {
           .build()
       );
 
-      fixture.addApiTestResultsToApiTest(
+      doReturn(1)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          any(),
+          anyShort(),
+          eq(IN_PROGRESS.getVal())
+        );
+
+      var completed = fixture.addApiTestResultsToApiTest(
         apiTestResults,
         apiTest,
         Set.of(PATH_COVERAGE.name()),
         100
       );
 
+      assertThat(completed).isTrue();
       assertThat(apiTest.getApiTestResults())
         .hasSize(1)
         .allSatisfy(result ->
           assertThat(result.getIncludedInReport()).isTrue()
         );
       assertThat(apiTest.getReportStatus()).isEqualTo(PASSED);
+      verify(apiTestRepositoryMock).updateStatusWhenInProgress(
+        apiTest.getId(),
+        PASSED.getVal(),
+        IN_PROGRESS.getVal()
+      );
       verify(apiTestRepositoryMock).save(apiTest);
     }
 
@@ -148,6 +174,14 @@ class ApiTestResultLinkerUnitTest {
           .build()
       );
 
+      doReturn(1)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          any(),
+          anyShort(),
+          eq(IN_PROGRESS.getVal())
+        );
+
       fixture.addApiTestResultsToApiTest(
         apiTestResults,
         apiTest,
@@ -203,6 +237,14 @@ class ApiTestResultLinkerUnitTest {
         "CRITERIA_4"
       );
 
+      doReturn(1)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          any(),
+          anyShort(),
+          eq(IN_PROGRESS.getVal())
+        );
+
       fixture.addApiTestResultsToApiTest(
         apiTestResults,
         apiTest,
@@ -236,6 +278,14 @@ class ApiTestResultLinkerUnitTest {
           .build()
       );
 
+      doReturn(1)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          any(),
+          anyShort(),
+          eq(IN_PROGRESS.getVal())
+        );
+
       fixture.addApiTestResultsToApiTest(
         apiTestResults,
         apiTest,
@@ -245,5 +295,40 @@ class ApiTestResultLinkerUnitTest {
 
       assertThat(apiTest.getReportStatus()).isEqualTo(PASSED);
     }
+
+    @Test
+    void shouldNotLinkResults_whenApiTestIsNotInProgressAnymore() {
+      var apiTest = ApiTest.builder().apiType(OPENAPI.getVal()).build();
+
+      Set<ApiTestResult> apiTestResults = Set.of(
+        ApiTestResult.builder()
+          .apiTestCriteria(PATH_COVERAGE.name())
+          .coverage(ONE)
+          .includedInReport(FALSE)
+          .duration(Duration.ofSeconds(1))
+          .apiTest(mock(ApiTest.class))
+          .build()
+      );
+
+      doReturn(0)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          any(),
+          anyShort(),
+          eq(IN_PROGRESS.getVal())
+        );
+
+      var completed = fixture.addApiTestResultsToApiTest(
+        apiTestResults,
+        apiTest,
+        Set.of(PATH_COVERAGE.name()),
+        100
+      );
+
+      assertThat(completed).isFalse();
+      assertThat(apiTest.getApiTestResults()).isEmpty();
+      assertThat(apiTest.getReportStatus()).isEqualTo(IN_PROGRESS);
+      verify(apiTestRepositoryMock, never()).save(any());
+    }
   }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
+
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FAILED;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FINISHED_EXCEPTIONALLY;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.PASSED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ApiTestStatusTransitionsUnitTest {
+
+  private ApiTestStatusTransitions fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new ApiTestStatusTransitions();
+  }
+
+  @Nested
+  class RecordTest {
+
+    @Test
+    void shouldMoveApiTestsBetweenStatus() {
+      fixture.record(IN_PROGRESS, PASSED);
+      fixture.record(IN_PROGRESS, FAILED);
+      fixture.record(IN_PROGRESS, FINISHED_EXCEPTIONALLY);
+
+      assertThat(fixture).satisfies(
+        t -> assertThat(t.getInProgress()).isEqualTo(-3),
+        t -> assertThat(t.getPassed()).isEqualTo(1),
+        t -> assertThat(t.getFailed()).isEqualTo(1),
+        t -> assertThat(t.getFinishedExceptionally()).isEqualTo(1),
+        t -> assertThat(t.isEmpty()).isFalse()
+      );
+    }
+
+    @Test
+    void shouldMoveApiTests_evenIfNotInProgressAnymore() {
+      fixture.record(PASSED, FAILED);
+
+      assertThat(fixture).satisfies(
+        t -> assertThat(t.getInProgress()).isZero(),
+        t -> assertThat(t.getPassed()).isEqualTo(-1),
+        t -> assertThat(t.getFailed()).isEqualTo(1),
+        t -> assertThat(t.getFinishedExceptionally()).isZero()
+      );
+    }
+
+    @Test
+    void shouldIgnoreApiTests_whoseStatusDidNotChange() {
+      fixture.record(IN_PROGRESS, IN_PROGRESS);
+      fixture.record(PASSED, PASSED);
+
+      assertThat(fixture.isEmpty()).isTrue();
+    }
+  }
+}
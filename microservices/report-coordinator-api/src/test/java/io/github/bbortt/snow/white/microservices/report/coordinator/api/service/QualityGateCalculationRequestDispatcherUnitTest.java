@@ -8,6 +8,8 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.service
 
 import static io.github.bbortt.snow.white.commons.event.dto.AttributeFilterOperator.STRING_EQUALS;
 import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
+import static io.github.bbortt.snow.white.commons.quality.gate.OpenApiCoverageCriteria.PATH_COVERAGE;
+import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentCaptor.captor;
 import static org.mockito.ArgumentMatchers.any;
@@ -120,7 +122,8 @@ class QualityGateCalculationRequestDispatcherUnitTest {
       fixture.dispatch(
         CALCULATION_ID,
         reportParameter,
-        Set.of(apiTest1, apiTest2)
+        Set.of(apiTest1, apiTest2),
+        emptySet()
       );
 
       verify(kafkaTemplateMock, times(2)).send(any(ProducerRecord.class));
@@ -143,7 +146,12 @@ class QualityGateCalculationRequestDispatcherUnitTest {
 
       mockPropagators();
 
-      fixture.dispatch(CALCULATION_ID, reportParameter, Set.of(apiTest));
+      fixture.dispatch(
+        CALCULATION_ID,
+        reportParameter,
+        Set.of(apiTest),
+        emptySet()
+      );
 
       ArgumentCaptor<
         ProducerRecord<String, QualityGateCalculationRequestEvent>
@@ -177,7 +185,12 @@ class QualityGateCalculationRequestDispatcherUnitTest {
 
       mockPropagators();
 
-      fixture.dispatch(CALCULATION_ID, reportParameter, Set.of(apiTest));
+      fixture.dispatch(
+        CALCULATION_ID,
+        reportParameter,
+        Set.of(apiTest),
+        emptySet()
+      );
 
       ArgumentCaptor<
         ProducerRecord<String, QualityGateCalculationRequestEvent>
@@ -208,7 +221,12 @@ class QualityGateCalculationRequestDispatcherUnitTest {
 
       mockPropagators();
 
-      fixture.dispatch(CALCULATION_ID, reportParameter, Set.of(apiTest));
+      fixture.dispatch(
+        CALCULATION_ID,
+        reportParameter,
+        Set.of(apiTest),
+        emptySet()
+      );
 
       ArgumentCaptor<
         ProducerRecord<String, QualityGateCalculationRequestEvent>
@@ -237,7 +255,12 @@ class QualityGateCalculationRequestDispatcherUnitTest {
 
       mockPropagators();
 
-      fixture.dispatch(CALCULATION_ID, reportParameter, Set.of(apiTest));
+      fixture.dispatch(
+        CALCULATION_ID,
+        reportParameter,
+        Set.of(apiTest),
+        emptySet()
+      );
 
       ArgumentCaptor<
         ProducerRecord<String, QualityGateCalculationRequestEvent>
@@ -266,9 +289,80 @@ class QualityGateCalculationRequestDispatcherUnitTest {
 
       mockPropagators();
 
-      fixture.dispatch(CALCULATION_ID, reportParameter, Set.of(apiTest));
+      fixture.dispatch(
+        CALCULATION_ID,
+        reportParameter,
+        Set.of(apiTest),
+        emptySet()
+      );
 
       verify(textMapPropagatorMock).inject(any(), any(), any());
     }
+
+    @Test
+    void shouldMapIncludedCriteriaToEvent() {
+      mockPropagators();
+
+      fixture.dispatch(
+        CALCULATION_ID,
+        minimalReportParameter(),
+        Set.of(minimalApiTest()),
+        Set.of(PATH_COVERAGE.name(), "UNKNOWN_CRITERIA")
+      );
+
+      assertThat(
+        captureSentEvent().getOpenApiCoverageCriteria()
+      ).containsExactly(PATH_COVERAGE);
+    }
+
+    @Test
+    void shouldRequestAllCriteria_whenConfigured() {
+      doReturn(true)
+        .when(reportCoordinationServicePropertiesMock)
+        .getComputeAllOpenApiCoverageCriteria();
+
+      var computeAllFixture = new QualityGateCalculationRequestDispatcher(
+        kafkaTemplateMock,
+        openTelemetryMock,
+        reportCoordinationServicePropertiesMock
+      );
+
+      mockPropagators();
+
+      computeAllFixture.dispatch(
+        CALCULATION_ID,
+        minimalReportParameter(),
+        Set.of(minimalApiTest()),
+        Set.of(PATH_COVERAGE.name())
+      );
+
+      assertThat(captureSentEvent().getOpenApiCoverageCriteria()).isNull();
+    }
+
+    private static ApiTest minimalApiTest() {
+      return ApiTest.builder()
+        .serviceName("svc")
+        .apiName("api")
+        .apiVersion("1")
+        .apiType(OPENAPI.getVal())
+        .build();
+    }
+
+    private static ReportParameter minimalReportParameter() {
+      return ReportParameter.builder()
+        .calculationId(CALCULATION_ID)
+        .lookbackWindow("1d")
+        .attributeFilters(Map.of())
+        .build();
+    }
+
+    private QualityGateCalculationRequestEvent captureSentEvent() {
+      ArgumentCaptor<
+        ProducerRecord<String, QualityGateCalculationRequestEvent>
+      > captor = captor();
+      verify(kafkaTemplateMock).send(captor.capture());
+
+      return captor.getValue().value();
+    }
   }
 }
@@ -11,17 +11,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.client.qualitygateapi.api.QualityGateApi;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.config.ReportCoordinationServiceProperties;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.dto.QualityGateConfig;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.dto.mapper.QualityGateConfigMapper;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.QualityGateNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestClientResponseException;
@@ -43,9 +47,22 @@ class QualityGateServiceUnitTest {
   @Mock
   private QualityGateConfig qualityGateConfig;
 
-  @InjectMocks
+  private SimpleMeterRegistry meterRegistry;
+
   private QualityGateService fixture;
 
+  @BeforeEach
+  void beforeEachSetup() {
+    meterRegistry = new SimpleMeterRegistry();
+
+    fixture = new QualityGateService(
+      qualityGateApiMock,
+      qualityGateConfigMapperMock,
+      new ReportCoordinationServiceProperties(),
+      meterRegistry
+    );
+  }
+
   @Nested
   class findQualityGateConfigByNameTest {
 
@@ -65,6 +82,52 @@ class QualityGateServiceUnitTest {
       assertThat(result).isEqualTo(qualityGateConfig);
     }
 
+    @Test
+    void shouldCacheConfig_whenFound() throws QualityGateNotFoundException {
+      doReturn(qualityGateDto)
+        .when(qualityGateApiMock)
+        .getQualityGateByName(TEST_QUALITY_GATE_NAME);
+      doReturn(qualityGateConfig)
+        .when(qualityGateConfigMapperMock)
+        .fromDto(qualityGateDto);
+
+      assertThat(
+        fixture.findQualityGateConfigByName(TEST_QUALITY_GATE_NAME)
+      ).isEqualTo(qualityGateConfig);
+      assertThat(
+        fixture.findQualityGateConfigByName(TEST_QUALITY_GATE_NAME)
+      ).isEqualTo(qualityGateConfig);
+
+      verify(qualityGateApiMock).getQualityGateByName(TEST_QUALITY_GATE_NAME);
+
+      assertThat(
+        meterRegistry
+          .get("cache.gets")
+          .tag("cache", QualityGateService.QUALITY_GATE_CONFIG_CACHE_NAME)
+          .tag("result", "hit")
+          .functionCounter()
+          .count()
+      ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCache_whenQualityGateIsNotPresent() {
+      doReturn(null)
+        .when(qualityGateApiMock)
+        .getQualityGateByName(TEST_QUALITY_GATE_NAME);
+
+      assertThatThrownBy(() ->
+        fixture.findQualityGateConfigByName(TEST_QUALITY_GATE_NAME)
+      ).isInstanceOf(QualityGateNotFoundException.class);
+      assertThatThrownBy(() ->
+        fixture.findQualityGateConfigByName(TEST_QUALITY_GATE_NAME)
+      ).isInstanceOf(QualityGateNotFoundException.class);
+
+      verify(qualityGateApiMock, times(2)).getQualityGateByName(
+        TEST_QUALITY_GATE_NAME
+      );
+    }
+
     @Test
     void shouldThrow_whenQualityGateIsNotPresent() {
       doReturn(null)
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Timon Borter <timon.borter@gmx.ch>
+ * Licensed under the Polyform Small Business License 1.0.0
+ * See LICENSE file for full details.
+ */
+
+package io.github.bbortt.snow.white.microservices.report.coordinator.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ReportCompletionNotifierUnitTest {
+
+  private static final UUID CALCULATION_ID = UUID.fromString(
+    "b3c1e0a2-7d4f-4b8e-9f6a-5c2d1e0f3a4b"
+  );
+
+  private ReportCompletionNotifier fixture;
+
+  @BeforeEach
+  void beforeEachSetup() {
+    fixture = new ReportCompletionNotifier();
+  }
+
+  @Nested
+  class NotifyCompletionTest {
+
+    @Test
+    void shouldCompleteAllRegistrations_ofCalculationId() {
+      var first = fixture.register(CALCULATION_ID);
+      var second = fixture.register(CALCULATION_ID);
+      var other = fixture.register(
+        UUID.fromString("0f1e2d3c-4b5a-4697-8877-665544332211")
+      );
+
+      fixture.notifyCompletion(CALCULATION_ID);
+
+      assertThat(first).isCompleted();
+      assertThat(second).isCompleted();
+      assertThat(other).isNotDone();
+
+      assertThat(fixture.registrations()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreCalculationIds_withoutRegistrations() {
+      fixture.notifyCompletion(CALCULATION_ID);
+
+      assertThat(fixture.registrations()).isZero();
+    }
+  }
+
+  @Nested
+  class RegisterTest {
+
+    @Test
+    void shouldDeregister_whenRegistrationIsCancelled() {
+      var cancelled = fixture.register(CALCULATION_ID);
+      var remaining = fixture.register(CALCULATION_ID);
+
+      cancelled.cancel(false);
+
+      assertThat(fixture.registrations()).isEqualTo(1);
+
+      fixture.notifyCompletion(CALCULATION_ID);
+
+      assertThat(remaining).isCompleted();
+      assertThat(fixture.registrations()).isZero();
+    }
+  }
+
+  @Nested
+  class DeregisterTest {
+
+    @Test
+    void shouldRemoveAndCancelRegistration() {
+      var deregistered = fixture.register(CALCULATION_ID);
+      var remaining = fixture.register(CALCULATION_ID);
+
+      fixture.deregister(CALCULATION_ID, deregistered);
+
+      assertThat(deregistered).isCancelled();
+      assertThat(remaining).isNotDone();
+      assertThat(fixture.registrations()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreRegistrations_thatCompletedAlready() {
+      var completion = fixture.register(CALCULATION_ID);
+      fixture.notifyCompletion(CALCULATION_ID);
+
+      fixture.deregister(CALCULATION_ID, completion);
+
+      assertThat(completion).isCompletedWithValue(null);
+      assertThat(fixture.registrations()).isZero();
+    }
+  }
+}
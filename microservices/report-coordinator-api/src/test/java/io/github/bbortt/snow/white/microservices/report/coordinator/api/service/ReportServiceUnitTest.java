@@ -8,14 +8,18 @@ package io.github.bbortt.snow.white.microservices.report.coordinator.api.service
 
 import static io.github.bbortt.snow.white.commons.quality.gate.ApiType.OPENAPI;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.TestData.minimalQualityGateReport;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FAILED;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.FINISHED_EXCEPTIONALLY;
 import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.IN_PROGRESS;
+import static io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportStatus.PASSED;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentCaptor.captor;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyShort;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -31,16 +35,24 @@ import io.github.bbortt.snow.white.microservices.report.coordinator.api.api.mapp
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTest;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ApiTestResult;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReport;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportCursor;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.QualityGateReportSummary;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.model.ReportParameter;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository.ApiTestRepository;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.domain.repository.QualityGateReportRepository;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.dto.QualityGateConfig;
 import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.QualityGateNotFoundException;
+import io.github.bbortt.snow.white.microservices.report.coordinator.api.service.exception.TestResultForUnknownApiException;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -52,6 +64,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith({ MockitoExtension.class })
@@ -80,10 +94,13 @@ class ReportServiceUnitTest {
   private ApiTestResultLinker apiTestResultLinkerMock;
 
   @Mock
-  private QualityGateStatusCalculator qualityGateStatusCalculatorMock;
+  private QualityGateCalculationRequestDispatcher dispatcherMock;
 
   @Mock
-  private QualityGateCalculationRequestDispatcher dispatcherMock;
+  private ReportCompletionNotifier reportCompletionNotifierMock;
+
+  @Mock
+  private Executor virtualThreadExecutorMock;
 
   @InjectMocks
   private ReportService fixture;
@@ -130,6 +147,120 @@ class ReportServiceUnitTest {
     }
   }
 
+  @Nested
+  class AwaitReportCompletionTest {
+
+    private static final UUID CALCULATION_ID = UUID.fromString(
+      "d2a4c0e1-5f0b-4a4e-9a57-0f3b0c7f9a21"
+    );
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void shouldReturnReport_whenReportIsNotInProgress() {
+      var completion = new CompletableFuture<Void>();
+      doReturn(completion)
+        .when(reportCompletionNotifierMock)
+        .register(CALCULATION_ID);
+
+      var report = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .reportStatus(PASSED.getVal())
+        .build();
+      doReturn(Optional.of(report))
+        .when(qualityGateReportRepositoryMock)
+        .findById(CALCULATION_ID);
+
+      var result = fixture.awaitReportCompletion(CALCULATION_ID, TIMEOUT);
+
+      assertThat(result).isCompletedWithValue(Optional.of(report));
+      assertThat(completion).isCancelled();
+
+      verifyNoInteractions(virtualThreadExecutorMock);
+    }
+
+    @Test
+    void shouldReturnEmptyOptional_whenReportDoesNotExist() {
+      var completion = new CompletableFuture<Void>();
+      doReturn(completion)
+        .when(reportCompletionNotifierMock)
+        .register(CALCULATION_ID);
+
+      doReturn(Optional.empty())
+        .when(qualityGateReportRepositoryMock)
+        .findById(CALCULATION_ID);
+
+      var result = fixture.awaitReportCompletion(CALCULATION_ID, TIMEOUT);
+
+      assertThat(result).isCompletedWithValue(Optional.empty());
+      assertThat(completion).isCancelled();
+    }
+
+    @Test
+    void shouldReadReportAgain_onceReportCompleted() {
+      var completion = new CompletableFuture<Void>();
+      doReturn(completion)
+        .when(reportCompletionNotifierMock)
+        .register(CALCULATION_ID);
+
+      var reportInProgress = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .reportStatus(IN_PROGRESS.getVal())
+        .build();
+      var completedReport = reportInProgress.withReportStatus(PASSED);
+      doReturn(Optional.of(reportInProgress), Optional.of(completedReport))
+        .when(qualityGateReportRepositoryMock)
+        .findById(CALCULATION_ID);
+
+      doAnswer(invocation -> {
+        invocation.<Runnable>getArgument(0).run();
+        return null;
+      })
+        .when(virtualThreadExecutorMock)
+        .execute(any(Runnable.class));
+
+      var result = fixture.awaitReportCompletion(CALCULATION_ID, TIMEOUT);
+
+      assertThat(result).isNotDone();
+
+      completion.complete(null);
+
+      assertThat(result).isCompletedWithValue(Optional.of(completedReport));
+      verify(reportCompletionNotifierMock).deregister(
+        CALCULATION_ID,
+        completion
+      );
+    }
+
+    @Test
+    void shouldDeregister_whenWaitingIsCancelled() {
+      var completion = new CompletableFuture<Void>();
+      doReturn(completion)
+        .when(reportCompletionNotifierMock)
+        .register(CALCULATION_ID);
+
+      doReturn(
+        Optional.of(
+          QualityGateReport.builder()
+            .calculationId(CALCULATION_ID)
+            .reportStatus(IN_PROGRESS.getVal())
+            .build()
+        )
+      )
+        .when(qualityGateReportRepositoryMock)
+        .findById(CALCULATION_ID);
+
+      var result = fixture.awaitReportCompletion(CALCULATION_ID, TIMEOUT);
+
+      result.cancel(false);
+
+      verify(reportCompletionNotifierMock).deregister(
+        CALCULATION_ID,
+        completion
+      );
+      verifyNoInteractions(virtualThreadExecutorMock);
+    }
+  }
+
   @Nested
   class UpdateReportWithOpenApiCoverageResultsTest {
 
@@ -150,7 +281,7 @@ class ReportServiceUnitTest {
 
       doReturn(Optional.of(originalReport))
         .when(qualityGateReportRepositoryMock)
-        .findById(CALCULATION_ID);
+        .findByCalculationId(CALCULATION_ID);
 
       var qualityGateConfig = new QualityGateConfig(
         QUALITY_GATE_CONFIG_NAME,
@@ -163,6 +294,7 @@ class ReportServiceUnitTest {
 
       var apiInformation = mock(ApiInformation.class);
       var apiTest = mock(ApiTest.class);
+      doReturn(PASSED).when(apiTest).getReportStatus();
 
       doReturn(apiTest)
         .when(qualityGateReportApiTestsFilterMock)
@@ -177,11 +309,14 @@ class ReportServiceUnitTest {
       doReturn(mappedResults)
         .when(apiTestResultMapperMock)
         .fromDtos(emptySet(), apiTest);
-
-      var qualityGateReportWithUpdatedStatus = mock(QualityGateReport.class);
-      doReturn(qualityGateReportWithUpdatedStatus)
-        .when(qualityGateStatusCalculatorMock)
-        .withUpdatedReportStatus(originalReport);
+      doReturn(true)
+        .when(apiTestResultLinkerMock)
+        .addApiTestResultsToApiTest(
+          mappedResults,
+          apiTest,
+          qualityGateConfig.getOpenApiCoverageCriteria(),
+          qualityGateConfig.getMinCoveragePercentage()
+        );
 
       var span = otelTesting
         .getOpenTelemetry()
@@ -190,7 +325,10 @@ class ReportServiceUnitTest {
         .startSpan();
 
       try (var _ = span.makeCurrent()) {
-        fixture.updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
+        fixture.updateReportWithOpenApiCoverageResults(
+          CALCULATION_ID,
+          List.of(event)
+        );
       } finally {
         span.end();
       }
@@ -222,11 +360,210 @@ class ReportServiceUnitTest {
         qualityGateConfig.getOpenApiCoverageCriteria(),
         qualityGateConfig.getMinCoveragePercentage()
       );
-      verify(qualityGateStatusCalculatorMock).withUpdatedReportStatus(
-        originalReport
+      verify(qualityGateReportRepositoryMock).addToApiTestCounts(
+        CALCULATION_ID,
+        -1,
+        1,
+        0,
+        0
       );
-      verify(qualityGateReportRepositoryMock).save(
-        qualityGateReportWithUpdatedStatus
+      verify(
+        qualityGateReportRepositoryMock
+      ).updateStatusToCompletedWhenNoApiTestInProgress(
+        CALCULATION_ID,
+        IN_PROGRESS.getVal(),
+        FAILED.getVal(),
+        FINISHED_EXCEPTIONALLY.getVal(),
+        PASSED.getVal()
+      );
+      verifyNoInteractions(reportCompletionNotifierMock);
+    }
+
+    @Test
+    void shouldUseSnapshottedQualityGateConfig_whenReportHasOne() {
+      var openApiCoverageCriteria = Set.of("PATH_COVERAGE");
+      var originalReport = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .qualityGateConfigName(QUALITY_GATE_CONFIG_NAME)
+        .minCoveragePercentage(90)
+        .openApiCoverageCriteria(openApiCoverageCriteria)
+        .reportParameter(mock())
+        .build();
+
+      doReturn(Optional.of(originalReport))
+        .when(qualityGateReportRepositoryMock)
+        .findByCalculationId(CALCULATION_ID);
+
+      var apiInformation = mock(ApiInformation.class);
+      var apiTest = mock(ApiTest.class);
+
+      doReturn(apiTest)
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          apiInformation
+        );
+
+      Set<ApiTestResult> mappedResults = Set.of(mock(ApiTestResult.class));
+      doReturn(mappedResults)
+        .when(apiTestResultMapperMock)
+        .fromDtos(emptySet(), apiTest);
+
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(new OpenApiCoverageResponseEvent(apiInformation, emptySet()))
+      );
+
+      verifyNoInteractions(qualityGateServiceMock);
+      verify(apiTestResultLinkerMock).addApiTestResultsToApiTest(
+        mappedResults,
+        apiTest,
+        openApiCoverageCriteria,
+        90
+      );
+    }
+
+    @Test
+    void shouldUpdateReportStatusOnce_forAllEventsOfReport() {
+      var openApiCoverageCriteria = Set.of("PATH_COVERAGE");
+      var originalReport = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .qualityGateConfigName(QUALITY_GATE_CONFIG_NAME)
+        .minCoveragePercentage(90)
+        .openApiCoverageCriteria(openApiCoverageCriteria)
+        .reportParameter(mock())
+        .build();
+
+      doReturn(Optional.of(originalReport))
+        .when(qualityGateReportRepositoryMock)
+        .findByCalculationId(CALCULATION_ID);
+
+      var firstApiInformation = mock(ApiInformation.class);
+      var firstApiTest = mock(ApiTest.class);
+      doReturn(PASSED).when(firstApiTest).getReportStatus();
+      doReturn(firstApiTest)
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          firstApiInformation
+        );
+
+      var secondApiInformation = mock(ApiInformation.class);
+      var secondApiTest = mock(ApiTest.class);
+      doReturn(FAILED).when(secondApiTest).getReportStatus();
+      doReturn(secondApiTest)
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          secondApiInformation
+        );
+
+      doReturn(true)
+        .when(apiTestResultLinkerMock)
+        .addApiTestResultsToApiTest(any(), any(), any(), anyInt());
+
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(
+          new OpenApiCoverageResponseEvent(firstApiInformation, emptySet()),
+          new OpenApiCoverageResponseEvent(secondApiInformation, emptySet())
+        )
+      );
+
+      verify(qualityGateReportRepositoryMock).findByCalculationId(
+        CALCULATION_ID
+      );
+      verify(apiTestResultLinkerMock).addApiTestResultsToApiTest(
+        emptySet(),
+        firstApiTest,
+        openApiCoverageCriteria,
+        90
+      );
+      verify(apiTestResultLinkerMock).addApiTestResultsToApiTest(
+        emptySet(),
+        secondApiTest,
+        openApiCoverageCriteria,
+        90
+      );
+      verify(qualityGateReportRepositoryMock).addToApiTestCounts(
+        CALCULATION_ID,
+        -2,
+        1,
+        1,
+        0
+      );
+      verify(
+        qualityGateReportRepositoryMock
+      ).updateStatusToCompletedWhenNoApiTestInProgress(
+        eq(CALCULATION_ID),
+        anyShort(),
+        anyShort(),
+        anyShort(),
+        anyShort()
+      );
+    }
+
+    @Test
+    void shouldSkipEvents_ofUnknownApis() {
+      var originalReport = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .qualityGateConfigName(QUALITY_GATE_CONFIG_NAME)
+        .minCoveragePercentage(90)
+        .openApiCoverageCriteria(Set.of("PATH_COVERAGE"))
+        .reportParameter(mock())
+        .build();
+
+      doReturn(Optional.of(originalReport))
+        .when(qualityGateReportRepositoryMock)
+        .findByCalculationId(CALCULATION_ID);
+
+      var unknownApiInformation = mock(ApiInformation.class);
+      doThrow(
+        new TestResultForUnknownApiException(
+          originalReport,
+          unknownApiInformation
+        )
+      )
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          unknownApiInformation
+        );
+
+      var apiInformation = mock(ApiInformation.class);
+      var apiTest = mock(ApiTest.class);
+      doReturn(PASSED).when(apiTest).getReportStatus();
+      doReturn(apiTest)
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          apiInformation
+        );
+
+      doReturn(true)
+        .when(apiTestResultLinkerMock)
+        .addApiTestResultsToApiTest(any(), eq(apiTest), any(), eq(90));
+
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(
+          new OpenApiCoverageResponseEvent(unknownApiInformation, emptySet()),
+          new OpenApiCoverageResponseEvent(apiInformation, emptySet())
+        )
+      );
+
+      verify(apiTestResultLinkerMock).addApiTestResultsToApiTest(
+        any(),
+        eq(apiTest),
+        any(),
+        eq(90)
+      );
+      verify(qualityGateReportRepositoryMock).addToApiTestCounts(
+        CALCULATION_ID,
+        -1,
+        1,
+        0,
+        0
       );
     }
 
@@ -239,16 +576,24 @@ class ReportServiceUnitTest {
 
       doReturn(Optional.empty())
         .when(qualityGateReportRepositoryMock)
-        .findById(CALCULATION_ID);
+        .findByCalculationId(CALCULATION_ID);
 
-      fixture.updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(event)
+      );
 
       verifyNoInteractions(qualityGateReportApiTestsFilterMock);
       verifyNoInteractions(qualityGateServiceMock);
       verifyNoInteractions(apiTestResultMapperMock);
       verifyNoInteractions(apiTestResultLinkerMock);
-      verifyNoInteractions(qualityGateStatusCalculatorMock);
-      verify(qualityGateReportRepositoryMock, never()).save(any());
+      verify(qualityGateReportRepositoryMock, never()).addToApiTestCounts(
+        any(),
+        anyInt(),
+        anyInt(),
+        anyInt(),
+        anyInt()
+      );
     }
 
     @Test
@@ -262,7 +607,7 @@ class ReportServiceUnitTest {
 
       doReturn(Optional.of(originalReport))
         .when(qualityGateReportRepositoryMock)
-        .findById(CALCULATION_ID);
+        .findByCalculationId(CALCULATION_ID);
 
       var apiInformation = mock(ApiInformation.class);
       var apiTest = mock(ApiTest.class);
@@ -275,22 +620,36 @@ class ReportServiceUnitTest {
         );
 
       var errorMessage = "upstream failure";
+      doReturn(1L).when(apiTest).getId();
+      doReturn(1)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          1L,
+          FINISHED_EXCEPTIONALLY.getVal(),
+          IN_PROGRESS.getVal()
+        );
       doReturn(apiTest).when(apiTest).withStackTrace(errorMessage);
       doReturn(apiTest).when(apiTest).withReportStatus(FINISHED_EXCEPTIONALLY);
 
-      QualityGateReport qualityGateReportWithUpdatedStatus = mock(
-        QualityGateReport.class
-      );
-      doReturn(qualityGateReportWithUpdatedStatus)
-        .when(qualityGateStatusCalculatorMock)
-        .withUpdatedReportStatus(any(QualityGateReport.class));
+      doReturn(1)
+        .when(qualityGateReportRepositoryMock)
+        .updateStatusToCompletedWhenNoApiTestInProgress(
+          CALCULATION_ID,
+          IN_PROGRESS.getVal(),
+          FAILED.getVal(),
+          FINISHED_EXCEPTIONALLY.getVal(),
+          PASSED.getVal()
+        );
 
       var event = new OpenApiCoverageResponseEvent(
         apiInformation,
         errorMessage
       );
 
-      fixture.updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(event)
+      );
 
       verifyNoInteractions(qualityGateServiceMock);
       verifyNoInteractions(apiTestResultMapperMock);
@@ -298,12 +657,101 @@ class ReportServiceUnitTest {
 
       verify(apiTestRepositoryMock).save(apiTest);
 
-      verify(qualityGateStatusCalculatorMock).withUpdatedReportStatus(
-        originalReport
+      verify(qualityGateReportRepositoryMock).addToApiTestCounts(
+        CALCULATION_ID,
+        -1,
+        0,
+        0,
+        1
+      );
+      verify(reportCompletionNotifierMock).notifyCompletion(CALCULATION_ID);
+    }
+
+    @Test
+    void shouldSkipResults_whenApiTestIsNotInProgressAnymore() {
+      var originalReport = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .qualityGateConfigName(QUALITY_GATE_CONFIG_NAME)
+        .minCoveragePercentage(90)
+        .openApiCoverageCriteria(Set.of("PATH_COVERAGE"))
+        .reportParameter(mock())
+        .build();
+
+      doReturn(Optional.of(originalReport))
+        .when(qualityGateReportRepositoryMock)
+        .findByCalculationId(CALCULATION_ID);
+
+      var apiInformation = mock(ApiInformation.class);
+      var apiTest = mock(ApiTest.class);
+      doReturn(apiTest)
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          apiInformation
+        );
+
+      doReturn(false)
+        .when(apiTestResultLinkerMock)
+        .addApiTestResultsToApiTest(any(), eq(apiTest), any(), eq(90));
+
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(new OpenApiCoverageResponseEvent(apiInformation, emptySet()))
       );
 
-      verify(qualityGateReportRepositoryMock).save(
-        qualityGateReportWithUpdatedStatus
+      verify(qualityGateReportRepositoryMock, never()).addToApiTestCounts(
+        any(),
+        anyInt(),
+        anyInt(),
+        anyInt(),
+        anyInt()
+      );
+      verifyNoInteractions(reportCompletionNotifierMock);
+    }
+
+    @Test
+    void shouldSkipException_whenApiTestIsNotInProgressAnymore() {
+      var originalReport = QualityGateReport.builder()
+        .calculationId(CALCULATION_ID)
+        .qualityGateConfigName(QUALITY_GATE_CONFIG_NAME)
+        .reportParameter(mock())
+        .build();
+
+      doReturn(Optional.of(originalReport))
+        .when(qualityGateReportRepositoryMock)
+        .findByCalculationId(CALCULATION_ID);
+
+      var apiInformation = mock(ApiInformation.class);
+      var apiTest = mock(ApiTest.class);
+      doReturn(apiTest)
+        .when(qualityGateReportApiTestsFilterMock)
+        .findApiTestMatchingApiInformationInQualityGateReport(
+          originalReport,
+          apiInformation
+        );
+
+      doReturn(1L).when(apiTest).getId();
+      doReturn(0)
+        .when(apiTestRepositoryMock)
+        .updateStatusWhenInProgress(
+          1L,
+          FINISHED_EXCEPTIONALLY.getVal(),
+          IN_PROGRESS.getVal()
+        );
+
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(new OpenApiCoverageResponseEvent(apiInformation, "duplicate"))
+      );
+
+      verify(apiTest, never()).withStackTrace(any());
+      verify(apiTestRepositoryMock, never()).save(any());
+      verify(qualityGateReportRepositoryMock, never()).addToApiTestCounts(
+        any(),
+        anyInt(),
+        anyInt(),
+        anyInt(),
+        anyInt()
       );
     }
 
@@ -318,7 +766,7 @@ class ReportServiceUnitTest {
 
       doReturn(Optional.of(originalReport))
         .when(qualityGateReportRepositoryMock)
-        .findById(CALCULATION_ID);
+        .findByCalculationId(CALCULATION_ID);
 
       doThrow(new QualityGateNotFoundException(QUALITY_GATE_CONFIG_NAME))
         .when(qualityGateServiceMock)
@@ -329,12 +777,20 @@ class ReportServiceUnitTest {
         emptySet()
       );
 
-      fixture.updateReportWithOpenApiCoverageResults(CALCULATION_ID, event);
+      fixture.updateReportWithOpenApiCoverageResults(
+        CALCULATION_ID,
+        List.of(event)
+      );
 
       verifyNoInteractions(apiTestResultMapperMock);
       verifyNoInteractions(apiTestResultLinkerMock);
-      verifyNoInteractions(qualityGateStatusCalculatorMock);
-      verify(qualityGateReportRepositoryMock, never()).save(any());
+      verify(qualityGateReportRepositoryMock, never()).addToApiTestCounts(
+        any(),
+        anyInt(),
+        anyInt(),
+        anyInt(),
+        anyInt()
+      );
     }
   }
 
@@ -358,7 +814,14 @@ class ReportServiceUnitTest {
         .lookbackWindow("1d")
         .build();
 
-      doReturn(new QualityGateConfig(qualityGateConfigName, emptySet(), 100))
+      var openApiCoverageCriteria = Set.of("PATH_COVERAGE");
+      doReturn(
+        new QualityGateConfig(
+          qualityGateConfigName,
+          openApiCoverageCriteria,
+          100
+        )
+      )
         .when(qualityGateServiceMock)
         .findQualityGateConfigByName(qualityGateConfigName);
 
@@ -420,6 +883,13 @@ class ReportServiceUnitTest {
           assertThat(r.getQualityGateConfigName()).isEqualTo(
             qualityGateConfigName
           ),
+        r ->
+          assertThat(r.getMinCoveragePercentage()).isEqualTo(100),
+        r -> assertThat(r.getApiTestsInProgress()).isEqualTo(1),
+        r ->
+          assertThat(r.getOpenApiCoverageCriteria()).isEqualTo(
+            openApiCoverageCriteria
+          ),
         r ->
           assertThat(r.getReportParameter().getLookbackWindow()).isEqualTo(
             reportParameter.getLookbackWindow()
@@ -431,7 +901,8 @@ class ReportServiceUnitTest {
       verify(dispatcherMock).dispatch(
         savedReport.getCalculationId(),
         savedReport.getReportParameter(),
-        result.getApiTests()
+        result.getApiTests(),
+        openApiCoverageCriteria
       );
 
       assertThat(otelTesting.getSpans())
@@ -517,13 +988,13 @@ class ReportServiceUnitTest {
     @Test
     void shouldDelegateToRepository_withNoFilters() {
       var pageable = Pageable.unpaged();
-      Page<QualityGateReport> page = Page.empty();
+      Page<QualityGateReportSummary> page = Page.empty();
 
       doReturn(page)
         .when(qualityGateReportRepositoryMock)
-        .findAll(any(Specification.class), eq(pageable));
+        .findAllSummaries(any(Specification.class), eq(pageable));
 
-      Page<@NonNull QualityGateReport> result = fixture.findAllReports(
+      Page<@NonNull QualityGateReportSummary> result = fixture.findAllReports(
         null,
         null,
         null,
@@ -536,13 +1007,13 @@ class ReportServiceUnitTest {
     @Test
     void shouldDelegateToRepository_withFilters() {
       var pageable = Pageable.unpaged();
-      Page<QualityGateReport> page = Page.empty();
+      Page<QualityGateReportSummary> page = Page.empty();
 
       doReturn(page)
         .when(qualityGateReportRepositoryMock)
-        .findAll(any(Specification.class), eq(pageable));
+        .findAllSummaries(any(Specification.class), eq(pageable));
 
-      Page<@NonNull QualityGateReport> result = fixture.findAllReports(
+      Page<@NonNull QualityGateReportSummary> result = fixture.findAllReports(
         "my-service",
         "my-api",
         "v1",
@@ -550,10 +1021,36 @@ class ReportServiceUnitTest {
       );
 
       assertThat(result).isEqualTo(page);
-      verify(qualityGateReportRepositoryMock).findAll(
+      verify(qualityGateReportRepositoryMock).findAllSummaries(
         any(Specification.class),
         eq(pageable)
       );
     }
+
+    @Test
+    void shouldDelegateToRepository_afterCursor() {
+      var after = new QualityGateReportCursor(
+        Instant.parse("2026-01-01T12:00:00Z"),
+        UUID.fromString("a0c4e9d2-1b3f-4e6a-8c5d-7f9e0b1a2c3d")
+      );
+      Window<QualityGateReportSummary> window = Window.from(
+        List.of(),
+        ScrollPosition::offset
+      );
+
+      doReturn(window)
+        .when(qualityGateReportRepositoryMock)
+        .findAllSummaries(any(Specification.class), eq(after), eq(20));
+
+      Window<@NonNull QualityGateReportSummary> result = fixture.findAllReports(
+        "my-service",
+        "my-api",
+        "v1",
+        after,
+        20
+      );
+
+      assertThat(result).isEqualTo(window);
+    }
   }
 }
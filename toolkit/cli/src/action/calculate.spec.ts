@@ -243,7 +243,7 @@ describe('calculate action', () => {
       await calculate(getQualityGateApi(qualityGateApiMock), getReportApi(reportApiMock), syncOptions);
 
       expect(reportApiMock.getReportByCalculationId).toHaveBeenCalledTimes(2);
-      expect(reportApiMock.getReportByCalculationId).toHaveBeenCalledWith({ calculationId: '123-456-789' });
+      expect(reportApiMock.getReportByCalculationId).toHaveBeenCalledWith({ calculationId: '123-456-789', waitFor: '30s' });
       expect(consoleLogSpy).toHaveBeenCalledWith(expect.stringContaining('⏳  Polling for calculation result...'));
       expect(consoleLogSpy).toHaveBeenCalledWith(expect.stringContaining('✅ Quality-Gate passed!'));
       expect(exit).not.toHaveBeenCalled();
@@ -61,6 +61,7 @@ describe('pollCalculationResult', () => {
 
     expect(reportApi.getReportByCalculationId).toHaveBeenNthCalledWith(1, {
       calculationId: 'calc-123',
+      waitFor: '30s',
     });
 
     expect(consoleLogSpy).toHaveBeenCalledWith(expect.stringContaining('Quality-Gate passed'));
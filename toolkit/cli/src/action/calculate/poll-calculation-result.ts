@@ -14,6 +14,8 @@ import { ListQualityGateReports200ResponseInnerStatusEnum } from '../../clients/
 import { QUALITY_GATE_FAILED } from '../../common/exit-codes';
 
 const POLL_INTERVAL_MS = 2000;
+// Long-poll: the server responds as soon as the calculation completed, or after this duration at the latest
+const WAIT_FOR = '30s';
 
 export const pollCalculationResult = async (reportApi: ReportApi, calculationId: string): Promise<boolean> => {
   console.log(chalk.blue('⏳  Polling for calculation result...'));
@@ -22,7 +24,7 @@ export const pollCalculationResult = async (reportApi: ReportApi, calculationId:
   let report: ListQualityGateReports200ResponseInner;
   do {
     await sleep(POLL_INTERVAL_MS);
-    report = await reportApi.getReportByCalculationId({ calculationId });
+    report = await reportApi.getReportByCalculationId({ calculationId, waitFor: WAIT_FOR });
     console.debug(chalk.gray(`Status: ${report.status}`));
   } while (report.status === ListQualityGateReports200ResponseInnerStatusEnum.InProgress);
 